@@ -0,0 +1,58 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.cilib.functions.continuous.bbob.AbstractBBOB;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Evaluation of a selection of the BBOB functions: separable (1, 3), with
+ * a single rotation (10), and with two rotations and a chain of decorators
+ * (15, 23).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BBOBBenchmark {
+
+    @Param({"1", "3", "10", "15", "23"})
+    public int function;
+
+    @Param({"10", "40", "100"})
+    public int dimension;
+
+    private AbstractBBOB instance;
+    private Vector input;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Rand.setSeed(0);
+        instance = (AbstractBBOB) Class.forName("net.sourceforge.cilib.functions.continuous.bbob.BBOB" + function).newInstance();
+
+        double[] values = new double[dimension];
+        for (int i = 0; i < dimension; i++) {
+            values[i] = Rand.nextDouble() * 10.0 - 5.0;
+        }
+        input = Vector.copyOf(values);
+        instance.f(input); // Initialise the optimum and rotations
+    }
+
+    @Benchmark
+    public Double evaluate() {
+        return instance.f(input);
+    }
+}
@@ -0,0 +1,97 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.moo.archive.constrained.ConstrainedArchive;
+import net.sourceforge.cilib.moo.archive.constrained.SetBasedConstrainedArchive;
+import net.sourceforge.cilib.moo.archive.constrained.TreeBasedConstrainedArchive;
+import net.sourceforge.cilib.problem.solution.Fitnesses;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Adds candidate solutions to a full {@link SetBasedConstrainedArchive} or
+ * {@link TreeBasedConstrainedArchive}. The candidates are scattered around a
+ * linear front, so that a mix of dominated and non-dominated candidates is
+ * offered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConstrainedArchiveBenchmark {
+
+    private static final int CANDIDATES = 4096;
+
+    @Param({"100", "1000"})
+    public int capacity;
+
+    @Param({"2", "3"})
+    public int objectives;
+
+    @Param({"set", "tree"})
+    public String type;
+
+    private OptimisationSolution[] candidates;
+    private ConstrainedArchive archive;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createCandidates() {
+        Rand.setSeed(0);
+        candidates = new OptimisationSolution[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            double[] values = new double[objectives];
+            double sum = 0.0;
+            for (int j = 0; j < objectives; j++) {
+                values[j] = Rand.nextDouble();
+                sum += values[j];
+            }
+
+            MinimisationFitness[] fitnesses = new MinimisationFitness[objectives];
+            double noise = 1.0 + 0.1 * Rand.nextDouble();
+            for (int j = 0; j < objectives; j++) {
+                fitnesses[j] = new MinimisationFitness(noise * values[j] / sum);
+            }
+            candidates[i] = new OptimisationSolution(Vector.copyOf(values), Fitnesses.create(fitnesses));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fillArchive() {
+        if ("tree".equals(type)) {
+            archive = new TreeBasedConstrainedArchive();
+        } else {
+            SetBasedConstrainedArchive set = new SetBasedConstrainedArchive();
+            set.setPruningSelection(new RandomSelector<OptimisationSolution>());
+            archive = set;
+        }
+        archive.setCapacity(capacity);
+        for (OptimisationSolution candidate : candidates) {
+            archive.add(candidate);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public boolean add() {
+        next = (next + 1) % CANDIDATES;
+        return archive.add(candidates[next]);
+    }
+}
@@ -0,0 +1,85 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.nn.NeuralNetwork;
+import net.sourceforge.cilib.nn.architecture.Architecture;
+import net.sourceforge.cilib.nn.architecture.builder.FeedForwardArchitectureBuilder;
+import net.sourceforge.cilib.nn.architecture.builder.LayerConfiguration;
+import net.sourceforge.cilib.nn.architecture.builder.PrototypeFullyConnectedLayerBuilder;
+import net.sourceforge.cilib.nn.domain.PresetNeuronDomain;
+import net.sourceforge.cilib.type.StringBasedDomainRegistry;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A feed-forward pass, performed by the default
+ * {@link net.sourceforge.cilib.nn.architecture.visitors.FeedForwardVisitor},
+ * through a fully connected network with a single hidden layer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedForwardBenchmark {
+
+    @Param({"4", "64"})
+    public int inputs;
+
+    @Param({"8", "128"})
+    public int hidden;
+
+    @Param({"1", "10"})
+    public int outputs;
+
+    private NeuralNetwork network;
+    private StandardPattern pattern;
+
+    @Setup
+    public void setup() {
+        Rand.setSeed(0);
+        FeedForwardArchitectureBuilder architectureBuilder = new FeedForwardArchitectureBuilder();
+        architectureBuilder.addLayer(new LayerConfiguration(inputs));
+        architectureBuilder.addLayer(new LayerConfiguration(hidden));
+        architectureBuilder.addLayer(new LayerConfiguration(outputs));
+
+        StringBasedDomainRegistry domain = new StringBasedDomainRegistry();
+        domain.setDomainString("R(-3:3)");
+        PresetNeuronDomain domainProvider = new PresetNeuronDomain();
+        domainProvider.setWeightDomainPrototype(domain);
+        PrototypeFullyConnectedLayerBuilder layerBuilder = new PrototypeFullyConnectedLayerBuilder();
+        layerBuilder.setDomainProvider(domainProvider);
+        architectureBuilder.setLayerBuilder(layerBuilder);
+
+        Architecture architecture = new Architecture();
+        architecture.setArchitectureBuilder(architectureBuilder);
+        network = new NeuralNetwork();
+        network.setArchitecture(architecture);
+        network.initialise();
+
+        double[] values = new double[inputs];
+        for (int i = 0; i < inputs; i++) {
+            values[i] = Rand.nextDouble();
+        }
+        pattern = new StandardPattern(Vector.copyOf(values), Real.valueOf(0.5));
+    }
+
+    @Benchmark
+    public Vector feedForward() {
+        return network.evaluatePattern(pattern);
+    }
+}
@@ -0,0 +1,67 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * End-to-end throughput of a GBest PSO, reported as iterations per second.
+ * A new swarm is initialised for every measurement iteration, so that the
+ * measured iterations are not all performed on a converged swarm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GBestPSOBenchmark {
+
+    @Param({"spherical", "rastrigin"})
+    public String function;
+
+    @Param({"30", "100"})
+    public int dimension;
+
+    @Param({"20", "100"})
+    public int swarmSize;
+
+    private PSO pso;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction("spherical".equals(function) ? new Spherical() : new Rastrigin());
+        problem.setDomain("R(-5.12:5.12)^" + dimension);
+
+        pso = new PSO();
+        ClonedPopulationInitialisationStrategy initialisation = new ClonedPopulationInitialisationStrategy();
+        initialisation.setEntityType(pso.getInitialisationStrategy().getEntityType());
+        initialisation.setEntityNumber(swarmSize);
+
+        pso.setInitialisationStrategy(initialisation);
+        pso.setOptimisationProblem(problem);
+        pso.performInitialisation();
+    }
+
+    @Benchmark
+    public PSO iteration() {
+        pso.performIteration();
+        return pso;
+    }
+}
@@ -0,0 +1,69 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.benchmarks;
+
+import fj.data.List;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.cilib.entity.topologies.GBestNeighbourhood;
+import net.sourceforge.cilib.entity.topologies.HypercudeNeighbourhood;
+import net.sourceforge.cilib.entity.topologies.LBestNeighbourhood;
+import net.sourceforge.cilib.entity.topologies.Neighbourhood;
+import net.sourceforge.cilib.entity.topologies.VonNeumannNeighbourhood;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Obtains the neighbourhood of every member of a swarm, as a synchronous
+ * iteration strategy does when updating the neighbourhood bests.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NeighbourhoodBenchmark {
+
+    @Param({"lbest", "vonneumann", "hypercube", "gbest"})
+    public String neighbourhood;
+
+    @Param({"64", "1024", "16384"})
+    public int swarmSize;
+
+    private Neighbourhood<Object> instance;
+    private List<Object> topology;
+
+    @Setup
+    public void setup() {
+        if ("lbest".equals(neighbourhood)) {
+            instance = new LBestNeighbourhood<Object>();
+        } else if ("vonneumann".equals(neighbourhood)) {
+            instance = new VonNeumannNeighbourhood<Object>();
+        } else if ("hypercube".equals(neighbourhood)) {
+            instance = new HypercudeNeighbourhood<Object>();
+        } else {
+            instance = new GBestNeighbourhood<Object>();
+        }
+
+        List<Object> list = List.nil();
+        for (int i = 0; i < swarmSize; i++) {
+            list = list.cons(new Object());
+        }
+        topology = list;
+    }
+
+    @Benchmark
+    public void sweep(Blackhole blackhole) {
+        for (Object member : topology) {
+            blackhole.consume(instance.f(topology, member));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.velocityprovider.StandardVelocityProvider;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The standard velocity update of a single particle, allocating a new
+ * velocity for every update, compared to the in-place update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StandardVelocityProviderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int dimension;
+
+    private Particle particle;
+    private StandardVelocityProvider provider;
+    private StandardVelocityProvider inPlaceProvider;
+
+    @Setup
+    public void setup() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Spherical());
+        problem.setDomain("R(-5.12:5.12)^" + dimension);
+
+        PSO pso = new PSO();
+        pso.setOptimisationProblem(problem);
+        pso.performInitialisation();
+
+        particle = pso.getTopology().head();
+        provider = new StandardVelocityProvider();
+        inPlaceProvider = new StandardVelocityProvider();
+        inPlaceProvider.setInPlace(true);
+    }
+
+    @Benchmark
+    public Vector standard() {
+        return provider.get(particle);
+    }
+
+    @Benchmark
+    public Vector inPlace() {
+        return inPlaceProvider.get(particle);
+    }
+}
@@ -0,0 +1,141 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the dense {@code double[]} representation of {@link Vector}
+ * against the boxed, per element {@link Numeric} representation that
+ * {@code Vector} used previously.
+ * <p>
+ * The boxed variants reproduce the previous {@code Vector} arithmetic on
+ * arrays of {@link Real} instances, allocating one {@code Real} (with its
+ * {@link Bounds} reference) per dimension for every operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int dimension;
+
+    private Vector position;
+    private Vector velocity;
+    private Vector guide;
+
+    private Numeric[] boxedPosition;
+    private Numeric[] boxedVelocity;
+    private Numeric[] boxedGuide;
+
+    @Setup
+    public void setup() {
+        Bounds bounds = new Bounds(-5.12, 5.12);
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0; i < dimension; i++) {
+            builder.addWithin(0.0, bounds);
+        }
+        Vector domain = builder.build();
+
+        position = Vector.copyOf(domain);
+        position.randomise();
+        velocity = Vector.copyOf(domain);
+        velocity.randomise();
+        guide = Vector.copyOf(domain);
+        guide.randomise();
+
+        boxedPosition = boxed(position);
+        boxedVelocity = boxed(velocity);
+        boxedGuide = boxed(guide);
+    }
+
+    private static Numeric[] boxed(Vector v) {
+        Numeric[] result = new Numeric[v.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Real.valueOf(v.doubleValueOf(i), v.boundsOf(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Vector densePlus() {
+        return position.plus(velocity);
+    }
+
+    @Benchmark
+    public Numeric[] boxedPlus() {
+        Numeric[] result = new Numeric[boxedPosition.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Real.valueOf(boxedPosition[i].doubleValue() + boxedVelocity[i].doubleValue(), boxedPosition[i].getBounds());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Vector denseCopy() {
+        return Vector.copyOf(position);
+    }
+
+    @Benchmark
+    public Numeric[] boxedCopy() {
+        Numeric[] result = new Numeric[boxedPosition.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boxedPosition[i].getClone();
+        }
+        return result;
+    }
+
+    /**
+     * The social component of the standard velocity update:
+     * {@code (guide - position) * c * r}.
+     */
+    @Benchmark
+    public Vector denseSocialComponent() {
+        return Vector.copyOf(guide).subtract(position).multiply(1.496180).multiply(Rand.nextDouble());
+    }
+
+    @Benchmark
+    public Numeric[] boxedSocialComponent() {
+        Numeric[] copy = new Numeric[boxedGuide.length];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = boxedGuide[i].getClone();
+        }
+        Numeric[] difference = new Numeric[copy.length];
+        for (int i = 0; i < copy.length; i++) {
+            difference[i] = Real.valueOf(copy[i].doubleValue() - boxedPosition[i].doubleValue(), copy[i].getBounds());
+        }
+        Numeric[] scaled = new Numeric[copy.length];
+        for (int i = 0; i < copy.length; i++) {
+            scaled[i] = Real.valueOf(difference[i].doubleValue() * 1.496180, difference[i].getBounds());
+        }
+        double r = Rand.nextDouble();
+        Numeric[] result = new Numeric[copy.length];
+        for (int i = 0; i < copy.length; i++) {
+            result[i] = Real.valueOf(scaled[i].doubleValue() * r, scaled[i].getBounds());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double denseDot() {
+        return position.dot(velocity);
+    }
+}
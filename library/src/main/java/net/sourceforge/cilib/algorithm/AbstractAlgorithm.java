@@ -131,6 +131,23 @@ public abstract class AbstractAlgorithm implements Algorithm {
         }
     }
 
+    /**
+     * Executes the algorithm without cleaning up afterwards, until it is
+     * finished or until the given fraction of it is complete, see
+     * {@link #getPercentageComplete()}. Execution can be resumed by calling
+     * this method again with a larger fraction.
+     * @param percentageComplete The fraction of the algorithm to complete.
+     */
+    public void runAlgorithm(double percentageComplete) {
+        Preconditions.checkState(!stoppingConditions.isEmpty(), "No stopping conditions specified");
+        Preconditions.checkState(initialised, "Algorithm not initialised");
+
+        while (running && (!isFinished()) && getPercentageComplete() < percentageComplete) {
+            performIteration();
+            fireIterationCompleted();
+        }
+    }
+
     /**
      * Executes the algorithm.
      * @exception InitialisationException algorithm was not properly initialized.
@@ -167,6 +184,15 @@ public abstract class AbstractAlgorithm implements Algorithm {
         stoppingConditions = stoppingConditions.cons(stoppingCondition);
     }
 
+    /**
+     * Removes a stopping condition.
+     * @param stoppingCondition The {@link net.sourceforge.cilib.stoppingcondition.StoppingCondition}
+     *        to be removed.
+     */
+    public final void removeStoppingCondition(StoppingCondition stoppingCondition) {
+        stoppingConditions = stoppingConditions.delete(stoppingCondition, Equal.<StoppingCondition>anyEqual());
+    }
+
     /**
      * Adds an algorithm event listener. Event listeners are notified at various stages during the
      * execution of an algorithm.
@@ -192,6 +218,15 @@ public abstract class AbstractAlgorithm implements Algorithm {
         return iteration;
     }
 
+    /**
+     * Set the number of completed iterations, when the algorithm is restored
+     * from an {@link AlgorithmCheckpoint}.
+     * @param iteration The number of iterations.
+     */
+    void setIterations(int iteration) {
+        this.iteration = iteration;
+    }
+
     /**
      * Returns the percentage the algorithm is from completed (as a fraction). The percentage
      * complete is calculated based on the stopping condition that is closest to finished.
@@ -232,6 +267,33 @@ public abstract class AbstractAlgorithm implements Algorithm {
         return (AbstractAlgorithm) currentAlgorithmStack.get().peek();
     }
 
+    /**
+     * Wrap the provided task so that it executes with the algorithm stack of
+     * the current thread. This allows {@link #get()} to be used by tasks that
+     * are executed on other threads, e.g. worker threads of a thread pool.
+     * @param task The task to wrap.
+     * @return A task that executes {@code task} with the current algorithm stack.
+     */
+    public static Runnable withCurrentAlgorithms(final Runnable task) {
+        final List<Algorithm> algorithms = getAlgorithmList();
+        return new Runnable() {
+            @Override
+            public void run() {
+                AlgorithmStack stack = currentAlgorithmStack.get();
+                for (Algorithm algorithm : algorithms) {
+                    stack.push(algorithm);
+                }
+                try {
+                    task.run();
+                } finally {
+                    for (int i = algorithms.length(); i > 0; i--) {
+                        stack.pop();
+                    }
+                }
+            }
+        };
+    }
+
     /**
      * Static accessor to allow the current level of algorithm composition to be returned.
      * @see AlgorithmStack#asList()
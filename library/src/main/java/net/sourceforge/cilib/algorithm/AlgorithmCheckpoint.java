@@ -0,0 +1,236 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm;
+
+import com.google.common.base.Preconditions;
+import fj.data.List;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Map;
+import net.sourceforge.cilib.algorithm.population.MultiPopulationBasedAlgorithm;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.moo.archive.Archive;
+import net.sourceforge.cilib.problem.AbstractProblem;
+import net.sourceforge.cilib.problem.Problem;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.stoppingcondition.StoppingCondition;
+import net.sourceforge.cilib.type.types.Blackboard;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * <p>
+ * A snapshot of the state of a running {@link AbstractAlgorithm}, from which
+ * the run can be continued with identical results, e.g. after the process
+ * was stopped.
+ * </p><p>
+ * An algorithm refers to its configuration, problem and listeners, which
+ * need not be serializable, and the algorithm is therefore not written as a
+ * whole. Instead the snapshot holds the state that changes during a run: the
+ * number of iterations, the number of fitness evaluations, the properties of
+ * every entity of a {@link SinglePopulationBasedAlgorithm} (which include the
+ * positions, velocities, personal bests and the control parameters of the
+ * entity), the neighbourhood best of every particle, the stopping conditions
+ * (which may record the progress of the run), the sub-populations of a
+ * {@link MultiPopulationBasedAlgorithm}, the archive and the state of the
+ * random number generator of the current thread.
+ * </p><p>
+ * A run is continued by creating an algorithm from the same configuration,
+ * initialising it and restoring the snapshot, see
+ * {@link #restore(AbstractAlgorithm)}. Other state of the algorithm, such as
+ * control parameters that depend on the progress of the algorithm, is derived
+ * again from the restored state.
+ * </p>
+ */
+public final class AlgorithmCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 2975146530925453301L;
+    private final Population population;
+    private final int fitnessEvaluations;
+    private final ArrayList<OptimisationSolution> archive;
+    private final Rand.State random;
+
+    private AlgorithmCheckpoint(AbstractAlgorithm algorithm) {
+        this.population = new Population(algorithm);
+        Problem problem = algorithm.getOptimisationProblem();
+        this.fitnessEvaluations = problem == null ? 0 : problem.getFitnessEvaluations();
+        this.archive = new ArrayList<OptimisationSolution>();
+        for (OptimisationSolution solution : Archive.Provider.get()) {
+            this.archive.add(solution.getClone());
+        }
+        this.random = Rand.getState();
+    }
+
+    /**
+     * Take a snapshot of the algorithm, which must be executing in the
+     * current thread. Later iterations of the algorithm do not affect the
+     * snapshot.
+     * @param algorithm The algorithm.
+     * @return The snapshot.
+     */
+    public static AlgorithmCheckpoint of(AbstractAlgorithm algorithm) {
+        return new AlgorithmCheckpoint(algorithm);
+    }
+
+    /**
+     * Restore the snapshot into an algorithm that was created from the same
+     * configuration as the algorithm of the snapshot, and that has been
+     * initialised. The algorithm is then executed in the current thread.
+     * @param algorithm The algorithm.
+     * @throws IllegalStateException if the algorithm does not have the
+     *         structure of the algorithm of the snapshot.
+     */
+    public void restore(AbstractAlgorithm algorithm) {
+        population.restore(algorithm);
+        Problem problem = algorithm.getOptimisationProblem();
+        if (problem instanceof AbstractProblem) {
+            ((AbstractProblem) problem).setFitnessEvaluations(fitnessEvaluations);
+        }
+
+        Archive current = Archive.Provider.get();
+        current.clear();
+        for (OptimisationSolution solution : archive) {
+            current.add(solution.getClone());
+        }
+        Rand.setState(random);
+    }
+
+    /**
+     * @return The number of iterations of the algorithm of the snapshot.
+     */
+    public int getIterations() {
+        return population.iterations;
+    }
+
+    /**
+     * The state of a single algorithm and of its populations. Entities that
+     * are added to a population during the run are restored as copies of the
+     * first entity of the population; sub-populations likewise as copies of
+     * the first sub-population. The stopping conditions of the algorithm are
+     * replaced by copies of those of the snapshot.
+     */
+    private static final class Population implements Serializable {
+        private static final long serialVersionUID = -1749328014563361830L;
+        private final int iterations;
+        private final ArrayList<Blackboard<Enum<?>, Type>> entities;
+        private final int[] neighbourhoodBests;
+        private final ArrayList<StoppingCondition> stoppingConditions;
+        private final ArrayList<Population> populations;
+
+        Population(AbstractAlgorithm algorithm) {
+            this.iterations = algorithm.getIterations();
+            this.entities = new ArrayList<Blackboard<Enum<?>, Type>>();
+            this.stoppingConditions = new ArrayList<StoppingCondition>();
+            this.populations = new ArrayList<Population>();
+
+            for (StoppingCondition condition : algorithm.getStoppingConditions()) {
+                stoppingConditions.add(condition.getClone());
+            }
+
+            if (algorithm instanceof SinglePopulationBasedAlgorithm) {
+                List<? extends Entity> topology = ((SinglePopulationBasedAlgorithm<?>) algorithm).getTopology();
+                for (Entity entity : topology) {
+                    entities.add(entity.getProperties().getClone());
+                }
+                this.neighbourhoodBests = neighbourhoodBests(topology);
+            } else {
+                this.neighbourhoodBests = new int[0];
+            }
+
+            if (algorithm instanceof MultiPopulationBasedAlgorithm) {
+                for (SinglePopulationBasedAlgorithm<?> population : ((MultiPopulationBasedAlgorithm) algorithm).getPopulations()) {
+                    populations.add(new Population(population));
+                }
+            }
+        }
+
+        /**
+         * The index within the topology of the neighbourhood best of every
+         * particle, or {@code -1} if it is not a particle of the topology.
+         */
+        private static int[] neighbourhoodBests(List<? extends Entity> topology) {
+            ArrayList<Entity> entities = new ArrayList<Entity>(topology.toCollection());
+            int[] indexes = new int[entities.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = -1;
+                if (entities.get(i) instanceof Particle) {
+                    Particle best = ((Particle) entities.get(i)).getNeighbourhoodBest();
+                    for (int j = 0; j < indexes.length && best != null; j++) {
+                        if (entities.get(j) == best) {
+                            indexes[i] = j;
+                            break;
+                        }
+                    }
+                }
+            }
+            return indexes;
+        }
+
+        void restore(AbstractAlgorithm algorithm) {
+            algorithm.setIterations(iterations);
+            restoreStoppingConditions(algorithm);
+
+            if (algorithm instanceof SinglePopulationBasedAlgorithm) {
+                restoreTopology((SinglePopulationBasedAlgorithm<?>) algorithm);
+            }
+
+            if (algorithm instanceof MultiPopulationBasedAlgorithm) {
+                MultiPopulationBasedAlgorithm multi = (MultiPopulationBasedAlgorithm) algorithm;
+                java.util.List<SinglePopulationBasedAlgorithm<?>> current = new ArrayList<SinglePopulationBasedAlgorithm<?>>();
+                for (SinglePopulationBasedAlgorithm<?> population : multi.getPopulations()) {
+                    current.add(population);
+                }
+                Preconditions.checkState(populations.isEmpty() || !current.isEmpty(),
+                        "The algorithm has no sub-populations to restore the checkpoint into.");
+                multi.getPopulations().clear();
+                for (int i = 0; i < populations.size(); i++) {
+                    SinglePopulationBasedAlgorithm<?> population = i < current.size() ? current.get(i) : current.get(0).getClone();
+                    populations.get(i).restore(population);
+                    multi.addPopulationBasedAlgorithm(population);
+                }
+            }
+        }
+
+        /**
+         * Replace the stopping conditions of the algorithm, keeping their
+         * order, as some of them record the progress of the run.
+         */
+        private void restoreStoppingConditions(AbstractAlgorithm algorithm) {
+            for (StoppingCondition condition : algorithm.getStoppingConditions()) {
+                algorithm.removeStoppingCondition(condition);
+            }
+            for (int i = stoppingConditions.size() - 1; i >= 0; i--) {
+                algorithm.addStoppingCondition(stoppingConditions.get(i).getClone());
+            }
+        }
+
+        private <E extends Entity> void restoreTopology(SinglePopulationBasedAlgorithm<E> algorithm) {
+            List<E> current = algorithm.getTopology();
+            Preconditions.checkState(entities.isEmpty() || current.isNotEmpty(),
+                    "The algorithm has no entities to restore the checkpoint into.");
+
+            ArrayList<E> restored = new ArrayList<E>();
+            for (int i = 0; i < entities.size(); i++) {
+                @SuppressWarnings("unchecked")
+                E entity = i < current.length() ? current.index(i) : (E) current.head().getClone();
+                for (Map.Entry<Enum<?>, Type> property : entities.get(i).entrySet()) {
+                    entity.getProperties().put(property.getKey(), property.getValue().getClone());
+                }
+                restored.add(entity);
+            }
+
+            for (int i = 0; i < restored.size(); i++) {
+                if (neighbourhoodBests[i] >= 0 && restored.get(i) instanceof Particle) {
+                    ((Particle) restored.get(i)).setNeighbourhoodBest((Particle) restored.get(neighbourhoodBests[i]));
+                }
+            }
+            algorithm.setTopology(List.iterableList(restored));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm.iterator;
+
+import fj.Effect;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
+
+/**
+ * Iterate through a list of {@link Algorithm}s in a sequential order, but
+ * perform the iterations of the algorithms concurrently.
+ * <p>
+ * When used by a
+ * {@link net.sourceforge.cilib.algorithm.population.MultiPopulationBasedAlgorithm},
+ * the sub-populations are advanced by one iteration each on the threads of a
+ * {@link ParallelEvaluator}, with the currently executing algorithms made
+ * available to the worker threads. {@link #performIterations()} only
+ * returns once every algorithm has completed its iteration, which makes it the
+ * synchronisation point of the sub-populations: interactions between the
+ * sub-populations, such as exclusion, merging or migration, are performed by
+ * the calling thread after it returns.
+ * <p>
+ * The iteration of an algorithm may only modify that algorithm. Shared state,
+ * such as the optimisation problem, must allow concurrent use. Clones of the
+ * iterator share the same {@link ParallelEvaluator}, and as a result the same
+ * thread pool. The evaluator should not also be used by the sub-populations
+ * themselves.
+ *
+ * @param <E> The {@code Algorithm} type.
+ */
+public class ParallelAlgorithmIterator<E extends Algorithm> extends SequentialAlgorithmIterator<E> {
+
+    private static final long serialVersionUID = 5227093616401844235L;
+
+    private ParallelEvaluator evaluator;
+
+    /**
+     * Construct a new {@link ParallelAlgorithmIterator} that uses as many
+     * threads as there are available processors.
+     */
+    public ParallelAlgorithmIterator() {
+        super();
+        this.evaluator = new ParallelEvaluator();
+    }
+
+    /**
+     * Construct a new {@link ParallelAlgorithmIterator} for the supplied list.
+     * @param a the list that will be iterated through.
+     */
+    public ParallelAlgorithmIterator(List<E> a) {
+        super(a);
+        this.evaluator = new ParallelEvaluator();
+    }
+
+    /**
+     * Construct a new {@link ParallelAlgorithmIterator} from the supplied one.
+     * The {@link ParallelEvaluator} is shared with the copy.
+     * @param rhs the {@link ParallelAlgorithmIterator} that should be copied.
+     */
+    public ParallelAlgorithmIterator(ParallelAlgorithmIterator<E> rhs) {
+        super(rhs);
+        this.evaluator = rhs.evaluator;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ParallelAlgorithmIterator<E> getClone() {
+        return new ParallelAlgorithmIterator<E>(this);
+    }
+
+    /**
+     * Perform an iteration of each of the algorithms of this iterator
+     * concurrently and wait for all of the iterations to complete.
+     */
+    public void performIterations() {
+        evaluator.apply(algorithms, new Effect<E>() {
+            @Override
+            public void e(E algorithm) {
+                algorithm.performIteration();
+            }
+        });
+    }
+
+    /**
+     * Get the {@link ParallelEvaluator} used to perform the iterations of the
+     * algorithms.
+     * @return The evaluator.
+     */
+    public ParallelEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Set the {@link ParallelEvaluator} used to perform the iterations of the
+     * algorithms.
+     * @param evaluator The evaluator to use.
+     */
+    public void setEvaluator(ParallelEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+}
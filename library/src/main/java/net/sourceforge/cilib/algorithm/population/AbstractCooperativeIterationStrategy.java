@@ -8,17 +8,15 @@ package net.sourceforge.cilib.algorithm.population;
 
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.clustering.DataClusteringPSO;
+import net.sourceforge.cilib.clustering.PackedDataset;
+import net.sourceforge.cilib.clustering.PatternAssignment;
 import net.sourceforge.cilib.clustering.entity.ClusterParticle;
 import net.sourceforge.cilib.entity.EntityType;
 import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.StandardDataTable;
-import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.problem.solution.InferiorFitness;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
 import net.sourceforge.cilib.type.types.container.ClusterCentroid;
-import net.sourceforge.cilib.type.types.container.Vector;
-import net.sourceforge.cilib.util.distancemeasure.DistanceMeasure;
-import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
 
 /**
  * This class holds the functionality that is common to a number of cooperative iteration strategies
@@ -28,6 +26,7 @@ public abstract class AbstractCooperativeIterationStrategy<E extends Algorithm>
     protected boolean contextinitialised;
     protected DataTable table;
     protected boolean elitist;
+    private transient PackedDataset packedDataset;
     /*
      * Default constructor for AbstractCooperativeIterationStrategy
      */
@@ -67,29 +66,8 @@ public abstract class AbstractCooperativeIterationStrategy<E extends Algorithm>
      * @param dataset The dataset holding all the data patterns
      */
     public void assignDataPatternsToParticle(CentroidHolder candidateSolution, DataTable dataset) {
-        double euclideanDistance;
-        Vector addedPattern;
-        DistanceMeasure distanceMeasure = new EuclideanDistanceMeasure();
-        int centroidIndex;
-        int patternIndex;
-
-        for(int i = 0; i < dataset.size(); i++) {
-                euclideanDistance = Double.POSITIVE_INFINITY;
-                addedPattern = Vector.of();
-                Vector pattern = ((StandardPattern) dataset.getRow(i)).getVector();
-                centroidIndex = 0;
-                patternIndex = 0;
-                for(ClusterCentroid centroid : candidateSolution) {
-                    if(distanceMeasure.distance(centroid.toVector(), pattern) < euclideanDistance) {
-                        euclideanDistance = distanceMeasure.distance(centroid.toVector(), pattern);
-                        addedPattern = Vector.copyOf(pattern);
-                        patternIndex = centroidIndex;
-                    }
-                    centroidIndex++;
-                }
-
-                candidateSolution.get(patternIndex).addDataItem(euclideanDistance, addedPattern);
-            }
+        packedDataset = PackedDataset.of(dataset, packedDataset);
+        new PatternAssignment().assign(candidateSolution, packedDataset);
     }
 
     /*
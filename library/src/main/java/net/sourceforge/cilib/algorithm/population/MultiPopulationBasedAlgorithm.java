@@ -13,6 +13,7 @@ import com.google.common.collect.Lists;
 
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.iterator.AlgorithmIterator;
+import net.sourceforge.cilib.algorithm.iterator.ParallelAlgorithmIterator;
 import net.sourceforge.cilib.algorithm.iterator.SequentialAlgorithmIterator;
 
 /**
@@ -56,7 +57,7 @@ public abstract class MultiPopulationBasedAlgorithm extends AbstractAlgorithm im
             subPopulationsAlgorithms.add(algorithm.getClone());
         }
 
-        algorithmIterator = copy.algorithmIterator;
+        algorithmIterator = copy.algorithmIterator.getClone();
         algorithmIterator.setAlgorithms(subPopulationsAlgorithms);
     }
 
@@ -74,6 +75,25 @@ public abstract class MultiPopulationBasedAlgorithm extends AbstractAlgorithm im
     @Override
     protected abstract void algorithmIteration();
 
+    /**
+     * Perform an iteration of every sub-population, in the order of the
+     * {@linkplain AlgorithmIterator}. If the iterator is a
+     * {@linkplain ParallelAlgorithmIterator}, the sub-populations are iterated
+     * concurrently. In either case all the iterations have completed when this
+     * method returns, so that interactions between the sub-populations may be
+     * performed afterwards.
+     */
+    public void performSubPopulationIterations() {
+        if (algorithmIterator instanceof ParallelAlgorithmIterator) {
+            ((ParallelAlgorithmIterator<?>) algorithmIterator).performIterations();
+            return;
+        }
+
+        for (SinglePopulationBasedAlgorithm<?> algorithm : this) {
+            algorithm.performIteration();
+        }
+    }
+
     /**
      * Get the {@linkplain List} of current sub-populations.
      * @return The {@linkplain List} of {@linkplain PopulationBasedAlgorithm}.
@@ -89,6 +109,7 @@ public abstract class MultiPopulationBasedAlgorithm extends AbstractAlgorithm im
      */
     public void setPopulations(List<SinglePopulationBasedAlgorithm> populationBasedAlgorithms) {
         this.subPopulationsAlgorithms = populationBasedAlgorithms;
+        this.algorithmIterator.setAlgorithms(this.subPopulationsAlgorithms);
     }
 
     /**
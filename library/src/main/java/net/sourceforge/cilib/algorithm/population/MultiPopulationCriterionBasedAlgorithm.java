@@ -64,9 +64,7 @@ public class MultiPopulationCriterionBasedAlgorithm extends MultiPopulationBased
 
     @Override
     protected void algorithmIteration() {
-        for (Algorithm algorithm : this) {
-            algorithm.performIteration();
-        }
+        performSubPopulationIterations();
     }
 
     @Override
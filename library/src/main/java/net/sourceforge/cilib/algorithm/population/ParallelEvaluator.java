@@ -0,0 +1,172 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm.population;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import com.google.common.base.Throwables;
+import fj.Effect;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicReference;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.math.random.generator.Philox;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * Applies an operation, typically a fitness evaluation, to every entity of a
+ * population using a fork-join pool.
+ * <p>
+ * Every application of the operation draws its random numbers from its own
+ * {@link Philox} stream. The key of the streams is drawn from the {@code Rand}
+ * generator of the calling thread, and the stream is identified by the index
+ * of the entity within the population, so the results are the same for a
+ * given seed, regardless of the number of threads or the order in which the
+ * entities are processed. The currently
+ * executing algorithms are made available to the worker threads, so that
+ * {@link AbstractAlgorithm#get()} can be used during the operation.
+ * <p>
+ * The operation may only modify the entity it is applied to. Any shared
+ * state, such as the optimisation problem, must allow concurrent use.
+ * <p>
+ * The thread pool is created when it is first needed. Its threads are daemon
+ * threads, so an evaluator that is no longer used does not keep the virtual
+ * machine alive; {@link #shutdown()} releases the threads immediately.
+ */
+public class ParallelEvaluator implements Cloneable {
+
+    private static final long serialVersionUID = -7022458102335283540L;
+
+    private int parallelism;
+    private transient ForkJoinPool pool;
+
+    /**
+     * Create an instance that uses as many threads as there are available
+     * processors.
+     */
+    public ParallelEvaluator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create an instance that uses the given number of threads.
+     * @param parallelism The number of threads.
+     */
+    public ParallelEvaluator(int parallelism) {
+        setParallelism(parallelism);
+    }
+
+    /**
+     * Copy constructor. The thread pool is not shared with the copy.
+     * @param copy The instance to copy.
+     */
+    public ParallelEvaluator(ParallelEvaluator copy) {
+        this.parallelism = copy.parallelism;
+    }
+
+    @Override
+    public ParallelEvaluator getClone() {
+        return new ParallelEvaluator(this);
+    }
+
+    /**
+     * Apply the {@code operation} to each of the {@code entities} and wait
+     * for all the applications to complete.
+     * @param <E> The entity type.
+     * @param entities The entities to apply the operation to.
+     * @param operation The operation to apply.
+     */
+    public <E> void apply(Iterable<E> entities, final Effect<E> operation) {
+        final Philox streams = new Philox(Rand.nextLong());
+        int size = 0;
+        for (E e : entities) {
+            size++;
+        }
+
+        final CountDownLatch latch = new CountDownLatch(size);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final ForkJoinPool executor = getPool();
+
+        int index = 0;
+        for (final E entity : entities) {
+            final Philox stream = streams.stream(index++, 0);
+            executor.execute(AbstractAlgorithm.withCurrentAlgorithms(new Runnable() {
+                @Override
+                public void run() {
+                    Philox previous = Rand.getStream();
+                    try {
+                        Rand.setStream(stream);
+                        operation.e(entity);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        Rand.setStream(previous);
+                        latch.countDown();
+                    }
+                }
+            }));
+        }
+
+        // The calling thread only waits, it never executes an operation and
+        // as a result its own Rand stream is not affected.
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the parallel evaluation", e);
+        }
+
+        if (failure.get() != null) {
+            throw Throwables.propagate(failure.get());
+        }
+    }
+
+    private synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                @Override
+                public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            }, null, false);
+        }
+        return pool;
+    }
+
+    /**
+     * Release the threads of this evaluator. Operations that are still being
+     * applied are completed. A later call to {@link #apply(Iterable, Effect)}
+     * creates a new thread pool.
+     */
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /**
+     * Get the number of threads that are used to apply the operation.
+     * @return The number of threads.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the number of threads that are used to apply the operation.
+     * @param parallelism The number of threads.
+     */
+    public synchronized void setParallelism(int parallelism) {
+        checkArgument(parallelism > 0, "The parallelism must be positive");
+        this.parallelism = parallelism;
+        shutdown();
+    }
+}
@@ -0,0 +1,125 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.clustering;
+
+import net.sourceforge.cilib.io.DataTable;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * The feature vectors of a {@link DataTable} of {@link StandardPattern}s,
+ * packed into a single row-major array for the clustering distance
+ * calculations. The original feature vectors are kept, so that they can be
+ * assigned to centroids without being copied.
+ * <p>
+ * A packed dataset is a snapshot of the table: rows that are added to the
+ * table afterwards are not included.
+ */
+public final class PackedDataset {
+
+    private final DataTable<?, ?> table;
+    private final Vector[] patterns;
+    private final double[] values;
+    private final int dimension;
+
+    private PackedDataset(DataTable<?, ?> table, Vector[] patterns, double[] values, int dimension) {
+        this.table = table;
+        this.patterns = patterns;
+        this.values = values;
+        this.dimension = dimension;
+    }
+
+    /**
+     * Pack the feature vectors of a table of {@link StandardPattern}s. All
+     * the feature vectors must have the same size.
+     * @param table The table to pack.
+     * @return The packed dataset.
+     */
+    public static PackedDataset of(DataTable<?, ?> table) {
+        int size = table.size();
+        Vector[] patterns = new Vector[size];
+        for (int i = 0; i < size; i++) {
+            patterns[i] = ((StandardPattern) table.getRow(i)).getVector();
+        }
+
+        int dimension = size == 0 ? 0 : patterns[0].size();
+        double[] values = new double[size * dimension];
+        for (int i = 0; i < size; i++) {
+            if (patterns[i].size() != dimension) {
+                throw new IllegalArgumentException("All the patterns must have the same size: "
+                    + patterns[i].size() + " != " + dimension);
+            }
+            for (int j = 0, offset = i * dimension; j < dimension; j++) {
+                values[offset + j] = patterns[i].doubleValueOf(j);
+            }
+        }
+
+        return new PackedDataset(table, patterns, values, dimension);
+    }
+
+    /**
+     * Pack a table, unless it has already been packed.
+     * @param table The table to pack.
+     * @param previous A previously packed dataset, may be {@code null}.
+     * @return {@code previous} if it is a snapshot of the current contents
+     *         of the table, otherwise a new packed dataset.
+     */
+    public static PackedDataset of(DataTable<?, ?> table, PackedDataset previous) {
+        if (previous != null && previous.isPackedFrom(table)) {
+            return previous;
+        }
+        return of(table);
+    }
+
+    /**
+     * Determine whether this is a snapshot of the current contents of the
+     * given table, assuming that rows are only ever added to a table.
+     * @param table The table.
+     * @return {@code true} if this dataset was packed from the table and
+     *         the table has not grown since.
+     */
+    public boolean isPackedFrom(DataTable<?, ?> table) {
+        return this.table == table && table.size() == patterns.length;
+    }
+
+    /**
+     * @return The number of patterns.
+     */
+    public int size() {
+        return patterns.length;
+    }
+
+    /**
+     * @return The size of each feature vector.
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Get the original feature vector of a pattern.
+     * @param index The index of the pattern.
+     * @return The feature vector.
+     */
+    public Vector getPattern(int index) {
+        return patterns[index];
+    }
+
+    /**
+     * Get a value of a feature vector.
+     * @param index The index of the pattern.
+     * @param feature The index of the feature.
+     * @return The value.
+     */
+    public double valueAt(int index, int feature) {
+        return values[index * dimension + feature];
+    }
+
+    double[] getValues() {
+        return values;
+    }
+}
@@ -0,0 +1,199 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.clustering;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.type.types.container.CentroidHolder;
+import net.sourceforge.cilib.type.types.container.ClusterCentroid;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Assigns every pattern of a {@link PackedDataset} to the nearest centroid of
+ * a {@link CentroidHolder}, using the Euclidean distance.
+ * <p>
+ * An instance remembers the assignment of the previous call, together with a
+ * lower bound on the distance from every pattern to the second nearest
+ * centroid. When the same dataset is assigned to the centroids of the same
+ * particle again, the bounds are reduced by the distance that the centroids
+ * have moved (Hamerly's algorithm) and a pattern keeps its centroid without
+ * considering the others if it is nearer to that centroid than the bound,
+ * or nearer than half the distance from that centroid to any other centroid
+ * (Elkan's test). Only the distance to the assigned centroid is then
+ * calculated. The assignment is the same as that of a full search: the
+ * first nearest centroid is chosen.
+ * <p>
+ * An instance must not be used by more than one thread at a time.
+ */
+public class PatternAssignment {
+
+    private PackedDataset dataset;
+    private double[] previous;
+    private int[] labels;
+    private double[] lowerBounds;
+
+    /**
+     * Assign the patterns of the dataset to the nearest centroid, by adding
+     * each pattern and its distance to the data items of that centroid. The
+     * feature vectors of the dataset are added as they are, they are not
+     * copied.
+     * @param centroids The centroids.
+     * @param dataset The patterns to assign.
+     */
+    public void assign(CentroidHolder centroids, PackedDataset dataset) {
+        int n = dataset.size();
+        int d = dataset.getDimension();
+        int k = centroids.size();
+        if (n == 0 || k == 0) {
+            return;
+        }
+        double[] current = pack(centroids, d);
+
+        boolean bounded = this.dataset == dataset && previous != null && previous.length == current.length && k > 1;
+        if (!bounded) {
+            labels = new int[n];
+            lowerBounds = new double[n];
+        } else {
+            updateBounds(current, k, d);
+        }
+
+        double[] halfSeparation = halfSeparation(current, k, d);
+        double[] values = dataset.getValues();
+        double[] distances = new double[n];
+        int[] counts = new int[k];
+
+        for (int i = 0; i < n; i++) {
+            int offset = i * d;
+            if (bounded) {
+                int label = labels[i];
+                double distance = Math.sqrt(squaredDistance(values, offset, current, label * d, d));
+                if (distance < Math.max(lowerBounds[i], halfSeparation[label])) {
+                    distances[i] = distance;
+                    counts[label]++;
+                    continue;
+                }
+            }
+
+            double best = Double.POSITIVE_INFINITY;
+            double second = Double.POSITIVE_INFINITY;
+            int label = 0;
+            for (int j = 0; j < k; j++) {
+                double squared = squaredDistance(values, offset, current, j * d, d);
+                if (squared < best) {
+                    second = best;
+                    best = squared;
+                    label = j;
+                } else if (squared < second) {
+                    second = squared;
+                }
+            }
+
+            labels[i] = label;
+            lowerBounds[i] = Math.sqrt(second);
+            distances[i] = Math.sqrt(best);
+            counts[label]++;
+        }
+
+        this.dataset = dataset;
+        this.previous = current;
+
+        addDataItems(centroids, dataset, distances, counts);
+    }
+
+    private void addDataItems(CentroidHolder centroids, PackedDataset dataset, double[] distances, int[] counts) {
+        int k = counts.length;
+        double[][] assignedDistances = new double[k][];
+        List<List<Vector>> assignedItems = new ArrayList<List<Vector>>(k);
+        for (int j = 0; j < k; j++) {
+            assignedDistances[j] = new double[counts[j]];
+            assignedItems.add(new ArrayList<Vector>(counts[j]));
+        }
+
+        for (int i = 0; i < distances.length; i++) {
+            int label = labels[i];
+            List<Vector> items = assignedItems.get(label);
+            assignedDistances[label][items.size()] = distances[i];
+            // No centroid was nearer than infinity, as for a full search
+            // with the distance measure.
+            items.add(distances[i] < Double.POSITIVE_INFINITY ? dataset.getPattern(i) : Vector.of());
+        }
+
+        for (int j = 0; j < k; j++) {
+            if (counts[j] > 0) {
+                centroids.get(j).addDataItems(assignedDistances[j], assignedItems.get(j));
+            }
+        }
+    }
+
+    /**
+     * Reduce the lower bounds by the largest distance that any centroid,
+     * other than the assigned centroid, has moved.
+     */
+    private void updateBounds(double[] current, int k, int d) {
+        double largest = 0.0;
+        double secondLargest = 0.0;
+        int moved = -1;
+        for (int j = 0; j < k; j++) {
+            double drift = Math.sqrt(squaredDistance(previous, j * d, current, j * d, d));
+            if (drift > largest) {
+                secondLargest = largest;
+                largest = drift;
+                moved = j;
+            } else if (drift > secondLargest) {
+                secondLargest = drift;
+            }
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            lowerBounds[i] -= labels[i] == moved ? secondLargest : largest;
+        }
+    }
+
+    /**
+     * Half the distance from each centroid to the nearest other centroid.
+     * A pattern that is nearer than that to a centroid is nearer to it than
+     * to any other centroid.
+     */
+    private static double[] halfSeparation(double[] centroids, int k, int d) {
+        double[] result = new double[k];
+        Arrays.fill(result, Double.POSITIVE_INFINITY);
+        for (int a = 0; a < k; a++) {
+            for (int b = a + 1; b < k; b++) {
+                double half = 0.5 * Math.sqrt(squaredDistance(centroids, a * d, centroids, b * d, d));
+                result[a] = Math.min(result[a], half);
+                result[b] = Math.min(result[b], half);
+            }
+        }
+        return result;
+    }
+
+    private static double squaredDistance(double[] x, int xOffset, double[] y, int yOffset, int d) {
+        double sum = 0.0;
+        for (int f = 0; f < d; f++) {
+            double difference = x[xOffset + f] - y[yOffset + f];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    private static double[] pack(CentroidHolder centroids, int d) {
+        double[] result = new double[centroids.size() * d];
+        int j = 0;
+        for (ClusterCentroid centroid : centroids) {
+            if (centroid.size() != d) {
+                throw new IllegalArgumentException("Cannot calculate the distance between a centroid and a pattern of different dimensions: "
+                    + centroid.size() + " != " + d);
+            }
+            for (int f = 0; f < d; f++) {
+                result[j * d + f] = centroid.get(f).doubleValue();
+            }
+            j++;
+        }
+        return result;
+    }
+}
@@ -13,7 +13,6 @@ import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.DataTableBuilder;
 import net.sourceforge.cilib.io.StandardPatternDataTable;
 import net.sourceforge.cilib.io.exception.CIlibIOException;
-import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.io.transform.DataOperator;
 import net.sourceforge.cilib.io.transform.PatternConversionOperator;
 import net.sourceforge.cilib.io.transform.TypeConversionOperator;
@@ -97,16 +96,12 @@ public class SlidingWindow {
     public DataTable slideWindow() {
         if(hasNotFinished()) {
             if(slidingTime == getIterationToChange()) {
-                currentDataset = new StandardPatternDataTable();
-                
                 int upTo = currentIndex + slideSize;
                 if(currentIndex + slideSize > completeDataset.size()) {
                     upTo = completeDataset.size();
                 }
                  
-                for(int i = currentIndex; i < upTo; i++) {
-                    currentDataset.addRow((StandardPattern) completeDataset.getRow(i));
-                }
+                currentDataset = ((StandardPatternDataTable) completeDataset).subTable(currentIndex, upTo);
                 
                 currentIndex = upTo;
                 slidingTime = 0;
@@ -148,9 +143,7 @@ public class SlidingWindow {
             slideSize = windowSize;
         }
         
-        for(int i = 0; i < currentIndex + slideSize; i++) {
-            currentDataset.addRow((StandardPattern) completeDataset.getRow(i));
-        }
+        currentDataset = ((StandardPatternDataTable) completeDataset).subTable(0, currentIndex + slideSize);
         
         currentIndex+= slideSize;
         slidingTime++;
@@ -21,7 +21,6 @@ import net.sourceforge.cilib.pso.pbestupdate.StandardPersonalBestUpdateStrategy;
 import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
 import net.sourceforge.cilib.type.types.container.ClusterCentroid;
-import net.sourceforge.cilib.util.calculator.EntityBasedFitnessCalculator;
 
 /**
  * This is an entity developed to deal with CentroidHolders
@@ -74,15 +73,11 @@ public class ClusterParticle extends AbstractParticle{
     }
 
     /*
-     * Calculates the fitness of the ClusterParticle accordingly
-     * Sets the fitness after it is calculated
+     * Sets the fitness of the ClusterParticle
      * Updates the Personal Best values
      */
     @Override
-    public void calculateFitness() {
-
-        EntityBasedFitnessCalculator f = new EntityBasedFitnessCalculator();
-        Fitness fitness = f.getFitness(this);
+    public void updateFitness(Fitness fitness) {
         this.getProperties().put(EntityType.FITNESS, fitness);
         this.personalBestUpdateStrategy.updatePersonalBest(this);
     }
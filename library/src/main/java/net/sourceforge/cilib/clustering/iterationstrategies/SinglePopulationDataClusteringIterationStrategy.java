@@ -6,16 +6,20 @@
  */
 package net.sourceforge.cilib.clustering.iterationstrategies;
 
+import com.google.common.collect.MapMaker;
+import fj.Effect;
+import java.util.concurrent.ConcurrentMap;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
 import net.sourceforge.cilib.clustering.DataClusteringPSO;
+import net.sourceforge.cilib.clustering.PackedDataset;
+import net.sourceforge.cilib.clustering.PatternAssignment;
 import net.sourceforge.cilib.clustering.SlidingWindow;
+import net.sourceforge.cilib.clustering.entity.ClusterParticle;
 import net.sourceforge.cilib.io.DataTable;
 import net.sourceforge.cilib.io.StandardPatternDataTable;
-import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.problem.boundaryconstraint.CentroidBoundaryConstraint;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
-import net.sourceforge.cilib.type.types.container.ClusterCentroid;
-import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.distancemeasure.DistanceMeasure;
 import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
 
@@ -30,6 +34,9 @@ public abstract class SinglePopulationDataClusteringIterationStrategy extends Ab
     protected int dimensions;
     protected boolean reinitialised;
     protected String fileName;
+    private ParallelEvaluator evaluator;
+    private transient PackedDataset packedDataset;
+    private transient ConcurrentMap<ClusterParticle, PatternAssignment> assignments;
 
     /*
      * Default constructor for SinglePopulationDataClusteringIterationStrategy
@@ -56,6 +63,7 @@ public abstract class SinglePopulationDataClusteringIterationStrategy extends Ab
         reinitialisationInterval = copy.reinitialisationInterval;
         dimensions = copy.dimensions;
         reinitialised = copy.reinitialised;
+        evaluator = copy.evaluator == null ? null : copy.evaluator.getClone();
     }
 
     /*
@@ -137,33 +145,66 @@ public abstract class SinglePopulationDataClusteringIterationStrategy extends Ab
         return window;
     }
 
+    /*
+     * Returns the evaluator used to assign the data patterns to the particles in parallel
+     * @return evaluator The evaluator, or null if the particles are processed sequentially
+     */
+    public ParallelEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /*
+     * Sets the evaluator used to assign the data patterns to the particles in parallel.
+     * If null, the particles are processed sequentially
+     * @param evaluator The new evaluator
+     */
+    public void setEvaluator(ParallelEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
     /*
      * Adds the data patterns closest to a centroid to its data pattern list
      * @param candidateSolution The solution holding all the centroids
      * @param dataset The dataset holding all the data patterns
      */
     public void assignDataPatternsToParticle(CentroidHolder candidateSolution, DataTable dataset) {
-        double euclideanDistance;
-        Vector addedPattern;
-        DistanceMeasure aDistanceMeasure = new EuclideanDistanceMeasure();
-        Vector pattern;
-
-        for(int i = 0; i < dataset.size(); i++) {
-                euclideanDistance = Double.POSITIVE_INFINITY;
-                addedPattern = Vector.of();
-                pattern = ((StandardPattern) dataset.getRow(i)).getVector();
-                int centroidIndex = 0;
-                int patternIndex = 0;
-                for(ClusterCentroid centroid : candidateSolution) {
-                    if(aDistanceMeasure.distance(centroid.toVector(), pattern) < euclideanDistance) {
-                        euclideanDistance = aDistanceMeasure.distance(centroid.toVector(), pattern);
-                        addedPattern = Vector.copyOf(pattern);
-                        patternIndex = centroidIndex;
-                    }
-                    centroidIndex++;
+        packedDataset = PackedDataset.of(dataset, packedDataset);
+        new PatternAssignment().assign(candidateSolution, packedDataset);
+    }
+
+    /*
+     * Adds the data patterns closest to a centroid to its data pattern list, for the
+     * candidate solutions of all the particles. The assignment of each particle is kept
+     * and used to skip distance calculations in the following iterations, see
+     * PatternAssignment. If an evaluator is set the particles are processed in parallel
+     * @param particles The particles holding the centroids
+     * @param dataset The dataset holding all the data patterns
+     */
+    public void assignDataPatternsToParticles(Iterable<ClusterParticle> particles, DataTable<?, ?> dataset) {
+        packedDataset = PackedDataset.of(dataset, packedDataset);
+        if (assignments == null) {
+            assignments = new MapMaker().weakKeys().makeMap();
+        }
+
+        final PackedDataset packed = packedDataset;
+        Effect<ClusterParticle> assignment = new Effect<ClusterParticle>() {
+            @Override
+            public void e(ClusterParticle particle) {
+                PatternAssignment current = assignments.get(particle);
+                if (current == null) {
+                    assignments.putIfAbsent(particle, new PatternAssignment());
+                    current = assignments.get(particle);
                 }
+                current.assign((CentroidHolder) particle.getCandidateSolution(), packed);
+            }
+        };
 
-                candidateSolution.get(patternIndex).addDataItem(euclideanDistance, addedPattern);
+        if (evaluator == null) {
+            for (ClusterParticle particle : particles) {
+                assignment.e(particle);
             }
+        } else {
+            evaluator.apply(particles, assignment);
+        }
     }
 }
@@ -8,10 +8,8 @@ package net.sourceforge.cilib.clustering.iterationstrategies;
 
 import net.sourceforge.cilib.clustering.DataClusteringPSO;
 import net.sourceforge.cilib.clustering.entity.ClusterParticle;
-import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.type.types.container.CentroidHolder;
 import net.sourceforge.cilib.type.types.container.ClusterCentroid;
-import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * This class handles an iteration of the data clustering algorithm described in :
@@ -60,32 +58,15 @@ public class StandardDataClusteringIterationStrategy extends SinglePopulationDat
     @Override
     public void performIteration(DataClusteringPSO algorithm) {
         fj.data.List<ClusterParticle> topology = algorithm.getTopology();
-        double euclideanDistance;
-        Vector addedPattern;
         clearCentroidDistanceValues(topology);
         reinitialised = false;
-        Vector pattern;
+
+        // The assignment of a particle only depends on its own centroids, all the
+        // particles are assigned before any of them moves.
+        assignDataPatternsToParticles(topology, dataset);
 
         for(ClusterParticle particle : topology) {
             CentroidHolder candidateSolution = (CentroidHolder) particle.getCandidateSolution();
-            for(int i = 0; i < dataset.size(); i++) {
-                euclideanDistance = Double.POSITIVE_INFINITY;
-                addedPattern = Vector.of();
-                pattern = ((StandardPattern) dataset.getRow(i)).getVector();
-                int centroidIndex = 0;
-                int patternIndex = 0;
-                for(ClusterCentroid centroid : candidateSolution) {
-                    if(distanceMeasure.distance(centroid.toVector(), pattern) < euclideanDistance) {
-                        euclideanDistance = distanceMeasure.distance(centroid.toVector(), pattern);
-                        addedPattern = Vector.copyOf(pattern);
-                        patternIndex = centroidIndex;
-                    }
-                    centroidIndex++;
-                }
-
-                candidateSolution.get(patternIndex).addDataItem(euclideanDistance, addedPattern);
-            }
-
             particle.setCandidateSolution(candidateSolution);
 
             particle.calculateFitness();
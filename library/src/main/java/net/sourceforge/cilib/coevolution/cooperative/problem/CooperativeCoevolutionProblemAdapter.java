@@ -9,13 +9,18 @@ package net.sourceforge.cilib.coevolution.cooperative.problem;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.coevolution.cooperative.CooperativeCoevolutionAlgorithm;
 import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
+import net.sourceforge.cilib.functions.continuous.decorators.SeparableChain;
 import net.sourceforge.cilib.problem.AbstractProblem;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.type.StringBasedDomainRegistry;
 import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.Types;
 import net.sourceforge.cilib.type.types.container.Vector;
+import fj.F;
 
 /**
  * This {@linkplain CooperativeCoevolutionProblemAdapter optimisation problem}
@@ -23,6 +28,15 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * It stores the {@linkplain DimensionAllocation} of the participant, and
  * provides the means to calculate the fitness of {@linkplain Entity}s
  * of the participating {@linkplain Algorithm}s.
+ * <p>
+ * If the original problem is a {@linkplain FunctionOptimisationProblem} with
+ * a {@linkplain SeparableFunction separable function}, possibly decorated
+ * (see {@link SeparableChain}), the sums of the terms of the dimensions that
+ * are not allocated to the participant are calculated once for every
+ * context. Every following evaluation only calculates the terms of the
+ * allocated dimensions. The first evaluation for a context is a full
+ * evaluation of the function, and whether the function is separable is only
+ * determined once for every context.
  */
 public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
 
@@ -30,6 +44,9 @@ public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
     private final Problem problem;
     private Vector context;
     private final DimensionAllocation problemAllocation;
+    private transient SeparableFunction separable;
+    private transient double[] contextSums;
+    private transient boolean notSeparable;
 
     /**
      * Creates an CooperativeCoevolutionProblemAdapter, which is assigned to
@@ -76,7 +93,68 @@ public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
         for (int i = 0; i < problemAllocation.getSize(); ++i) {
             context.set(problemAllocation.getProblemIndex(i), ((Vector) solution).get(i));
         }
-        return problem.getFitness(context);
+
+        if (contextSums != null) {
+            return calculateFitnessIncrementally((Vector) solution);
+        }
+
+        Fitness fitness = problem.getFitness(context);
+        if (!notSeparable) {
+            initialiseContextSums();
+        }
+        return fitness;
+    }
+
+    private Fitness calculateFitnessIncrementally(Vector solution) {
+        int size = context.size();
+        double[] sums = contextSums.clone();
+        double[] terms = new double[sums.length];
+        for (int i = 0; i < problemAllocation.getSize(); ++i) {
+            separable.terms(problemAllocation.getProblemIndex(i), solution.doubleValueOf(i), size, terms);
+            for (int j = 0; j < sums.length; j++) {
+                sums[j] += terms[j];
+            }
+        }
+
+        return ((FunctionOptimisationProblem) problem).getFitness(context, separable.combine(sums, size));
+    }
+
+    /**
+     * Sum the terms of the dimensions of the context that are not allocated
+     * to this problem, if the original problem has a separable function.
+     * Otherwise the problem is marked as not separable, until the context
+     * is updated.
+     */
+    private void initialiseContextSums() {
+        if (problem instanceof FunctionOptimisationProblem) {
+            F<Vector, ? extends Number> function = ((FunctionOptimisationProblem) problem).getFunction();
+            separable = function instanceof ContinuousFunction ? SeparableChain.of((ContinuousFunction) function) : null;
+        } else {
+            separable = null;
+        }
+        if (separable == null) {
+            notSeparable = true;
+            return;
+        }
+        SeparableChain.prepare(separable, context);
+
+        int size = context.size();
+        boolean[] allocated = new boolean[size];
+        for (int i = 0; i < problemAllocation.getSize(); ++i) {
+            allocated[problemAllocation.getProblemIndex(i)] = true;
+        }
+
+        double[] sums = new double[separable.getSumCount()];
+        double[] terms = new double[sums.length];
+        for (int i = 0; i < size; i++) {
+            if (!allocated[i]) {
+                separable.terms(i, context.doubleValueOf(i), size, terms);
+                for (int j = 0; j < sums.length; j++) {
+                    sums[j] += terms[j];
+                }
+            }
+        }
+        contextSums = sums;
     }
 
     /**
@@ -100,5 +178,7 @@ public class CooperativeCoevolutionProblemAdapter extends AbstractProblem {
      */
     public void updateContext(Vector context) {
         this.context = Vector.copyOf(context);
+        this.contextSums = null;
+        this.notSeparable = false;
     }
 }
@@ -16,10 +16,12 @@ import net.sourceforge.cilib.entity.operators.creation.CreationStrategy;
 import net.sourceforge.cilib.entity.operators.creation.RandCreationStrategy;
 import net.sourceforge.cilib.entity.operators.crossover.CrossoverStrategy;
 import net.sourceforge.cilib.entity.operators.crossover.de.DifferentialEvolutionBinomialCrossover;
+import net.sourceforge.cilib.util.functions.Entities;
 import net.sourceforge.cilib.util.selection.recipes.RandomSelector;
 import net.sourceforge.cilib.util.selection.recipes.Selector;
 
 import fj.F;
+import fj.F2;
 
 /**
  * Evolutionary Strategy to implement the Differential Evolutionary Algorithm.
@@ -67,7 +69,7 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
     public void performIteration(EC ec) {
         final fj.data.List<Individual> topology = ec.getTopology();
 
-        ec.setTopology(topology.map(new F<Individual, Individual>() {
+        final fj.data.List<Individual> offspring = topology.map(new F<Individual, Individual>() {
             @Override
             public Individual f(Individual current) {
                 // Create the trial vector by applying mutation
@@ -79,11 +81,19 @@ public class DifferentialEvolutionIterationStrategy extends AbstractIterationStr
                 // Create the offspring by applying cross-over
                 List<Individual> offspring = crossoverStrategy.crossover(Arrays.asList(current, trialEntity)); // Order is VERY important here!!
 
-                // Replace the parent (current) if the offspring is better
                 Individual offspringEntity = offspring.get(0);
                 boundaryConstraint.enforce(offspringEntity);
-                offspringEntity.calculateFitness();
+                return offspringEntity;
+            }
+        });
+
+        // Evaluate all the offspring together
+        Entities.calculateFitness(offspring);
 
+        ec.setTopology(topology.zipWith(offspring, new F2<Individual, Individual, Individual>() {
+            @Override
+            public Individual f(Individual current, Individual offspringEntity) {
+                // Replace the parent (current) if the offspring is better
                 if (offspringEntity.getFitness().compareTo(current.getFitness()) > 0) { // the trial vector is better than the parent
                     return offspringEntity; // Replace the parent with the offspring individual
                 } else {
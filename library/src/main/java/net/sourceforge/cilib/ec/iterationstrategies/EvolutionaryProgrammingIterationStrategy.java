@@ -49,8 +49,8 @@ public class EvolutionaryProgrammingIterationStrategy extends AbstractIterationS
 
         for (Individual individual : offspring) {
             boundaryConstraint.enforce(individual);
-            individual.calculateFitness();
         }
+        Entities.calculateFitness(offspring);
         
         // Perform new population selection
         algorithm.setTopology(fj.data.List.iterableList(populationSelector
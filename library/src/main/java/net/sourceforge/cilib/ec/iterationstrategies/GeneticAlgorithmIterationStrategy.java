@@ -16,6 +16,7 @@ import net.sourceforge.cilib.entity.operators.CrossoverOperator;
 import net.sourceforge.cilib.entity.operators.crossover.UniformCrossoverStrategy;
 import net.sourceforge.cilib.entity.operators.mutation.GaussianMutationStrategy;
 import net.sourceforge.cilib.entity.operators.mutation.MutationStrategy;
+import net.sourceforge.cilib.util.functions.Entities;
 
 import com.google.common.collect.Lists;
 import net.sourceforge.cilib.util.selection.Samples;
@@ -84,8 +85,8 @@ public class GeneticAlgorithmIterationStrategy extends AbstractIterationStrategy
         // Evaluate the fitness values of the generated offspring
         for (Entity entity : crossedOver) {
             boundaryConstraint.enforce(entity);
-            entity.calculateFitness();
         }
+        Entities.calculateFitness(crossedOver);
 
         // Perform new population selection
         ec.setTopology(fj.data.List.iterableList(populationSelector
@@ -27,10 +27,12 @@ public abstract class AbstractEntity implements Entity {
     private FitnessCalculator<Entity> fitnessCalculator;
 
     /**
-     * Initialise the candidate solution of the {@linkplain Entity}.
+     * Initialise the candidate solution of the {@linkplain Entity}. The
+     * {@linkplain EntityType} properties are held in fixed slots of the
+     * {@linkplain Blackboard}.
      */
     protected AbstractEntity() {
-        this.properties = new Blackboard();
+        this.properties = new Blackboard<Enum<?>, Type>(EntityTypeIndex.INSTANCE);
         this.fitnessCalculator = new EntityBasedFitnessCalculator();
     }
 
@@ -113,8 +115,21 @@ public abstract class AbstractEntity implements Entity {
 
     @Override
     public void calculateFitness() {
+        updateFitness(fitnessCalculator.getFitness(this));
+    }
+
+    /**
+     * Update the fitness of the {@linkplain Entity} with a fitness that has
+     * already been calculated, for example when the fitness of a whole
+     * population is calculated at once. The {@linkplain Entity} is updated
+     * in the same way as by {@link #calculateFitness()}, but the number of
+     * fitness evaluations is not changed.
+     *
+     * @param fitness The new {@linkplain Fitness} of the {@linkplain Entity}.
+     */
+    public void updateFitness(Fitness fitness) {
         properties.put(EntityType.PREVIOUS_FITNESS, getFitness().getClone());
-        properties.put(EntityType.FITNESS, fitnessCalculator.getFitness(this));
+        properties.put(EntityType.FITNESS, fitness);
     }
 
     @Override
@@ -0,0 +1,64 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity;
+
+import net.sourceforge.cilib.type.types.Blackboard;
+
+/**
+ * Assigns a {@linkplain Blackboard} slot to each of the {@linkplain EntityType}
+ * constants, so that the common properties of an {@linkplain Entity} are
+ * stored in an array.
+ */
+enum EntityTypeIndex implements Blackboard.KeyIndex<Enum<?>> {
+    INSTANCE;
+
+    private static final int PARTICLE = EntityType.values().length;
+    private static final int COUNT = PARTICLE + EntityType.Particle.values().length;
+    private static final int COEVOLUTION = COUNT + EntityType.Particle.Count.values().length;
+    private static final int SIZE = COEVOLUTION + EntityType.Coevolution.values().length;
+
+    private static final Enum<?>[] KEYS = new Enum<?>[SIZE];
+
+    static {
+        for (EntityType type : EntityType.values()) {
+            KEYS[type.ordinal()] = type;
+        }
+        for (EntityType.Particle type : EntityType.Particle.values()) {
+            KEYS[PARTICLE + type.ordinal()] = type;
+        }
+        for (EntityType.Particle.Count type : EntityType.Particle.Count.values()) {
+            KEYS[COUNT + type.ordinal()] = type;
+        }
+        for (EntityType.Coevolution type : EntityType.Coevolution.values()) {
+            KEYS[COEVOLUTION + type.ordinal()] = type;
+        }
+    }
+
+    @Override
+    public int size() {
+        return SIZE;
+    }
+
+    @Override
+    public int indexOf(Object key) {
+        if (key instanceof EntityType) {
+            return ((EntityType) key).ordinal();
+        } else if (key instanceof EntityType.Particle) {
+            return PARTICLE + ((EntityType.Particle) key).ordinal();
+        } else if (key instanceof EntityType.Particle.Count) {
+            return COUNT + ((EntityType.Particle.Count) key).ordinal();
+        } else if (key instanceof EntityType.Coevolution) {
+            return COEVOLUTION + ((EntityType.Coevolution) key).ordinal();
+        }
+        return -1;
+    }
+
+    @Override
+    public Enum<?> keyAt(int index) {
+        return KEYS[index];
+    }
+}
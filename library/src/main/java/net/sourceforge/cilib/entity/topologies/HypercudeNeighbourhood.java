@@ -1,21 +1,15 @@
 package net.sourceforge.cilib.entity.topologies;
 
-import fj.Equal;
-import fj.F;
-import fj.data.List;
-
-public class HypercudeNeighbourhood<E> extends Neighbourhood<E> {
+public class HypercudeNeighbourhood<E> extends IndexedNeighbourhood<E> {
     private int n = 5;
 
     @Override
-    public List<E> f(final List<E> list, final E current) {
-        final int index = list.elementIndex(Equal.<E>anyEqual(), current).orSome(-1);
-        return List.range(0, n).map(new F<Integer, E>() {
-            @Override
-            public E f(Integer a) {
-                return list.index(index ^ Double.valueOf(Math.pow(2, a)).intValue());
-            }
-        });
+    protected int[] neighbours(int index, int size) {
+        int[] result = new int[n];
+        for (int a = 0; a < n; a++) {
+            result[a] = index ^ (1 << a);
+        }
+        return result;
     }
 
     public void setNeighbourhoodSize(int n) {
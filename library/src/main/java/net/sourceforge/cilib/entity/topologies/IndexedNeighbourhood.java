@@ -0,0 +1,116 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.topologies;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import fj.data.List;
+
+/**
+ * A {@link Neighbourhood} that is defined by the positions of the elements
+ * within the topology.
+ * <p>
+ * The neighbours of every position are calculated once for a topology and
+ * kept until a different topology is queried. As {@link List} instances are
+ * immutable, this happens whenever the algorithm replaces its topology.
+ * Each query then only needs to look up the position of the element and
+ * gather its neighbours. The cache is held per thread, so that a
+ * neighbourhood shared by concurrently running algorithms does not need to
+ * be recalculated for every query.
+ *
+ * @param <E> The element type.
+ */
+public abstract class IndexedNeighbourhood<E> extends Neighbourhood<E> {
+
+    private transient ThreadLocal<Adjacency<E>> cache;
+
+    @Override
+    public List<E> f(List<E> list, E element) {
+        if (list.isEmpty()) {
+            return List.nil();
+        }
+
+        Adjacency<E> adjacency = adjacency(list);
+        int[] neighbours = adjacency.neighbours[adjacency.indexOf(element)];
+
+        List<E> result = List.nil();
+        for (int i = neighbours.length - 1; i >= 0; i--) {
+            result = result.cons(adjacency.elements[neighbours[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Get the positions of the neighbours of the element at position
+     * {@code index}, in the order in which they should be returned.
+     *
+     * @param index The position of the element.
+     * @param size The size of the topology.
+     * @return The positions of the neighbours.
+     */
+    protected abstract int[] neighbours(int index, int size);
+
+    private Adjacency<E> adjacency(List<E> list) {
+        ThreadLocal<Adjacency<E>> local = cache;
+        if (local == null) {
+            synchronized (this) {
+                if (cache == null) {
+                    cache = new ThreadLocal<Adjacency<E>>();
+                }
+                local = cache;
+            }
+        }
+
+        Adjacency<E> adjacency = local.get();
+        if (adjacency == null || adjacency.topology != list) {
+            adjacency = new Adjacency<E>(list, this);
+            local.set(adjacency);
+        }
+        return adjacency;
+    }
+
+    /**
+     * The elements of a topology, their positions and the positions of the
+     * neighbours of every element.
+     */
+    private static final class Adjacency<E> {
+        private final List<E> topology;
+        private final E[] elements;
+        private final Map<E, Integer> indices;
+        private final int[][] neighbours;
+
+        @SuppressWarnings("unchecked")
+        Adjacency(List<E> topology, IndexedNeighbourhood<E> neighbourhood) {
+            this.topology = topology;
+            this.elements = (E[]) topology.toCollection().toArray();
+            this.indices = new IdentityHashMap<E, Integer>(elements.length);
+            this.neighbours = new int[elements.length][];
+
+            for (int i = 0; i < elements.length; i++) {
+                if (!indices.containsKey(elements[i])) {
+                    indices.put(elements[i], i);
+                }
+                neighbours[i] = neighbourhood.neighbours(i, elements.length);
+            }
+        }
+
+        int indexOf(E element) {
+            Integer index = indices.get(element);
+            if (index != null) {
+                return index;
+            }
+
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i].equals(element)) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("The element is not part of the topology");
+        }
+    }
+}
@@ -1,11 +1,6 @@
 package net.sourceforge.cilib.entity.topologies;
 
-import com.google.common.collect.Lists;
-
-import fj.data.List;
-import fj.data.Stream;
-
-public class LBestNeighbourhood<E> extends Neighbourhood<E> {
+public class LBestNeighbourhood<E> extends IndexedNeighbourhood<E> {
 
     private int n;
 
@@ -17,18 +12,18 @@ public class LBestNeighbourhood<E> extends Neighbourhood<E> {
         this.n = n;
     }
 
-
     @Override
-    public List<E> f(List<E> list, E element) {
-        java.util.List<E> inner = Lists.newArrayList(list);
-        int ts = inner.size();
-        int x = (inner.indexOf(element) - (n / 2) + ts) % ts;
-
-        return Stream.cycle(list.toStream()).drop(x).take(n).toList();
+    protected int[] neighbours(int index, int size) {
+        int x = (index - (n / 2) + size) % size;
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = (x + i) % size;
+        }
+        return result;
     }
 
     public void setNeighbourhoodSize(int n) {
         this.n = n;
     }
 
-}
\ No newline at end of file
+}
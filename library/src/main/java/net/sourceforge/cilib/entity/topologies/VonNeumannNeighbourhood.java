@@ -1,37 +1,27 @@
 package net.sourceforge.cilib.entity.topologies;
 
-import com.google.common.collect.Lists;
+public class VonNeumannNeighbourhood<E> extends IndexedNeighbourhood<E> {
 
-import fj.F;
-import fj.data.List;
-
-public class VonNeumannNeighbourhood<E> extends Neighbourhood<E> {
-
-    private E find(List<E> list, int n, int r, int c) {
-        return list.index(r * n + c);
+    private int find(int n, int r, int c) {
+        return r * n + c;
     }
 
     @Override
-    public List<E> f(final List<E> list, final E target) {
-        final int np = list.length();
-        final int index = Lists.newArrayList(list).indexOf(target);
+    protected int[] neighbours(int index, int np) {
         final int sqSide = (int) Math.round(Math.sqrt(np));
         final int nRows = (int) Math.ceil(np / (double) sqSide);
         final int row = index / sqSide;
         final int col = index % sqSide;
 
-        final F<Integer, Integer> colsInRow = new F<Integer, Integer>() {
-            @Override
-            public Integer f(Integer r) {
-                return r == nRows - 1 ? np - r * sqSide : sqSide;
-            }
-        };
+        final int north = find(sqSide, (row - 1 + nRows) % nRows - ((col >= colsInRow((row - 1 + nRows) % nRows, nRows, np, sqSide)) ? 1 : 0), col);
+        final int south = find(sqSide, (row + 1) % nRows - ((col >= colsInRow((row + 1) % nRows, nRows, np, sqSide)) ? sqSide : 0), col);
+        final int east = find(sqSide, row, (col + 1) % colsInRow(row, nRows, np, sqSide));
+        final int west = find(sqSide, row, (col - 1 + colsInRow(row, nRows, np, sqSide)) % colsInRow(row, nRows, np, sqSide));
 
-        final E north = find(list, sqSide, (row - 1 + nRows) % nRows - ((col >= colsInRow.f((row - 1 + nRows) % nRows)) ? 1 : 0), col);
-        final E south = find(list, sqSide, (row + 1) % nRows - ((col >= colsInRow.f((row + 1) % nRows)) ? sqSide : 0), col);
-        final E east = find(list, sqSide, row, (col + 1) % colsInRow.f(row));
-        final E west = find(list, sqSide, row, (col - 1 + colsInRow.f(row)) % colsInRow.f(row));
+        return new int[] { index, north, east, south, west };
+    }
 
-        return List.list(target, north, east, south, west);
+    private int colsInRow(int r, int nRows, int np, int sqSide) {
+        return r == nRows - 1 ? np - r * sqSide : sqSide;
     }
 }
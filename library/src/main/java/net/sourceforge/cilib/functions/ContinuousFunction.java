@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.functions;
 
+import java.util.List;
 import net.sourceforge.cilib.type.types.container.Vector;
 import fj.F;
 
@@ -13,4 +14,42 @@ import fj.F;
  * Marker interface to differentiate continuous-valued functions.
  */
 public abstract class ContinuousFunction extends F<Vector, Double> {
+
+    /**
+     * Evaluate the function on each of the given inputs, in order. The
+     * results are the same as those of calling {@link #f(Vector)} for every
+     * input.
+     * <p>
+     * A function that is a {@link PrimitiveFunction} is evaluated on a single
+     * array that is reused for all the inputs. Functions with a cheaper way
+     * of evaluating a whole population may override this method.
+     *
+     * @param inputs The inputs to evaluate.
+     * @return The values of the function, in the order of the inputs.
+     */
+    public double[] evaluateAll(List<? extends Vector> inputs) {
+        double[] values = new double[inputs.size()];
+        int index = 0;
+
+        if (this instanceof PrimitiveFunction) {
+            PrimitiveFunction primitive = (PrimitiveFunction) this;
+            double[] buffer = new double[0];
+            for (Vector input : inputs) {
+                int size = input.size();
+                if (buffer.length != size) {
+                    buffer = new double[size];
+                }
+                for (int i = 0; i < size; i++) {
+                    buffer[i] = input.doubleValueOf(i);
+                }
+                values[index++] = primitive.evaluate(buffer);
+            }
+        } else {
+            for (Vector input : inputs) {
+                values[index++] = f(input);
+            }
+        }
+
+        return values;
+    }
 }
@@ -0,0 +1,24 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions;
+
+/**
+ * A function that can be evaluated directly on an array of primitive values,
+ * without creating a {@link net.sourceforge.cilib.type.types.container.Vector}.
+ * The result must be the same as that of evaluating the function on a
+ * {@code Vector} containing the same values.
+ */
+public interface PrimitiveFunction {
+
+    /**
+     * Evaluate the function. The values may not be modified and may not be
+     * retained after the method returns.
+     * @param input The values of the input.
+     * @return The value of the function.
+     */
+    double evaluate(double[] input);
+}
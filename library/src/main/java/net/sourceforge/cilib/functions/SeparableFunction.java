@@ -0,0 +1,46 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions;
+
+/**
+ * A function that is built from one or more sums over the dimensions of its
+ * input, where every dimension contributes a term to each sum that depends
+ * only on the value and the index of that dimension:
+ * <pre>
+ * f(x) = combine(s_1, ..., s_k),   s_j = sum_i term_j(i, x_i)
+ * </pre>
+ * The value of such a function can be updated incrementally when only a few
+ * dimensions of the input change, by replacing the terms of the changed
+ * dimensions. The incremental value may differ from {@code f} in the last
+ * bits, as the terms are summed in a different order.
+ */
+public interface SeparableFunction {
+
+    /**
+     * @return The number of sums that the function is built from.
+     */
+    int getSumCount();
+
+    /**
+     * Calculate the terms that a single dimension contributes to each of the
+     * sums.
+     * @param index The index of the dimension.
+     * @param value The value of the dimension.
+     * @param size The number of dimensions of the input.
+     * @param terms The array, of length {@link #getSumCount()}, to which the
+     *        terms are written.
+     */
+    void terms(int index, double value, int size, double[] terms);
+
+    /**
+     * Calculate the value of the function from its sums.
+     * @param sums The sums over all the dimensions of the input.
+     * @param size The number of dimensions of the input.
+     * @return The value of the function.
+     */
+    double combine(double[] sums, int size);
+}
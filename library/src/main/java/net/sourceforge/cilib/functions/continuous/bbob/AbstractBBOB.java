@@ -6,8 +6,10 @@
  */
 package net.sourceforge.cilib.functions.continuous.bbob;
 
+import java.util.List;
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.KnownOptimum;
+import net.sourceforge.cilib.functions.continuous.decorators.FusedEvaluation;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 public abstract class AbstractBBOB extends ContinuousFunction implements KnownOptimum<Double>  {
@@ -34,6 +36,47 @@ public abstract class AbstractBBOB extends ContinuousFunction implements KnownOp
 		}
 	}
 
+	/**
+	 * Get the function {@code g} for which this function is
+	 * {@code g(x - xOpt) + fOpt}, if this function has that form.
+	 * @return The shifted function, or {@code null} if this function does
+	 *         not have that form.
+	 */
+	protected ContinuousFunction getShiftedFunction() {
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the function has a {@linkplain #getShiftedFunction() shifted form},
+	 * the shifted inputs are written to a single reused array and the
+	 * decorators of the shifted function are evaluated in a fused pass.
+	 */
+	@Override
+	public double[] evaluateAll(List<? extends Vector> inputs) {
+		ContinuousFunction shifted = getShiftedFunction();
+		if (shifted == null) {
+			return super.evaluateAll(inputs);
+		}
+
+		double[] values = new double[inputs.size()];
+		double[] z = new double[0];
+		int index = 0;
+		for (Vector input : inputs) {
+			int size = input.size();
+			initialise(size);
+			if (z.length != size) {
+				z = new double[size];
+			}
+			for (int i = 0; i < size; i++) {
+				z[i] = input.doubleValueOf(i) - xOpt.doubleValueOf(i);
+			}
+			values[index++] = FusedEvaluation.evaluate(shifted, z) + fOpt;
+		}
+		return values;
+	}
+
 	/**
 	 * Get the shifted global optimium used by this function.
 	 * @return The shifted global optimum.
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.bbob;
 
+import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
 import net.sourceforge.cilib.type.types.container.Vector;
 
@@ -26,4 +27,9 @@ public class BBOB1 extends AbstractBBOB {
 		Vector z = input.subtract(xOpt);
 		return sphere.f(z) + fOpt;
 	}
+
+	@Override
+	protected ContinuousFunction getShiftedFunction() {
+		return sphere;
+	}
 }
\ No newline at end of file
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.bbob;
 
+import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.continuous.decorators.IrregularFunctionDecorator;
 import net.sourceforge.cilib.functions.continuous.decorators.RotatedFunctionDecorator;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Elliptic;
@@ -30,4 +31,9 @@ public class BBOB10 extends AbstractBBOB {
 		Vector z = input.subtract(xOpt);
 		return r.f(z) + fOpt;
 	}
+
+	@Override
+	protected ContinuousFunction getShiftedFunction() {
+		return r;
+	}
 }
\ No newline at end of file
@@ -33,6 +33,11 @@ public class BBOB13 extends AbstractBBOB {
 		return r.f(z) + fOpt;
 	}
 
+	@Override
+	protected ContinuousFunction getShiftedFunction() {
+		return r;
+	}
+
 	private class Inner extends ContinuousFunction {
 		private Spherical sphere;
 
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.bbob;
 
+import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.continuous.decorators.IrregularFunctionDecorator;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Elliptic;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -27,4 +28,9 @@ public class BBOB2 extends AbstractBBOB {
 		Vector z = input.subtract(xOpt);
 		return irregular.f(z) + fOpt;
 	}
+
+	@Override
+	protected ContinuousFunction getShiftedFunction() {
+		return irregular;
+	}
 }
\ No newline at end of file
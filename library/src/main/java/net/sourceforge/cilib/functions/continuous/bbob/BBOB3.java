@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.bbob;
 
+import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.continuous.decorators.IrregularFunctionDecorator;
 import net.sourceforge.cilib.functions.continuous.decorators.AsymmetricFunctionDecorator;
 import net.sourceforge.cilib.functions.continuous.decorators.IllConditionedFunctionDecorator;
@@ -33,4 +34,9 @@ public class BBOB3 extends AbstractBBOB {
 		Vector z = input.subtract(xOpt);
 		return irregular.f(z) + fOpt;
 	}
+
+	@Override
+	protected ContinuousFunction getShiftedFunction() {
+		return irregular;
+	}
 }
\ No newline at end of file
@@ -29,6 +29,11 @@ public class BBOB4 extends AbstractBBOB {
 		return irregular.f(z) + fOpt;
 	}
 
+	@Override
+	protected ContinuousFunction getShiftedFunction() {
+		return irregular;
+	}
+
 	private class Buche extends ContinuousFunction {
 		private Rastrigin rastrigin;
 
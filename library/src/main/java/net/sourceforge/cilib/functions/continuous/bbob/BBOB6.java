@@ -36,6 +36,11 @@ public class BBOB6 extends AbstractBBOB {
 		return r.f(z) + fOpt;
 	}
 
+	@Override
+	protected ContinuousFunction getShiftedFunction() {
+		return r;
+	}
+
 	private class Sector extends ContinuousFunction {
 		F<Numeric, Numeric> irregularMapping;
 
@@ -22,7 +22,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * on Real-Parameter Optimization." (2013).
  * </p>
  */
-public class AsymmetricFunctionDecorator extends ContinuousFunction {
+public class AsymmetricFunctionDecorator extends ContinuousFunction implements FusibleFunctionDecorator {
 
     private ContinuousFunction function;
     private ControlParameter beta;
@@ -33,19 +33,36 @@ public class AsymmetricFunctionDecorator extends ContinuousFunction {
 
     @Override
     public Double f(Vector input) {
-        Vector.Builder builder = Vector.newBuilder();
+        return FusedEvaluation.evaluate(this, input);
+    }
 
-        for (int i = 0; i < input.size(); i++) {
-            double x = input.doubleValueOf(i);
+    @Override
+    public void prepare(Vector input) {
+        // The transformation does not depend on the input.
+    }
+
+    @Override
+    public void transform(double[] input) {
+        double b = beta.getParameter();
+        for (int i = 0; i < input.length; i++) {
+            double x = input[i];
             if (x > 0) {
-                builder.add(Math.pow(x, 1 + beta.getParameter() * Math.sqrt(x) * i / (input.size() - 1)));
-            } else {
-                builder.add(x);
+                input[i] = Math.pow(x, 1 + b * Math.sqrt(x) * i / (input.length - 1));
             }
+        }
+    }
 
+    @Override
+    public double transform(int index, double value, int size) {
+        if (value > 0) {
+            return Math.pow(value, 1 + beta.getParameter() * Math.sqrt(value) * index / (size - 1));
         }
+        return value;
+    }
 
-        return function.f(builder.build());
+    @Override
+    public double adjust(double value) {
+        return value;
     }
 
     public void setFunction(ContinuousFunction function) {
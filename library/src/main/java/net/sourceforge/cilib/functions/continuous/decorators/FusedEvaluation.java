@@ -0,0 +1,95 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.PrimitiveFunction;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Evaluates a chain of {@link FusibleFunctionDecorator}s as a single pipeline.
+ * <p>
+ * The input is copied once into an array that is reused by the calling
+ * thread, every decorator in the chain transforms the array in place and the
+ * innermost function is evaluated on the array if it is a
+ * {@link PrimitiveFunction}. Otherwise a single {@code Vector} is created for
+ * it. The results are the same as when each decorator creates a new
+ * {@code Vector} for the function that it decorates.
+ */
+public final class FusedEvaluation {
+
+    private static final ThreadLocal<double[]> BUFFER = new ThreadLocal<double[]>() {
+        @Override
+        protected double[] initialValue() {
+            return new double[0];
+        }
+    };
+
+    private FusedEvaluation() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    /**
+     * Evaluate the decorator, and all the fusible decorators below it, on
+     * the given input.
+     * @param decorator The outermost decorator.
+     * @param input The input of the decorator.
+     * @return The value of the decorator.
+     */
+    public static double evaluate(FusibleFunctionDecorator decorator, Vector input) {
+        int size = input.size();
+        double[] values = BUFFER.get();
+        if (values.length != size) {
+            values = new double[size];
+            BUFFER.set(values);
+        }
+
+        for (int i = 0; i < size; i++) {
+            values[i] = input.doubleValueOf(i);
+        }
+
+        prepare(decorator, input);
+        return apply(decorator, values);
+    }
+
+    /**
+     * Evaluate a function on an array of values, fusing the decorators of
+     * the function if it is a {@link FusibleFunctionDecorator}. The values
+     * may be modified.
+     * @param function The function to evaluate.
+     * @param values The input of the function.
+     * @return The value of the function.
+     */
+    public static double evaluate(ContinuousFunction function, double[] values) {
+        if (function instanceof FusibleFunctionDecorator) {
+            return apply((FusibleFunctionDecorator) function, values);
+        } else if (function instanceof PrimitiveFunction) {
+            return ((PrimitiveFunction) function).evaluate(values);
+        }
+        // The buffer may be reused by the function, it is copied first.
+        return function.f(Vector.copyOf(values));
+    }
+
+    /**
+     * Prepare the decorator, and all the fusible decorators below it, for
+     * the transformation of the given input.
+     * @param decorator The outermost decorator.
+     * @param input The input of the decorator.
+     */
+    public static void prepare(FusibleFunctionDecorator decorator, Vector input) {
+        Object current = decorator;
+        while (current instanceof FusibleFunctionDecorator) {
+            ((FusibleFunctionDecorator) current).prepare(input);
+            current = ((FusibleFunctionDecorator) current).getFunction();
+        }
+    }
+
+    private static double apply(FusibleFunctionDecorator decorator, double[] values) {
+        decorator.transform(values);
+        return decorator.adjust(evaluate(decorator.getFunction(), values));
+    }
+}
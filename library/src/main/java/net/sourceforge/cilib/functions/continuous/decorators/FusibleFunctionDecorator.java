@@ -0,0 +1,56 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A function decorator that transforms the input of the decorated function
+ * element by element, and optionally adjusts its result. A chain of these
+ * decorators is evaluated by {@link FusedEvaluation} in a single pass over a
+ * reusable array, instead of creating a new {@code Vector} in every decorator.
+ */
+public interface FusibleFunctionDecorator {
+
+    /**
+     * @return The decorated function.
+     */
+    ContinuousFunction getFunction();
+
+    /**
+     * Prepare the decorator for the transformation of an input, before any
+     * of the transform methods are called for it. The elements of the given
+     * input have the bounds of the values that the decorator transforms.
+     * @param input The input of the outermost decorator of the chain.
+     */
+    void prepare(Vector input);
+
+    /**
+     * Transform the input values in place, before the decorated function is
+     * evaluated.
+     * @param input The input values.
+     */
+    void transform(double[] input);
+
+    /**
+     * Transform a single value of an input, with the same result as the
+     * corresponding element of {@link #transform(double[])}.
+     * @param index The index of the value in the input.
+     * @param value The value to transform.
+     * @param size The number of values in the input.
+     * @return The transformed value.
+     */
+    double transform(int index, double value, int size);
+
+    /**
+     * Adjust the value of the decorated function.
+     * @param value The value of the decorated function.
+     * @return The value of this function.
+     */
+    double adjust(double value);
+}
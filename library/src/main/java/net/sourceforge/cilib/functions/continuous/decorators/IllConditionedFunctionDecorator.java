@@ -22,10 +22,11 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * on Real-Parameter Optimization." (2013).
  * </p>
  */
-public class IllConditionedFunctionDecorator extends ContinuousFunction {
+public class IllConditionedFunctionDecorator extends ContinuousFunction implements FusibleFunctionDecorator {
 
     private ContinuousFunction function;
     private ControlParameter alpha;
+    private transient Factors factors;
 
     public IllConditionedFunctionDecorator() {
         this.alpha = ConstantControlParameter.of(1.0);
@@ -33,14 +34,40 @@ public class IllConditionedFunctionDecorator extends ContinuousFunction {
 
     @Override
     public Double f(Vector input) {
-        Vector.Builder builder = Vector.newBuilder();
+        return FusedEvaluation.evaluate(this, input);
+    }
 
-        for (int i = 0; i < input.size(); i++) {
-            double x = input.doubleValueOf(i);
-            builder.add(x * Math.pow(alpha.getParameter(), i * 0.5 / (input.size() - 1)));
+    @Override
+    public void prepare(Vector input) {
+        // The transformation does not depend on the input.
+    }
+
+    @Override
+    public void transform(double[] input) {
+        double[] current = getFactors(input.length);
+        for (int i = 0; i < input.length; i++) {
+            input[i] = input[i] * current[i];
         }
+    }
 
-        return function.f(builder.build());
+    @Override
+    public double transform(int index, double value, int size) {
+        return value * getFactors(size)[index];
+    }
+
+    private double[] getFactors(int size) {
+        double a = alpha.getParameter();
+        Factors current = factors;
+        if (current == null || current.alpha != a || current.values.length != size) {
+            current = new Factors(a, size);
+            factors = current;
+        }
+        return current.values;
+    }
+
+    @Override
+    public double adjust(double value) {
+        return value;
     }
 
     public void setFunction(ContinuousFunction function) {
@@ -59,4 +86,20 @@ public class IllConditionedFunctionDecorator extends ContinuousFunction {
         return alpha;
     }
 
+    /**
+     * The scaling factors of the elements, for a given alpha and dimension.
+     */
+    private static final class Factors {
+        private final double alpha;
+        private final double[] values;
+
+        Factors(double alpha, int size) {
+            this.alpha = alpha;
+            this.values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = Math.pow(alpha, i * 0.5 / (size - 1));
+            }
+        }
+    }
+
 }
@@ -23,7 +23,7 @@ import fj.F;
  * on Real-Parameter Optimization." (2013).
  * </p>
  */
-public class IrregularFunctionDecorator extends ContinuousFunction {
+public class IrregularFunctionDecorator extends ContinuousFunction implements FusibleFunctionDecorator {
 
     private ContinuousFunction function;
     private F<Numeric, Numeric> mapping;
@@ -32,19 +32,43 @@ public class IrregularFunctionDecorator extends ContinuousFunction {
         mapping = new F<Numeric, Numeric>() {
             @Override
             public Numeric f(Numeric a) {
-                double x = a.doubleValue();
-                double xHat = x == 0.0 ? 0.0 : Math.log(Math.abs(x));
-                double c1 = x > 0 ? 10 : 5.5;
-                double c2 = x > 0 ? 7.9 : 3.1;
-                double result = Math.signum(x) * Math.exp(xHat + 0.049 * (Math.sin(xHat * c1) + Math.sin(xHat * c2)));
-                return Real.valueOf(result);
+                return Real.valueOf(irregular(a.doubleValue()));
             }
         };
     }
 
+    private static double irregular(double x) {
+        double xHat = x == 0.0 ? 0.0 : Math.log(Math.abs(x));
+        double c1 = x > 0 ? 10 : 5.5;
+        double c2 = x > 0 ? 7.9 : 3.1;
+        return Math.signum(x) * Math.exp(xHat + 0.049 * (Math.sin(xHat * c1) + Math.sin(xHat * c2)));
+    }
+
     @Override
     public Double f(Vector input) {
-        return function.f(input.map(mapping));
+        return FusedEvaluation.evaluate(this, input);
+    }
+
+    @Override
+    public void prepare(Vector input) {
+        // The transformation does not depend on the input.
+    }
+
+    @Override
+    public void transform(double[] input) {
+        for (int i = 0; i < input.length; i++) {
+            input[i] = irregular(input[i]);
+        }
+    }
+
+    @Override
+    public double transform(int index, double value, int size) {
+        return irregular(value);
+    }
+
+    @Override
+    public double adjust(double value) {
+        return value;
     }
 
     public void setFunction(ContinuousFunction function) {
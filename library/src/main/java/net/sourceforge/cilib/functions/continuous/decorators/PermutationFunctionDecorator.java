@@ -19,6 +19,7 @@ public class PermutationFunctionDecorator extends ContinuousFunction {
 
     private ContinuousFunction function;
     private Vector permutedIndices;
+    private transient int[] positions;
 
     /**
      * Default constructor that initialises an empty indices vector.
@@ -32,12 +33,7 @@ public class PermutationFunctionDecorator extends ContinuousFunction {
      */
     @Override
     public Double f(Vector input) {
-        if (permutedIndices.size() != input.size()) {
-            permutedIndices = Vector.newBuilder()
-                .range(0, input.size(), 1)
-                .build()
-                .permute();
-        }
+        initialise(input.size());
 
         Vector.Builder newInput = Vector.newBuilder();
 
@@ -48,6 +44,37 @@ public class PermutationFunctionDecorator extends ContinuousFunction {
         return function.f(newInput.build());
     }
 
+    /**
+     * Get the position at which an element of the input is passed to the
+     * decorated function.
+     * @param index The index of the element in the input.
+     * @param size The size of the input.
+     * @return The index of the element in the input of the decorated function.
+     */
+    public int getPosition(int index, int size) {
+        initialise(size);
+
+        int[] current = positions;
+        if (current == null || current.length != size) {
+            current = new int[size];
+            for (int i = 0; i < size; i++) {
+                current[permutedIndices.intValueOf(i)] = i;
+            }
+            positions = current;
+        }
+        return current[index];
+    }
+
+    private void initialise(int size) {
+        if (permutedIndices.size() != size) {
+            permutedIndices = Vector.newBuilder()
+                .range(0, size, 1)
+                .build()
+                .permute();
+            positions = null;
+        }
+    }
+
     /**
      * Get the decorated function.
      * @return The decorated function.
@@ -10,6 +10,7 @@ import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.type.types.container.Matrix;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.util.Matrices;
+import net.sourceforge.cilib.util.RotationMatrix;
 
 /**
  * A function decorator that rotates a given function by a random orthonormal
@@ -20,6 +21,7 @@ public class RotatedFunctionDecorator extends ContinuousFunction {
     private static final long serialVersionUID = 3107473364744861153L;
     private ContinuousFunction function;
     private Matrix rotationMatrix;
+    private RotationMatrix rotation;
     private boolean initialised;
     private MatrixType type;
     private int condition;
@@ -32,6 +34,7 @@ public class RotatedFunctionDecorator extends ContinuousFunction {
 
     public RotatedFunctionDecorator() {
         this.rotationMatrix = null;
+        this.rotation = null;
         this.type = MatrixType.ORTHONORMAL;
         this.initialised = false;
         this.condition = 1;
@@ -39,8 +42,9 @@ public class RotatedFunctionDecorator extends ContinuousFunction {
 
     /**
      * Multiplies the argument vector, x, by the transpose of the rotation
-     * matrix, stores the result in rotatedX and calls the evaluate method of
-     * the function being decorated with the rotated vector as the parameter.
+     * matrix and calls the evaluate method of the function being decorated
+     * with the rotated vector as the parameter. The rotation is done with
+     * the flat {@link RotationMatrix} representation of the matrix.
      */
     @Override
     public Double f(final Vector input) {
@@ -48,21 +52,12 @@ public class RotatedFunctionDecorator extends ContinuousFunction {
             return function.f(input);
         }
 
-        if (!initialised || input.size() != rotationMatrix.getRows()) {
+        if (!initialised || input.size() != rotation.getSize()) {
             setRotationMatrix(input.size());
             initialised = true;
         }
 
-        Vector rotatedX = Vector.fill(0.0, input.size());
-
-        for (int j = 0; j < input.size(); j++) {
-            for (int i = 0; i < input.size(); i++) {
-                rotatedX.setReal(j, rotatedX.doubleValueOf(j)
-                    + input.doubleValueOf(i) * rotationMatrix.valueAt(i, j));
-            }
-        }
-
-        return function.f(rotatedX);
+        return function.f(rotation.rotate(input));
     }
 
     /**
@@ -101,6 +96,7 @@ public class RotatedFunctionDecorator extends ContinuousFunction {
                 rotationMatrix = Matrices.getRandomLinearTransformationMatrix(size, condition);
                 break;
         }
+        rotation = RotationMatrix.of(rotationMatrix);
     }
 
     public void setMatrixType(String type) {
@@ -0,0 +1,122 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
+import net.sourceforge.cilib.functions.continuous.hybrid.SimpleHybridFunction;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A view of a decorated {@link SeparableFunction} as a separable function.
+ * <p>
+ * Decorators that transform their input element by element, see
+ * {@link FusibleFunctionDecorator}, and decorators that only permute their
+ * input, see {@link PermutationFunctionDecorator}, keep a separable function
+ * separable: every dimension still contributes independent terms, only with
+ * a transformed value or at a different index. A {@link SimpleHybridFunction}
+ * of ranges of separable functions, see {@link RangeFunctionDecorator}, is
+ * also separable, with the sums of every range kept apart.
+ */
+public final class SeparableChain implements SeparableFunction {
+
+    private final ContinuousFunction[] decorators;
+    private final SeparableFunction function;
+
+    private SeparableChain(ContinuousFunction[] decorators, SeparableFunction function) {
+        this.decorators = decorators;
+        this.function = function;
+    }
+
+    /**
+     * Get a separable view of the given function.
+     * @param function The function.
+     * @return The function itself if it is a {@link SeparableFunction}, a
+     *         view of the decorated separable function or hybrid function if
+     *         all the decorators of the function keep it separable, otherwise
+     *         {@code null}.
+     */
+    public static SeparableFunction of(ContinuousFunction function) {
+        List<ContinuousFunction> chain = new ArrayList<ContinuousFunction>();
+        ContinuousFunction current = function;
+        while (true) {
+            if (current instanceof FusibleFunctionDecorator) {
+                chain.add(current);
+                current = ((FusibleFunctionDecorator) current).getFunction();
+            } else if (current instanceof PermutationFunctionDecorator) {
+                chain.add(current);
+                current = ((PermutationFunctionDecorator) current).getFunction();
+            } else if (current instanceof SimpleHybridFunction) {
+                SeparableFunction hybrid = SeparableHybrid.of((SimpleHybridFunction) current);
+                if (hybrid == null || chain.isEmpty()) {
+                    return hybrid;
+                }
+                return new SeparableChain(chain.toArray(new ContinuousFunction[chain.size()]), hybrid);
+            } else if (current instanceof SeparableFunction) {
+                if (chain.isEmpty()) {
+                    return (SeparableFunction) current;
+                }
+                return new SeparableChain(chain.toArray(new ContinuousFunction[chain.size()]), (SeparableFunction) current);
+            } else {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Prepare a separable view for the terms of the dimensions of the given
+     * input, see {@link FusibleFunctionDecorator#prepare(Vector)}. A
+     * function that is its own view is not prepared.
+     * @param function The separable view of a function.
+     * @param input The input of the function.
+     */
+    public static void prepare(SeparableFunction function, Vector input) {
+        if (function instanceof SeparableChain) {
+            SeparableChain chain = (SeparableChain) function;
+            for (ContinuousFunction decorator : chain.decorators) {
+                if (decorator instanceof FusibleFunctionDecorator) {
+                    ((FusibleFunctionDecorator) decorator).prepare(input);
+                }
+            }
+            prepare(chain.function, input);
+        } else if (function instanceof SeparableHybrid) {
+            ((SeparableHybrid) function).prepare(input);
+        }
+    }
+
+    @Override
+    public int getSumCount() {
+        return function.getSumCount();
+    }
+
+    @Override
+    public void terms(int index, double value, int size, double[] terms) {
+        int i = index;
+        double x = value;
+        for (ContinuousFunction decorator : decorators) {
+            if (decorator instanceof FusibleFunctionDecorator) {
+                x = ((FusibleFunctionDecorator) decorator).transform(i, x, size);
+            } else {
+                i = ((PermutationFunctionDecorator) decorator).getPosition(i, size);
+            }
+        }
+        function.terms(i, x, size, terms);
+    }
+
+    @Override
+    public double combine(double[] sums, int size) {
+        double value = function.combine(sums, size);
+        for (int i = decorators.length - 1; i >= 0; i--) {
+            if (decorators[i] instanceof FusibleFunctionDecorator) {
+                value = ((FusibleFunctionDecorator) decorators[i]).adjust(value);
+            }
+        }
+        return value;
+    }
+}
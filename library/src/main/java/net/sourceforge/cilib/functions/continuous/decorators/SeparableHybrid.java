@@ -0,0 +1,119 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import java.util.List;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
+import net.sourceforge.cilib.functions.continuous.hybrid.SimpleHybridFunction;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A view of a {@link SimpleHybridFunction} of which every component is a
+ * {@link RangeFunctionDecorator} of a separable function, as a separable
+ * function.
+ * <p>
+ * Every component keeps its own sums, over the dimensions in its range, and
+ * the value of the hybrid function is the sum of the values that the
+ * components combine from their sums. The ranges are read when the view is
+ * created.
+ */
+final class SeparableHybrid implements SeparableFunction {
+
+    private final int[] from;
+    private final int[] to;
+    private final SeparableFunction[] components;
+    private final int[] offsets;
+    private final double[][] buffers;
+    private final int sumCount;
+
+    private SeparableHybrid(int[] from, int[] to, SeparableFunction[] components) {
+        this.from = from;
+        this.to = to;
+        this.components = components;
+        this.offsets = new int[components.length];
+        this.buffers = new double[components.length][];
+
+        int count = 0;
+        for (int k = 0; k < components.length; k++) {
+            offsets[k] = count;
+            buffers[k] = new double[components[k].getSumCount()];
+            count += buffers[k].length;
+        }
+        this.sumCount = count;
+    }
+
+    /**
+     * Get a separable view of the given hybrid function.
+     * @param hybrid The hybrid function.
+     * @return A view of the hybrid function, or {@code null} if one of its
+     *         components is not a range of a separable function.
+     */
+    static SeparableFunction of(SimpleHybridFunction hybrid) {
+        List<ContinuousFunction> functions = hybrid.getFunctions();
+        int[] from = new int[functions.size()];
+        int[] to = new int[functions.size()];
+        SeparableFunction[] components = new SeparableFunction[functions.size()];
+
+        for (int k = 0; k < components.length; k++) {
+            if (!(functions.get(k) instanceof RangeFunctionDecorator)) {
+                return null;
+            }
+            RangeFunctionDecorator range = (RangeFunctionDecorator) functions.get(k);
+            components[k] = SeparableChain.of(range.getFunction());
+            if (components[k] == null) {
+                return null;
+            }
+            from[k] = Real.valueOf(range.getStart().getParameter()).intValue();
+            to[k] = Real.valueOf(range.getEnd().getParameter()).intValue();
+        }
+        return new SeparableHybrid(from, to, components);
+    }
+
+    /**
+     * Prepare the components for the terms of the dimensions of the given
+     * input, see {@link SeparableChain#prepare(Vector)}.
+     * @param input The input of the hybrid function.
+     */
+    void prepare(Vector input) {
+        for (int k = 0; k < components.length; k++) {
+            SeparableChain.prepare(components[k], input.copyOfRange(from[k], to[k]));
+        }
+    }
+
+    @Override
+    public int getSumCount() {
+        return sumCount;
+    }
+
+    @Override
+    public void terms(int index, double value, int size, double[] terms) {
+        for (int k = 0; k < components.length; k++) {
+            double[] buffer = buffers[k];
+            if (index >= from[k] && index < to[k]) {
+                components[k].terms(index - from[k], value, to[k] - from[k], buffer);
+                System.arraycopy(buffer, 0, terms, offsets[k], buffer.length);
+            } else {
+                for (int j = 0; j < buffer.length; j++) {
+                    terms[offsets[k] + j] = 0.0;
+                }
+            }
+        }
+    }
+
+    @Override
+    public double combine(double[] sums, int size) {
+        double value = 0.0;
+        for (int k = 0; k < components.length; k++) {
+            double[] buffer = buffers[k];
+            System.arraycopy(sums, offsets[k], buffer, 0, buffer.length);
+            value += components[k].combine(buffer, to[k] - from[k]);
+        }
+        return value;
+    }
+}
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.functions.continuous.decorators;
 
+import com.google.common.base.Preconditions;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.functions.ContinuousFunction;
@@ -29,7 +30,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *             (c < 0) means that g(x) is f(x) shifted c units downwards
  *
  */
-public class ShiftedFunctionDecorator extends ContinuousFunction {
+public class ShiftedFunctionDecorator extends ContinuousFunction implements FusibleFunctionDecorator {
 
     private static final long serialVersionUID = 8687711759870298103L;
     private ContinuousFunction function;
@@ -50,11 +51,61 @@ public class ShiftedFunctionDecorator extends ContinuousFunction {
      */
     @Override
     public Double f(Vector input) {
-        shiftVector = randomShift
-                ? (shiftVector == null || input.size() != shiftVector.size()) ? Vector.newBuilder().copyOf(input).buildRandom() : shiftVector
-                : Vector.fill(horizontalShift.getParameter(), input.size());
+        return FusedEvaluation.evaluate(this, input);
+    }
+
+    /**
+     * Draw the random shift, if it is used, from the bounds of the input.
+     * {@inheritDoc}
+     */
+    @Override
+    public void prepare(Vector input) {
+        if (randomShift && (shiftVector == null || input.size() != shiftVector.size())) {
+            shiftVector = Vector.newBuilder().copyOf(input).buildRandom();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void transform(double[] input) {
+        if (randomShift) {
+            Vector shift = getRandomShift(input.length);
+            for (int i = 0; i < input.length; i++) {
+                input[i] = input[i] - shift.doubleValueOf(i);
+            }
+        } else {
+            double shift = horizontalShift.getParameter();
+            for (int i = 0; i < input.length; i++) {
+                input[i] = input[i] - shift;
+            }
+        }
+    }
 
-        return function.f(input.subtract(shiftVector)) + verticalShift.getParameter();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double transform(int index, double value, int size) {
+        if (randomShift) {
+            return value - getRandomShift(size).doubleValueOf(index);
+        }
+        return value - horizontalShift.getParameter();
+    }
+
+    private Vector getRandomShift(int size) {
+        Preconditions.checkState(shiftVector != null && size == shiftVector.size(),
+                "The random shift is drawn from the bounds of the input, which must be prepared first.");
+        return shiftVector;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double adjust(double value) {
+        return value + verticalShift.getParameter();
     }
 
     /**
@@ -46,4 +46,12 @@ public class SimpleHybridFunction extends ContinuousFunction {
     public void addFunction(ContinuousFunction function) {
         functions.add(function);
     }
+
+    /**
+     * Get the functions of which the hybrid function is composed.
+     * @return The functions.
+     */
+    public List<ContinuousFunction> getFunctions() {
+        return functions;
+    }
 }
@@ -7,6 +7,8 @@
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.PrimitiveFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -34,7 +36,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  *
  *
  */
-public class Ackley extends ContinuousFunction {
+public class Ackley extends ContinuousFunction implements PrimitiveFunction, SeparableFunction {
 
     private static final long serialVersionUID = -7803711986955989075L;
 
@@ -52,4 +54,35 @@ public class Ackley extends ContinuousFunction {
         }
         return -20.0 * Math.exp(-0.2 * Math.sqrt(sumsq / size)) - Math.exp(sumcos / size) + 20 + Math.E;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double evaluate(double[] input) {
+        final int size = input.length;
+        double sumsq = 0.0;
+        double sumcos = 0.0;
+        for (int i = 0; i < size; ++i) {
+            sumsq += input[i] * input[i];
+            sumcos += Math.cos(2 * Math.PI * input[i]);
+        }
+        return -20.0 * Math.exp(-0.2 * Math.sqrt(sumsq / size)) - Math.exp(sumcos / size) + 20 + Math.E;
+    }
+
+    @Override
+    public int getSumCount() {
+        return 2;
+    }
+
+    @Override
+    public void terms(int index, double value, int size, double[] terms) {
+        terms[0] = value * value;
+        terms[1] = Math.cos(2 * Math.PI * value);
+    }
+
+    @Override
+    public double combine(double[] sums, int size) {
+        return -20.0 * Math.exp(-0.2 * Math.sqrt(sums[0] / size)) - Math.exp(sums[1] / size) + 20 + Math.E;
+    }
 }
@@ -7,7 +7,6 @@
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -42,8 +41,9 @@ public class Alpine extends ContinuousFunction {
     @Override
     public Double f(Vector x) {
         double sum = 0;
-        for (Numeric n : x) {
-            sum += Math.abs((n.doubleValue() * Math.sin(n.doubleValue())) + (0.1 * n.doubleValue()));
+        for (int i = 0; i < x.size(); ++i) {
+            double n = x.doubleValueOf(i);
+            sum += Math.abs((n * Math.sin(n)) + (0.1 * n));
         }
         return sum;
     }
@@ -7,6 +7,8 @@
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.PrimitiveFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
@@ -23,7 +25,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * </pre>
  *
  */
-public class Elliptic extends ContinuousFunction {
+public class Elliptic extends ContinuousFunction implements PrimitiveFunction, SeparableFunction {
 
     /*
      * The condition number 10^6 is used to transform a sphere
@@ -42,6 +44,32 @@ public class Elliptic extends ContinuousFunction {
         return sum;
     }
 
+    @Override
+    public double evaluate(double[] input) {
+        double sum = 0;
+
+        for (int i = 0; i < input.length; i++) {
+            sum += Math.pow(conditionNumber, i / (input.length - 1)) * input[i] * input[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public int getSumCount() {
+        return 1;
+    }
+
+    @Override
+    public void terms(int index, double value, int size, double[] terms) {
+        terms[0] = Math.pow(conditionNumber, index / (size - 1)) * value * value;
+    }
+
+    @Override
+    public double combine(double[] sums, int size) {
+        return sums[0];
+    }
+
     /*
      * Set the condition number of the elliptic function.
      * @param conditionNumber The new condition number.
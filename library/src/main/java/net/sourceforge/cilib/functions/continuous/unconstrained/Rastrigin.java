@@ -8,6 +8,8 @@ package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.Differentiable;
+import net.sourceforge.cilib.functions.PrimitiveFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -34,7 +36,7 @@ import fj.F;
  * R(-5.12, 5.12)^30
  *
  */
-public class Rastrigin extends ContinuousFunction implements Differentiable {
+public class Rastrigin extends ContinuousFunction implements Differentiable, PrimitiveFunction, SeparableFunction {
 
     private static final long serialVersionUID = 447701182683968035L;
 
@@ -53,6 +55,33 @@ public class Rastrigin extends ContinuousFunction implements Differentiable {
     /**
      * {@inheritDoc}
      */
+    @Override
+    public double evaluate(double[] input) {
+        double tmp = 0;
+        for (int i = 0; i < input.length; ++i) {
+            tmp += input[i] * input[i] - 10.0 * Math.cos(2 * Math.PI * input[i]);
+        }
+        return 10 * input.length + tmp;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSumCount() {
+        return 1;
+    }
+
+    @Override
+    public void terms(int index, double value, int size, double[] terms) {
+        terms[0] = value * value - 10.0 * Math.cos(2 * Math.PI * value);
+    }
+
+    @Override
+    public double combine(double[] sums, int size) {
+        return 10 * size + sums[0];
+    }
+
     @Override
     public Vector getGradient(Vector input) {
         return input.map(new F<Numeric, Numeric>() {
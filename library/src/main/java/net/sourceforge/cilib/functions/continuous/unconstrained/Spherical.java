@@ -8,6 +8,8 @@ package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.Differentiable;
+import net.sourceforge.cilib.functions.PrimitiveFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -37,7 +39,7 @@ import fj.F;
  * R(-5.12, 5.12)^30
  *
  */
-public class Spherical extends ContinuousFunction implements Differentiable {
+public class Spherical extends ContinuousFunction implements Differentiable, PrimitiveFunction, SeparableFunction {
 
     private static final long serialVersionUID = 5811377575647995206L;
 
@@ -46,17 +48,45 @@ public class Spherical extends ContinuousFunction implements Differentiable {
      */
     @Override
     public Double f(Vector input) {
-        return input.foldLeft(0.0, new F<Numeric, Double>() {
-            @Override
-            public Double f(Numeric x) {
-                return x.doubleValue() * x.doubleValue();
-            }
-        });
+        double sum = 0.0;
+        for (int i = 0; i < input.size(); ++i) {
+            double x = input.doubleValueOf(i);
+            sum += x * x;
+        }
+        return sum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double evaluate(double[] input) {
+        double sum = 0.0;
+        for (int i = 0; i < input.length; ++i) {
+            double x = input[i];
+            sum += x * x;
+        }
+        return sum;
     }
 
     /**
      * {@inheritDoc}
      */
+    @Override
+    public int getSumCount() {
+        return 1;
+    }
+
+    @Override
+    public void terms(int index, double value, int size, double[] terms) {
+        terms[0] = value * value;
+    }
+
+    @Override
+    public double combine(double[] sums, int size) {
+        return sums[0];
+    }
+
     @Override
     public Vector getGradient(Vector x) {
         return x.map(new F<Numeric, Numeric>() {
@@ -7,7 +7,6 @@
 package net.sourceforge.cilib.functions.continuous.unconstrained;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
-import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
@@ -44,8 +43,8 @@ public class Yang1 extends ContinuousFunction {
         double sum2 = 0;
         double product = 1;
 
-        for (Numeric n : input) {
-            double x = n.doubleValue();
+        for (int i = 0; i < input.size(); ++i) {
+            double x = input.doubleValueOf(i);
             sum1 += Math.pow(x / beta.getParameter(), 2 * m.getParameter());
             sum2 += (x - Math.PI) * (x - Math.PI);
             product *= Math.cos(x) * Math.cos(x);
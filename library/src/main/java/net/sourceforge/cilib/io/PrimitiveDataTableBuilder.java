@@ -0,0 +1,643 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.io;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import net.sourceforge.cilib.io.exception.CIlibIOException;
+import net.sourceforge.cilib.io.transform.DataOperator;
+import net.sourceforge.cilib.io.transform.PatternConversionOperator;
+import net.sourceforge.cilib.io.transform.TypeConversionOperator;
+
+/**
+ * A {@link DataTableBuilder} that reads a delimited text file or an ARFF file
+ * directly into a {@link PrimitivePatternDataTable}.
+ * <p>
+ * The standard builder reads every value as a {@link net.sourceforge.cilib.type.types.StringType},
+ * which the {@link TypeConversionOperator} and the
+ * {@link PatternConversionOperator} then convert to patterns of boxed values.
+ * This builder parses the file in a single pass into an array of primitive
+ * values instead, and applies the {@link PatternConversionOperator} by
+ * selecting columns. A pipeline of a {@link TypeConversionOperator} (without
+ * a selection), followed by a {@link PatternConversionOperator} and any other
+ * operators that work on a {@link StandardPatternDataTable} is supported;
+ * the standard builder is used for other pipelines, and for readers other
+ * than a {@link DelimitedTextFileReader} or an {@link ARFFFileReader}.
+ * <p>
+ * In a delimited file, a column that contains a value that is not a number
+ * (nor a boolean, which is read as 1 or 0) is nominal: its values are numbered
+ * in the order that they first appear, and a target from such a column is an
+ * {@link net.sourceforge.cilib.type.types.Int}. The standard builder keeps
+ * these values as strings. Columns are expected to be either numeric or
+ * nominal. As with the standard builder, a nominal ARFF target is an
+ * {@link net.sourceforge.cilib.type.types.Int}, unless the pipeline starts
+ * with a {@link TypeConversionOperator}, which converts it to a
+ * {@link net.sourceforge.cilib.type.types.Real}.
+ * <p>
+ * If a cache URL is set, the parsed values are written to a binary file at
+ * that location, and on subsequent builds the file is memory-mapped instead
+ * of parsing the source again, as long as the source, the reader and its
+ * settings, and the pattern conversion have not changed. The values of a
+ * cached file may take up at most 2 GB, the size of a single mapping; larger
+ * files are parsed on every build, and a warning is logged.
+ */
+public class PrimitiveDataTableBuilder extends DataTableBuilder {
+
+    private static final int MAGIC = 0x43494c42;
+    private static final int VERSION = 2;
+
+    private String cacheURL;
+
+    /**
+     * Default constructor. Reads a delimited text file.
+     */
+    public PrimitiveDataTableBuilder() {
+        super();
+        cacheURL = "";
+    }
+
+    /**
+     * Create a builder for the given reader.
+     * @param reader the reader, which determines the format of the file.
+     */
+    public PrimitiveDataTableBuilder(DataReader<?> reader) {
+        super(reader);
+        cacheURL = "";
+    }
+
+    /**
+     * Reads the source file into a {@link PrimitivePatternDataTable}, or maps
+     * the cached values of the file, and applies the operator pipeline.
+     * @return the constructed datatable.
+     * @throws CIlibIOException wraps another Exception that might occur during IO
+     */
+    @Override
+    public DataTable<?, ?> buildDataTable() throws CIlibIOException {
+        List<DataOperator> pipeline = getOperatorPipeline();
+        int conversion = getConversionIndex(pipeline);
+        DataReader<?> reader = getDataReader();
+        if (conversion < 0 || !(reader instanceof DelimitedTextFileReader || reader instanceof ARFFFileReader)) {
+            return super.buildDataTable();
+        }
+
+        // The type conversion reads the numbers of nominal ARFF values as reals.
+        boolean nominalTarget = !(reader instanceof ARFFFileReader && conversion > 0);
+        PatternConversionOperator patternConversion = (PatternConversionOperator) pipeline.get(conversion);
+        DataTable<?, ?> table = convert(load(patternConversion), patternConversion, nominalTarget);
+        for (DataOperator operator : pipeline.subList(conversion + 1, pipeline.size())) {
+            table = operator.operate(table);
+        }
+        setDataTable(table);
+        return (DataTable<?, ?>) table.getClone();
+    }
+
+    /**
+     * Gets the location of the binary cache of the source file.
+     * @return the cache location, empty if the values are not cached.
+     */
+    public String getCacheURL() {
+        return cacheURL;
+    }
+
+    /**
+     * Sets the location of the binary cache of the source file.
+     * @param cacheURL the cache location, empty to not cache the values.
+     */
+    public void setCacheURL(String cacheURL) {
+        this.cacheURL = cacheURL;
+    }
+
+    /**
+     * The index of the pattern conversion in the pipeline, if it is only
+     * preceded by type conversions of all the rows, otherwise -1.
+     */
+    private static int getConversionIndex(List<DataOperator> pipeline) {
+        for (int i = 0; i < pipeline.size(); i++) {
+            DataOperator operator = pipeline.get(i);
+            if (operator instanceof PatternConversionOperator) {
+                return i;
+            }
+            if (!(operator instanceof TypeConversionOperator)
+                    || !((TypeConversionOperator) operator).getSelectedItems().isEmpty()) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private Columns load(PatternConversionOperator operator) throws CIlibIOException {
+        File source = ((FileReader) getDataReader()).getFile();
+        if (source == null) {
+            throw new CIlibIOException("Source URL not set.");
+        }
+        try {
+            if (cacheURL == null || cacheURL.isEmpty()) {
+                return parse(source);
+            }
+            File cache = new File(cacheURL);
+            byte[] identity = identify(source, operator);
+            Columns columns = map(cache, identity);
+            if (columns == null) {
+                columns = parse(source);
+                write(cache, identity, columns);
+            }
+            return columns;
+        } catch (IOException ex) {
+            throw new CIlibIOException(ex);
+        }
+    }
+
+    /**
+     * Selects the feature and target columns of the pattern conversion. The
+     * table shares the parsed values if the features are the leading columns,
+     * directly followed by the targets, and all the rows are selected.
+     */
+    private static PrimitivePatternDataTable convert(Columns columns, PatternConversionOperator operator, boolean nominalTargets) {
+        if (columns.columnCount == 0) {
+            return new PrimitivePatternDataTable(0, 0);
+        }
+        int classLength = operator.getClassLength();
+        int classIndex = operator.getClassIndex() < 0 ? columns.columnCount - classLength : operator.getClassIndex();
+        int classRange = classIndex + classLength;
+        Set<Integer> ignored = operator.getIgnoreColumnIndices();
+
+        List<Integer> selected = new ArrayList<Integer>();
+        int featureSize = 0;
+        for (int i = 0; i < columns.columnCount; i++) {
+            if ((i < classIndex || i >= classRange) && !ignored.contains(i)) {
+                selected.add(i);
+                featureSize++;
+            }
+        }
+        for (int i = classIndex; i < classRange; i++) {
+            if (classLength == 1 || !ignored.contains(i)) {
+                selected.add(i);
+            }
+        }
+        int targetSize = selected.size() - featureSize;
+        boolean nominalTarget = nominalTargets && targetSize == 1 && columns.nominal[selected.get(featureSize)];
+
+        boolean leading = true;
+        for (int i = 0; i < selected.size(); i++) {
+            leading &= selected.get(i) == i;
+        }
+        List<Integer> selectedRows = operator.getSelectedItems();
+        if (leading && selectedRows.isEmpty()) {
+            return new PrimitivePatternDataTable(featureSize, targetSize, nominalTarget, columns.columnCount, columns.values, columns.rowCount);
+        }
+
+        Set<Integer> rowSelection = new HashSet<Integer>(selectedRows);
+        int width = selected.size();
+        double[] values = new double[columns.rowCount * width];
+        int rowCount = 0;
+        for (int r = 0; r < columns.rowCount; r++) {
+            if (rowSelection.isEmpty() || rowSelection.contains(r)) {
+                for (int i = 0; i < width; i++) {
+                    values[rowCount * width + i] = columns.values.get(r * columns.columnCount + selected.get(i));
+                }
+                rowCount++;
+            }
+        }
+        return new PrimitivePatternDataTable(featureSize, targetSize, nominalTarget, width, DoubleBuffer.wrap(values), rowCount);
+    }
+
+    private Columns parse(File source) throws IOException, CIlibIOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(source)));
+        try {
+            if (getDataReader() instanceof ARFFFileReader) {
+                return parseARFF(reader);
+            }
+            return parseDelimited(reader, ((DelimitedTextFileReader) getDataReader()).getDelimiter());
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static Columns parseDelimited(BufferedReader reader, String delimiter) throws IOException, CIlibIOException {
+        char separator = getLiteral(delimiter);
+        Pattern pattern = separator == 0 ? Pattern.compile(delimiter) : null;
+        Parser parser = null;
+        String line;
+        int number = 0;
+        List<String> tokens = new ArrayList<String>();
+        while ((line = reader.readLine()) != null) {
+            number++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            tokens.clear();
+            if (pattern == null) {
+                split(line, separator, tokens);
+            } else {
+                tokens.addAll(Arrays.asList(pattern.split(line)));
+            }
+            if (parser == null) {
+                parser = Parser.inferring(tokens.size());
+            }
+            for (String token : tokens) {
+                parser.add(token, number);
+            }
+            parser.endRow(number);
+        }
+        return parser == null ? Parser.inferring(0).finish() : parser.finish();
+    }
+
+    private static Columns parseARFF(BufferedReader reader) throws IOException, CIlibIOException {
+        List<Map<String, Integer>> nominal = new ArrayList<Map<String, Integer>>();
+        List<Boolean> open = new ArrayList<Boolean>();
+        String line;
+        int number = 0;
+        boolean data = false;
+        while (!data && (line = reader.readLine()) != null) {
+            number++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("%")) {
+                continue;
+            }
+            String keyword = line.split("[\\s]+", 2)[0];
+            if (keyword.equalsIgnoreCase("@RELATION")) {
+                continue;
+            }
+            if (keyword.equalsIgnoreCase("@DATA")) {
+                data = true;
+                continue;
+            }
+            if (!keyword.equalsIgnoreCase("@ATTRIBUTE")) {
+                throw new CIlibIOException("Expected @ATTRIBUTE declaration, found: " + keyword);
+            }
+
+            String declaration = line.substring(keyword.length()).trim();
+            String datatype = declaration.substring(getNameEnd(declaration)).trim();
+            if (datatype.equalsIgnoreCase("NUMERIC") || datatype.equalsIgnoreCase("REAL") || datatype.equalsIgnoreCase("INTEGER")) {
+                nominal.add(null);
+                open.add(false);
+            } else if (datatype.equalsIgnoreCase("STRING")) {
+                nominal.add(new HashMap<String, Integer>());
+                open.add(true);
+            } else if (datatype.startsWith("{") && datatype.endsWith("}")) {
+                Map<String, Integer> values = new HashMap<String, Integer>();
+                for (String value : datatype.substring(1, datatype.length() - 1).split("\\,")) {
+                    values.put(unquote(value.trim()), values.size());
+                }
+                nominal.add(values);
+                open.add(false);
+            } else {
+                throw new UnsupportedOperationException("Unsupported attribute type: " + datatype);
+            }
+        }
+
+        Parser parser = new Parser(nominal, open, false);
+        List<String> tokens = new ArrayList<String>();
+        while ((line = reader.readLine()) != null) {
+            number++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("%")) {
+                continue;
+            }
+            if (line.startsWith("{")) {
+                throw new CIlibIOException("Sparse ARFF data is not supported, line " + number);
+            }
+            tokens.clear();
+            split(line, ',', tokens);
+            for (String token : tokens) {
+                parser.add(unquote(token.trim()), number);
+            }
+            parser.endRow(number);
+        }
+        return parser.finish();
+    }
+
+    /**
+     * The character that a delimiting regular expression matches, if it only
+     * matches a single literal character, otherwise 0.
+     */
+    private static char getLiteral(String delimiter) {
+        if (delimiter.length() == 1 && ".$|()[]{}^?*+\\".indexOf(delimiter.charAt(0)) < 0) {
+            return delimiter.charAt(0);
+        }
+        if (delimiter.length() == 2 && delimiter.charAt(0) == '\\' && !Character.isLetterOrDigit(delimiter.charAt(1))) {
+            return delimiter.charAt(1);
+        }
+        return 0;
+    }
+
+    /**
+     * Splits a line like {@link String#split(String)}, which removes trailing
+     * empty tokens.
+     */
+    private static void split(String line, char separator, List<String> tokens) {
+        int end = line.length();
+        while (end > 0 && line.charAt(end - 1) == separator) {
+            end--;
+        }
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            if (line.charAt(i) == separator) {
+                tokens.add(line.substring(start, i));
+                start = i + 1;
+            }
+        }
+        tokens.add(line.substring(start, end));
+    }
+
+    private static int getNameEnd(String declaration) {
+        if (declaration.startsWith("'") || declaration.startsWith("\"")) {
+            int end = declaration.indexOf(declaration.charAt(0), 1);
+            return end < 0 ? declaration.length() : end + 1;
+        }
+        for (int i = 0; i < declaration.length(); i++) {
+            if (Character.isWhitespace(declaration.charAt(i))) {
+                return i;
+            }
+        }
+        return declaration.length();
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && (value.startsWith("'") && value.endsWith("'") || value.startsWith("\"") && value.endsWith("\""))) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * Describes what the values of a cache file depend on: the canonical path,
+     * size and modification time of the source, the reader and its settings,
+     * and the settings of the pattern conversion.
+     */
+    private byte[] identify(File source, PatternConversionOperator operator) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        DataReader<?> reader = getDataReader();
+        output.writeUTF(source.getCanonicalPath());
+        output.writeLong(source.length());
+        output.writeLong(source.lastModified());
+        output.writeUTF(reader.getClass().getName());
+        output.writeUTF(reader instanceof DelimitedTextFileReader ? ((DelimitedTextFileReader) reader).getDelimiter() : "");
+        output.writeInt(operator.getClassIndex());
+        output.writeInt(operator.getClassLength());
+        Set<Integer> ignored = new TreeSet<Integer>(operator.getIgnoreColumnIndices());
+        output.writeInt(ignored.size());
+        for (int column : ignored) {
+            output.writeInt(column);
+        }
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Maps the values of a cache file, if it is a cache of the current
+     * contents of the source, read with the current settings.
+     * @return the mapped values, or {@code null} if the cache is missing or
+     *         out of date.
+     */
+    private static Columns map(File cache, byte[] identity) throws IOException {
+        if (!cache.isFile()) {
+            return null;
+        }
+        RandomAccessFile file = new RandomAccessFile(cache, "r");
+        try {
+            if (file.length() < 8 || file.readInt() != MAGIC) {
+                return null;
+            }
+            int headerSize = file.readInt();
+            if (headerSize < 8 || headerSize > file.length()) {
+                return null;
+            }
+            byte[] header = new byte[headerSize - 8];
+            file.readFully(header);
+
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(header));
+            if (input.readInt() != VERSION) {
+                return null;
+            }
+            int identityLength = input.readInt();
+            if (identityLength != identity.length) {
+                return null;
+            }
+            byte[] cached = new byte[identityLength];
+            input.readFully(cached);
+            if (!Arrays.equals(cached, identity)) {
+                return null;
+            }
+            int rowCount = input.readInt();
+            int columnCount = input.readInt();
+            boolean[] nominal = new boolean[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                nominal[i] = input.readBoolean();
+            }
+
+            long dataSize = (long) rowCount * columnCount * 8;
+            if (file.length() != headerSize + dataSize) {
+                return null;
+            }
+            DoubleBuffer values = file.getChannel().map(FileChannel.MapMode.READ_ONLY, headerSize, dataSize)
+                    .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            return new Columns(values, rowCount, columnCount, nominal);
+        } finally {
+            file.close();
+        }
+    }
+
+    /**
+     * Writes the values to a cache file, unless they cannot be mapped.
+     */
+    private static void write(File cache, byte[] identity, Columns columns) throws IOException {
+        long dataSize = (long) columns.rowCount * columns.columnCount * 8;
+        if (dataSize > Integer.MAX_VALUE) {
+            Logger.getLogger(PrimitiveDataTableBuilder.class.getName()).log(Level.WARNING,
+                    "The values take up {0} bytes, more than can be mapped, and are not cached in {1}",
+                    new Object[] { dataSize, cache });
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(bytes);
+        header.writeInt(VERSION);
+        header.writeInt(identity.length);
+        header.write(identity);
+        header.writeInt(columns.rowCount);
+        header.writeInt(columns.columnCount);
+        for (boolean nominal : columns.nominal) {
+            header.writeBoolean(nominal);
+        }
+        // Align the values, so that they can be read directly from the mapping.
+        while ((bytes.size() + 8) % 8 != 0) {
+            header.writeByte(0);
+        }
+        header.flush();
+
+        File temporary = new File(cache.getPath() + ".tmp");
+        FileOutputStream output = new FileOutputStream(temporary);
+        try {
+            DataOutputStream prefix = new DataOutputStream(output);
+            prefix.writeInt(MAGIC);
+            prefix.writeInt(bytes.size() + 8);
+            bytes.writeTo(output);
+
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0, n = columns.rowCount * columns.columnCount; i < n; i++) {
+                if (!buffer.hasRemaining()) {
+                    output.write(buffer.array(), 0, buffer.position());
+                    buffer.clear();
+                }
+                buffer.putDouble(columns.values.get(i));
+            }
+            output.write(buffer.array(), 0, buffer.position());
+        } finally {
+            output.close();
+        }
+
+        if (cache.exists() && !cache.delete() || !temporary.renameTo(cache)) {
+            throw new IOException("Could not replace the cache file: " + cache);
+        }
+    }
+
+    /**
+     * The parsed values of a file, row by row.
+     */
+    private static final class Columns {
+        private final DoubleBuffer values;
+        private final int rowCount;
+        private final int columnCount;
+        private final boolean[] nominal;
+
+        Columns(DoubleBuffer values, int rowCount, int columnCount, boolean[] nominal) {
+            this.values = values;
+            this.rowCount = rowCount;
+            this.columnCount = columnCount;
+            this.nominal = nominal;
+        }
+    }
+
+    /**
+     * Collects the values of a file, row by row. A nominal column has a map
+     * from its values to their numbers; new values are numbered if the
+     * column is open. If the parser infers the types of the columns, a column
+     * becomes nominal when a value cannot be read as a number.
+     */
+    private static final class Parser {
+        private final List<Map<String, Integer>> nominal;
+        private final List<Boolean> open;
+        private final boolean inferring;
+        private final int columnCount;
+        private double[] values;
+        private int length;
+        private int column;
+        private int rowCount;
+
+        Parser(List<Map<String, Integer>> nominal, List<Boolean> open, boolean inferring) {
+            this.nominal = nominal;
+            this.open = open;
+            this.inferring = inferring;
+            this.columnCount = nominal.size();
+            this.values = new double[1024];
+        }
+
+        static Parser inferring(int columnCount) {
+            List<Map<String, Integer>> nominal = new ArrayList<Map<String, Integer>>();
+            List<Boolean> open = new ArrayList<Boolean>();
+            for (int i = 0; i < columnCount; i++) {
+                nominal.add(null);
+                open.add(true);
+            }
+            return new Parser(nominal, open, true);
+        }
+
+        void add(String token, int line) throws CIlibIOException {
+            if (column == columnCount) {
+                throw new CIlibIOException("Expected " + columnCount + " values on line " + line);
+            }
+            Map<String, Integer> numbers = nominal.get(column);
+            double value;
+            if (!inferring && token.equals("?")) {
+                value = Double.NaN;
+            } else if (numbers != null) {
+                value = getNumber(numbers, token, line);
+            } else {
+                try {
+                    value = Double.parseDouble(token);
+                } catch (NumberFormatException ex) {
+                    if (!inferring) {
+                        throw new CIlibIOException("Expected a number on line " + line + ", found: " + token);
+                    }
+                    value = getInferred(token, line);
+                }
+            }
+
+            if (length == values.length) {
+                values = Arrays.copyOf(values, 2 * length);
+            }
+            values[length++] = value;
+            column++;
+        }
+
+        void endRow(int line) throws CIlibIOException {
+            if (column != columnCount) {
+                throw new CIlibIOException("Expected " + columnCount + " values on line " + line + ", found: " + column);
+            }
+            column = 0;
+            rowCount++;
+        }
+
+        Columns finish() {
+            boolean[] isNominal = new boolean[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                isNominal[i] = nominal.get(i) != null;
+            }
+            return new Columns(DoubleBuffer.wrap(Arrays.copyOf(values, length)), rowCount, columnCount, isNominal);
+        }
+
+        private double getInferred(String token, int line) throws CIlibIOException {
+            if (token.equalsIgnoreCase("t") || token.equalsIgnoreCase("true")) {
+                return 1.0;
+            }
+            if (token.equalsIgnoreCase("f") || token.equalsIgnoreCase("false")) {
+                return 0.0;
+            }
+            Map<String, Integer> numbers = new HashMap<String, Integer>();
+            nominal.set(column, numbers);
+            return getNumber(numbers, token, line);
+        }
+
+        private double getNumber(Map<String, Integer> numbers, String token, int line) throws CIlibIOException {
+            Integer number = numbers.get(token);
+            if (number == null) {
+                if (!open.get(column)) {
+                    throw new CIlibIOException("Unknown nominal value on line " + line + ": " + token);
+                }
+                number = numbers.size();
+                numbers.put(token, number);
+            }
+            return number;
+        }
+    }
+}
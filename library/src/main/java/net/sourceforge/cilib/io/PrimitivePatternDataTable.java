@@ -0,0 +1,469 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.io;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.TypeList;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A {@link StandardPatternDataTable} that keeps its patterns as primitive
+ * values, rather than as {@link StandardPattern}s of boxed values.
+ * <p>
+ * The values of the patterns are stored row by row in a single
+ * {@link DoubleBuffer}: the feature vector of a pattern followed by its
+ * target. The buffer may be an array on the heap or a memory-mapped file, see
+ * {@link PrimitiveDataTableBuilder}. Rows are only materialised as
+ * {@link StandardPattern}s when they are requested, so {@link #getRow(int)}
+ * and the iterator return new patterns every time.
+ * <p>
+ * Copies and sub-tables share the values of the table: shuffling, removing
+ * and selecting rows only rearranges row indices. A table copies the values
+ * it refers to into its own array the first time that values are changed or
+ * rows are added; from then on, copies and sub-tables of that table copy its
+ * rows when they are created. Only the rows of the table are serialized.
+ * <p>
+ * A target of a single value is a {@link Real}, or an {@link Int} if the
+ * target is nominal. A target of more than one value is a {@link Vector}.
+ */
+public class PrimitivePatternDataTable extends StandardPatternDataTable {
+
+    private static final long serialVersionUID = -4318279635101238706L;
+
+    private final int featureSize;
+    private final int targetSize;
+    private final boolean nominalTarget;
+    private final int stride;
+    private transient DoubleBuffer values;
+    private transient double[] array;
+    private transient int stored;
+    private transient int[] rows;
+    private int size;
+
+    /**
+     * Create an empty table.
+     * @param featureSize the size of the feature vector of every pattern.
+     * @param targetSize the number of target values of every pattern.
+     */
+    public PrimitivePatternDataTable(int featureSize, int targetSize) {
+        this(featureSize, targetSize, false, featureSize + targetSize, DoubleBuffer.allocate(0), 0);
+    }
+
+    /**
+     * Create a table from the rows of a buffer. The feature vector of a row
+     * starts at the first value of the row, followed by the target values.
+     * @param featureSize the size of the feature vector of every pattern.
+     * @param targetSize the number of target values of every pattern.
+     * @param nominalTarget whether a target of a single value is nominal.
+     * @param stride the number of values in the buffer from the start of one
+     *        row to the next, at least {@code featureSize + targetSize}.
+     * @param values the values of the rows.
+     * @param rowCount the number of rows.
+     */
+    PrimitivePatternDataTable(int featureSize, int targetSize, boolean nominalTarget, int stride, DoubleBuffer values, int rowCount) {
+        Preconditions.checkArgument(stride >= featureSize + targetSize, "The rows are smaller than the patterns.");
+        Preconditions.checkArgument(values.capacity() >= rowCount * stride, "The buffer does not contain all the rows.");
+        this.featureSize = featureSize;
+        this.targetSize = targetSize;
+        this.nominalTarget = nominalTarget;
+        this.stride = stride;
+        this.values = values;
+        this.array = null;
+        this.stored = rowCount;
+        this.rows = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = i;
+        }
+        this.size = rowCount;
+    }
+
+    /**
+     * Copy constructor. The copy shares the values of the original, unless
+     * the original has its own array of values, which it may still change.
+     * @param orig the table to copy.
+     */
+    public PrimitivePatternDataTable(PrimitivePatternDataTable orig) {
+        this(orig, 0, orig.size);
+    }
+
+    private PrimitivePatternDataTable(PrimitivePatternDataTable orig, int from, int to) {
+        this.featureSize = orig.featureSize;
+        this.targetSize = orig.targetSize;
+        this.nominalTarget = orig.nominalTarget;
+        this.stride = orig.stride;
+        this.values = orig.values;
+        this.array = null;
+        this.stored = orig.stored;
+        this.rows = Arrays.copyOfRange(orig.rows, from, to);
+        this.size = to - from;
+
+        // The original writes to its own array in place, so it cannot be shared.
+        if (orig.array != null) {
+            ensureWritable(0);
+        }
+
+        for (int i = 0, n = orig.getNumColums(); i < n; i++) {
+            this.setColumnName(i, orig.getColumnName(i));
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public PrimitivePatternDataTable getClone() {
+        return new PrimitivePatternDataTable(this);
+    }
+
+    /**
+     * {@inheritDoc }
+     * <p>
+     * The sub-table shares the values of this table.
+     */
+    @Override
+    public PrimitivePatternDataTable subTable(int from, int to) {
+        Preconditions.checkPositionIndexes(from, to, size);
+        return new PrimitivePatternDataTable(this, from, to);
+    }
+
+    /**
+     * @return the size of the feature vector of every pattern.
+     */
+    public int getFeatureSize() {
+        return featureSize;
+    }
+
+    /**
+     * @return the number of target values of every pattern.
+     */
+    public int getTargetSize() {
+        return targetSize;
+    }
+
+    /**
+     * Get a value of the feature vector of a pattern.
+     * @param index the index of the pattern.
+     * @param feature the index of the feature.
+     * @return the value.
+     */
+    public double featureValueAt(int index, int feature) {
+        Preconditions.checkElementIndex(feature, featureSize);
+        return values.get(offsetOf(index) + feature);
+    }
+
+    /**
+     * Get a target value of a pattern.
+     * @param index the index of the pattern.
+     * @param target the index of the target value.
+     * @return the value.
+     */
+    public double targetValueAt(int index, int target) {
+        Preconditions.checkElementIndex(target, targetSize);
+        return values.get(offsetOf(index) + featureSize + target);
+    }
+
+    /**
+     * Copy the feature vector of a pattern into an array.
+     * @param index the index of the pattern.
+     * @param destination the array to copy to.
+     * @param offset the position in the array of the first feature.
+     */
+    public void copyFeatures(int index, double[] destination, int offset) {
+        int start = offsetOf(index);
+        for (int i = 0; i < featureSize; i++) {
+            destination[offset + i] = values.get(start + i);
+        }
+    }
+
+    /**
+     * Copy the target values of a pattern into an array.
+     * @param index the index of the pattern.
+     * @param destination the array to copy to.
+     * @param offset the position in the array of the first target value.
+     */
+    public void copyTarget(int index, double[] destination, int offset) {
+        int start = offsetOf(index) + featureSize;
+        for (int i = 0; i < targetSize; i++) {
+            destination[offset + i] = values.get(start + i);
+        }
+    }
+
+    /**
+     * Swap two rows of the table.
+     * @param first the index of the first row.
+     * @param second the index of the second row.
+     */
+    public void swapRows(int first, int second) {
+        Preconditions.checkElementIndex(first, size);
+        Preconditions.checkElementIndex(second, size);
+        int tmp = rows[first];
+        rows[first] = rows[second];
+        rows[second] = tmp;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void addRow(StandardPattern rowData) {
+        check(rowData.getVector(), rowData.getTarget());
+        ensureWritable(1);
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(16, 2 * size));
+        }
+        write(stored * stride, rowData);
+        rows[size++] = stored++;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public StandardPattern removeRow(int index) {
+        StandardPattern row = getRow(index);
+        System.arraycopy(rows, index + 1, rows, index, size - index - 1);
+        size--;
+        return row;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public StandardPattern getRow(int index) {
+        int start = offsetOf(index);
+        double[] features = new double[featureSize];
+        for (int i = 0; i < featureSize; i++) {
+            features[i] = values.get(start + i);
+        }
+
+        StandardPattern pattern = new StandardPattern();
+        pattern.setVector(Vector.copyOf(features));
+        pattern.setTarget(getTarget(start + featureSize));
+        return pattern;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setRow(int index, StandardPattern rowData) {
+        Preconditions.checkElementIndex(index, size);
+        check(rowData.getVector(), rowData.getTarget());
+        ensureWritable(0);
+        write(rows[index] * stride, rowData);
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public TypeList getColumn(int index) {
+        if (index >= this.getNumColums()) {
+            throw new IndexOutOfBoundsException("Column index: " + index + " out of bounds.");
+        }
+        TypeList column = new TypeList();
+        for (int i = 0; i < size; i++) {
+            int start = offsetOf(i);
+            column.add(index < featureSize ? Real.valueOf(values.get(start + index)) : getTarget(start + featureSize));
+        }
+        return column;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void setColumn(int index, TypeList columnData) {
+        if (columnData.size() != size) {
+            throw new UnsupportedOperationException("Cannot set column that is " +
+                    "of different size than table columns.");
+        }
+        if (index >= this.getNumColums()) {
+            throw new IndexOutOfBoundsException("Column index: " + index + " out of bounds.");
+        }
+        for (int i = 0; i < size; i++) {
+            if (index < featureSize) {
+                Preconditions.checkArgument(columnData.get(i) instanceof Numeric, "Expected a numeric value, got: %s", columnData.get(i));
+            } else {
+                check(null, columnData.get(i));
+            }
+        }
+        ensureWritable(0);
+        for (int i = 0; i < size; i++) {
+            int start = rows[i] * stride;
+            if (index < featureSize) {
+                array[start + index] = ((Numeric) columnData.get(i)).doubleValue();
+            } else {
+                writeTarget(start + featureSize, columnData.get(i));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getNumColums() {
+        if (size == 0) {
+            return 0;
+        }
+        return featureSize + 1; // add one for the class
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public Iterator<StandardPattern> iterator() {
+        return new Iterator<StandardPattern>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public StandardPattern next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(next++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Not supported.");
+            }
+        };
+    }
+
+    private int offsetOf(int index) {
+        Preconditions.checkElementIndex(index, size);
+        return rows[index] * stride;
+    }
+
+    private Type getTarget(int start) {
+        if (targetSize == 1) {
+            double value = values.get(start);
+            return nominalTarget ? Int.valueOf((int) value) : Real.valueOf(value);
+        }
+        double[] target = new double[targetSize];
+        for (int i = 0; i < targetSize; i++) {
+            target[i] = values.get(start + i);
+        }
+        return Vector.copyOf(target);
+    }
+
+    private void check(Vector features, Type target) {
+        if (features != null) {
+            Preconditions.checkArgument(features.size() == featureSize,
+                    "Expected a feature vector of size %s, got %s", featureSize, features.size());
+        }
+        boolean valid = target instanceof Vector ? ((Vector) target).size() == targetSize
+                : target instanceof Numeric && targetSize == 1;
+        Preconditions.checkArgument(valid, "Expected a target of %s numeric values, got: %s", targetSize, target);
+    }
+
+    private void write(int start, StandardPattern pattern) {
+        Vector vector = pattern.getVector();
+        for (int i = 0; i < featureSize; i++) {
+            array[start + i] = vector.doubleValueOf(i);
+        }
+        writeTarget(start + featureSize, pattern.getTarget());
+    }
+
+    private void writeTarget(int start, Type target) {
+        if (target instanceof Vector) {
+            Vector vector = (Vector) target;
+            for (int i = 0; i < targetSize; i++) {
+                array[start + i] = vector.doubleValueOf(i);
+            }
+        } else {
+            array[start] = ((Numeric) target).doubleValue();
+        }
+    }
+
+    /**
+     * Make sure that the table has its own array of values, with room for the
+     * given number of additional rows. If the values are shared, the array is
+     * full, or most of the stored rows are no longer in the table, the rows of
+     * the table are copied to a new array.
+     */
+    private void ensureWritable(int additional) {
+        int capacity = array == null ? 0 : array.length / Math.max(stride, 1);
+        if (array != null && stored + additional <= capacity && 2 * size >= stored) {
+            return;
+        }
+
+        int width = Math.max(stride, 1);
+        double[] copy = new double[Math.max(16, 2 * (size + additional)) * width];
+        for (int i = 0; i < size; i++) {
+            int start = rows[i] * stride;
+            for (int j = 0; j < stride; j++) {
+                copy[i * stride + j] = values.get(start + j);
+            }
+            rows[i] = i;
+        }
+        array = copy;
+        values = DoubleBuffer.wrap(copy);
+        stored = size;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            int start = rows[i] * stride;
+            for (int j = 0; j < stride; j++) {
+                out.writeDouble(values.get(start + j));
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        array = new double[size * stride];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = in.readDouble();
+        }
+        values = DoubleBuffer.wrap(array);
+        stored = size;
+        rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+    }
+}
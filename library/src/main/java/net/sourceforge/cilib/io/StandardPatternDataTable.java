@@ -236,6 +236,20 @@ public class StandardPatternDataTable implements DataTable<StandardPattern, Type
         this.dataTable.clear();
     }
 
+    /**
+     * Creates a table of a range of the rows of this table.
+     * @param from the index of the first row, inclusive.
+     * @param to the index of the last row, exclusive.
+     * @return a new table containing copies of the rows.
+     */
+    public StandardPatternDataTable subTable(int from, int to) {
+        StandardPatternDataTable table = new StandardPatternDataTable();
+        for (StandardPattern row : dataTable.subList(from, to)) {
+            table.addRow(row);
+        }
+        return table;
+    }
+
     @Override
     public StandardPatternDataTable getClone() {
         return new StandardPatternDataTable(this);
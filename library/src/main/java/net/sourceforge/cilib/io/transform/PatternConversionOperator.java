@@ -207,4 +207,12 @@ public class PatternConversionOperator extends SelectiveDataOperator {
 
         this.ignoreColumnIndices.add(ignore);
     }
+
+    /**
+     * Gets the indices of the columns that are ignored.
+     * @return the ignored column indices.
+     */
+    public Set<Integer> getIgnoreColumnIndices() {
+        return this.ignoreColumnIndices;
+    }
 }
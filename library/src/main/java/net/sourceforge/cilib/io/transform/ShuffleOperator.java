@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.io.transform;
 
 import net.sourceforge.cilib.io.DataTable;
+import net.sourceforge.cilib.io.PrimitivePatternDataTable;
 import net.sourceforge.cilib.io.exception.CIlibIOException;
 import net.sourceforge.cilib.math.random.generator.Rand;
 
@@ -31,6 +32,14 @@ public class ShuffleOperator implements DataOperator {
     @Override
     public DataTable operate(DataTable dataTable) throws CIlibIOException {
         int size = dataTable.size();
+        if (dataTable instanceof PrimitivePatternDataTable) {
+            // Swap row indices, rather than materialising and storing the rows.
+            PrimitivePatternDataTable table = (PrimitivePatternDataTable) dataTable;
+            for (int n = size - 1; n > 1; n--) {
+                table.swapRows(Rand.nextInt(n + 1), n);
+            }
+            return table;
+        }
         for (int n = size - 1; n > 1; n--) {
             int k = Rand.nextInt(n + 1);
             Object tmp = dataTable.getRow(k);
@@ -6,6 +6,8 @@
  */
 package net.sourceforge.cilib.math.random.generator;
 
+import java.io.Serializable;
+
 /**
  * <p>
  * This is an implementation of the MT19937 random number generator.
@@ -36,7 +38,7 @@ package net.sourceforge.cilib.math.random.generator;
  * Comment text ripped from GSL.
  *
  */
-class MersenneTwister {
+class MersenneTwister implements Serializable {
 
     private static final long serialVersionUID = -4165908582605023476L;
     private final long seed;
@@ -55,6 +57,16 @@ class MersenneTwister {
         this.seed = seed;
     }
 
+    /**
+     * Create a copy of the provided generator, at the same position.
+     * @param copy The instance to copy.
+     */
+    public MersenneTwister(MersenneTwister copy) {
+        this.seed = copy.seed;
+        this.data = copy.data == null ? null : copy.data.clone();
+        this.index = copy.index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,264 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import java.io.Serializable;
+
+/**
+ * <p>
+ * An implementation of the Philox-4x32-10 counter-based random number
+ * generator.
+ * </p><p>
+ * A counter-based generator has no state other than a key and a counter:
+ * every block of four 32-bit random words is the result of applying a keyed
+ * bijection to the 128-bit counter. As a result any random value is a pure
+ * function of the key and its position, and a stream may be split into
+ * independent streams without any coordination. A {@linkplain Philox} stream
+ * is identified by the key and two 32-bit stream words, typically the index
+ * of an entity and an iteration number, and the remaining 64 bits of the
+ * counter number the blocks within the stream. The same entity therefore
+ * receives exactly the same draws regardless of the thread that processes it
+ * or the order in which the entities are processed.
+ * </p><p>
+ * References:
+ * <ul><li>
+ * John K. Salmon, Mark A. Moraes, Ron O. Dror and David E. Shaw, "Parallel
+ * random numbers: as easy as 1, 2, 3". Proceedings of the International
+ * Conference for High Performance Computing, Networking, Storage and
+ * Analysis (SC11), 2011.
+ * </li></ul></p>
+ * <p>
+ * Instances are not thread-safe: each thread should use its own stream, see
+ * {@link #stream(int, int)} and {@link Rand#setStream(Philox)}.
+ * </p>
+ */
+public final class Philox implements Serializable {
+
+    private static final long serialVersionUID = 5383520432158913374L;
+
+    private static final long M0 = 0xD2511F53L;
+    private static final long M1 = 0xCD9E8D57L;
+    private static final int W0 = 0x9E3779B9;
+    private static final int W1 = 0xBB67AE85;
+    private static final int ROUNDS = 10;
+    private static final double DOUBLE_UNIT = 1.0 / (1L << 53);
+
+    private final int key0;
+    private final int key1;
+    private final int stream0;
+    private final int stream1;
+    private final int[] block;
+    private long counter;
+    private int position;
+
+    /**
+     * Create the root stream of the given key.
+     * @param key The key of the generator.
+     */
+    public Philox(long key) {
+        this((int) key, (int) (key >>> 32), 0, 0);
+    }
+
+    private Philox(int key0, int key1, int stream0, int stream1) {
+        this.key0 = key0;
+        this.key1 = key1;
+        this.stream0 = stream0;
+        this.stream1 = stream1;
+        this.block = new int[4];
+        this.counter = 0;
+        this.position = block.length;
+    }
+
+    /**
+     * Create a copy of the provided stream, at the same position.
+     * @param copy The instance to copy.
+     */
+    Philox(Philox copy) {
+        this.key0 = copy.key0;
+        this.key1 = copy.key1;
+        this.stream0 = copy.stream0;
+        this.stream1 = copy.stream1;
+        this.block = copy.block.clone();
+        this.counter = copy.counter;
+        this.position = copy.position;
+    }
+
+    /**
+     * Get the stream with the same key, identified by the given stream words.
+     * The returned stream is positioned at its start, regardless of the
+     * position of this stream.
+     * @param entity The first stream word, e.g. the index of an entity.
+     * @param iteration The second stream word, e.g. the iteration number.
+     * @return The stream.
+     */
+    public Philox stream(int entity, int iteration) {
+        return new Philox(key0, key1, entity, iteration);
+    }
+
+    /**
+     * @return The key of the generator.
+     */
+    public long getKey() {
+        return (key0 & 0xFFFFFFFFL) | ((long) key1 << 32);
+    }
+
+    /**
+     * Calculate a block of four random words.
+     * @param key The key.
+     * @param counter The low 64 bits of the counter.
+     * @param stream0 The third counter word.
+     * @param stream1 The fourth counter word.
+     * @param out The array to store the four words in.
+     */
+    static void block(long key, long counter, int stream0, int stream1, int[] out) {
+        int k0 = (int) key;
+        int k1 = (int) (key >>> 32);
+        int c0 = (int) counter;
+        int c1 = (int) (counter >>> 32);
+        int c2 = stream0;
+        int c3 = stream1;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long p0 = M0 * (c0 & 0xFFFFFFFFL);
+            long p1 = M1 * (c2 & 0xFFFFFFFFL);
+            int hi0 = (int) (p0 >>> 32);
+            int lo0 = (int) p0;
+            int hi1 = (int) (p1 >>> 32);
+            int lo1 = (int) p1;
+
+            c0 = hi1 ^ c1 ^ k0;
+            c1 = lo1;
+            c2 = hi0 ^ c3 ^ k1;
+            c3 = lo0;
+
+            k0 += W0;
+            k1 += W1;
+        }
+
+        out[0] = c0;
+        out[1] = c1;
+        out[2] = c2;
+        out[3] = c3;
+    }
+
+    /**
+     * Get the random double at the given position of this stream, i.e. the
+     * value that the {@code index}-th call to {@link #nextDouble()} on a new
+     * stream returns. This does not change the position of the stream.
+     * @param index The position of the value.
+     * @return A uniform random number {@code 0 <= x < 1}.
+     */
+    public double doubleAt(long index) {
+        int[] words = new int[4];
+        block(getKey(), index >>> 1, stream0, stream1, words);
+        int offset = (int) (index & 1) << 1;
+        return toDouble(words[offset], words[offset + 1]);
+    }
+
+    private static double toDouble(int high, int low) {
+        return (((long) (high >>> 6) << 27) + (low >>> 5)) * DOUBLE_UNIT;
+    }
+
+    private int next() {
+        if (position == block.length) {
+            block(getKey(), counter++, stream0, stream1, block);
+            position = 0;
+        }
+        return block[position++];
+    }
+
+    private int next(int bits) {
+        return next() >>> (32 - bits);
+    }
+
+    public double nextDouble() {
+        // Doubles are always formed from an aligned pair of words, so that
+        // they correspond with doubleAt.
+        if ((position & 1) != 0) {
+            position++;
+        }
+        int high = next();
+        return toDouble(high, next());
+    }
+
+    /**
+     * Fill the array with uniform random numbers {@code 0 <= x < 1}. The values
+     * are the same as those of successive calls to {@link #nextDouble()}.
+     * @param values The array to fill.
+     */
+    public void nextDoubles(double[] values) {
+        nextDoubles(values, 0, values.length);
+    }
+
+    /**
+     * Fill a range of the array with uniform random numbers {@code 0 <= x < 1}.
+     * @param values The array to fill.
+     * @param offset The first index to fill.
+     * @param length The number of values to fill.
+     */
+    public void nextDoubles(double[] values, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        // Use the remainder of the current block first, then whole blocks.
+        while (i < end && position != block.length) {
+            values[i++] = nextDouble();
+        }
+        long key = getKey();
+        while (end - i >= 2) {
+            block(key, counter++, stream0, stream1, block);
+            values[i++] = toDouble(block[0], block[1]);
+            values[i++] = toDouble(block[2], block[3]);
+        }
+        if (i < end) {
+            values[i] = nextDouble();
+        }
+    }
+
+    public boolean nextBoolean() {
+        return next(1) != 0;
+    }
+
+    public int nextInt() {
+        return next();
+    }
+
+    public int nextInt(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+
+        if ((n & -n) == n) // i.e., n is a power of 2
+        {
+            return (int) ((n * (long) next(31)) >> 31);
+        }
+
+        int bits, val;
+        do {
+            bits = next(31);
+            val = bits % n;
+        } while (bits - val + (n - 1) < 0);
+        return val;
+    }
+
+    public long nextLong() {
+        return ((long) next() << 32) + next();
+    }
+
+    public float nextFloat() {
+        return next(24) / ((float) (1 << 24));
+    }
+
+    public void nextBytes(byte[] bytes) {
+        for (int i = 0, len = bytes.length; i < len;) {
+            for (int rnd = nextInt(),
+                    n = Math.min(len - i, Integer.SIZE / Byte.SIZE);
+                    n-- > 0; rnd >>= Byte.SIZE) {
+                bytes[i++] = (byte) rnd;
+            }
+        }
+    }
+}
@@ -6,55 +6,166 @@
  */
 package net.sourceforge.cilib.math.random.generator;
 
+import java.io.Serializable;
 import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
 
 public class Rand {
-    
-    private static ThreadLocal<MersenneTwister> random = new ThreadLocal<MersenneTwister>() {
-        @Override
-        protected MersenneTwister initialValue() {
-            return new MersenneTwister(Seeder.getSeed());
+
+    /**
+     * The generators of a thread: a {@linkplain MersenneTwister} and, while one
+     * is set, a {@linkplain Philox} stream that takes its place.
+     */
+    private static final class Generators {
+        private MersenneTwister twister;
+        private Philox stream;
+
+        Generators(MersenneTwister twister) {
+            this.twister = twister;
         }
-    };
+    }
+
+    /**
+     * A snapshot of the generators of a thread, see {@link Rand#getState()}.
+     */
+    public static final class State implements Serializable {
+        private static final long serialVersionUID = -6937418522520316437L;
+        private final MersenneTwister twister;
+        private final Philox stream;
+
+        State(Generators generators) {
+            this.twister = new MersenneTwister(generators.twister);
+            this.stream = generators.stream == null ? null : new Philox(generators.stream);
+        }
+    }
+
+    private static ThreadLocal<Generators> random = new ThreadLocal<Generators>();
+
+    /**
+     * Get the generators of the current thread. A thread that has not set its
+     * seed is seeded from the {@linkplain Seeder} when it first draws.
+     */
+    private static Generators generators() {
+        Generators g = random.get();
+        if (g == null) {
+            g = new Generators(new MersenneTwister(Seeder.getSeed()));
+            random.set(g);
+        }
+        return g;
+    }
 
     public static boolean nextBoolean() {
-        return Rand.random.get().nextBoolean();
+        Generators g = generators();
+        return g.stream != null ? g.stream.nextBoolean() : g.twister.nextBoolean();
     }
 
     public static int nextInt() {
-        return Rand.random.get().nextInt();
+        Generators g = generators();
+        return g.stream != null ? g.stream.nextInt() : g.twister.nextInt();
     }
 
     public static int nextInt(int n) {
-        return Rand.random.get().nextInt(n);
+        Generators g = generators();
+        return g.stream != null ? g.stream.nextInt(n) : g.twister.nextInt(n);
     }
 
     public static long nextLong() {
-        return Rand.random.get().nextLong();
+        Generators g = generators();
+        return g.stream != null ? g.stream.nextLong() : g.twister.nextLong();
     }
 
     public static float nextFloat() {
-        return Rand.random.get().nextFloat();
+        Generators g = generators();
+        return g.stream != null ? g.stream.nextFloat() : g.twister.nextFloat();
     }
 
     public static double nextDouble() {
-        return Rand.random.get().nextDouble();
+        Generators g = generators();
+        return g.stream != null ? g.stream.nextDouble() : g.twister.nextDouble();
+    }
+
+    /**
+     * Fill the array with uniform random numbers {@code 0 <= x < 1}. The values
+     * are the same as those of successive calls to {@link #nextDouble()}.
+     * @param values The array to fill.
+     */
+    public static void nextDoubles(double[] values) {
+        Generators g = generators();
+        if (g.stream != null) {
+            g.stream.nextDoubles(values);
+            return;
+        }
+        MersenneTwister twister = g.twister;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = twister.nextDouble();
+        }
     }
 
     public static void nextBytes(byte[] bytes) {
-        Rand.random.get().nextBytes(bytes);
+        Generators g = generators();
+        if (g.stream != null) {
+            g.stream.nextBytes(bytes);
+        } else {
+            g.twister.nextBytes(bytes);
+        }
     }
-    
+
+    /**
+     * Set the seed of the generator of the current thread. Any
+     * {@linkplain Philox} stream of the current thread is removed.
+     * @param seed The seed.
+     */
     public static void setSeed(long seed) {
-        random.set(new MersenneTwister(seed));
+        // Replaced rather than updated, so that no seed is drawn from the
+        // Seeder for a thread that has not drawn before.
+        random.set(new Generators(new MersenneTwister(seed)));
     }
     
     public static long getSeed() {
-        return random.get().getSeed();
+        return generators().twister.getSeed();
     }
     
     public static void reset() {
         setSeed(Seeder.getSeed());
     }
 
+    /**
+     * Draw the random numbers of the current thread from the given
+     * counter-based stream, until it is replaced or removed. The generator
+     * of the thread is not affected by the draws from the stream.
+     * @param stream The stream to draw from, or {@code null} to return to the
+     *        generator of the thread.
+     */
+    public static void setStream(Philox stream) {
+        generators().stream = stream;
+    }
+
+    /**
+     * @return The counter-based stream of the current thread, or {@code null}
+     *         if the generator of the thread is used.
+     */
+    public static Philox getStream() {
+        return generators().stream;
+    }
+
+    /**
+     * Take a snapshot of the generators of the current thread, including
+     * their positions, e.g. to checkpoint a run. Later draws do not affect
+     * the snapshot.
+     * @return The snapshot.
+     */
+    public static State getState() {
+        return new State(generators());
+    }
+
+    /**
+     * Restore the generators of the current thread from a snapshot, so that
+     * the draws continue where they were when the snapshot was taken. The
+     * snapshot may be restored more than once.
+     * @param state The snapshot, see {@link #getState()}.
+     */
+    public static void setState(State state) {
+        Generators g = new Generators(new MersenneTwister(state.twister));
+        g.stream = state.stream == null ? null : new Philox(state.stream);
+        random.set(g);
+    }
 }
@@ -0,0 +1,25 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.measurement;
+
+import net.sourceforge.cilib.util.Cloneable;
+
+/**
+ * The in-memory state of a {@link StateAwareMeasurement}, such as a running
+ * sum or count. The {@link MeasurementStateManager} keeps a separate state for
+ * every algorithm that is measured, and provides the measurement with the state
+ * of the current algorithm before each measurement. The state is updated in
+ * place, so that no copy is needed after the measurement.
+ */
+public interface MeasurementState extends Cloneable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    MeasurementState getClone();
+}
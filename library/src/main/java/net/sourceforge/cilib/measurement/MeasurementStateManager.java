@@ -7,18 +7,51 @@
 package net.sourceforge.cilib.measurement;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import net.sourceforge.cilib.algorithm.Algorithm;
 
 /**
- *
+ * Keeps the state of every {@link StateAwareMeasurement} for every algorithm
+ * that is measured. A {@link MeasurementState} is kept in memory and handed to
+ * the measurement before it is applied to the algorithm; the state of other
+ * measurements is externalised into a {@link MeasurementMemento}.
  */
 public class MeasurementStateManager {
-    private ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement, MeasurementMemento>> algorithmData;
+    private ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement<?>, MeasurementMemento>> algorithmData;
+    private ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement<?>, MeasurementState>> algorithmStates;
 
     public MeasurementStateManager() {
-        this.algorithmData = new ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement, MeasurementMemento>>();
+        this.algorithmData = new ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement<?>, MeasurementMemento>>();
+        this.algorithmStates = new ConcurrentHashMap<Algorithm, ConcurrentHashMap<Measurement<?>, MeasurementState>>();
+    }
+
+    /**
+     * Get the in-memory state of the measurement for the algorithm, creating
+     * it if needed.
+     * @return The state, or {@code null} if the measurement does not keep a
+     *         {@link MeasurementState}.
+     */
+    private MeasurementState getMeasurementState(Algorithm algorithm, StateAwareMeasurement<?> measurement) {
+        ConcurrentHashMap<Measurement<?>, MeasurementState> states = this.algorithmStates.get(algorithm);
+        if (states == null) {
+            ConcurrentHashMap<Measurement<?>, MeasurementState> created = new ConcurrentHashMap<Measurement<?>, MeasurementState>();
+            states = this.algorithmStates.putIfAbsent(algorithm, created);
+            if (states == null) {
+                states = created;
+            }
+        }
+
+        MeasurementState state = states.get(measurement);
+        if (state == null) {
+            state = measurement.newState();
+            if (state != null) {
+                MeasurementState previous = states.putIfAbsent(measurement, state);
+                state = previous == null ? state : previous;
+            }
+        }
+        return state;
     }
 
     /**
@@ -29,13 +62,19 @@ public class MeasurementStateManager {
      * @param measurement The measurement to which it's state needs to be
      *        restored.
      */
-    public void setState(Algorithm algorithm, StateAwareMeasurement measurement) {
+    public void setState(Algorithm algorithm, StateAwareMeasurement<?> measurement) {
         if (!measurement.isStateAware()) return;
 
+        MeasurementState state = getMeasurementState(algorithm, measurement);
+        if (state != null) {
+            measurement.restoreState(state);
+            return;
+        }
+
         try {
-            ConcurrentHashMap<Measurement, MeasurementMemento> measurementData = this.algorithmData.get(algorithm);
+            ConcurrentHashMap<Measurement<?>, MeasurementMemento> measurementData = this.algorithmData.get(algorithm);
             if (measurementData == null) {
-                measurementData = new ConcurrentHashMap<Measurement, MeasurementMemento>();
+                measurementData = new ConcurrentHashMap<Measurement<?>, MeasurementMemento>();
                 algorithmData.put(algorithm, measurementData);
             }
 
@@ -61,14 +100,21 @@ public class MeasurementStateManager {
      * provided {@code algorithm}.
      * @param algorithm The algorithm to which the measurement state is associated.
      * @param measurement The measurement which needs to have it's state extracted.
+     * @return The externalised state, or {@code null} if the measurement keeps
+     *         a {@link MeasurementState}, which is updated in place.
      */
-    public MeasurementMemento getState(Algorithm algorithm, StateAwareMeasurement measurement) {
+    public MeasurementMemento getState(Algorithm algorithm, StateAwareMeasurement<?> measurement) {
         if (!measurement.isStateAware()) return null;
 
+        Map<Measurement<?>, MeasurementState> states = this.algorithmStates.get(algorithm);
+        if (states != null && states.containsKey(measurement)) {
+            return null;
+        }
+
         if (!algorithmData.containsKey(algorithm))
-            this.algorithmData.putIfAbsent(algorithm, new ConcurrentHashMap<Measurement, MeasurementMemento>());
+            this.algorithmData.putIfAbsent(algorithm, new ConcurrentHashMap<Measurement<?>, MeasurementMemento>());
 
-        Map<Measurement, MeasurementMemento> data = this.algorithmData.get(algorithm);
+        Map<Measurement<?>, MeasurementMemento> data = this.algorithmData.get(algorithm);
 
         try {
             MeasurementMemento memento = measurement.getState();
@@ -83,4 +129,45 @@ public class MeasurementStateManager {
         return null;
     }
 
+    /**
+     * Copy the state of the measurement for the algorithm, e.g. to checkpoint
+     * a run. Later measurements do not affect the copy.
+     * @param algorithm The algorithm to which the measurement state is associated.
+     * @param measurement The measurement.
+     * @return A copy of the {@link MeasurementState} or of the externalised
+     *         state of the measurement, or {@code null} if no state is kept.
+     */
+    public Serializable copyState(Algorithm algorithm, StateAwareMeasurement<?> measurement) {
+        Map<Measurement<?>, MeasurementState> states = this.algorithmStates.get(algorithm);
+        if (states != null && states.containsKey(measurement)) {
+            return states.get(measurement).getClone();
+        }
+
+        Map<Measurement<?>, MeasurementMemento> data = this.algorithmData.get(algorithm);
+        MeasurementMemento memento = data == null ? null : data.get(measurement);
+        if (memento == null || memento.getData() == null) {
+            return null;
+        }
+        return memento.getData().clone();
+    }
+
+    /**
+     * Replace the state of the measurement for the algorithm with a copy
+     * obtained from {@link #copyState(Algorithm, StateAwareMeasurement)},
+     * e.g. when a run is resumed from a checkpoint.
+     * @param algorithm The algorithm to which the measurement state is associated.
+     * @param measurement The measurement.
+     * @param state The copied state, or {@code null} if no state was kept.
+     */
+    public void restoreState(Algorithm algorithm, StateAwareMeasurement<?> measurement, Serializable state) {
+        if (state instanceof MeasurementState) {
+            this.algorithmStates.putIfAbsent(algorithm, new ConcurrentHashMap<Measurement<?>, MeasurementState>());
+            this.algorithmStates.get(algorithm).put(measurement, ((MeasurementState) state).getClone());
+        } else if (state instanceof byte[]) {
+            this.algorithmData.putIfAbsent(algorithm, new ConcurrentHashMap<Measurement<?>, MeasurementMemento>());
+            MeasurementMemento memento = new MeasurementMemento();
+            memento.setData(((byte[]) state).clone());
+            this.algorithmData.get(algorithm).put(measurement, memento);
+        }
+    }
 }
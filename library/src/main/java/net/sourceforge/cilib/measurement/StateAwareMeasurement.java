@@ -23,6 +23,11 @@ import net.sourceforge.cilib.type.types.Type;
  * The {@code MeasurementSuite} is aware of instances of this class and will
  * correctly handle any data recording and restoring that may be required as the
  * measurements are performed on the current algorithm.
+ * <p>
+ * A measurement should keep its state in a {@link MeasurementState}, see
+ * {@link #newState()}, which is kept in memory for every algorithm. Otherwise
+ * the state is externalised and restored before every measurement, which is
+ * considerably more expensive.
  *
  * @param <E> The {@code Type} type.
  */
@@ -52,6 +57,27 @@ public abstract class StateAwareMeasurement<E extends Type> implements Measureme
         return this.stateAware;
     }
 
+    /**
+     * Create the initial state of the measurement for an algorithm. The
+     * default implementation returns {@code null}, in which case the state of
+     * the measurement is externalised instead, see {@link #getState()}.
+     * @return A new state, or {@code null} if the measurement does not keep
+     *         its state in a {@link MeasurementState}.
+     */
+    public MeasurementState newState() {
+        return null;
+    }
+
+    /**
+     * Use the given state, which was created by {@link #newState()}, for the
+     * following measurements. Measurements that create a state must override
+     * this method.
+     * @param state The state of the current algorithm.
+     */
+    public void restoreState(MeasurementState state) {
+        throw new UnsupportedOperationException("The measurement does not keep a MeasurementState");
+    }
+
     /**
      * Set the state of the {@code Measurement} based on the provided instance.
      * @param memento The instance containing the externalised state.
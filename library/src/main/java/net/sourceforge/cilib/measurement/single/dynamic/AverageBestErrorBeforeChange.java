@@ -28,7 +28,6 @@ public class AverageBestErrorBeforeChange extends DynamicMeasurement<Real> {
 
     private static final long serialVersionUID = -2848258016113713942L;
     private int cycleSize = 50; //period between 2 changes in the environment
-    private int cycleNr;
 
     public AverageBestErrorBeforeChange() {
         super();
@@ -37,8 +36,7 @@ public class AverageBestErrorBeforeChange extends DynamicMeasurement<Real> {
     public AverageBestErrorBeforeChange(AverageBestErrorBeforeChange copy) {
         this.setStateAware(copy.isStateAware());
         this.cycleSize = copy.cycleSize;
-        this.cycleNr = copy.cycleNr;
-        this.avg = copy.avg;
+        this.state = copy.state.getClone();
     }
 
     @Override
@@ -51,10 +49,9 @@ public class AverageBestErrorBeforeChange extends DynamicMeasurement<Real> {
         if ((algorithm.getIterations() + 1) % cycleSize == 0) {
             DynamicOptimisationProblem function = (DynamicOptimisationProblem) algorithm.getOptimisationProblem();
             double error = function.getError(algorithm.getBestSolution().getPosition());
-            this.avg = (this.avg * this.cycleNr + error) / (this.cycleNr + 1);
-            this.cycleNr++;
+            this.state.add(error);
         }
-        return Real.valueOf(avg);
+        return Real.valueOf(state.getAverage());
     }
 
     public int getCycleSize() {
@@ -67,13 +64,13 @@ public class AverageBestErrorBeforeChange extends DynamicMeasurement<Real> {
 
     @Override
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-        this.avg = in.readDouble();
-        this.cycleNr = in.readInt();
+        state.average = in.readDouble();
+        state.cycles = in.readInt();
     }
 
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
-        out.writeDouble(avg);
-        out.writeInt(cycleNr);
+        out.writeDouble(state.average);
+        out.writeInt(state.cycles);
     }
 }
@@ -29,7 +29,6 @@ public class AverageBestFitnessBeforeChange extends DynamicMeasurement<Real> {
 
     private static final long serialVersionUID = -2848258016113713942L;
     private int cycleSize = 50; //period between 2 changes in the environment
-    private int cycleNr = 0;
 
     public AverageBestFitnessBeforeChange() {
         super();
@@ -38,8 +37,7 @@ public class AverageBestFitnessBeforeChange extends DynamicMeasurement<Real> {
     public AverageBestFitnessBeforeChange(AverageBestFitnessBeforeChange copy) {
         this.setStateAware(copy.isStateAware());
         this.cycleSize = copy.cycleSize;
-        this.cycleNr = copy.cycleNr;
-        this.avg = copy.avg;
+        this.state = copy.state.getClone();
     }
 
     @Override
@@ -52,11 +50,10 @@ public class AverageBestFitnessBeforeChange extends DynamicMeasurement<Real> {
         if ((algorithm.getIterations() + 1) % cycleSize == 0) {
             Problem function = algorithm.getOptimisationProblem();
             double fitness = function.getFitness(algorithm.getBestSolution().getPosition()).getValue();
-            avg = (avg * cycleNr + fitness) / (cycleNr + 1);
-            cycleNr++;
+            state.add(fitness);
         }
 
-        return Real.valueOf(avg);
+        return Real.valueOf(state.getAverage());
     }
 
     public int getCycleSize() {
@@ -69,13 +66,13 @@ public class AverageBestFitnessBeforeChange extends DynamicMeasurement<Real> {
 
     @Override
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-        this.avg = in.readDouble();
-        this.cycleNr = in.readInt();
+        state.average = in.readDouble();
+        state.cycles = in.readInt();
     }
 
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
-        out.writeDouble(avg);
-        out.writeInt(cycleNr);
+        out.writeDouble(state.average);
+        out.writeInt(state.cycles);
     }
 }
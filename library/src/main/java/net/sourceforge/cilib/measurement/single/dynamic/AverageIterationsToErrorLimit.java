@@ -25,9 +25,7 @@ public class AverageIterationsToErrorLimit extends DynamicMeasurement<Real> {
 
     private static final long serialVersionUID = -2848258016113713942L;
     private int cycleSize = 50; //period between 2 changes in the environment
-    private int cycleNr = 0;
     private double limit; //the acceptable error limit
-    private boolean flag = true; //false if the limit has been reach for the current cycle
 
     public AverageIterationsToErrorLimit() {
         super();
@@ -36,10 +34,9 @@ public class AverageIterationsToErrorLimit extends DynamicMeasurement<Real> {
     public AverageIterationsToErrorLimit(AverageIterationsToErrorLimit copy) {
         setStateAware(copy.isStateAware());
         this.cycleSize = copy.cycleSize;
-        this.cycleNr = copy.cycleNr;
-        this.avg = copy.avg;
+        this.state = copy.state.getClone();
         this.limit = copy.limit;
-        this.flag = true;
+        ((ErrorLimitAverage) this.state).flag = true;
     }
 
     public int getCycleSize() {
@@ -71,32 +68,61 @@ public class AverageIterationsToErrorLimit extends DynamicMeasurement<Real> {
         double error = function.getError(algorithm.getBestSolution().getPosition());
         int score = this.cycleSize;
 
-        if (flag && (error <= limit || (iteration) % cycleSize == 0)) {
-            score = iteration - this.cycleNr * this.cycleSize;
-            avg = (avg * this.cycleNr + score) / (this.cycleNr + 1);
-            cycleNr++;
-            flag = false;
+        ErrorLimitAverage average = (ErrorLimitAverage) state;
+        if (average.flag && (error <= limit || (iteration) % cycleSize == 0)) {
+            score = iteration - average.getCycles() * this.cycleSize;
+            average.add(score);
+            average.flag = false;
         }//if
 
         if ((iteration) % cycleSize == 0 && !algorithm.isFinished()) {
-            flag = true;
+            average.flag = true;
         }//if
 
-        return Real.valueOf(avg);
+        return Real.valueOf(average.getAverage());
     }
 
     @Override
     public void readExternal(ObjectInput in) throws IOException,
             ClassNotFoundException {
-        this.cycleNr = in.readInt();
-        this.avg = in.readDouble();
-        this.flag = in.readBoolean();
+        state.cycles = in.readInt();
+        state.average = in.readDouble();
+        ((ErrorLimitAverage) state).flag = in.readBoolean();
     }
 
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
-        out.writeInt(cycleNr);
-        out.writeDouble(avg);
-        out.writeBoolean(flag);
+        out.writeInt(state.cycles);
+        out.writeDouble(state.average);
+        out.writeBoolean(((ErrorLimitAverage) state).flag);
+    }
+
+    @Override
+    public ErrorLimitAverage newState() {
+        return new ErrorLimitAverage();
+    }
+
+    /**
+     * The average number of iterations, and whether the error limit has not
+     * yet been reached in the current cycle.
+     */
+    public static class ErrorLimitAverage extends Average {
+        private static final long serialVersionUID = -5226401741186960914L;
+
+        private boolean flag; //false if the limit has been reach for the current cycle
+
+        public ErrorLimitAverage() {
+            this.flag = true;
+        }
+
+        public ErrorLimitAverage(ErrorLimitAverage copy) {
+            super(copy);
+            this.flag = copy.flag;
+        }
+
+        @Override
+        public ErrorLimitAverage getClone() {
+            return new ErrorLimitAverage(this);
+        }
     }
 }
@@ -9,25 +9,83 @@ package net.sourceforge.cilib.measurement.single.dynamic;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import net.sourceforge.cilib.measurement.MeasurementState;
 import net.sourceforge.cilib.measurement.StateAwareMeasurement;
 import net.sourceforge.cilib.type.types.Type;
 
 public abstract class DynamicMeasurement<E extends Type> extends StateAwareMeasurement<E> {
 
-    protected double avg;
+    protected Average state;
 
     public DynamicMeasurement() {
         setStateAware(true);
+        this.state = newState();
+    }
+
+    @Override
+    public Average newState() {
+        return new Average();
+    }
+
+    @Override
+    public void restoreState(MeasurementState state) {
+        this.state = (Average) state;
     }
 
     @Override
     public void readExternal(ObjectInput in) throws IOException,
             ClassNotFoundException {
-        this.avg = in.readDouble();
+        state.average = in.readDouble();
     }
 
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
-        out.writeDouble(avg);
+        out.writeDouble(state.average);
+    }
+
+    /**
+     * The average of the values that were measured once per cycle of a
+     * changing environment.
+     */
+    public static class Average implements MeasurementState {
+        private static final long serialVersionUID = 3360947329806815316L;
+
+        protected double average;
+        protected int cycles;
+
+        public Average() {
+            this.average = 0.0;
+            this.cycles = 0;
+        }
+
+        public Average(Average copy) {
+            this.average = copy.average;
+            this.cycles = copy.cycles;
+        }
+
+        @Override
+        public Average getClone() {
+            return new Average(this);
+        }
+
+        /**
+         * Add the value measured in the cycle that has just completed.
+         * @param value The value.
+         */
+        public void add(double value) {
+            average = (average * cycles + value) / (cycles + 1);
+            cycles++;
+        }
+
+        public double getAverage() {
+            return average;
+        }
+
+        /**
+         * @return The number of completed cycles.
+         */
+        public int getCycles() {
+            return cycles;
+        }
     }
 }
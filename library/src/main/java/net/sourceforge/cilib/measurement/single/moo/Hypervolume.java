@@ -0,0 +1,291 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.measurement.single.moo;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multiset;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.moo.Hypervolumes;
+import net.sourceforge.cilib.moo.ObjectiveMatrix;
+import net.sourceforge.cilib.moo.archive.Archive;
+import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.problem.solution.MaximisationFitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * <p>
+ * Measures the hypervolume of the non-dominated solutions in an archive, i.e.
+ * the volume of the region in objective space that is dominated by the
+ * solutions and that dominates a reference point.
+ * </p><p>
+ * If no reference point is set, the worst value of each objective in the
+ * archive is used, as determined by {@link HypervolumeRefVector}. A reference
+ * point is given in the values of the objectives; maximised objectives are
+ * negated internally.
+ * </p><p>
+ * For up to {@code maximumExactObjectives} objectives the hypervolume is
+ * calculated exactly. If the measurement is incremental and only a few
+ * solutions were added to or removed from the archive since the previous
+ * measurement, with the same reference point, the previous hypervolume is
+ * updated with the exclusive contributions of the changed solutions instead
+ * of being calculated again. For more objectives the hypervolume is
+ * estimated by Monte Carlo sampling.
+ * </p>
+ */
+public class Hypervolume implements Measurement<Real> {
+
+    private static final long serialVersionUID = -4873640165683466707L;
+
+    private Vector referencePoint;
+    private int maximumExactObjectives;
+    private int samples;
+    private boolean incremental;
+
+    private transient Multiset<Point> previousPoints;
+    private transient double[] previousReference;
+    private transient double previousVolume;
+
+    /**
+     * Create a measurement that calculates the hypervolume exactly for up to
+     * six objectives, incrementally where possible, and that estimates it
+     * with 10000 samples otherwise.
+     */
+    public Hypervolume() {
+        this.maximumExactObjectives = 6;
+        this.samples = 10000;
+        this.incremental = true;
+    }
+
+    /**
+     * Copy constructor. The previous measurement is not copied.
+     * @param copy The instance to copy.
+     */
+    public Hypervolume(Hypervolume copy) {
+        this.referencePoint = copy.referencePoint == null ? null : Vector.copyOf(copy.referencePoint);
+        this.maximumExactObjectives = copy.maximumExactObjectives;
+        this.samples = copy.samples;
+        this.incremental = copy.incremental;
+    }
+
+    @Override
+    public Hypervolume getClone() {
+        return new Hypervolume(this);
+    }
+
+    @Override
+    public Real getValue(Algorithm algorithm) {
+        Archive archive = Archive.Provider.get();
+        if (archive.isEmpty()) {
+            previousPoints = null;
+            return Real.valueOf(0.0);
+        }
+
+        List<MOFitness> fitnesses = Lists.newArrayListWithCapacity(archive.size());
+        for (OptimisationSolution solution : archive) {
+            fitnesses.add((MOFitness) solution.getFitness());
+        }
+        ObjectiveMatrix objectives = ObjectiveMatrix.of(fitnesses);
+        List<double[]> points = Lists.newArrayListWithCapacity(objectives.size());
+        for (int i = 0; i < objectives.size(); i++) {
+            points.add(objectives.getRow(i));
+        }
+
+        boolean[] maximised = new boolean[objectives.getObjectives()];
+        for (int i = 0; i < maximised.length; i++) {
+            maximised[i] = fitnesses.get(0).getFitness(i) instanceof MaximisationFitness;
+        }
+
+        double[] reference = getReference(points, maximised);
+        double[][] matrix = points.toArray(new double[points.size()][]);
+        if (reference.length > maximumExactObjectives) {
+            previousPoints = null;
+            return Real.valueOf(Hypervolumes.estimate(matrix, reference, samples));
+        }
+
+        Multiset<Point> current = HashMultiset.create();
+        for (double[] point : points) {
+            current.add(new Point(point));
+        }
+
+        double volume;
+        if (incremental && previousPoints != null && Arrays.equals(reference, previousReference)) {
+            volume = update(current, reference);
+        } else {
+            volume = Hypervolumes.exact(matrix, reference);
+        }
+
+        if (incremental) {
+            previousPoints = current;
+            previousReference = reference;
+            previousVolume = volume;
+        }
+        return Real.valueOf(volume);
+    }
+
+    /**
+     * Update the previous hypervolume by removing the exclusive contributions
+     * of the removed points, and adding those of the added points, one point
+     * at a time. If too many points changed, the hypervolume is calculated
+     * again.
+     */
+    private double update(Multiset<Point> current, double[] reference) {
+        List<double[]> removed = Lists.newArrayList();
+        List<double[]> added = Lists.newArrayList();
+        for (Multiset.Entry<Point> entry : previousPoints.entrySet()) {
+            for (int i = current.count(entry.getElement()); i < entry.getCount(); i++) {
+                removed.add(entry.getElement().values);
+            }
+        }
+        for (Multiset.Entry<Point> entry : current.entrySet()) {
+            for (int i = previousPoints.count(entry.getElement()); i < entry.getCount(); i++) {
+                added.add(entry.getElement().values);
+            }
+        }
+
+        if (2 * (removed.size() + added.size()) > current.size()) {
+            return Hypervolumes.exact(toMatrix(current), reference);
+        }
+
+        double volume = previousVolume;
+        Multiset<Point> working = HashMultiset.create(previousPoints);
+        for (double[] point : removed) {
+            working.remove(new Point(point));
+            volume -= Hypervolumes.contribution(point, toMatrix(working), reference);
+        }
+        for (double[] point : added) {
+            volume += Hypervolumes.contribution(point, toMatrix(working), reference);
+            working.add(new Point(point));
+        }
+        return volume;
+    }
+
+    private double[] getReference(List<double[]> points, boolean[] maximised) {
+        double[] reference = new double[maximised.length];
+        if (referencePoint != null) {
+            for (int i = 0; i < reference.length; i++) {
+                reference[i] = maximised[i] ? -referencePoint.doubleValueOf(i) : referencePoint.doubleValueOf(i);
+            }
+            return reference;
+        }
+
+        Arrays.fill(reference, Double.NEGATIVE_INFINITY);
+        for (double[] point : points) {
+            for (int i = 0; i < reference.length; i++) {
+                reference[i] = Math.max(reference[i], point[i]);
+            }
+        }
+        return reference;
+    }
+
+    private static double[][] toMatrix(Multiset<Point> points) {
+        double[][] matrix = new double[points.size()][];
+        int i = 0;
+        for (Point point : points) {
+            matrix[i++] = point.values;
+        }
+        return matrix;
+    }
+
+    /**
+     * Get the reference point.
+     * @return The reference point, or {@code null} if the worst value of each
+     *         objective in the archive is used.
+     */
+    public Vector getReferencePoint() {
+        return referencePoint;
+    }
+
+    /**
+     * Set the reference point. If {@code null}, the worst value of each
+     * objective in the archive is used.
+     * @param referencePoint The reference point.
+     */
+    public void setReferencePoint(Vector referencePoint) {
+        this.referencePoint = referencePoint;
+    }
+
+    /**
+     * Get the largest number of objectives for which the hypervolume is
+     * calculated exactly.
+     * @return The number of objectives.
+     */
+    public int getMaximumExactObjectives() {
+        return maximumExactObjectives;
+    }
+
+    /**
+     * Set the largest number of objectives for which the hypervolume is
+     * calculated exactly.
+     * @param maximumExactObjectives The number of objectives.
+     */
+    public void setMaximumExactObjectives(int maximumExactObjectives) {
+        this.maximumExactObjectives = maximumExactObjectives;
+    }
+
+    /**
+     * Get the number of samples used to estimate the hypervolume.
+     * @return The number of samples.
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Set the number of samples used to estimate the hypervolume.
+     * @param samples The number of samples.
+     */
+    public void setSamples(int samples) {
+        this.samples = samples;
+    }
+
+    /**
+     * Determine whether the previous hypervolume is updated with the changes
+     * to the archive, rather than calculated again.
+     * @return {@code true} if the measurement is incremental.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Set whether the previous hypervolume is updated with the changes to the
+     * archive, rather than calculated again.
+     * @param incremental {@code true} to update the previous hypervolume.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * The objective values of a solution, compared by value.
+     */
+    private static final class Point {
+        private final double[] values;
+        private final int hash;
+
+        Point(double[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Point && Arrays.equals(values, ((Point) obj).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
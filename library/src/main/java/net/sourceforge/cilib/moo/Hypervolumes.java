@@ -0,0 +1,251 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.moo;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import java.util.Arrays;
+import java.util.Comparator;
+import net.sourceforge.cilib.math.random.generator.Rand;
+
+/**
+ * Utility methods to calculate the hypervolume dominated by a set of points in
+ * objective space. All the objectives are minimised: a point is an array of
+ * objective values, and the hypervolume of a set of points is the volume of
+ * the region that is dominated by at least one of the points and that
+ * dominates the reference point. Points that do not dominate the reference
+ * point in every objective do not contribute to the hypervolume.
+ * <p>
+ * The exact hypervolume is calculated with the WFG algorithm:
+ * <pre>
+ * {@literal @}article{while2012wfg,
+ *  title={{A Fast Way of Calculating Exact Hypervolumes}},
+ *  author={While, L. and Bradstreet, L. and Barone, L.},
+ *  journal={IEEE Transactions on Evolutionary Computation},
+ *  volume={16},
+ *  number={1},
+ *  pages={86--95},
+ *  year={2012}
+ * }
+ * </pre>
+ */
+public final class Hypervolumes {
+
+    private Hypervolumes() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Calculate the exact hypervolume of a set of points.
+     * @param points The points.
+     * @param reference The reference point.
+     * @return The hypervolume.
+     */
+    public static double exact(double[][] points, double[] reference) {
+        return wfg(nondominated(limit(points, reference), reference.length), reference, reference.length);
+    }
+
+    /**
+     * Calculate the hypervolume that is dominated only by {@code point}, and
+     * not by any of the {@code others}.
+     * @param point The point.
+     * @param others The other points.
+     * @param reference The reference point.
+     * @return The exclusive hypervolume of {@code point}.
+     */
+    public static double contribution(double[] point, double[][] others, double[] reference) {
+        int n = reference.length;
+        if (!dominates(point, reference, n)) {
+            return 0.0;
+        }
+        double[][] limited = new double[others.length][];
+        int size = 0;
+        for (double[] other : others) {
+            if (dominates(other, reference, n)) {
+                limited[size++] = worse(point, other, n);
+            }
+        }
+        return box(point, reference, n) - wfg(nondominated(Arrays.copyOf(limited, size), n), reference, n);
+    }
+
+    /**
+     * Estimate the hypervolume of a set of points by sampling points uniformly
+     * from the box between the best value of each objective and the reference
+     * point, and counting the samples that are dominated by at least one of
+     * the points.
+     * @param points The points.
+     * @param reference The reference point.
+     * @param samples The number of samples.
+     * @return The estimated hypervolume.
+     */
+    public static double estimate(double[][] points, double[] reference, int samples) {
+        checkArgument(samples > 0, "The number of samples must be positive.");
+        int n = reference.length;
+        double[][] candidates = nondominated(limit(points, reference), n);
+        if (candidates.length == 0) {
+            return 0.0;
+        }
+
+        double[] lower = reference.clone();
+        for (double[] point : candidates) {
+            for (int i = 0; i < n; i++) {
+                lower[i] = Math.min(lower[i], point[i]);
+            }
+        }
+        double volume = box(lower, reference, n);
+
+        double[] sample = new double[n];
+        int dominated = 0;
+        for (int s = 0; s < samples; s++) {
+            Rand.nextDoubles(sample);
+            for (int i = 0; i < n; i++) {
+                sample[i] = lower[i] + sample[i] * (reference[i] - lower[i]);
+            }
+            for (double[] point : candidates) {
+                if (weaklyDominates(point, sample, n)) {
+                    dominated++;
+                    break;
+                }
+            }
+        }
+        return volume * dominated / samples;
+    }
+
+    /**
+     * The points that dominate the reference point.
+     */
+    private static double[][] limit(double[][] points, double[] reference) {
+        double[][] limited = new double[points.length][];
+        int size = 0;
+        for (double[] point : points) {
+            checkArgument(point.length == reference.length, "Expected %s objectives, got %s", reference.length, point.length);
+            if (dominates(point, reference, reference.length)) {
+                limited[size++] = point;
+            }
+        }
+        return Arrays.copyOf(limited, size);
+    }
+
+    /**
+     * The hypervolume of non-dominated points in the first {@code n}
+     * objectives. The points are sorted from worst to best in the last of
+     * these objectives, so that the points that are limited by a point all
+     * share its value of the last objective and the exclusive hypervolume of
+     * the point can be calculated in one dimension less.
+     */
+    private static double wfg(double[][] points, double[] reference, int n) {
+        if (points.length == 0) {
+            return 0.0;
+        }
+        if (n == 1) {
+            double best = reference[0];
+            for (double[] point : points) {
+                best = Math.min(best, point[0]);
+            }
+            return reference[0] - best;
+        }
+        if (n == 2) {
+            return wfg2(points, reference);
+        }
+
+        final int last = n - 1;
+        double[][] sorted = points.clone();
+        Arrays.sort(sorted, new Comparator<double[]>() {
+            @Override
+            public int compare(double[] a, double[] b) {
+                return Double.compare(b[last], a[last]);
+            }
+        });
+
+        double volume = 0.0;
+        for (int k = 0; k < sorted.length; k++) {
+            double[] point = sorted[k];
+            double height = reference[last] - point[last];
+            double[][] limited = new double[sorted.length - k - 1][];
+            for (int j = k + 1; j < sorted.length; j++) {
+                limited[j - k - 1] = worse(point, sorted[j], last);
+            }
+            double exclusive = box(point, reference, last) - wfg(nondominated(limited, last), reference, last);
+            volume += height * exclusive;
+        }
+        return volume;
+    }
+
+    private static double wfg2(double[][] points, double[] reference) {
+        double[][] sorted = points.clone();
+        Arrays.sort(sorted, new Comparator<double[]>() {
+            @Override
+            public int compare(double[] a, double[] b) {
+                return Double.compare(a[0], b[0]);
+            }
+        });
+
+        double volume = 0.0;
+        double previous = reference[1];
+        for (double[] point : sorted) {
+            if (point[1] < previous) {
+                volume += (reference[0] - point[0]) * (previous - point[1]);
+                previous = point[1];
+            }
+        }
+        return volume;
+    }
+
+    /**
+     * The points that are not dominated by another point in the first
+     * {@code n} objectives, as determined by {@link NonDominatedSorting}.
+     * Equal points do not change the hypervolume.
+     */
+    private static double[][] nondominated(double[][] points, int n) {
+        if (points.length < 2) {
+            return points;
+        }
+        double[] values = new double[points.length * n];
+        for (int i = 0; i < points.length; i++) {
+            System.arraycopy(points[i], 0, values, i * n, n);
+        }
+        int[] indices = NonDominatedSorting.nondominated(new ObjectiveMatrix(values, n));
+        double[][] result = new double[indices.length][];
+        for (int i = 0; i < indices.length; i++) {
+            result[i] = points[indices[i]];
+        }
+        return result;
+    }
+
+    private static double[] worse(double[] a, double[] b, int n) {
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = Math.max(a[i], b[i]);
+        }
+        return result;
+    }
+
+    private static double box(double[] point, double[] reference, int n) {
+        double volume = 1.0;
+        for (int i = 0; i < n; i++) {
+            volume *= reference[i] - point[i];
+        }
+        return volume;
+    }
+
+    private static boolean dominates(double[] point, double[] reference, int n) {
+        for (int i = 0; i < n; i++) {
+            if (!(point[i] < reference[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean weaklyDominates(double[] a, double[] b, int n) {
+        for (int i = 0; i < n; i++) {
+            if (a[i] > b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,212 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.moo;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts the points of an {@link ObjectiveMatrix} into non-dominated fronts,
+ * and calculates crowding distances within a front.
+ * <p>
+ * The fronts are determined with the efficient non-dominated sort with binary
+ * search (ENS-BS). The points are sorted lexicographically on their
+ * objectives, so that no point can be dominated by a point that follows it.
+ * Every point is then placed in the first front in which no point dominates
+ * it, found by a binary search over the fronts. For two objectives a front is
+ * checked by comparing with its last point only, which sorts the points in
+ * {@code O(N log N)} time.
+ * <pre>
+ * {@literal @}article{zhang2015ens,
+ *  title={{An Efficient Approach to Nondominated Sorting for Evolutionary Multiobjective Optimization}},
+ *  author={Zhang, X. and Tian, Y. and Cheng, R. and Jin, Y.},
+ *  journal={IEEE Transactions on Evolutionary Computation},
+ *  volume={19},
+ *  number={2},
+ *  pages={201--213},
+ *  year={2015}
+ * }
+ * </pre>
+ * Points with equal objective values do not dominate one another and are
+ * placed in the same front.
+ */
+public final class NonDominatedSorting {
+
+    private NonDominatedSorting() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Determine the front of every point.
+     * @param matrix The points.
+     * @return The index of the front of each point, where the points in front
+     *         {@code 0} are not dominated by any point.
+     */
+    public static int[] ranks(ObjectiveMatrix matrix) {
+        int size = matrix.size();
+        int[] ranks = new int[size];
+        if (size == 0) {
+            return ranks;
+        }
+
+        Integer[] order = lexicographicOrder(matrix);
+        // The points of every front, in the order that they were added.
+        int[][] fronts = new int[size][];
+        int[] frontSizes = new int[size];
+        int count = 0;
+
+        for (Integer boxed : order) {
+            int point = boxed;
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (isDominated(matrix, point, fronts[middle], frontSizes[middle])) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            if (low == count) {
+                fronts[count++] = new int[4];
+            } else if (frontSizes[low] == fronts[low].length) {
+                fronts[low] = Arrays.copyOf(fronts[low], fronts[low].length * 2);
+            }
+            fronts[low][frontSizes[low]++] = point;
+            ranks[point] = low;
+        }
+        return ranks;
+    }
+
+    /**
+     * Sort the points into fronts.
+     * @param matrix The points.
+     * @return The indices of the points of every front, starting with the
+     *         non-dominated front. Within a front the points are in the order
+     *         of their indices.
+     */
+    public static int[][] fronts(ObjectiveMatrix matrix) {
+        int[] ranks = ranks(matrix);
+        int count = 0;
+        for (int rank : ranks) {
+            count = Math.max(count, rank + 1);
+        }
+        int[] sizes = new int[count];
+        for (int rank : ranks) {
+            sizes[rank]++;
+        }
+        int[][] fronts = new int[count][];
+        for (int f = 0; f < count; f++) {
+            fronts[f] = new int[sizes[f]];
+            sizes[f] = 0;
+        }
+        for (int i = 0; i < ranks.length; i++) {
+            fronts[ranks[i]][sizes[ranks[i]]++] = i;
+        }
+        return fronts;
+    }
+
+    /**
+     * Determine the points that are not dominated by any other point.
+     * @param matrix The points.
+     * @return The indices of the non-dominated points, in increasing order.
+     */
+    public static int[] nondominated(ObjectiveMatrix matrix) {
+        if (matrix.size() == 0) {
+            return new int[0];
+        }
+        return fronts(matrix)[0];
+    }
+
+    /**
+     * Calculate the crowding distance of every point of a front: the sum over
+     * the objectives of the normalised distance between the neighbours of the
+     * point on either side. The points with the smallest and largest value of
+     * an objective have an infinite crowding distance.
+     * @param matrix The points.
+     * @param front The indices of the points in the front.
+     * @return The crowding distance of each point of the front, in the order
+     *         of {@code front}.
+     */
+    public static double[] crowdingDistances(final ObjectiveMatrix matrix, int[] front) {
+        int size = front.length;
+        double[] distances = new double[size];
+        if (size <= 2) {
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            return distances;
+        }
+
+        Integer[] order = new Integer[size];
+        for (int objective = 0; objective < matrix.getObjectives(); objective++) {
+            final int k = objective;
+            final int[] points = front;
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return Double.compare(matrix.get(points[a], k), matrix.get(points[b], k));
+                }
+            });
+
+            double minimum = matrix.get(front[order[0]], k);
+            double range = matrix.get(front[order[size - 1]], k) - minimum;
+            distances[order[0]] = Double.POSITIVE_INFINITY;
+            distances[order[size - 1]] = Double.POSITIVE_INFINITY;
+            if (range == 0.0 || Double.isInfinite(range) || Double.isNaN(range)) {
+                continue;
+            }
+            for (int i = 1; i < size - 1; i++) {
+                double next = matrix.get(front[order[i + 1]], k);
+                double previous = matrix.get(front[order[i - 1]], k);
+                distances[order[i]] += (next - previous) / range;
+            }
+        }
+        return distances;
+    }
+
+    private static Integer[] lexicographicOrder(final ObjectiveMatrix matrix) {
+        Integer[] order = new Integer[matrix.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        final int objectives = matrix.getObjectives();
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                for (int k = 0; k < objectives; k++) {
+                    int c = Double.compare(matrix.get(a, k), matrix.get(b, k));
+                    if (c != 0) {
+                        return c;
+                    }
+                }
+                return a.compareTo(b);
+            }
+        });
+        return order;
+    }
+
+    /**
+     * Determine whether a point is dominated by any point of a front. The
+     * points of the front precede the point in lexicographic order, and the
+     * most recently added points are the most likely to dominate it.
+     */
+    private static boolean isDominated(ObjectiveMatrix matrix, int point, int[] front, int size) {
+        if (matrix.getObjectives() == 2) {
+            // The last point of a front has its smallest second objective.
+            return matrix.dominates(front[size - 1], point);
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (matrix.dominates(front[i], point)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,133 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.moo;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import java.util.Arrays;
+import java.util.List;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.InferiorFitness;
+import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.problem.solution.MaximisationFitness;
+
+/**
+ * The objective values of a number of points, packed row by row into a single
+ * array. Every objective is stored so that smaller values are better:
+ * maximised objectives are negated, and an {@link InferiorFitness} is stored as
+ * positive infinity. As a result one point dominates another in the matrix
+ * exactly when its {@link MOFitness} dominates the other.
+ */
+public final class ObjectiveMatrix {
+
+    private final double[] values;
+    private final int size;
+    private final int objectives;
+
+    /**
+     * Create a matrix of the given values.
+     * @param values The objective values of the points, row by row, with
+     *        smaller values better.
+     * @param objectives The number of objectives of every point.
+     */
+    public ObjectiveMatrix(double[] values, int objectives) {
+        checkArgument(objectives > 0 && values.length % objectives == 0,
+                "%s values do not form rows of %s objectives", values.length, objectives);
+        this.values = values;
+        this.objectives = objectives;
+        this.size = values.length / objectives;
+    }
+
+    /**
+     * Extract the objective values of the given fitnesses.
+     * @param fitnesses The fitnesses, all with the same number of objectives.
+     * @return The matrix.
+     */
+    public static ObjectiveMatrix of(List<? extends MOFitness> fitnesses) {
+        if (fitnesses.isEmpty()) {
+            return new ObjectiveMatrix(new double[0], 1);
+        }
+        int objectives = fitnesses.get(0).getDimension();
+        double[] values = new double[fitnesses.size() * objectives];
+        int offset = 0;
+        for (MOFitness fitness : fitnesses) {
+            checkArgument(fitness.getDimension() == objectives, "Expected %s objectives, got %s", objectives, fitness.getDimension());
+            for (int k = 0; k < objectives; k++) {
+                values[offset++] = valueOf(fitness.getFitness(k));
+            }
+        }
+        return new ObjectiveMatrix(values, objectives);
+    }
+
+    /**
+     * The value of a single objective, such that smaller values are better.
+     */
+    static double valueOf(Fitness fitness) {
+        if (fitness == InferiorFitness.instance()) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double value = fitness.getValue();
+        if (fitness instanceof MaximisationFitness) {
+            // A NaN compares as the largest and therefore best value.
+            return Double.isNaN(value) ? Double.NEGATIVE_INFINITY : 0.0 - value;
+        }
+        // Adding zero turns a negative zero into a positive zero.
+        return Double.isNaN(value) ? Double.POSITIVE_INFINITY : value + 0.0;
+    }
+
+    /**
+     * @return The number of points.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of objectives of every point.
+     */
+    public int getObjectives() {
+        return objectives;
+    }
+
+    /**
+     * Get an objective value of a point.
+     * @param point The index of the point.
+     * @param objective The index of the objective.
+     * @return The value, with smaller values better.
+     */
+    public double get(int point, int objective) {
+        return values[point * objectives + objective];
+    }
+
+    /**
+     * Get a copy of the objective values of a point.
+     * @param point The index of the point.
+     * @return The values.
+     */
+    public double[] getRow(int point) {
+        return Arrays.copyOfRange(values, point * objectives, (point + 1) * objectives);
+    }
+
+    /**
+     * Determine whether a point Pareto-dominates another: it is at least as
+     * good in every objective and better in at least one.
+     * @param a The index of the first point.
+     * @param b The index of the second point.
+     * @return {@code true} if {@code a} dominates {@code b}.
+     */
+    public boolean dominates(int a, int b) {
+        int i = a * objectives;
+        int j = b * objectives;
+        boolean better = false;
+        for (int k = 0; k < objectives; k++, i++, j++) {
+            if (values[i] > values[j]) {
+                return false;
+            }
+            better |= values[i] < values[j];
+        }
+        return better;
+    }
+}
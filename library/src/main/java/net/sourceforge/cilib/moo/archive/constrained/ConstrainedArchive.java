@@ -9,8 +9,13 @@ package net.sourceforge.cilib.moo.archive.constrained;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import com.google.common.collect.ForwardingCollection;
+import com.google.common.collect.Lists;
 import java.util.Collection;
+import java.util.List;
+import net.sourceforge.cilib.moo.NonDominatedSorting;
+import net.sourceforge.cilib.moo.ObjectiveMatrix;
 import net.sourceforge.cilib.moo.archive.Archive;
+import net.sourceforge.cilib.problem.solution.MOFitness;
 import net.sourceforge.cilib.problem.solution.OptimisationSolution;
 
 /**
@@ -54,6 +59,11 @@ public abstract class ConstrainedArchive extends ForwardingCollection<Optimisati
      * Iterates through the collection of {@code candidateSolutions} and adds the
      * non-dominated solutions to the archive. If the archive becomes too large
      * a pruning strategy is invoked afterwards.
+     * <p>
+     * The candidates that are dominated by another candidate are discarded
+     * first, using {@link NonDominatedSorting}, since they can never be part of
+     * the archive afterwards. Only the remaining candidates are compared with
+     * the solutions in the archive.
      * @param candidateSolutions The solutions to add to the archive.
      * @return True if the archive changed as a result of the method call.
      */
@@ -61,8 +71,8 @@ public abstract class ConstrainedArchive extends ForwardingCollection<Optimisati
     public final boolean addAll(Collection<? extends OptimisationSolution> candidateSolutions) {
         // For each candidate solution, try to add it to the archive.
         boolean changed = false;
-        for (OptimisationSolution candidateSolution : candidateSolutions) {
-            changed |= addNonDominatedSolution(candidateSolution);
+        for (OptimisationSolution candidateSolution : nondominated(candidateSolutions)) {
+            changed |= addIfNonDominated(candidateSolution);
         }
 
         // If the archive changed and the size of the archive is too large then invoke pruning method.
@@ -92,8 +102,45 @@ public abstract class ConstrainedArchive extends ForwardingCollection<Optimisati
     }
 
     protected final boolean addNonDominatedSolution(OptimisationSolution candidateSolution) {
+        return this.predicate.apply(candidateSolution) && addIfNonDominated(candidateSolution);
+    }
+
+    /**
+     * The candidates that satisfy the predicate and that are not dominated by
+     * another such candidate, in their original order.
+     */
+    private List<OptimisationSolution> nondominated(Collection<? extends OptimisationSolution> candidateSolutions) {
+        List<OptimisationSolution> candidates = Lists.newArrayListWithCapacity(candidateSolutions.size());
+        List<MOFitness> fitnesses = Lists.newArrayListWithCapacity(candidateSolutions.size());
+        boolean packed = true;
+        for (OptimisationSolution candidateSolution : candidateSolutions) {
+            if (this.predicate.apply(candidateSolution)) {
+                candidates.add(candidateSolution);
+                if (candidateSolution.getFitness() instanceof MOFitness) {
+                    MOFitness fitness = (MOFitness) candidateSolution.getFitness();
+                    packed &= fitnesses.isEmpty() || fitness.getDimension() == fitnesses.get(0).getDimension();
+                    fitnesses.add(fitness);
+                } else {
+                    packed = false;
+                }
+            }
+        }
+
+        if (!packed || candidates.size() < 2) {
+            return candidates;
+        }
+
+        int[] indices = NonDominatedSorting.nondominated(ObjectiveMatrix.of(fitnesses));
+        List<OptimisationSolution> result = Lists.newArrayListWithCapacity(indices.length);
+        for (int index : indices) {
+            result.add(candidates.get(index));
+        }
+        return result;
+    }
+
+    private boolean addIfNonDominated(OptimisationSolution candidateSolution) {
         // If no solution in the archive dominates the candidate solution then proceed...
-        if (this.predicate.apply(candidateSolution) && !this.dominates(candidateSolution)) {
+        if (!this.dominates(candidateSolution)) {
 
             // Remove all the solutions in the archive that is dominated by the candidate solution.
             removeAll(getDominated(candidateSolution));
@@ -0,0 +1,712 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.moo.archive.constrained;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import net.sourceforge.cilib.moo.archive.Archive;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+
+/**
+ * <p>
+ * A constrained {@link Archive} implementation that indexes the solutions by
+ * their objective values, so that large archives can be maintained
+ * efficiently.
+ * </p>
+ * <p>
+ * The solutions are stored in a tree that recursively splits the objective
+ * space at the median of the objective with the largest spread. Every node
+ * keeps the bounding box of the objective vectors below it, so that the
+ * dominance queries only visit the nodes whose box can contain a dominating,
+ * or dominated, solution. Subtrees that become unbalanced are rebuilt. The
+ * final dominance test is done with
+ * {@link OptimisationSolution#compareTo(OptimisationSolution)}, so the
+ * results are the same as those of a linear scan.
+ * </p>
+ * <p>
+ * If the archive grows larger than the capacity, the most crowded solutions
+ * are removed one at a time. The most crowded solution is the one with the
+ * smallest Euclidean distance in objective space to its single nearest
+ * neighbour within the archive; of equally crowded solutions, the one that
+ * was added first is removed. The distance to the nearest neighbour is
+ * recomputed after every removal. (The
+ * {@link net.sourceforge.cilib.util.selection.arrangement.DistanceComparator}
+ * of the {@link net.sourceforge.cilib.util.selection.recipes.DistanceBasedElitistSelector}
+ * instead averages the two smallest distances from a solution to the
+ * solutions of the archive, and breaks ties differently.)
+ * The nearest neighbours are kept up to date as solutions are added and
+ * removed: a new solution only becomes the nearest neighbour of solutions in
+ * nodes whose reach, the largest nearest neighbour distance below the node,
+ * extends to it, and after a removal only the solutions that had the removed
+ * solution as nearest neighbour are updated.
+ * </p>
+ * <p>
+ * Only solutions with a {@link MOFitness} are indexed; candidates with other
+ * fitness values are compared with every solution in the archive.
+ * </p>
+ */
+public class TreeBasedConstrainedArchive extends ConstrainedArchive {
+
+    private static final int LEAF_CAPACITY = 16;
+    private static final double BALANCE = 0.75;
+
+    private final Map<OptimisationSolution, Entry> entries;
+    private final PriorityQueue<Crowding> crowding;
+    private boolean[] minimise;
+    private Node root;
+    private long insertions;
+
+    public TreeBasedConstrainedArchive() {
+        this.entries = Maps.newLinkedHashMap();
+        this.crowding = new PriorityQueue<Crowding>(LEAF_CAPACITY, Crowding.ORDER);
+    }
+
+    public TreeBasedConstrainedArchive(TreeBasedConstrainedArchive copy) {
+        super(copy);
+        this.entries = Maps.newLinkedHashMap();
+        this.crowding = new PriorityQueue<Crowding>(LEAF_CAPACITY, Crowding.ORDER);
+        for (OptimisationSolution solution : copy.entries.keySet()) {
+            addToStructure(solution.getClone());
+        }
+    }
+
+    @Override
+    public boolean dominates(OptimisationSolution candidateSolution) {
+        double[] key = keyOf(candidateSolution);
+        if (key == null) {
+            for (OptimisationSolution archiveSolution : entries.keySet()) {
+                if (archiveSolution.compareTo(candidateSolution) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return findDominant(root, candidateSolution, key, null);
+    }
+
+    @Override
+    public boolean isDominatedBy(OptimisationSolution candidateSolution) {
+        double[] key = keyOf(candidateSolution);
+        if (key == null) {
+            for (OptimisationSolution archiveSolution : entries.keySet()) {
+                if (candidateSolution.compareTo(archiveSolution) > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return findDominated(root, candidateSolution, key, null);
+    }
+
+    @Override
+    public Collection<OptimisationSolution> getDominant(OptimisationSolution candidateSolution) {
+        List<OptimisationSolution> dominantSolutions = Lists.newArrayList();
+        double[] key = keyOf(candidateSolution);
+        if (key == null) {
+            for (OptimisationSolution archiveSolution : entries.keySet()) {
+                if (archiveSolution.compareTo(candidateSolution) > 0) {
+                    dominantSolutions.add(archiveSolution);
+                }
+            }
+        } else {
+            findDominant(root, candidateSolution, key, dominantSolutions);
+        }
+        return dominantSolutions;
+    }
+
+    @Override
+    public Collection<OptimisationSolution> getDominated(OptimisationSolution candidateSolution) {
+        List<OptimisationSolution> dominatedSolutions = Lists.newArrayList();
+        double[] key = keyOf(candidateSolution);
+        if (key == null) {
+            for (OptimisationSolution archiveSolution : entries.keySet()) {
+                if (candidateSolution.compareTo(archiveSolution) > 0) {
+                    dominatedSolutions.add(archiveSolution);
+                }
+            }
+        } else {
+            findDominated(root, candidateSolution, key, dominatedSolutions);
+        }
+        return dominatedSolutions;
+    }
+
+    /**
+     * Find the solutions that dominate the candidate. Only the nodes whose
+     * lower corner is not worse than the candidate in any objective can
+     * contain such solutions. If {@code result} is {@code null}, the search
+     * stops at the first dominating solution.
+     */
+    private boolean findDominant(Node node, OptimisationSolution candidate, double[] key, List<OptimisationSolution> result) {
+        if (node == null || node.size == 0) {
+            return false;
+        }
+        for (int k = 0; k < key.length; k++) {
+            if (node.lower[k] > key[k]) {
+                return false;
+            }
+        }
+
+        boolean found = false;
+        if (node.isLeaf()) {
+            for (Entry entry : node.entries) {
+                if (entry.solution.compareTo(candidate) > 0) {
+                    if (result == null) {
+                        return true;
+                    }
+                    result.add(entry.solution);
+                    found = true;
+                }
+            }
+            return found;
+        }
+
+        found = findDominant(node.left, candidate, key, result);
+        if (found && result == null) {
+            return true;
+        }
+        return findDominant(node.right, candidate, key, result) || found;
+    }
+
+    /**
+     * Find the solutions that are dominated by the candidate. Only the nodes
+     * whose upper corner is not better than the candidate in any objective
+     * can contain such solutions.
+     */
+    private boolean findDominated(Node node, OptimisationSolution candidate, double[] key, List<OptimisationSolution> result) {
+        if (node == null || node.size == 0) {
+            return false;
+        }
+        for (int k = 0; k < key.length; k++) {
+            if (node.upper[k] < key[k]) {
+                return false;
+            }
+        }
+
+        boolean found = false;
+        if (node.isLeaf()) {
+            for (Entry entry : node.entries) {
+                if (candidate.compareTo(entry.solution) > 0) {
+                    if (result == null) {
+                        return true;
+                    }
+                    result.add(entry.solution);
+                    found = true;
+                }
+            }
+            return found;
+        }
+
+        found = findDominated(node.left, candidate, key, result);
+        if (found && result == null) {
+            return true;
+        }
+        return findDominated(node.right, candidate, key, result) || found;
+    }
+
+    @Override
+    protected void prune() {
+        while (size() > getCapacity()) {
+            Crowding next = crowding.poll();
+            if (next == null) {
+                break;
+            }
+            if (!next.entry.removed && next.version == next.entry.version) {
+                remove(next.entry.solution);
+            }
+        }
+    }
+
+    /**
+     * Find the nearest neighbour of the entry and register the entry as one
+     * of the followers of its nearest neighbour.
+     */
+    private void updateNearest(Entry entry) {
+        Entry[] best = new Entry[1];
+        double[] distance = { Double.POSITIVE_INFINITY };
+        nearest(root, entry, best, distance);
+        setNearest(entry, best[0], distance[0]);
+    }
+
+    private void setNearest(Entry entry, Entry nearest, double distance) {
+        if (entry.nearest != null) {
+            entry.nearest.followers.remove(entry);
+        }
+        entry.nearest = nearest;
+        entry.distance = distance;
+        entry.version++;
+        if (nearest != null) {
+            nearest.followers.add(entry);
+        }
+
+        if (crowding.size() > 2 * entries.size() + LEAF_CAPACITY) {
+            // Discard the stale snapshots.
+            crowding.clear();
+            for (Entry e : entries.values()) {
+                if (e.key != null && e != entry) {
+                    crowding.add(new Crowding(e));
+                }
+            }
+        }
+        crowding.add(new Crowding(entry));
+    }
+
+    private void nearest(Node node, Entry entry, Entry[] best, double[] distance) {
+        if (node == null || node.size == 0 || node.distanceTo(entry.key) >= distance[0]) {
+            return;
+        }
+
+        if (node.isLeaf()) {
+            for (Entry other : node.entries) {
+                if (other != entry) {
+                    double d = squaredDistance(entry.key, other.key);
+                    if (d < distance[0]) {
+                        distance[0] = d;
+                        best[0] = other;
+                    }
+                }
+            }
+            return;
+        }
+
+        if (entry.key[node.dimension] < node.split) {
+            nearest(node.left, entry, best, distance);
+            nearest(node.right, entry, best, distance);
+        } else {
+            nearest(node.right, entry, best, distance);
+            nearest(node.left, entry, best, distance);
+        }
+    }
+
+    /**
+     * Make the new entry the nearest neighbour of every entry that is closer
+     * to it than to its current nearest neighbour. Only the nodes whose
+     * reach extends to the new entry can contain such entries.
+     */
+    private void adopt(Node node, Entry entry) {
+        if (node == null || node.size == 0 || node.distanceTo(entry.key) >= node.reach) {
+            return;
+        }
+
+        if (node.isLeaf()) {
+            for (Entry other : node.entries) {
+                double d = squaredDistance(entry.key, other.key);
+                if (d < other.distance) {
+                    setNearest(other, entry, d);
+                }
+            }
+            return;
+        }
+
+        adopt(node.left, entry);
+        adopt(node.right, entry);
+    }
+
+    @Override
+    public boolean addToStructure(OptimisationSolution optimisationSolution) {
+        if (entries.containsKey(optimisationSolution)) {
+            return false;
+        }
+
+        double[] key = keyOf(optimisationSolution);
+        Entry entry = new Entry(optimisationSolution, key, insertions++);
+        entries.put(optimisationSolution, entry);
+        if (key != null) {
+            updateNearest(entry);
+            adopt(root, entry);
+            insert(entry);
+        }
+        return true;
+    }
+
+    private void insert(Entry entry) {
+        if (root == null) {
+            root = build(Lists.newArrayList(entry));
+            return;
+        }
+
+        // Find the highest node that becomes too unbalanced and rebuild it.
+        Node parent = null;
+        Node scapegoat = null;
+        Node scapegoatParent = null;
+        Node node = root;
+        while (true) {
+            node.size++;
+            node.include(entry.key);
+            node.reach = Math.max(node.reach, entry.distance);
+            if (node.isLeaf()) {
+                node.entries.add(entry);
+                break;
+            }
+
+            Node child = entry.key[node.dimension] < node.split ? node.left : node.right;
+            Node other = child == node.left ? node.right : node.left;
+            if (scapegoat == null && node.size > 2 * LEAF_CAPACITY
+                    && Math.max(child.size + 1, other.size) > BALANCE * node.size) {
+                scapegoat = node;
+                scapegoatParent = parent;
+            }
+            parent = node;
+            node = child;
+        }
+
+        if (scapegoat == null && node.entries.size() > LEAF_CAPACITY) {
+            scapegoat = node;
+            scapegoatParent = parent;
+        }
+
+        if (scapegoat != null) {
+            List<Entry> subtree = Lists.newArrayListWithCapacity(scapegoat.size);
+            scapegoat.collect(subtree);
+            replace(scapegoatParent, scapegoat, build(subtree));
+        }
+    }
+
+    private void replace(Node parent, Node node, Node replacement) {
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.left == node) {
+            parent.left = replacement;
+        } else {
+            parent.right = replacement;
+        }
+    }
+
+    /**
+     * Build a balanced tree containing the given entries.
+     */
+    private Node build(List<Entry> subtree) {
+        Node node = new Node(minimise.length);
+        node.size = subtree.size();
+        for (Entry entry : subtree) {
+            node.include(entry.key);
+            node.reach = Math.max(node.reach, entry.distance);
+        }
+
+        if (subtree.size() > LEAF_CAPACITY) {
+            // Split on the objective with the largest spread, at the median.
+            Integer[] order = new Integer[minimise.length];
+            for (int k = 0; k < order.length; k++) {
+                order[k] = k;
+            }
+            final Node bounds = node;
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return Double.compare(bounds.upper[b] - bounds.lower[b], bounds.upper[a] - bounds.lower[a]);
+                }
+            });
+
+            for (final int dimension : order) {
+                Entry[] sorted = subtree.toArray(new Entry[subtree.size()]);
+                Arrays.sort(sorted, new Comparator<Entry>() {
+                    @Override
+                    public int compare(Entry a, Entry b) {
+                        return Double.compare(a.key[dimension], b.key[dimension]);
+                    }
+                });
+
+                int median = medianSplit(sorted, dimension);
+                if (median > 0) {
+                    node.dimension = dimension;
+                    node.split = sorted[median].key[dimension];
+                    node.left = build(Arrays.asList(sorted).subList(0, median));
+                    node.right = build(Arrays.asList(sorted).subList(median, sorted.length));
+                    return node;
+                }
+            }
+        }
+
+        // Either small enough, or all the objective vectors are the same.
+        node.entries = Lists.newArrayList(subtree);
+        return node;
+    }
+
+    /**
+     * Find the index, closest to the middle, of the first of a run of equal
+     * values in the sorted entries, so that all equal values end up on the
+     * same side of the split. Returns 0 if all the values are equal.
+     */
+    private static int medianSplit(Entry[] sorted, int dimension) {
+        int middle = sorted.length / 2;
+        for (int offset = 0; offset < sorted.length; offset++) {
+            int below = middle - offset;
+            if (below > 0 && sorted[below - 1].key[dimension] < sorted[below].key[dimension]) {
+                return below;
+            }
+            int above = middle + offset;
+            if (above < sorted.length && sorted[above - 1].key[dimension] < sorted[above].key[dimension]) {
+                return above;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        Entry entry = entries.remove(object);
+        if (entry == null) {
+            return false;
+        }
+        unindex(entry);
+        return true;
+    }
+
+    /**
+     * Remove the entry from the tree. The bounding boxes are not shrunk; they
+     * remain valid, if less tight, until the subtree is rebuilt.
+     */
+    private void unindex(Entry entry) {
+        entry.removed = true;
+        if (entry.key == null) {
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            node.size--;
+            if (node.isLeaf()) {
+                node.entries.remove(entry);
+                break;
+            }
+            node = entry.key[node.dimension] < node.split ? node.left : node.right;
+        }
+
+        if (root.size == 0) {
+            root = null;
+        }
+
+        if (entry.nearest != null) {
+            entry.nearest.followers.remove(entry);
+            entry.nearest = null;
+        }
+
+        List<Entry> followers = Lists.newArrayList(entry.followers);
+        entry.followers.clear();
+        for (Entry follower : followers) {
+            if (!follower.removed && follower.nearest == entry) {
+                updateNearest(follower);
+                extendReach(follower);
+            }
+        }
+    }
+
+    /**
+     * Extend the reach of the nodes above the entry to its distance, which
+     * has increased.
+     */
+    private void extendReach(Entry entry) {
+        Node node = root;
+        while (node != null) {
+            node.reach = Math.max(node.reach, entry.distance);
+            if (node.isLeaf()) {
+                return;
+            }
+            node = entry.key[node.dimension] < node.split ? node.left : node.right;
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        boolean changed = false;
+        for (Object object : collection) {
+            changed |= remove(object);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        return standardRetainAll(collection);
+    }
+
+    @Override
+    public void clear() {
+        for (Entry entry : entries.values()) {
+            entry.removed = true;
+        }
+        entries.clear();
+        crowding.clear();
+        root = null;
+    }
+
+    @Override
+    public Iterator<OptimisationSolution> iterator() {
+        final Iterator<Entry> iterator = entries.values().iterator();
+        return new Iterator<OptimisationSolution>() {
+            private Entry current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public OptimisationSolution next() {
+                current = iterator.next();
+                return current.solution;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                unindex(current);
+            }
+        };
+    }
+
+    @Override
+    protected Collection<OptimisationSolution> delegate() {
+        return entries.keySet();
+    }
+
+    /**
+     * Obtain the objective values of the solution, negated where the
+     * objective is maximised, so that smaller values are always better.
+     * Returns {@code null} if the solution does not have a {@link MOFitness}.
+     */
+    private double[] keyOf(OptimisationSolution solution) {
+        if (!(solution.getFitness() instanceof MOFitness)) {
+            return null;
+        }
+
+        MOFitness fitness = (MOFitness) solution.getFitness();
+        if (minimise == null) {
+            minimise = new boolean[fitness.getDimension()];
+            for (int k = 0; k < minimise.length; k++) {
+                Fitness objective = fitness.getFitness(k);
+                minimise[k] = objective.newInstance(0.0).compareTo(objective.newInstance(1.0)) > 0;
+            }
+        }
+
+        double[] key = new double[minimise.length];
+        for (int k = 0; k < key.length; k++) {
+            double value = fitness.getFitness(k).getValue();
+            key[k] = minimise[k] ? value : -value;
+        }
+        return key;
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int k = 0; k < a.length; k++) {
+            double d = a[k] - b[k];
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    /**
+     * A solution within the archive, with its objective values and crowding.
+     */
+    private static final class Entry {
+        private final OptimisationSolution solution;
+        private final double[] key;
+        private final long order;
+        private final Set<Entry> followers;   // the entries that have this entry as nearest neighbour
+        private Entry nearest;
+        private double distance;
+        private int version;
+        private boolean removed;
+
+        Entry(OptimisationSolution solution, double[] key, long order) {
+            this.solution = solution;
+            this.key = key;
+            this.order = order;
+            this.followers = Sets.newLinkedHashSet();
+        }
+    }
+
+    /**
+     * A snapshot of the crowding of an entry. The snapshot is stale if the
+     * nearest neighbour of the entry has been updated since.
+     */
+    private static final class Crowding {
+        private static final Comparator<Crowding> ORDER = new Comparator<Crowding>() {
+            @Override
+            public int compare(Crowding a, Crowding b) {
+                int result = Double.compare(a.distance, b.distance);
+                return result != 0 ? result : Long.compare(a.entry.order, b.entry.order);
+            }
+        };
+
+        private final Entry entry;
+        private final double distance;
+        private final int version;
+
+        Crowding(Entry entry) {
+            this.entry = entry;
+            this.distance = entry.distance;
+            this.version = entry.version;
+        }
+    }
+
+    /**
+     * A node of the tree, with the bounding box of the objective vectors
+     * below it. A leaf has a list of entries, other nodes have two children.
+     */
+    private static final class Node {
+        private final double[] lower;
+        private final double[] upper;
+        private double reach;
+        private int size;
+        private int dimension;
+        private double split;
+        private Node left;
+        private Node right;
+        private List<Entry> entries;
+
+        Node(int objectives) {
+            this.lower = new double[objectives];
+            this.upper = new double[objectives];
+            Arrays.fill(lower, Double.POSITIVE_INFINITY);
+            Arrays.fill(upper, Double.NEGATIVE_INFINITY);
+        }
+
+        boolean isLeaf() {
+            return entries != null;
+        }
+
+        void include(double[] key) {
+            for (int k = 0; k < key.length; k++) {
+                lower[k] = Math.min(lower[k], key[k]);
+                upper[k] = Math.max(upper[k], key[k]);
+            }
+        }
+
+        void collect(List<Entry> result) {
+            if (isLeaf()) {
+                result.addAll(entries);
+            } else {
+                left.collect(result);
+                right.collect(result);
+            }
+        }
+
+        /**
+         * The squared distance from the key to the bounding box.
+         */
+        double distanceTo(double[] key) {
+            double sum = 0.0;
+            for (int k = 0; k < key.length; k++) {
+                double d = key[k] < lower[k] ? lower[k] - key[k] : key[k] > upper[k] ? key[k] - upper[k] : 0.0;
+                sum += d * d;
+            }
+            return sum;
+        }
+    }
+}
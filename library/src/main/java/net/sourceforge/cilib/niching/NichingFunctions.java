@@ -14,6 +14,7 @@ import net.sourceforge.cilib.niching.merging.MergeStrategy;
 import net.sourceforge.cilib.niching.merging.StandardMergeStrategy;
 import net.sourceforge.cilib.niching.merging.detection.MergeDetection;
 import net.sourceforge.cilib.util.functions.Populations;
+import com.google.common.collect.Lists;
 import fj.F;
 import fj.P;
 import fj.P2;
@@ -49,19 +50,40 @@ public final class NichingFunctions {
                     return swarms;
                 }
 
-                SinglePopulationBasedAlgorithm newMainSwarm = swarms.getSubswarms().tail()
-                        .filter(mergeDetection.f(swarms.getSubswarms().head()))
-                        .foldLeft(mainSwarmMergeStrategy, swarms.getMainSwarm());
-
-                SinglePopulationBasedAlgorithm mergedSwarms = swarms.getSubswarms().tail()
-                        .filter(mergeDetection.f(swarms.getSubswarms().head()))
-                        .foldLeft(subSwarmsMergeStrategy, swarms.getSubswarms().head());
-
-                NichingSwarms newSwarms =
-                        this.f(NichingSwarms.of(newMainSwarm,
-                        swarms.getSubswarms().tail().removeAll(mergeDetection.f(swarms.getSubswarms().head()))));
+                // Each sub-swarm, in order, is merged with the later sub-swarms
+                // that were not yet merged and for which the detection holds.
+                SinglePopulationBasedAlgorithm<?>[] subswarms = swarms.getSubswarms().toArray()
+                        .array(SinglePopulationBasedAlgorithm[].class);
+                MergeDetection.Pairs pairs = mergeDetection.pairs(subswarms);
+                boolean[] merged = new boolean[subswarms.length];
+
+                SinglePopulationBasedAlgorithm<?> newMainSwarm = swarms.getMainSwarm();
+                List<SinglePopulationBasedAlgorithm> newSubswarms = List.nil();
+                for (int i = 0; i < subswarms.length; i++) {
+                    if (merged[i]) {
+                        continue;
+                    }
+
+                    java.util.List<SinglePopulationBasedAlgorithm<?>> mergeable = Lists.newArrayList();
+                    for (int j : pairs.candidates(i)) {
+                        if (j > i && !merged[j] && pairs.test(i, j)) {
+                            merged[j] = true;
+                            mergeable.add(subswarms[j]);
+                        }
+                    }
+
+                    for (SinglePopulationBasedAlgorithm<?> swarm : mergeable) {
+                        newMainSwarm = mainSwarmMergeStrategy.f(newMainSwarm, swarm);
+                    }
+
+                    SinglePopulationBasedAlgorithm<?> newSubswarm = subswarms[i];
+                    for (SinglePopulationBasedAlgorithm<?> swarm : mergeable) {
+                        newSubswarm = subSwarmsMergeStrategy.f(newSubswarm, swarm);
+                    }
+                    newSubswarms = List.cons(newSubswarm, newSubswarms);
+                }
 
-                return NichingSwarms.of(newSwarms.getMainSwarm(), List.cons(mergedSwarms, newSwarms.getSubswarms()));
+                return NichingSwarms.of(newMainSwarm, newSubswarms.reverse());
             }
         };
     }
@@ -86,21 +108,43 @@ public final class NichingFunctions {
 
             @Override
             public P2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm> f(NichingSwarms swarms) {
-                SinglePopulationBasedAlgorithm newSubSwarm = swarms.getSubswarms()
-                        .filter(absorptionDetection.f(swarms.getMainSwarm()))
-                        .foldLeft(subSwarmsAbsorptionStrategy, swarms.getMainSwarm());
+                // The detection is prepared once for the sub-swarm and every
+                // entity swarm, and only the candidates of the sub-swarm are tested.
+                SinglePopulationBasedAlgorithm<?>[] all = List.cons(swarms.getMainSwarm(), swarms.getSubswarms()).toArray()
+                        .array(SinglePopulationBasedAlgorithm[].class);
+                MergeDetection.Pairs pairs = absorptionDetection.pairs(all);
+                boolean[] absorbed = new boolean[all.length];
+                for (int j : pairs.candidates(0)) {
+                    absorbed[j] = j > 0 && pairs.test(0, j);
+                }
+
+                java.util.List<SinglePopulationBasedAlgorithm<?>> absorbedSwarms = Lists.newArrayList();
+                java.util.List<SinglePopulationBasedAlgorithm<?>> remainingSwarms = Lists.newArrayList();
+                for (int j = 1; j < all.length; j++) {
+                    if (absorbed[j]) {
+                        absorbedSwarms.add(all[j]);
+                    } else {
+                        remainingSwarms.add(all[j]);
+                    }
+                }
 
-                SinglePopulationBasedAlgorithm unmergedSwarms = swarms.getSubswarms()
-                        .removeAll(absorptionDetection.f(swarms.getMainSwarm()))
-                        .foldLeft(new StandardMergeStrategy(), Populations.emptyPopulation().f(swarms.getSubswarms().head()));
+                SinglePopulationBasedAlgorithm newSubSwarm = swarms.getMainSwarm();
+                for (SinglePopulationBasedAlgorithm<?> swarm : absorbedSwarms) {
+                    newSubSwarm = subSwarmsAbsorptionStrategy.f(newSubSwarm, swarm);
+                }
 
-                SinglePopulationBasedAlgorithm mergedSwarms = swarms.getSubswarms()
-                        .filter(absorptionDetection.f(swarms.getMainSwarm()))
-                        .foldLeft(new StandardMergeStrategy(), Populations.emptyPopulation().f(swarms.getSubswarms().head()));
+                MergeStrategy standard = new StandardMergeStrategy();
+                SinglePopulationBasedAlgorithm<?> unmergedSwarms = Populations.emptyPopulation().f(swarms.getSubswarms().head());
+                for (SinglePopulationBasedAlgorithm<?> swarm : remainingSwarms) {
+                    unmergedSwarms = standard.f(unmergedSwarms, swarm);
+                }
 
-                SinglePopulationBasedAlgorithm newMainSwarm = mainSwarmAbsorptionStrategy.f(unmergedSwarms, mergedSwarms);
+                SinglePopulationBasedAlgorithm<?> mergedSwarms = Populations.emptyPopulation().f(swarms.getSubswarms().head());
+                for (SinglePopulationBasedAlgorithm<?> swarm : absorbedSwarms) {
+                    mergedSwarms = standard.f(mergedSwarms, swarm);
+                }
 
-                return P.p(newMainSwarm, newSubSwarm);
+                return P.p(mainSwarmAbsorptionStrategy.f(unmergedSwarms, mergedSwarms), newSubSwarm);
             }
         };
     }
@@ -109,6 +153,10 @@ public final class NichingFunctions {
      * Performs absorption between the main swarm and each sub-swarm. Each entity in the main swarm gets placed
      * into a swarm of its own. This allows the merging strategies to be used instead of duplicating the strategies
      * for entities.
+     * <p>
+     * The sub-swarms absorb entities in order, and the main swarm strategy is applied after every sub-swarm, so
+     * that the next sub-swarm is tested against the resulting main swarm. The detection is therefore prepared
+     * again for every sub-swarm, see {@link #absorbSingleSwarm}.
      *
      * @param absorptionDetection The detection strategy that determines if an entity in the main swarm must be
      * absorbed.
@@ -125,17 +173,22 @@ public final class NichingFunctions {
 
             @Override
             public NichingSwarms f(NichingSwarms swarms) {
-                if (swarms.getSubswarms().isEmpty() || swarms.getMainSwarm().getTopology().isEmpty()) {
-                    return swarms;
+                SinglePopulationBasedAlgorithm<?> mainSwarm = swarms.getMainSwarm();
+                List<SinglePopulationBasedAlgorithm> remainingSwarms = swarms.getSubswarms();
+                List<SinglePopulationBasedAlgorithm> newSubswarms = List.nil();
+
+                // Iterates over the sub-swarms instead of recursing, which
+                // would use a stack frame for every sub-swarm.
+                while (remainingSwarms.isNotEmpty() && mainSwarm.getTopology().isNotEmpty()) {
+                    P2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm> newPopulations =
+                            absorbSingleSwarm(absorptionDetection, mainSwarmAbsorptionStrategy, subSwarmsAbsorptionStrategy)
+                            .f(NichingSwarms.of(remainingSwarms.head(), Populations.populationToAlgorithms().f(mainSwarm)));
+                    mainSwarm = newPopulations._1();
+                    newSubswarms = List.cons(newPopulations._2(), newSubswarms);
+                    remainingSwarms = remainingSwarms.tail();
                 }
 
-                P2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm> newPopulations =
-                        absorbSingleSwarm(absorptionDetection, mainSwarmAbsorptionStrategy, subSwarmsAbsorptionStrategy)
-                        .f(NichingSwarms.of(swarms.getSubswarms().head(), Populations.populationToAlgorithms().f(swarms.getMainSwarm())));
-
-                NichingSwarms joinedPopulations = this.f(NichingSwarms.of(newPopulations._1(), swarms.getSubswarms().tail()));
-
-                return NichingSwarms.of(joinedPopulations.getMainSwarm(), List.cons(newPopulations._2(), joinedPopulations.getSubswarms()));
+                return NichingSwarms.of(mainSwarm, newSubswarms.reverse().append(remainingSwarms));
             }
         };
     }
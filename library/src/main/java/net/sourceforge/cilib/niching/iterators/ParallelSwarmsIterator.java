@@ -0,0 +1,87 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.niching.iterators;
+
+import fj.Effect;
+import fj.F;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
+import net.sourceforge.cilib.niching.NichingSwarms;
+
+/**
+ * Applies the niche iteration to all of the sub-swarms concurrently, using a
+ * {@link ParallelEvaluator}. The sub-swarms are in the same order afterwards,
+ * and all of them have been iterated before the merging and absorption of the
+ * sub-swarms takes place.
+ * <p>
+ * Each sub-swarm draws its random numbers from its own stream of the
+ * evaluator, so the result for a given seed does not depend on the number of
+ * threads. Clones of the iterator share the evaluator.
+ */
+public class ParallelSwarmsIterator extends SubswarmIterator {
+
+    private static final long serialVersionUID = -2484319470327786104L;
+
+    private ParallelEvaluator evaluator;
+
+    /**
+     * Create an iterator that uses as many threads as there are available
+     * processors.
+     */
+    public ParallelSwarmsIterator() {
+        this.evaluator = new ParallelEvaluator();
+    }
+
+    @Override
+    public NichingSwarms f(NichingSwarms a) {
+        return NichingSwarms.of(a._1(), iterate(a._2(), iterator));
+    }
+
+    private <A> List<A> iterate(fj.data.List<A> subswarms, final F<A, A> iteration) {
+        final List<A> swarms = new ArrayList<A>(subswarms.toCollection());
+        final List<A> results = new ArrayList<A>(Collections.<A>nCopies(swarms.size(), null));
+        List<Integer> indices = new ArrayList<Integer>(swarms.size());
+        for (int i = 0; i < swarms.size(); i++) {
+            indices.add(i);
+        }
+
+        evaluator.apply(indices, new Effect<Integer>() {
+            @Override
+            public void e(Integer i) {
+                results.set(i, iteration.f(swarms.get(i)));
+            }
+        });
+
+        return results;
+    }
+
+    @Override
+    public ParallelSwarmsIterator getClone() {
+        ParallelSwarmsIterator i = new ParallelSwarmsIterator();
+        i.setIterator(iterator);
+        i.setEvaluator(evaluator);
+        return i;
+    }
+
+    /**
+     * Get the {@link ParallelEvaluator} used to iterate the sub-swarms.
+     * @return The evaluator.
+     */
+    public ParallelEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Set the {@link ParallelEvaluator} used to iterate the sub-swarms.
+     * @param evaluator The evaluator to use.
+     */
+    public void setEvaluator(ParallelEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+}
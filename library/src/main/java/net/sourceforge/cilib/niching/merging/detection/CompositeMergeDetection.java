@@ -30,6 +30,47 @@ public class CompositeMergeDetection extends MergeDetection {
         }));
     }
 
+    /**
+     * The pairs of the detectors are prepared once. The candidates of a swarm
+     * are those of the detector with the fewest candidates, since the
+     * detection only holds if it holds for every detector.
+     *
+     * @param swarms The swarms.
+     * @return The pairs of the swarms.
+     */
+    @Override
+    public Pairs pairs(final SinglePopulationBasedAlgorithm<?>[] swarms) {
+        final List<Pairs> pairs = detectors.map(new F<MergeDetection, Pairs>() {
+            @Override
+            public Pairs f(MergeDetection c) {
+                return c.pairs(swarms);
+            }
+        });
+
+        return new Pairs(swarms) {
+            @Override
+            public int[] candidates(int i) {
+                int[] fewest = null;
+                for (Pairs p : pairs) {
+                    int[] candidates = p.candidates(i);
+                    if (fewest == null || candidates.length < fewest.length) {
+                        fewest = candidates;
+                    }
+                }
+                return fewest == null ? super.candidates(i) : fewest;
+            }
+
+            @Override
+            public boolean test(int i, int j) {
+                boolean result = true;
+                for (Pairs p : pairs) {
+                    result &= p.test(i, j);
+                }
+                return result;
+            }
+        };
+    }
+
     public void addDetector(MergeDetection m) {
         detectors = detectors.cons(m);
     }
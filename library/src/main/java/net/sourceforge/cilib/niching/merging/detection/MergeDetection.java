@@ -15,4 +15,55 @@ import fj.F2;
  * Used to merge two swarms into one.
  */
 public abstract class MergeDetection extends F2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm, Boolean> {
+
+    /**
+     * Prepare to test a number of swarms against one another. By default
+     * every pair of swarms that is tested is passed to {@link #f}; subclasses
+     * may summarise every swarm once instead, and may limit the candidates of
+     * each swarm.
+     *
+     * @param swarms The swarms.
+     * @return The pairs of the swarms.
+     */
+    public Pairs pairs(SinglePopulationBasedAlgorithm<?>[] swarms) {
+        return new Pairs(swarms);
+    }
+
+    /**
+     * The pairs of a number of swarms, identified by their indices, for which
+     * the detection holds.
+     */
+    public class Pairs {
+        protected final SinglePopulationBasedAlgorithm<?>[] swarms;
+
+        protected Pairs(SinglePopulationBasedAlgorithm<?>[] swarms) {
+            this.swarms = swarms;
+        }
+
+        /**
+         * Get the swarms that may have to be merged with a swarm. Every swarm
+         * {@code j} for which {@code test(i, j)} holds must be included.
+         *
+         * @param i The index of the swarm.
+         * @return The indices of the candidates, in increasing order.
+         */
+        public int[] candidates(int i) {
+            int[] all = new int[swarms.length];
+            for (int j = 0; j < all.length; j++) {
+                all[j] = j;
+            }
+            return all;
+        }
+
+        /**
+         * Determine whether two swarms must be merged, as {@link #f} does.
+         *
+         * @param i The index of the first swarm.
+         * @param j The index of the second swarm.
+         * @return True if the swarms must be merged, false otherwise.
+         */
+        public boolean test(int i, int j) {
+            return f(swarms[i], swarms[j]);
+        }
+    }
 }
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.niching.merging.detection;
 
+import fj.data.List;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
@@ -14,6 +15,7 @@ import net.sourceforge.cilib.entity.Topologies;
 import net.sourceforge.cilib.entity.visitor.RadiusVisitor;
 import net.sourceforge.cilib.math.Maths;
 import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.KdTree;
 import net.sourceforge.cilib.util.distancemeasure.DistanceMeasure;
 import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
 
@@ -25,6 +27,10 @@ import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
  * is less than a predefined threshold value, the sub-swarms will merge into
  * a single sub-swarm. The new swarm is returned.
  * </p>
+ * <p>
+ * When many swarms are tested against one another, see {@link #pairs(SinglePopulationBasedAlgorithm[])},
+ * the best position and radius of every swarm are determined only once.
+ * </p>
  */
 public class RadiusOverlapMergeDetection extends MergeDetection {
     private ControlParameter threshold;
@@ -47,25 +53,114 @@ public class RadiusOverlapMergeDetection extends MergeDetection {
      */
     @Override
     public Boolean f(SinglePopulationBasedAlgorithm swarm1, SinglePopulationBasedAlgorithm swarm2) {
-        RadiusVisitor radiusVisitor = new RadiusVisitor();
-        radiusVisitor.setDistanceMeasure(distanceMeasure);
+        return overlap(new Summary(swarm1), new Summary(swarm2), threshold.getParameter());
+    }
 
-        double swarm1Radius = radiusVisitor.f(swarm1.getTopology());
-        double swarm2Radius = radiusVisitor.f(swarm2.getTopology());
+    /**
+     * Summarises every swarm once. If the distance measure is Euclidean, the
+     * candidates of a swarm are found with a {@link KdTree} over the best
+     * positions of the swarms, since two swarms can only overlap if their
+     * best positions are closer than the sum of their radii.
+     *
+     * @param swarms The swarms.
+     * @return The pairs of the swarms.
+     */
+    @Override
+    public Pairs pairs(SinglePopulationBasedAlgorithm<?>[] swarms) {
+        return new OverlapPairs(swarms);
+    }
+
+    //special case if both radii approximate 0 or if the swarms intersect
+    private boolean overlap(Summary swarm1, Summary swarm2, double threshold) {
+        double distance = distanceMeasure.distance(swarm1.gBest, swarm2.gBest);
+        double normalizedDistance = distance / swarm1.range;
+
+        return (Math.abs(swarm1.radius) < Maths.EPSILON && Math.abs(swarm2.radius) < Maths.EPSILON
+                && normalizedDistance < threshold) || (distance < swarm1.radius + swarm2.radius);
+    }
 
-        Vector swarm1GBest = (Vector) Topologies.getBestEntity(swarm1.getTopology()).getCandidateSolution();
-        Vector swarm2GBest = (Vector) Topologies.getBestEntity(swarm2.getTopology()).getCandidateSolution();
+    /**
+     * The best position of a swarm and its radius around that position, as
+     * determined by a {@link RadiusVisitor}.
+     */
+    private final class Summary {
+        private final Vector gBest;
+        private final double radius;
+        private final double range;
 
-        double distance = distanceMeasure.distance(swarm1GBest, swarm2GBest);
-        double normalizedDistance = distance / swarm1GBest.boundsOf(0).getRange();
+        Summary(SinglePopulationBasedAlgorithm<?> swarm) {
+            List<? extends Entity> topology = swarm.getTopology();
+            this.gBest = (Vector) Topologies.getBestEntity(topology).getCandidateSolution();
+            this.range = gBest.boundsOf(0).getRange();
 
-        //special case if both radii approximate 0 or if the swarms intersect
-        if ((Math.abs(swarm1Radius) < Maths.EPSILON && Math.abs(swarm2Radius) < Maths.EPSILON
-                && normalizedDistance < threshold.getParameter()) || (distance < swarm1Radius + swarm2Radius)) {
-            return true;
+            double max = 0.0;
+            for (Entity entity : topology) {
+                double distance = distanceMeasure.distance(gBest, (Vector) entity.getCandidateSolution());
+                max = (distance > max) ? distance : max;
+            }
+            this.radius = max;
         }
 
-        return false;
+        double[] position() {
+            double[] position = new double[gBest.size()];
+            for (int i = 0; i < position.length; i++) {
+                position[i] = gBest.doubleValueOf(i);
+            }
+            return position;
+        }
+    }
+
+    private final class OverlapPairs extends Pairs {
+        private final Summary[] summaries;
+        private final double threshold;
+        private final double maxRadius;
+        private final double[][] positions;
+        private final KdTree tree;
+
+        OverlapPairs(SinglePopulationBasedAlgorithm<?>[] swarms) {
+            super(swarms);
+            this.threshold = RadiusOverlapMergeDetection.this.threshold.getParameter();
+            this.summaries = new Summary[this.swarms.length];
+
+            double max = 0.0;
+            for (int i = 0; i < summaries.length; i++) {
+                summaries[i] = new Summary(this.swarms[i]);
+                max = (summaries[i].radius > max) ? summaries[i].radius : max;
+            }
+            this.maxRadius = max;
+
+            if (distanceMeasure.getClass() == EuclideanDistanceMeasure.class) {
+                this.positions = new double[summaries.length][];
+                for (int i = 0; i < summaries.length; i++) {
+                    positions[i] = summaries[i].position();
+                }
+                this.tree = new KdTree(positions);
+            } else {
+                this.positions = null;
+                this.tree = null;
+            }
+        }
+
+        @Override
+        public int[] candidates(int i) {
+            if (tree == null) {
+                return super.candidates(i);
+            }
+
+            Summary summary = summaries[i];
+            double limit = summary.radius + maxRadius;
+            if (Math.abs(summary.radius) < Maths.EPSILON) {
+                limit = Math.max(limit, threshold * summary.range);
+            }
+            // Widened slightly, so that rounding in the tree cannot exclude a
+            // swarm that the distance measure finds to be within the limit.
+            return tree.within(positions[i], limit * (1.0 + 1e-9) + Double.MIN_NORMAL);
+        }
+
+        @Override
+        public boolean test(int i, int j) {
+            return overlap(summaries[i], summaries[j], threshold);
+        }
     }
 
     /**
@@ -0,0 +1,281 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.nn.architecture;
+
+import com.google.common.base.Preconditions;
+import java.util.Iterator;
+import java.util.List;
+import net.sourceforge.cilib.functions.activation.ActivationFunction;
+import net.sourceforge.cilib.io.PrimitivePatternDataTable;
+import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.nn.NeuralNetwork;
+import net.sourceforge.cilib.nn.architecture.visitors.FeedForwardVisitor;
+import net.sourceforge.cilib.nn.components.BiasNeuron;
+import net.sourceforge.cilib.nn.components.Neuron;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A compiled representation of a fully connected feed-forward {@link Architecture},
+ * as built by the {@link net.sourceforge.cilib.nn.architecture.builder.FeedForwardArchitectureBuilder}.
+ * <p>
+ * The weights of the network are kept in a single array, in the order of the
+ * {@link net.sourceforge.cilib.nn.architecture.visitors.WeightSettingVisitor}:
+ * the weights of every neuron of every layer after the input layer. A set of
+ * patterns is evaluated in batches: the activations of a layer for a batch of
+ * patterns are calculated as the product of the activations of the previous
+ * layer and the weight matrix of the layer, and the output error of the
+ * patterns is accumulated in the same pass. The activations and the error are
+ * the same as those of the {@link FeedForwardVisitor} and the
+ * {@link net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor},
+ * but the neurons of the architecture are not changed, and a compiled
+ * architecture may be used by more than one thread at a time.
+ */
+public final class DenseArchitecture {
+
+    private static final int BATCH_SIZE = 64;
+
+    private final Architecture architecture;
+    private final Layer[] layers;
+    private final int[] layerSizes;
+    private final int[] sizes;
+    private final boolean[] bias;
+    private final int[] offsets;
+    private final ActivationFunction[][] activationFunctions;
+    private final int numWeights;
+
+    private DenseArchitecture(Architecture architecture, int[] sizes, boolean[] bias, ActivationFunction[][] activationFunctions) {
+        List<Layer> layerList = architecture.getLayers();
+        this.architecture = architecture;
+        this.layers = layerList.toArray(new Layer[layerList.size()]);
+        this.layerSizes = new int[layers.length];
+        for (int l = 0; l < layers.length; l++) {
+            layerSizes[l] = layers[l].size();
+        }
+        this.sizes = sizes;
+        this.bias = bias;
+        this.activationFunctions = activationFunctions;
+        this.offsets = new int[sizes.length];
+        int total = 0;
+        for (int l = 1; l < sizes.length; l++) {
+            offsets[l] = total;
+            total += sizes[l] * getWidth(l - 1);
+        }
+        this.numWeights = total;
+    }
+
+    /**
+     * Compile the architecture of a network.
+     * @param neuralNetwork the network.
+     * @return the compiled architecture, or {@code null} if the network is not
+     *         evaluated with a {@link FeedForwardVisitor}, or its architecture
+     *         is not a fully connected feed-forward architecture of
+     *         {@link Neuron}s.
+     */
+    public static DenseArchitecture of(NeuralNetwork neuralNetwork) {
+        if (neuralNetwork.getOperationVisitor().getClass() != FeedForwardVisitor.class) {
+            return null;
+        }
+        Architecture architecture = neuralNetwork.getArchitecture();
+        List<Layer> layers = architecture.getLayers();
+        int count = layers.size();
+        if (count < 2 || !(layers.get(0) instanceof ForwardingLayer)) {
+            return null;
+        }
+
+        int[] sizes = new int[count];
+        boolean[] bias = new boolean[count];
+        ActivationFunction[][] activationFunctions = new ActivationFunction[count][];
+
+        ForwardingLayer input = (ForwardingLayer) layers.get(0);
+        sizes[0] = input.getSourceSize();
+        int extra = input.size() - sizes[0];
+        if (extra > 1 || extra == 1 && !(input.getNeuron(sizes[0]) instanceof BiasNeuron)) {
+            return null;
+        }
+        bias[0] = extra == 1;
+
+        for (int l = 1; l < count; l++) {
+            Layer layer = layers.get(l);
+            if (layer.getClass() != Layer.class) {
+                return null;
+            }
+            int width = sizes[l - 1] + (bias[l - 1] ? 1 : 0);
+            int size = layer.size();
+            if (size > 0 && layer.get(size - 1) instanceof BiasNeuron) {
+                bias[l] = true;
+                size--;
+            }
+            sizes[l] = size;
+            activationFunctions[l] = new ActivationFunction[size];
+            for (int n = 0; n < size; n++) {
+                Neuron neuron = layer.get(n);
+                if (neuron.getClass() != Neuron.class || neuron.getActivationFunction() == null || neuron.getNumWeights() != width) {
+                    return null;
+                }
+                activationFunctions[l][n] = neuron.getActivationFunction();
+            }
+        }
+        if (bias[count - 1]) {
+            return null;
+        }
+        return new DenseArchitecture(architecture, sizes, bias, activationFunctions);
+    }
+
+    /**
+     * Determine whether this is a compilation of the current architecture of
+     * the given network.
+     * @param neuralNetwork the network.
+     * @return {@code true} if the network has the same architecture, with the
+     *         same layers of the same sizes, as when it was compiled.
+     */
+    public boolean isCompiledFrom(NeuralNetwork neuralNetwork) {
+        if (neuralNetwork.getArchitecture() != architecture
+                || neuralNetwork.getOperationVisitor().getClass() != FeedForwardVisitor.class) {
+            return false;
+        }
+        List<Layer> layerList = architecture.getLayers();
+        if (layerList.size() != layers.length) {
+            return false;
+        }
+        for (int l = 0; l < layers.length; l++) {
+            if (layerList.get(l) != layers[l] || layers[l].size() != layerSizes[l]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of weights of the network.
+     */
+    public int getNumWeights() {
+        return numWeights;
+    }
+
+    /**
+     * @return the number of outputs of the network.
+     */
+    public int getOutputSize() {
+        return sizes[sizes.length - 1];
+    }
+
+    /**
+     * Calculate the mean squared output error of the network over a set of
+     * patterns: the sum of the squared errors of all the outputs for all the
+     * patterns, divided by the number of patterns and outputs.
+     * @param weights the weights of the network.
+     * @param patterns the patterns.
+     * @return the mean squared error.
+     */
+    public double getMeanSquaredError(double[] weights, StandardPatternDataTable patterns) {
+        Preconditions.checkArgument(weights.length == numWeights, "Expected %s weights, got %s", numWeights, weights.length);
+        int outputs = getOutputSize();
+        int rows = patterns.size();
+        int last = sizes.length - 1;
+        PrimitivePatternDataTable primitive = null;
+        Iterator<StandardPattern> iterator = null;
+        if (patterns instanceof PrimitivePatternDataTable
+                && ((PrimitivePatternDataTable) patterns).getFeatureSize() == sizes[0]
+                && ((PrimitivePatternDataTable) patterns).getTargetSize() == outputs) {
+            primitive = (PrimitivePatternDataTable) patterns;
+        } else {
+            iterator = patterns.iterator();
+        }
+
+        double[][] activations = new double[sizes.length][];
+        for (int l = 0; l < sizes.length; l++) {
+            activations[l] = new double[BATCH_SIZE * getWidth(l)];
+        }
+        double[] targets = new double[BATCH_SIZE * outputs];
+
+        double error = 0.0;
+        int row = 0;
+        for (int start = 0; start < rows; start += BATCH_SIZE) {
+            int batch = Math.min(BATCH_SIZE, rows - start);
+            for (int b = 0; b < batch; b++, row++) {
+                int offset = b * getWidth(0);
+                if (primitive != null) {
+                    primitive.copyFeatures(row, activations[0], offset);
+                    primitive.copyTarget(row, targets, b * outputs);
+                } else {
+                    StandardPattern pattern = iterator.next();
+                    setInput(pattern.getVector(), activations[0], offset);
+                    setTarget(pattern.getTarget(), targets, b * outputs);
+                }
+                if (bias[0]) {
+                    activations[0][offset + sizes[0]] = -1.0;
+                }
+            }
+
+            for (int l = 1; l <= last; l++) {
+                propagate(l, weights, activations[l - 1], activations[l], batch);
+            }
+
+            double[] output = activations[last];
+            for (int b = 0; b < batch; b++) {
+                for (int k = 0; k < outputs; k++) {
+                    double difference = targets[b * outputs + k] - output[b * outputs + k];
+                    error += difference * difference;
+                }
+            }
+        }
+        return error / (rows * outputs);
+    }
+
+    /**
+     * The activations of layer {@code l} for a batch of patterns, row by row,
+     * followed by the bias activation if the layer has a bias neuron.
+     */
+    private void propagate(int l, double[] weights, double[] previous, double[] current, int batch) {
+        int inputWidth = getWidth(l - 1);
+        int width = getWidth(l);
+        int size = sizes[l];
+        int offset = offsets[l];
+        ActivationFunction[] functions = activationFunctions[l];
+        for (int b = 0; b < batch; b++) {
+            int in = b * inputWidth;
+            int out = b * width;
+            for (int n = 0; n < size; n++) {
+                int w = offset + n * inputWidth;
+                double netInput = 0.0;
+                for (int i = 0; i < inputWidth; i++) {
+                    netInput += previous[in + i] * weights[w + i];
+                }
+                current[out + n] = functions[n].f(netInput);
+            }
+            if (bias[l]) {
+                current[out + size] = -1.0;
+            }
+        }
+    }
+
+    private void setInput(Vector vector, double[] destination, int offset) {
+        Preconditions.checkArgument(vector.size() == sizes[0], "Expected %s inputs, got %s", sizes[0], vector.size());
+        for (int i = 0; i < sizes[0]; i++) {
+            destination[offset + i] = vector.doubleValueOf(i);
+        }
+    }
+
+    private void setTarget(Type target, double[] destination, int offset) {
+        int outputs = getOutputSize();
+        if (outputs > 1) {
+            Vector vector = (Vector) target;
+            for (int k = 0; k < outputs; k++) {
+                destination[offset + k] = vector.doubleValueOf(k);
+            }
+        } else {
+            destination[offset] = ((Numeric) target).doubleValue();
+        }
+    }
+
+    private int getWidth(int l) {
+        return sizes[l] + (bias[l] ? 1 : 0);
+    }
+}
@@ -6,6 +6,7 @@
  */
 package net.sourceforge.cilib.nn.domain;
 
+import com.google.common.base.Preconditions;
 import net.sourceforge.cilib.nn.NeuralNetwork;
 import net.sourceforge.cilib.nn.architecture.visitors.ArchitectureVisitor;
 import net.sourceforge.cilib.nn.architecture.visitors.WeightSettingVisitor;
@@ -23,4 +24,19 @@ public class WeightSolutionConversionStrategy implements SolutionConversionStrat
     public ArchitectureVisitor interpretSolution(Type solution) {
         return new WeightSettingVisitor((Vector) solution);
     }
+
+    /**
+     * Write the weights of a solution directly into the flat weight array of
+     * a {@link net.sourceforge.cilib.nn.architecture.DenseArchitecture}, in
+     * the same order as the {@link WeightSettingVisitor}.
+     * @param solution the solution.
+     * @param weights the weight array.
+     */
+    public void interpretSolution(Type solution, double[] weights) {
+        Vector vector = (Vector) solution;
+        Preconditions.checkArgument(vector.size() == weights.length, "Expected %s weights, got %s", weights.length, vector.size());
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = vector.doubleValueOf(i);
+        }
+    }
 }
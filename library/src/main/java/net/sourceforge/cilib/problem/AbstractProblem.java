@@ -6,6 +6,8 @@
  */
 package net.sourceforge.cilib.problem;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import net.sourceforge.cilib.problem.objective.Minimise;
 import net.sourceforge.cilib.problem.objective.Objective;
@@ -66,6 +68,27 @@ public abstract class AbstractProblem implements Problem {
         return calculateFitness(solution);
     }
 
+    /**
+     * Returns the fitness of each of the given potential solutions, in
+     * order. The result is the same as calling {@link #getFitness(Type)} for
+     * every solution, and every solution counts as a fitness evaluation, but
+     * a problem may evaluate the whole population at once.
+     * <p>
+     * By default every solution is evaluated with {@link #getFitness(Type)}.
+     * Subclasses that evaluate the solutions together are responsible for
+     * adding the number of solutions to {@link #fitnessEvaluations}.
+     *
+     * @param solutions the potential solutions found by the optimisation algorithm.
+     * @return          the fitness of each solution, in the order of the solutions.
+     */
+    public List<Fitness> evaluateAll(List<? extends Type> solutions) {
+        List<Fitness> fitnesses = new ArrayList<Fitness>(solutions.size());
+        for (Type solution : solutions) {
+            fitnesses.add(getFitness(solution));
+        }
+        return fitnesses;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -74,6 +97,23 @@ public abstract class AbstractProblem implements Problem {
         return fitnessEvaluations.get();
     }
 
+    /**
+     * Set the number of fitness evaluations, e.g. to continue counting from
+     * the checkpoint of an earlier run.
+     * @param fitnessEvaluations The number of fitness evaluations.
+     */
+    public final void setFitnessEvaluations(int fitnessEvaluations) {
+        this.fitnessEvaluations.set(fitnessEvaluations);
+    }
+
+    /**
+     * Count the fitness evaluations of this problem on its own, starting from
+     * zero. A copy of a problem otherwise shares the count of the original.
+     */
+    public final void detachFitnessEvaluations() {
+        this.fitnessEvaluations = new AtomicInteger(0);
+    }
+
     @Override
     public DomainRegistry getDomain() {
         if (domainRegistry.getDomainString() == null) {
@@ -65,9 +65,9 @@ public class DeratingOptimisationProblem extends FunctionOptimisationProblem {
     }
 
     @Override
-    protected Fitness calculateFitness(Type solution) {
+    protected Fitness calculateFitness(Type solution, double value) {
         Vector input = (Vector) solution;
-        double fitness = super.calculateFitness(input).getValue();
+        double fitness = super.calculateFitness(input, value).getValue();
 
         for (Vector v : solutions) {
             double distance = distanceMeasure.distance(input.normalize(), v.normalize());
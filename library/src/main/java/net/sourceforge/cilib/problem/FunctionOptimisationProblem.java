@@ -6,6 +6,9 @@
  */
 package net.sourceforge.cilib.problem;
 
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.container.Vector;
@@ -71,6 +74,60 @@ public class FunctionOptimisationProblem extends AbstractProblem {
 
     @Override
     protected Fitness calculateFitness(Type solution) {
-        return objective.evaluate(function.f((Vector) solution).doubleValue());
+        return calculateFitness(solution, function.f((Vector) solution).doubleValue());
+    }
+
+    /**
+     * Returns the fitness of a solution for which the value of the function
+     * is already known, for example from an incremental evaluation of a
+     * {@link net.sourceforge.cilib.functions.SeparableFunction}. This counts
+     * as a fitness evaluation.
+     *
+     * @param solution The candidate solution.
+     * @param value The value of the function for the {@code solution}.
+     * @return The {@linkplain Fitness} of the {@code solution}.
+     */
+    public Fitness getFitness(Type solution, double value) {
+        fitnessEvaluations.incrementAndGet();
+        return calculateFitness(solution, value);
+    }
+
+    /**
+     * Determine the {@code Fitness} of a solution from the value of the
+     * function for that solution.
+     *
+     * @param solution The candidate solution.
+     * @param value The value of the function for the {@code solution}.
+     * @return The {@linkplain Fitness} of the {@code solution}.
+     */
+    protected Fitness calculateFitness(Type solution, double value) {
+        return objective.evaluate(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A {@link ContinuousFunction} evaluates all the solutions in a single
+     * batch, see {@link ContinuousFunction#evaluateAll(List)}.
+     */
+    @Override
+    public List<Fitness> evaluateAll(List<? extends Type> solutions) {
+        if (!(function instanceof ContinuousFunction)) {
+            return super.evaluateAll(solutions);
+        }
+
+        List<Vector> inputs = new ArrayList<Vector>(solutions.size());
+        for (Type solution : solutions) {
+            inputs.add((Vector) solution);
+        }
+
+        fitnessEvaluations.addAndGet(inputs.size());
+        double[] values = ((ContinuousFunction) function).evaluateAll(inputs);
+
+        List<Fitness> fitnesses = new ArrayList<Fitness>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            fitnesses.add(calculateFitness(inputs.get(i), values[i]));
+        }
+        return fitnesses;
     }
 }
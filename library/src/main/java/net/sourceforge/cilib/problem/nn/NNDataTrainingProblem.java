@@ -16,6 +16,7 @@ import net.sourceforge.cilib.io.exception.CIlibIOException;
 import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.io.transform.ShuffleOperator;
 import net.sourceforge.cilib.io.transform.TypeConversionOperator;
+import net.sourceforge.cilib.nn.architecture.DenseArchitecture;
 import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
 import net.sourceforge.cilib.nn.domain.*;
 import net.sourceforge.cilib.problem.AbstractProblem;
@@ -71,21 +72,10 @@ public class NNDataTrainingProblem extends NNTrainingProblem {
             int validationSize = (int) (dataTable.size() * validationSetPercentage);
             int generalisationSize = dataTable.size() - trainingSize - validationSize;
 
-            trainingSet = new StandardPatternDataTable();
-            validationSet = new StandardPatternDataTable();
-            generalisationSet = new StandardPatternDataTable();
-
-            for (int i = 0; i < trainingSize; i++) {
-                trainingSet.addRow((StandardPattern) dataTable.getRow(i));
-            }
-
-            for (int i = trainingSize; i < validationSize + trainingSize; i++) {
-                validationSet.addRow((StandardPattern) dataTable.getRow(i));
-            }
-
-            for (int i = validationSize + trainingSize; i < generalisationSize + validationSize + trainingSize; i++) {
-                generalisationSet.addRow((StandardPattern) dataTable.getRow(i));
-            }
+            StandardPatternDataTable patterns = (StandardPatternDataTable) dataTable;
+            trainingSet = patterns.subTable(0, trainingSize);
+            validationSet = patterns.subTable(trainingSize, validationSize + trainingSize);
+            generalisationSet = patterns.subTable(validationSize + trainingSize, generalisationSize + validationSize + trainingSize);
 
             neuralNetwork.initialise();
             
@@ -126,6 +116,14 @@ public class NNDataTrainingProblem extends NNTrainingProblem {
             }
         }
 
+        // Evaluate a feed-forward network on the whole training set at once.
+        DenseArchitecture dense = getDenseArchitecture();
+        if (dense != null && solutionConversionStrategy instanceof WeightSolutionConversionStrategy) {
+            double[] weights = new double[dense.getNumWeights()];
+            ((WeightSolutionConversionStrategy) solutionConversionStrategy).interpretSolution(solution, weights);
+            return objective.evaluate(dense.getMeanSquaredError(weights, trainingSet));
+        }
+
         neuralNetwork.getArchitecture().accept(solutionConversionStrategy.interpretSolution(solution));
 
         double errorTraining = 0.0;
@@ -16,7 +16,9 @@ import net.sourceforge.cilib.io.pattern.StandardPattern;
 import net.sourceforge.cilib.io.transform.ShuffleOperator;
 import net.sourceforge.cilib.io.transform.TypeConversionOperator;
 import net.sourceforge.cilib.nn.NeuralNetworks;
+import net.sourceforge.cilib.nn.architecture.DenseArchitecture;
 import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
+import net.sourceforge.cilib.nn.domain.WeightSolutionConversionStrategy;
 import net.sourceforge.cilib.problem.AbstractProblem;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.type.DomainRegistry;
@@ -164,6 +166,14 @@ public class NNSlidingWindowTrainingProblem extends NNTrainingProblem {
             }
         }
 
+        // Evaluate a feed-forward network on the whole training set at once.
+        DenseArchitecture dense = getDenseArchitecture();
+        if (dense != null) {
+            double[] weights = new double[dense.getNumWeights()];
+            new WeightSolutionConversionStrategy().interpretSolution(solution, weights);
+            return objective.evaluate(dense.getMeanSquaredError(weights, trainingSet));
+        }
+
         neuralNetwork.setWeights((Vector) solution);
 
         double errorTraining = 0.0;
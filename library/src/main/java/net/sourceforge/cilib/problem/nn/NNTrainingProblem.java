@@ -12,6 +12,7 @@ import net.sourceforge.cilib.io.transform.DoNothingDataOperator;
 import net.sourceforge.cilib.io.transform.PatternConversionOperator;
 import net.sourceforge.cilib.io.transform.ShuffleOperator;
 import net.sourceforge.cilib.nn.NeuralNetwork;
+import net.sourceforge.cilib.nn.architecture.DenseArchitecture;
 import net.sourceforge.cilib.problem.AbstractProblem;
 
 /**
@@ -29,6 +30,7 @@ public abstract class NNTrainingProblem extends AbstractProblem {
     protected double validationSetPercentage;
     protected DataOperator shuffler;
     protected DataOperator patternConversionOperator;
+    private transient DenseArchitecture denseArchitecture;
 
     /**
      * Default constructor.
@@ -60,6 +62,21 @@ public abstract class NNTrainingProblem extends AbstractProblem {
      */
     public abstract void initialise();
 
+    /**
+     * Gets a compiled, dense representation of the neural network, which is
+     * compiled again when the architecture of the network changes.
+     * @return the dense architecture, or null if the network is not a fully
+     *         connected feed-forward network.
+     */
+    protected DenseArchitecture getDenseArchitecture() {
+        DenseArchitecture dense = denseArchitecture;
+        if (dense == null || !dense.isCompiledFrom(neuralNetwork)) {
+            dense = DenseArchitecture.of(neuralNetwork);
+            denseArchitecture = dense;
+        }
+        return dense;
+    }
+
     /**
      * Gets the generalisation dataset.
      * @return the generalisation dataset.
@@ -62,9 +62,6 @@ public class HigherLevelAllDynamicIterationStrategy<E extends MultiPopulationBas
             }
         }
 
-
-        for (SinglePopulationBasedAlgorithm pAlg : topLevelAlgorithm.getPopulations()) {
-            pAlg.performIteration();
-        }
+        topLevelAlgorithm.performSubPopulationIterations();
     }
 }
@@ -67,9 +67,7 @@ public class HigherLevelChangedDynamicIterationStrategy<E extends MultiPopulatio
             }
         }
 
-        for (SinglePopulationBasedAlgorithm popAlg : topLevelAlgorithm.getPopulations()) {
-            popAlg.performIteration();
-        }
+        topLevelAlgorithm.performSubPopulationIterations();
     }
 }
 
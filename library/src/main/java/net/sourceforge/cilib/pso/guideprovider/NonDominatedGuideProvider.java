@@ -6,16 +6,23 @@
  */
 package net.sourceforge.cilib.pso.guideprovider;
 
+import com.google.common.collect.Lists;
 import fj.data.List;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
-import net.sourceforge.cilib.pso.particle.Particle;
-import net.sourceforge.cilib.entity.Topologies;
-import net.sourceforge.cilib.entity.comparator.NonDominatedFitnessComparator;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.moo.NonDominatedSorting;
+import net.sourceforge.cilib.moo.ObjectiveMatrix;
+import net.sourceforge.cilib.problem.MOOptimisationProblem;
+import net.sourceforge.cilib.problem.solution.MOFitness;
 import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.Particle;
 import net.sourceforge.cilib.type.types.container.StructuredType;
 
 /**
- *
+ * Selects the personal best position of a particle that is not dominated by
+ * the personal best position of any other particle in the swarm. Of the
+ * non-dominated particles, the one in the least crowded region of the front
+ * is selected, i.e. the one with the largest crowding distance.
  */
 public class NonDominatedGuideProvider implements GuideProvider {
 
@@ -28,9 +35,26 @@ public class NonDominatedGuideProvider implements GuideProvider {
     public StructuredType get(Particle particle) {
         PSO pso = (PSO) AbstractAlgorithm.get();
         List<Particle> topology = pso.getTopology();
-        Particle gbest = Topologies.getBestEntity(topology, new NonDominatedFitnessComparator());
 
-        return gbest.getBestPosition();
+        SinglePopulationBasedAlgorithm<?> populationBasedAlgorithm = (SinglePopulationBasedAlgorithm<?>) AbstractAlgorithm.getAlgorithmList().index(0);
+        MOOptimisationProblem problem = (MOOptimisationProblem) populationBasedAlgorithm.getOptimisationProblem();
+
+        java.util.List<MOFitness> fitnesses = Lists.newArrayListWithCapacity(topology.length());
+        for (Particle p : topology) {
+            fitnesses.add(problem.getFitness(p.getBestPosition()));
+        }
+
+        ObjectiveMatrix matrix = ObjectiveMatrix.of(fitnesses);
+        int[] front = NonDominatedSorting.nondominated(matrix);
+        double[] distances = NonDominatedSorting.crowdingDistances(matrix, front);
+        int best = 0;
+        for (int i = 1; i < front.length; i++) {
+            if (distances[i] > distances[best]) {
+                best = i;
+            }
+        }
+
+        return topology.index(front[best]).getBestPosition();
     }
 
 }
@@ -99,7 +99,7 @@ public class HybridEAIterationStrategy extends AbstractIterationStrategy<PSO> {
 
         fj.data.List<Particle> newTopology = fj.data.List.iterableList(selector.on(topology.append(offspring.map(new F<Particle, Particle>(){
         	public Particle f(Particle p) {
-        		p.getProperties().put(EntityType.Particle.BEST_POSITION, p.getCandidateSolution());
+        		p.getProperties().put(EntityType.Particle.BEST_POSITION, p.getCandidateSolution().getClone());
                 p.setNeighbourhoodBest(p);
                 p.calculateFitness();
                 return p;
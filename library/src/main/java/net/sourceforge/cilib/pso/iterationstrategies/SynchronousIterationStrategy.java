@@ -6,18 +6,38 @@
  */
 package net.sourceforge.cilib.pso.iterationstrategies;
 
+import java.util.Iterator;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
+import net.sourceforge.cilib.entity.AbstractEntity;
+import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.util.functions.Entities;
+import fj.Effect;
 import fj.F;
 
 /**
  * Implementation of the synchronous iteration strategy for PSO.
+ * <p>
+ * The fitness of the whole swarm is calculated in a single batch, see
+ * {@link Entities#calculateFitnesses(Iterable)}, before the particles are
+ * updated in topology order, if all the particles are
+ * {@link AbstractEntity} instances.
+ * <p>
+ * If a {@link ParallelEvaluator} is set, the fitness of the whole swarm is
+ * calculated in parallel, after which the neighbourhood bests are updated
+ * sequentially in topology order. The results for a given seed do not depend
+ * on the number of threads, but differ from the sequential evaluation as the
+ * random numbers used during fitness evaluation are drawn from separate
+ * streams. The optimisation problem must support concurrent evaluation.
  */
 public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO> {
 
     private static final long serialVersionUID = 6617737228912852220L;
 
+    private ParallelEvaluator evaluator;
+
     /**
      * {@inheritDoc}
      */
@@ -51,6 +71,11 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
     public void performIteration(final PSO pso) {
         final fj.data.List<Particle> topology = pso.getTopology();
 
+        if (evaluator != null) {
+            performParallelIteration(pso, topology);
+            return;
+        }
+
         final F<Particle, Particle> first = new F<Particle, Particle>() {
 			@Override
 			public Particle f(Particle current) {
@@ -62,9 +87,17 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
 			}
         };
 
+        final fj.data.List<Particle> moved = topology.map(first);
+        final Iterator<Fitness> fitnesses = Entities.canUpdateFitness(moved)
+                ? Entities.calculateFitnesses(moved).iterator() : null;
+
         final F<Particle, Particle> second = new F<Particle, Particle>() {
         	public Particle f(Particle current) {
-        		current.calculateFitness();
+        		if (fitnesses != null) {
+        			((AbstractEntity) current).updateFitness(fitnesses.next());
+        		} else {
+        			current.calculateFitness();
+        		}
         		for (Particle other : pso.getNeighbourhood().f(topology, current)) {
         			if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
         				other.setNeighbourhoodBest(current);
@@ -75,6 +108,43 @@ public class SynchronousIterationStrategy extends AbstractIterationStrategy<PSO>
         	}
         };
 
-        pso.setTopology(topology.map(first).map(second));
+        pso.setTopology(moved.map(second));
+    }
+
+    private void performParallelIteration(final PSO pso, final fj.data.List<Particle> topology) {
+        for (Particle current : topology) {
+            current.updateVelocity();
+            current.updatePosition();
+
+            boundaryConstraint.enforce(current);
+        }
+
+        evaluator.apply(topology, new Effect<Particle>() {
+            @Override
+            public void e(Particle current) {
+                current.calculateFitness();
+            }
+        });
+
+        for (Particle current : topology) {
+            for (Particle other : pso.getNeighbourhood().f(topology, current)) {
+                if (current.getSocialFitness().compareTo(other.getNeighbourhoodBest().getSocialFitness()) > 0) {
+                    other.setNeighbourhoodBest(current);
+                }
+            }
+        }
+    }
+
+    public ParallelEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Set the {@link ParallelEvaluator} used to calculate the fitness of the
+     * swarm. If {@code null}, the fitness is calculated sequentially.
+     * @param evaluator The evaluator to use.
+     */
+    public void setEvaluator(ParallelEvaluator evaluator) {
+        this.evaluator = evaluator;
     }
 }
@@ -107,9 +107,7 @@ public class MultiSwarmIterationStrategy extends AbstractIterationStrategy<Multi
             reInitialise((PSO) weakest);
         }
 
-        for (SinglePopulationBasedAlgorithm current : ca.getPopulations()) {
-            current.performIteration();
-        }
+        ca.performSubPopulationIterations();
 
         for (SinglePopulationBasedAlgorithm current : ca.getPopulations()) {
             for (SinglePopulationBasedAlgorithm other : ca.getPopulations()) {
@@ -123,10 +123,7 @@ public class SelfAdaptingMultiSwarmIterationStrategy extends AbstractIterationSt
         }// else if
 
         //perform normal iteration
-        for (ListIterator it = ca.getPopulations().listIterator(); it.hasNext();) {
-            SinglePopulationBasedAlgorithm currentAlgorithm = (SinglePopulationBasedAlgorithm) it.next();
-            currentAlgorithm.performIteration();
-        }
+        ca.performSubPopulationIterations();
 
         //check if swarms are within exclusionRadius and counts converged swarms
         for (ListIterator it = ca.getPopulations().listIterator(); it.hasNext();) {
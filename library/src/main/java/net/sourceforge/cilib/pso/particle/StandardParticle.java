@@ -111,8 +111,8 @@ public class StandardParticle extends AbstractParticle {
      * {@inheritDoc}
      */
     @Override
-    public void calculateFitness() {
-        super.calculateFitness();
+    public void updateFitness(Fitness fitness) {
+        super.updateFitness(fitness);
         this.personalBestUpdateStrategy.updatePersonalBest(this);
     }
 
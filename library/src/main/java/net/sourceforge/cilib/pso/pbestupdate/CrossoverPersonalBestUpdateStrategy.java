@@ -48,7 +48,7 @@ public class CrossoverPersonalBestUpdateStrategy implements PersonalBestUpdateSt
             particle.getParticleBehavior().incrementSuccessCounter();
             particle.getProperties().put(EntityType.Particle.Count.PBEST_STAGNATION_COUNTER, Int.valueOf(0));
             particle.getProperties().put(EntityType.Particle.BEST_FITNESS, tmpFitness);
-            particle.getProperties().put(EntityType.Particle.BEST_POSITION, tmp.getCandidateSolution());
+            particle.getProperties().put(EntityType.Particle.BEST_POSITION, tmp.getCandidateSolution().getClone());
             return;
         }
 
@@ -48,10 +48,10 @@ public class DistinctPersonalBestUpdateStrategy implements PersonalBestUpdateStr
 
             if (tempFitness.compareTo(particle.getFitness()) > 0) {
                 particle.getProperties().put(EntityType.Particle.BEST_FITNESS, tempFitness);
-                particle.getProperties().put(EntityType.Particle.BEST_POSITION, temp.getCandidateSolution());
+                particle.getProperties().put(EntityType.Particle.BEST_POSITION, temp.getCandidateSolution().getClone());
             } else {
                 particle.getProperties().put(EntityType.Particle.BEST_FITNESS, particle.getFitness());
-                particle.getProperties().put(EntityType.Particle.BEST_POSITION, particle.getCandidateSolution());
+                particle.getProperties().put(EntityType.Particle.BEST_POSITION, particle.getCandidateSolution().getClone());
 
                 particle.getProperties().put(EntityType.FITNESS, tempFitness);
                 particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, temp.getCandidateSolution());
@@ -11,11 +11,21 @@ import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
  * This is the normal position update as described by Kennedy and Eberhart.
+ * <p>
+ * If {@link #setInPlace(boolean) in-place} updating is enabled, the new
+ * position is written into a buffer that is reused between iterations. The
+ * buffer alternates with the position that the particle retains as its
+ * previous solution, so the previous solution remains valid for one
+ * iteration. The in-place mode requires that the candidate solution of the
+ * particle is copied by any component that retains it for longer.
  */
 public class StandardPositionProvider implements PositionProvider {
 
     private static final long serialVersionUID = 5547754413670196513L;
 
+    private boolean inPlace;
+    private transient Vector buffer;
+
     /**
      * Create an new instance of {@code StandardPositionProvider}.
      */
@@ -27,6 +37,7 @@ public class StandardPositionProvider implements PositionProvider {
      * @param copy The instance to copy.
      */
     public StandardPositionProvider(StandardPositionProvider copy) {
+        this.inPlace = copy.inPlace;
     }
 
     /**
@@ -44,6 +55,35 @@ public class StandardPositionProvider implements PositionProvider {
     public Vector get(Particle particle) {
         Vector position = (Vector) particle.getCandidateSolution();
         Vector velocity = (Vector) particle.getVelocity();
-        return position.plus(velocity);
+        if (!inPlace) {
+            return position.plus(velocity);
+        }
+
+        Vector result = (buffer == null || buffer == position || buffer.size() != position.size())
+            ? Vector.copyOf(position) : buffer;
+        for (int i = 0, n = position.size(); i < n; i++) {
+            result.setReal(i, position.doubleValueOf(i) + velocity.doubleValueOf(i));
+        }
+        buffer = position;
+        return result;
+    }
+
+    /**
+     * Determine whether the position is updated in-place.
+     * @return {@code true} if the position is updated in-place.
+     */
+    public boolean isInPlace() {
+        return inPlace;
+    }
+
+    /**
+     * Set whether the position of the particle should be written into a
+     * reused buffer, instead of creating a new position {@code Vector} for
+     * every update.
+     * @param inPlace The value to set.
+     */
+    public void setInPlace(boolean inPlace) {
+        this.inPlace = inPlace;
+        this.buffer = null;
     }
 }
@@ -13,7 +13,12 @@ import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.container.Vector;
 
 /**
- *
+ * Velocity provider that clamps the velocity obtained from the delegate
+ * {@link VelocityProvider} to the range {@code [-vMax, vMax]}.
+ * <p>
+ * If {@link #setInPlace(boolean) in-place} clamping is enabled, the
+ * {@code Vector} returned by the delegate is clamped directly, instead of
+ * building a new {@code Vector}.
  */
 public class ClampingVelocityProvider implements VelocityProvider {
 
@@ -21,6 +26,7 @@ public class ClampingVelocityProvider implements VelocityProvider {
 
     private ControlParameter vMax;
     private VelocityProvider delegate;
+    private boolean inPlace;
 
     public ClampingVelocityProvider() {
         this(ConstantControlParameter.of(Double.MAX_VALUE), new StandardVelocityProvider());
@@ -34,6 +40,7 @@ public class ClampingVelocityProvider implements VelocityProvider {
     public ClampingVelocityProvider(ClampingVelocityProvider copy) {
         this.vMax = copy.vMax.getClone();
         this.delegate = copy.delegate.getClone();
+        this.inPlace = copy.inPlace;
     }
 
     @Override
@@ -44,6 +51,13 @@ public class ClampingVelocityProvider implements VelocityProvider {
     @Override
     public Vector get(Particle particle) {
         Vector velocity = this.delegate.get(particle);
+        if (inPlace) {
+            for (int i = 0, n = velocity.size(); i < n; i++) {
+                velocity.setReal(i, Math.min(Math.max(-vMax.getParameter(), velocity.doubleValueOf(i)), vMax.getParameter()));
+            }
+            return velocity;
+        }
+
         Vector.Builder builder = Vector.newBuilder();
         for (Numeric value : velocity) {
             builder.add(Math.min(Math.max(-vMax.getParameter(), value.doubleValue()), vMax.getParameter()));
@@ -66,4 +80,22 @@ public class ClampingVelocityProvider implements VelocityProvider {
     public VelocityProvider getDelegate() {
         return this.delegate;
     }
+
+    /**
+     * Determine whether the velocity of the delegate is clamped in-place.
+     * @return {@code true} if the velocity is clamped in-place.
+     */
+    public boolean isInPlace() {
+        return this.inPlace;
+    }
+
+    /**
+     * Set whether the {@code Vector} returned by the delegate should be
+     * clamped directly, instead of building a new velocity {@code Vector}.
+     * The delegate must then return a {@code Vector} that is not shared.
+     * @param inPlace The value to set.
+     */
+    public void setInPlace(boolean inPlace) {
+        this.inPlace = inPlace;
+    }
 }
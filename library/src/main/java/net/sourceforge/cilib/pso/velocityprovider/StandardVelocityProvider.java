@@ -16,6 +16,14 @@ import net.sourceforge.cilib.util.Vectors;
 
 /**
  * Implementation of the standard / default velocity update equation.
+ * <p>
+ * If {@link #setInPlace(boolean) in-place} updating is enabled, the new
+ * velocity is written directly into the current velocity {@code Vector} of
+ * the particle, using preallocated buffers for the cognitive and social
+ * components. The random numbers are drawn in the same order as the
+ * default update, so both modes produce identical results for a given seed.
+ * The in-place mode requires that the velocity {@code Vector} of the particle
+ * is not shared with any other component.
  */
 public final class StandardVelocityProvider implements VelocityProvider {
 
@@ -24,6 +32,11 @@ public final class StandardVelocityProvider implements VelocityProvider {
     protected ControlParameter inertiaWeight;
     protected ControlParameter socialAcceleration;
     protected ControlParameter cognitiveAcceleration;
+    private boolean inPlace;
+
+    private transient double[] cognitiveComponent;
+    private transient double[] socialComponent;
+    private transient double[] randoms;
 
     /** Creates a new instance of StandardVelocityUpdate. */
     public StandardVelocityProvider() {
@@ -46,6 +59,7 @@ public final class StandardVelocityProvider implements VelocityProvider {
         this.inertiaWeight = copy.inertiaWeight.getClone();
         this.cognitiveAcceleration = copy.cognitiveAcceleration.getClone();
         this.socialAcceleration = copy.socialAcceleration.getClone();
+        this.inPlace = copy.inPlace;
     }
 
     /**
@@ -85,12 +99,49 @@ public final class StandardVelocityProvider implements VelocityProvider {
         Vector localGuide = (Vector) particle.getLocalGuide();
         Vector globalGuide = (Vector) particle.getGlobalGuide();
 
+        if (inPlace) {
+            return update(velocity, position, localGuide, globalGuide);
+        }
+
         Vector dampenedVelocity = Vector.copyOf(velocity).multiply(inertiaWeight.getParameter());
         Vector cognitiveComponent = Vector.copyOf(localGuide).subtract(position).multiply(cp(cognitiveAcceleration)).multiply(random());
         Vector socialComponent = Vector.copyOf(globalGuide).subtract(position).multiply(cp(socialAcceleration)).multiply(random());
         return Vectors.sumOf(dampenedVelocity, cognitiveComponent, socialComponent).valueE("Cannot determine velocity");
     }
 
+    /**
+     * Perform the velocity update within the given {@code velocity}, without
+     * creating any intermediate {@code Vector} instances.
+     */
+    private Vector update(Vector velocity, Vector position, Vector localGuide, Vector globalGuide) {
+        int n = velocity.size();
+        if (cognitiveComponent == null || cognitiveComponent.length != n) {
+            cognitiveComponent = new double[n];
+            socialComponent = new double[n];
+            randoms = new double[n];
+        }
+
+        double inertia = inertiaWeight.getParameter();
+        for (int i = 0; i < n; i++) {
+            cognitiveComponent[i] = (localGuide.doubleValueOf(i) - position.doubleValueOf(i)) * cognitiveAcceleration.getParameter();
+        }
+        Rand.nextDoubles(randoms);
+        for (int i = 0; i < n; i++) {
+            cognitiveComponent[i] *= randoms[i];
+        }
+        for (int i = 0; i < n; i++) {
+            socialComponent[i] = (globalGuide.doubleValueOf(i) - position.doubleValueOf(i)) * socialAcceleration.getParameter();
+        }
+        Rand.nextDoubles(randoms);
+        for (int i = 0; i < n; i++) {
+            socialComponent[i] *= randoms[i];
+        }
+        for (int i = 0; i < n; i++) {
+            velocity.setReal(i, velocity.doubleValueOf(i) * inertia + cognitiveComponent[i] + socialComponent[i]);
+        }
+        return velocity;
+    }
+
     /**
      * Get the {@linkplain ControlParameter} representing the inertia weight of
      * the {@linkplain VelocityProvider}.
@@ -142,4 +193,21 @@ public final class StandardVelocityProvider implements VelocityProvider {
     public void setSocialAcceleration(ControlParameter socialComponent) {
         this.socialAcceleration = socialComponent;
     }
+
+    /**
+     * Determine whether the velocity is updated in-place.
+     * @return {@code true} if the velocity is updated in-place.
+     */
+    public boolean isInPlace() {
+        return inPlace;
+    }
+
+    /**
+     * Set whether the velocity of the particle should be updated in-place,
+     * instead of creating a new velocity {@code Vector} for every update.
+     * @param inPlace The value to set.
+     */
+    public void setInPlace(boolean inPlace) {
+        this.inPlace = inPlace;
+    }
 }
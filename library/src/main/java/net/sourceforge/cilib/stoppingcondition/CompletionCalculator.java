@@ -6,10 +6,18 @@
  */
 package net.sourceforge.cilib.stoppingcondition;
 
+import net.sourceforge.cilib.util.Cloneable;
+
 /**
  * An interface defining the predicate to use with a MeasuredStoppingCondition.
  */
-public interface CompletionCalculator {
+public interface CompletionCalculator extends Cloneable {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletionCalculator getClone();
     
     public double getPercentage(double actualValue, double targetValue);
     
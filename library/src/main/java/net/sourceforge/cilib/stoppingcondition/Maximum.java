@@ -12,13 +12,29 @@ import com.google.common.base.Preconditions;
  * A stopping predicate used to stop an algorithm when a measurement is greater than or equal to a value.
  */
 public class Maximum implements CompletionCalculator {
-    
+
+    private static final long serialVersionUID = -6143628749215078537L;
+
     private double percentage;
     
     public Maximum() {
         this.percentage = 0.0;
     }
 
+    /**
+     * Create a copy of the provided instance, including the percentage
+     * completed so far.
+     * @param copy The instance to copy.
+     */
+    public Maximum(Maximum copy) {
+        this.percentage = copy.percentage;
+    }
+
+    @Override
+    public Maximum getClone() {
+        return new Maximum(this);
+    }
+
     @Override
     public double getPercentage(double actualValue, double targetValue) {
         Preconditions.checkArgument(targetValue != 0.0, "targetValue cannot be zero.");
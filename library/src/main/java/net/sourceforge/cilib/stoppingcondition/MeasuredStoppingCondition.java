@@ -29,7 +29,7 @@ public class MeasuredStoppingCondition extends StoppingCondition {
 
     public MeasuredStoppingCondition(MeasuredStoppingCondition rhs) {
         this.measurement = rhs.measurement.getClone();
-        this.predicate = rhs.predicate;
+        this.predicate = rhs.predicate.getClone();
         this.target = rhs.target;
     }
 
@@ -10,7 +10,9 @@ package net.sourceforge.cilib.stoppingcondition;
  * A stopping predicate used to stop an algorithm when a measurement is less than or equal to a value.
  */
 public class Minimum implements CompletionCalculator {
-    
+
+    private static final long serialVersionUID = 4920873658316251042L;
+
     private double percentage;
     private double maxValue;
     
@@ -19,6 +21,21 @@ public class Minimum implements CompletionCalculator {
         this.maxValue = -Double.MAX_VALUE;
     }
 
+    /**
+     * Create a copy of the provided instance, including the percentage
+     * completed so far and the largest value measured.
+     * @param copy The instance to copy.
+     */
+    public Minimum(Minimum copy) {
+        this.percentage = copy.percentage;
+        this.maxValue = copy.maxValue;
+    }
+
+    @Override
+    public Minimum getClone() {
+        return new Minimum(this);
+    }
+
     @Override
     public double getPercentage(double actualValue, double targetValue) {
         maxValue = Math.max(actualValue, maxValue);
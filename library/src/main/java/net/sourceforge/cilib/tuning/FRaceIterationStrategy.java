@@ -14,6 +14,7 @@ import static fj.data.List.iterableList;
 import static fj.function.Doubles.add;
 import static fj.Ord.*;
 import net.sourceforge.cilib.algorithm.population.AbstractIterationStrategy;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
 import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
 import net.sourceforge.cilib.controlparameter.ControlParameter;
 import net.sourceforge.cilib.math.Stats;
@@ -27,22 +28,44 @@ import static net.sourceforge.cilib.util.functions.Fitnesses.getValue;
 import static net.sourceforge.cilib.util.functions.Solutions.getFitness;
 import net.sourceforge.cilib.util.functions.Utils;
 
+/**
+ * Races the parameter configurations of a {@link TuningAlgorithm} with the
+ * F-Race procedure: every iteration the surviving configurations are evaluated
+ * on a new problem, and configurations that perform significantly worse than
+ * the best, according to the Friedman test, are eliminated.
+ * <p>
+ * If a {@link ParallelEvaluator} is set, the runs of all the configurations
+ * and all the samples of the {@link TuningProblem} are performed
+ * concurrently, each by its own clone of the target algorithm and with its
+ * own random stream, see {@link TuningProblem#runSample()}. The results for a
+ * given seed do not depend on the number of threads, but differ from the
+ * sequential evaluation.
+ * <p>
+ * Configurations may be eliminated before their runs are complete, by
+ * comparing the intermediate measurements of the runs at checkpoints, see
+ * {@link #setCheckpointInterval(ControlParameter)}.
+ */
 public class FRaceIterationStrategy extends AbstractIterationStrategy<TuningAlgorithm> {
     
     private List<List<OptimisationSolution>> results;
     private ControlParameter minProblems;
     private ControlParameter minSolutions;
+    private ParallelEvaluator evaluator;
+    private ControlParameter checkpointInterval;
     
     public FRaceIterationStrategy() {
         this.minProblems = ConstantControlParameter.of(4.0);
         this.minSolutions = ConstantControlParameter.of(2.0);
         this.results = List.<List<OptimisationSolution>>nil();
+        this.checkpointInterval = ConstantControlParameter.of(1.0);
     }
     
     public FRaceIterationStrategy(FRaceIterationStrategy copy) {
         this.minProblems = copy.minProblems.getClone();
         this.minSolutions = copy.minSolutions.getClone();
         this.results = iterableList(copy.results);
+        this.evaluator = copy.evaluator;
+        this.checkpointInterval = copy.checkpointInterval.getClone();
     }
 
     @Override
@@ -52,61 +75,20 @@ public class FRaceIterationStrategy extends AbstractIterationStrategy<TuningAlgo
 
     @Override
     public void performIteration(final TuningAlgorithm alg) {
-        final List<Vector> parameterList = alg.getParameterList();
         final TuningProblem tuningProblem = (TuningProblem) alg.getOptimisationProblem();
         
         //TODO: deal with maximisation problems
-        results = results.snoc(parameterList.map(new F<Vector,OptimisationSolution>() {
-            @Override
-            public OptimisationSolution f(Vector a) {
-                return new OptimisationSolution(a, alg.evaluate(a));
-            }
-        }));
+        List<OptimisationSolution> current = evaluate(alg, tuningProblem, alg.getParameterList());
+        final List<Vector> parameterList = alg.getParameterList();
+        results = results.snoc(current);
         
         if (results.length() >= minProblems.getParameter() && parameterList.length() > 1) {
-            List<List<Double>> data = results
-                .map(List.<OptimisationSolution,Double>map_().f(getFitness()
-                    .andThen(getValue())
-                    .andThen(negateIfMaximising(tuningProblem.getObjective()))));
-            P2<Double, Double> friedman = StatsTests.friedman(0.05, data);
-
-            if (friedman._1() > friedman._2()) {
-                final List<Integer> indexes = StatsTests.postHoc(0.05, friedman._1(), data);
-                
-                if (indexes.isNotEmpty() && indexes.length() >= minSolutions.getParameter()) {
-                    alg.setParameterList(indexes.map(flip(Utils.<Vector>index()).f(parameterList)));
-
-                    results = results.map(new F<List<OptimisationSolution>,List<OptimisationSolution>>() {
-                        @Override
-                        public List<OptimisationSolution> f(final List<OptimisationSolution> a) {
-                            return indexes.map(flip(Utils.<OptimisationSolution>index()).f(a));
-                        }
-                    });
-                } else if (indexes.isNotEmpty() && indexes.length() < minSolutions.getParameter()) {
-                    final List<List<Double>> ranks = iterableList(data)
-                        .map(Stats.rank.andThen(Utils.<Double,Iterable>iterableList()));
-                    final List<Integer> newIndexes = ranks.foldLeft(Utils.<Double>pairwise(add), replicate(data.head().length(), 0.0))
-                        .zipIndex()
-                        .sort(p2Ord(doubleOrd, intOrd))
-                        .take((int)minSolutions.getParameter())
-                        .map(P2.<Double,Integer>__2());
-                    
-                    alg.setParameterList(newIndexes.map(flip(Utils.<Vector>index()).f(parameterList)));
-                    
-                    results = results.map(new F<List<OptimisationSolution>,List<OptimisationSolution>>() {
-                        @Override
-                        public List<OptimisationSolution> f(final List<OptimisationSolution> a) {
-                            return newIndexes.map(flip(Utils.<OptimisationSolution>index()).f(a));
-                        }
-                    });
-                }   
-            }
+            final List<Integer> indexes = survivors(data(tuningProblem));
+            alg.setParameterList(indexes.map(flip(Utils.<Vector>index()).f(parameterList)));
+            results = results.map(FRaceIterationStrategy.<OptimisationSolution>select(indexes));
         }
         
-        List<List<Double>> data = results
-            .map(List.<OptimisationSolution,Double>map_().f(getFitness()
-                .andThen(getValue())
-                .andThen(negateIfMaximising(tuningProblem.getObjective()))));
+        List<List<Double>> data = data(tuningProblem);
         final List<List<Double>> ranks = iterableList(data)
             .map(Stats.rank.andThen(Utils.<Double,Iterable>iterableList()));
         final List<Integer> indexes = ranks.foldLeft(Utils.<Double>pairwise(add), replicate(data.head().length(), 0.0))
@@ -114,12 +96,171 @@ public class FRaceIterationStrategy extends AbstractIterationStrategy<TuningAlgo
             .sort(p2Ord(doubleOrd, intOrd))
             .map(P2.<Double,Integer>__2());
         alg.setParameterList(indexes.map(flip(Utils.<Vector>index()).f(alg.getParameterList())));
-        results = results.map(new F<List<OptimisationSolution>,List<OptimisationSolution>>() {
+        results = results.map(FRaceIterationStrategy.<OptimisationSolution>select(indexes));
+    }
+
+    /**
+     * The values of the results, with smaller values better.
+     */
+    private List<List<Double>> data(TuningProblem tuningProblem) {
+        return results
+            .map(List.<OptimisationSolution,Double>map_().f(getFitness()
+                .andThen(getValue())
+                .andThen(negateIfMaximising(tuningProblem.getObjective()))));
+    }
+
+    /**
+     * Determine the indexes of the configurations that survive the race,
+     * given their values on every problem so far. If the Friedman test does
+     * not reject the hypothesis that the configurations perform equally, all
+     * the configurations survive.
+     */
+    private List<Integer> survivors(List<List<Double>> data) {
+        P2<Double, Double> friedman = StatsTests.friedman(0.05, data);
+        final int size = data.head().length();
+
+        if (friedman._1() > friedman._2()) {
+            final List<Integer> indexes = StatsTests.postHoc(0.05, friedman._1(), data);
+
+            if (indexes.isNotEmpty() && indexes.length() >= minSolutions.getParameter()) {
+                return indexes;
+            } else if (indexes.isNotEmpty() && indexes.length() < minSolutions.getParameter()) {
+                final List<List<Double>> ranks = iterableList(data)
+                    .map(Stats.rank.andThen(Utils.<Double,Iterable>iterableList()));
+                return ranks.foldLeft(Utils.<Double>pairwise(add), replicate(size, 0.0))
+                    .zipIndex()
+                    .sort(p2Ord(doubleOrd, intOrd))
+                    .take((int)minSolutions.getParameter())
+                    .map(P2.<Double,Integer>__2());
+            }
+        }
+        return range(0, size);
+    }
+
+    private static <A> F<List<A>, List<A>> select(final List<Integer> indexes) {
+        return new F<List<A>, List<A>>() {
             @Override
-            public List<OptimisationSolution> f(final List<OptimisationSolution> a) {
-                return indexes.map(flip(Utils.<OptimisationSolution>index()).f(a));
+            public List<A> f(final List<A> a) {
+                return indexes.map(flip(Utils.<A>index()).f(a));
+            }
+        };
+    }
+
+    /**
+     * Evaluate the configurations on the current problem. If checkpoints are
+     * used, configurations that are eliminated at a checkpoint are removed
+     * from the parameter list of the algorithm and from the results.
+     * @return The results of the remaining configurations.
+     */
+    private List<OptimisationSolution> evaluate(final TuningAlgorithm alg, final TuningProblem problem, List<Vector> parameterList) {
+        final double interval = checkpointInterval.getParameter();
+        if (evaluator == null && interval >= 1.0) {
+            return parameterList.map(new F<Vector,OptimisationSolution>() {
+                @Override
+                public OptimisationSolution f(Vector a) {
+                    return new OptimisationSolution(a, alg.evaluate(a));
+                }
+            });
+        }
+
+        final Vector[] parameters = parameterList.toArray().array(Vector[].class);
+        final int samples = problem.getSamples();
+        // Runs are created when they are first advanced, and released once
+        // they are complete or their configuration is eliminated.
+        final TuningProblem.Run[][] runs = new TuningProblem.Run[parameters.length][samples];
+        final double[][] measurements = new double[parameters.length][samples];
+
+        if (evaluator != null) {
+            problem.prepareConcurrentRuns();
+        }
+
+        // The indexes of the configurations that are still racing.
+        List<Integer> racing = range(0, parameters.length);
+        for (int checkpoint = 1; ; checkpoint++) {
+            double percentageComplete = interval <= 0.0 ? 1.0 : checkpoint * interval;
+            advance(alg, problem, parameters, runs, measurements, racing, percentageComplete);
+            if (percentageComplete >= 1.0) {
+                break;
+            }
+
+            // Rank the configurations with their current measurements as the
+            // values on the current problem.
+            List<List<Double>> data = data(problem).snoc(racing.map(mean(measurements))
+                .map(negateIfMaximising(problem.getObjective())));
+            if (data.length() >= minProblems.getParameter() && racing.length() > 1) {
+                List<Integer> indexes = survivors(data);
+                List<Integer> survivors = indexes.map(flip(Utils.<Integer>index()).f(racing));
+                for (Integer eliminated : racing.minus(Equal.intEqual, survivors)) {
+                    runs[eliminated] = null;
+                }
+                racing = survivors;
+                alg.setParameterList(indexes.map(flip(Utils.<Vector>index()).f(alg.getParameterList())));
+                results = results.map(FRaceIterationStrategy.<OptimisationSolution>select(indexes));
+            }
+        }
+
+        return racing.map(new F<Integer, OptimisationSolution>() {
+            @Override
+            public OptimisationSolution f(Integer a) {
+                return new OptimisationSolution(parameters[a], problem.getFitness(measurements[a]));
+            }
+        });
+    }
+
+    /**
+     * Advance the runs of the racing configurations to the given fraction of
+     * completion, concurrently if an evaluator is set, and record their
+     * measurements.
+     */
+    private void advance(final TuningAlgorithm alg, final TuningProblem problem, final Vector[] parameters,
+            final TuningProblem.Run[][] runs, final double[][] measurements, List<Integer> racing,
+            final double percentageComplete) {
+        final int samples = measurements.length == 0 ? 0 : measurements[0].length;
+        final Effect<Integer> step = new Effect<Integer>() {
+            @Override
+            public void e(Integer task) {
+                int index = task / samples;
+                int sample = task % samples;
+                alg.setCurrentParameters(parameters[index]);
+                TuningProblem.Run run = runs[index][sample];
+                if (run == null) {
+                    run = problem.newRun();
+                    runs[index][sample] = run;
+                }
+                run.advance(percentageComplete);
+                measurements[index][sample] = run.getMeasurement();
+                if (percentageComplete >= 1.0) {
+                    runs[index][sample] = null;
+                }
+            }
+        };
+
+        List<Integer> tasks = racing.bind(new F<Integer, List<Integer>>() {
+            @Override
+            public List<Integer> f(Integer a) {
+                return range(a * samples, (a + 1) * samples);
             }
         });
+        if (evaluator != null) {
+            evaluator.apply(tasks, step);
+        } else {
+            for (Integer task : tasks) {
+                step.e(task);
+            }
+        }
+    }
+
+    private static F<Integer, Double> mean(final double[][] measurements) {
+        return new F<Integer, Double>() {
+            @Override
+            public Double f(Integer a) {
+                double sum = 0.0;
+                for (double measurement : measurements[a]) {
+                    sum += measurement;
+                }
+                return sum / measurements[a].length;
+            }
+        };
     }
     
     public static F<Double, Double> negateIfMaximising(final Objective obj) {
@@ -147,6 +288,38 @@ public class FRaceIterationStrategy extends AbstractIterationStrategy<TuningAlgo
         return minSolutions;
     }
     
+    /**
+     * Set the fraction of the runs of the target algorithm after which the
+     * racing configurations are compared, see
+     * {@link net.sourceforge.cilib.algorithm.AbstractAlgorithm#getPercentageComplete()}.
+     * At every checkpoint the current measurements are used as the values of
+     * the configurations on the current problem, and the configurations that
+     * are eliminated by the Friedman test are not run any further. The
+     * default of {@code 1.0} compares the configurations only after the
+     * runs are complete.
+     * @param checkpointInterval The fraction between checkpoints.
+     */
+    public void setCheckpointInterval(ControlParameter checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public ControlParameter getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public ParallelEvaluator getEvaluator() {
+        return evaluator;
+    }
+
+    /**
+     * Set the {@link ParallelEvaluator} used to evaluate the configurations.
+     * If {@code null}, the configurations are evaluated sequentially.
+     * @param evaluator The evaluator to use.
+     */
+    public void setEvaluator(ParallelEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+    
     public void resetResults() {
         results = List.nil();
     }
@@ -17,7 +17,7 @@ import net.sourceforge.cilib.type.types.container.Vector;
 public class TuningAlgorithm extends AbstractAlgorithm {
 
     private List<Vector> parameterList;
-    private Vector currentParameters;
+    private transient ThreadLocal<Vector> currentParameters;
     private ParameterListProvider parameterProvider;
     private IterationStrategy<TuningAlgorithm> iterationStrategy;
     
@@ -69,11 +69,24 @@ public class TuningAlgorithm extends AbstractAlgorithm {
         return parameterList;
     }
 
+    /**
+     * Set the parameters that are evaluated by the calling thread. The
+     * parameters are kept per thread, so that different parameters may be
+     * evaluated concurrently.
+     * @param currentParameters The parameters.
+     */
     public void setCurrentParameters(Vector currentParameters) {
-        this.currentParameters = currentParameters;
+        getParameterHolder().set(currentParameters);
     }
 
     public Vector getCurrentParameters() {
+        return getParameterHolder().get();
+    }
+
+    private synchronized ThreadLocal<Vector> getParameterHolder() {
+        if (currentParameters == null) {
+            currentParameters = new ThreadLocal<Vector>();
+        }
         return currentParameters;
     }
 
@@ -94,7 +107,7 @@ public class TuningAlgorithm extends AbstractAlgorithm {
     }
 
     public Fitness evaluate(Vector a) {
-        this.currentParameters = a;
+        setCurrentParameters(a);
         return optimisationProblem.getFitness(a);
     }
 }
@@ -15,6 +15,7 @@ import net.sourceforge.cilib.measurement.Measurement;
 import net.sourceforge.cilib.problem.*;
 import net.sourceforge.cilib.problem.objective.Objective;
 import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.stoppingcondition.StoppingCondition;
 import net.sourceforge.cilib.tuning.problem.ProblemGenerator;
 import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.Type;
@@ -40,6 +41,8 @@ public class TuningProblem extends AbstractProblem {
         this.targetAlgorithm = copy.targetAlgorithm.getClone();
         this.problemsProvider = copy.problemsProvider;
         this.measuringListener = copy.measuringListener.getClone();
+        this.targetAlgorithm.removeAlgorithmListener(copy.measuringListener);
+        this.targetAlgorithm.addAlgorithmListener(this.measuringListener);
     }
 
     @Override
@@ -63,6 +66,118 @@ public class TuningProblem extends AbstractProblem {
         return objective.evaluate(f);
     }
 
+    /**
+     * Run the target algorithm once on the current problem and measure the
+     * result. Unlike {@link #getFitness(Type)}, the run is performed by a
+     * clone of the target algorithm with its own measuring listener, on its
+     * own clone of the current problem, so that runs may be performed
+     * concurrently. Each run counts its own fitness evaluations, so stopping
+     * conditions based on them do not depend on other runs.
+     * @return The measurement at the end of the run.
+     */
+    public double runSample() {
+        Run run = newRun();
+        run.advance(1.0);
+        return run.getMeasurement();
+    }
+
+    /**
+     * Create a run of the target algorithm on the current problem, which is
+     * performed in steps, see {@link Run#advance(double)}.
+     * @return The run.
+     */
+    public Run newRun() {
+        return new Run();
+    }
+
+    /**
+     * Evaluate a clone of the current problem once on the calling thread.
+     * The clones of a problem may share state that is initialised lazily on
+     * the first evaluation, e.g. the random shift of a
+     * {@link net.sourceforge.cilib.controlparameter.FixedControlParameter}
+     * in a shared function, which must be determined before concurrent runs
+     * use it. The evaluation is not counted by the current problem or by any
+     * of the runs.
+     */
+    public void prepareConcurrentRuns() {
+        Problem problem = newRunProblem();
+        problem.getFitness(problem.getDomain().getBuiltRepresentation().getClone());
+    }
+
+    private Problem newRunProblem() {
+        Problem problem = currentProblem.getClone();
+        if (problem instanceof AbstractProblem) {
+            ((AbstractProblem) problem).detachFitnessEvaluations();
+        }
+        return problem;
+    }
+
+    /**
+     * Determine the fitness of a configuration from the measurements of its
+     * runs, see {@link #runSample()}. This counts as a fitness evaluation.
+     * @param measurements The measurements of the runs.
+     * @return The fitness of the mean measurement.
+     */
+    public Fitness getFitness(double[] measurements) {
+        fitnessEvaluations.incrementAndGet();
+        double f = 0.0;
+        for (double m : measurements) {
+            f += m;
+        }
+        return objective.evaluate(f / measurements.length);
+    }
+
+    /**
+     * A run of a clone of the target algorithm on a clone of the current
+     * problem, with its own measuring listener. The run may be advanced in steps, so that
+     * the measurement can be inspected before the run is complete.
+     */
+    public class Run {
+        private final AbstractAlgorithm algorithm;
+        private final MeasuringListener listener;
+        private boolean initialised;
+
+        private Run() {
+            this.algorithm = targetAlgorithm.getClone();
+            this.listener = measuringListener.getClone();
+            this.listener.setMeasurement(measurement.getClone());
+            this.algorithm.removeAlgorithmListener(measuringListener);
+            this.algorithm.addAlgorithmListener(listener);
+            this.algorithm.setOptimisationProblem(newRunProblem());
+
+            // The stopping conditions keep track of the progress of the run.
+            for (StoppingCondition condition : algorithm.getStoppingConditions()) {
+                this.algorithm.removeStoppingCondition(condition);
+                this.algorithm.addStoppingCondition(condition.getClone());
+            }
+        }
+
+        /**
+         * Continue the run until the given fraction of the target algorithm
+         * is complete. A fraction of {@code 1.0} or more completes the run.
+         * @param percentageComplete The fraction to complete.
+         */
+        public void advance(double percentageComplete) {
+            if (!initialised) {
+                algorithm.performInitialisation();
+                initialised = true;
+            }
+
+            if (percentageComplete >= 1.0) {
+                algorithm.runAlgorithm();
+            } else {
+                algorithm.runAlgorithm(percentageComplete);
+            }
+        }
+
+        /**
+         * @return The most recent measurement of the run.
+         */
+        public double getMeasurement() {
+            return ((Real) listener.getLastMeasurement()).doubleValue();
+        }
+    }
+
     public void nextProblem() {
         currentProblem = problemsProvider._1();
     }
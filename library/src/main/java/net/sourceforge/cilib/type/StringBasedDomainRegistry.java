@@ -32,7 +32,7 @@ public class StringBasedDomainRegistry implements DomainRegistry {
      */
     public StringBasedDomainRegistry(StringBasedDomainRegistry copy) {
         this.domainString = copy.domainString;
-        if (this.builtRepresenation != null)
+        if (copy.builtRepresenation != null)
             this.builtRepresenation = copy.builtRepresenation.getClone();
     }
 
@@ -6,13 +6,20 @@
  */
 package net.sourceforge.cilib.type.types;
 
+import java.io.Serializable;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Simple {@code Blackboard} implementation.
+ * <p>
+ * A {@code Blackboard} may be created with a {@link KeyIndex}, which assigns
+ * fixed slots to a set of well-known keys. The values of these keys are
+ * stored in an array, so that lookups do not require hashing and copies
+ * are flat array copies. All other keys are stored in a map, which is only
+ * created once such a key is used.
  *
  * @param <K> The key type.
  * @param <V> The value type.
@@ -20,26 +27,80 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class Blackboard<K, V extends Type> implements Type {
 
     private static final long serialVersionUID = -2589625146223946484L;
-    private final Map<K, V> board;
+    private static final Object[] NO_SLOTS = new Object[0];
+
+    private final KeyIndex<K> index;
+    private final Object[] slots;
+    private Map<K, V> board;
+
+    /**
+     * Assignment of array slots to a fixed set of keys.
+     *
+     * @param <K> The key type.
+     */
+    public interface KeyIndex<K> extends Serializable {
+
+        /**
+         * Get the number of slots.
+         * @return The number of slots.
+         */
+        int size();
+
+        /**
+         * Get the slot of the provided key.
+         * @param key The key to obtain the slot for.
+         * @return The slot of the key, or {@code -1} if the key does not
+         *         have a slot.
+         */
+        int indexOf(Object key);
+
+        /**
+         * Get the key that is assigned to the provided slot.
+         * @param index The slot.
+         * @return The key of the slot.
+         */
+        K keyAt(int index);
+    }
 
     /**
      * Create a new empty {@code Blackboard} container.
      */
     public Blackboard() {
+        this.index = null;
+        this.slots = NO_SLOTS;
         this.board = new HashMap<K, V>();
     }
 
+    /**
+     * Create a new empty {@code Blackboard} container that stores the keys
+     * of the provided {@code KeyIndex} in array slots.
+     * @param index The slot assignment for the well-known keys.
+     */
+    public Blackboard(KeyIndex<K> index) {
+        this.index = index;
+        this.slots = new Object[index.size()];
+    }
+
     /**
      * Copy constructor. Create a copy of the provided instance.
      * @param copy The instance to copy.
      */
     public Blackboard(Blackboard<K, V> copy) {
-        this.board = new ConcurrentHashMap<K, V>();
-        for (Map.Entry<K, V> entry : copy.board.entrySet()) {
-            K key = entry.getKey();
-            @SuppressWarnings({"unchecked"})
-            V value = (V) entry.getValue().getClone();
-            this.board.put(key, value);
+        this.index = copy.index;
+        this.slots = (copy.slots.length == 0) ? NO_SLOTS : new Object[copy.slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            Object value = copy.slots[i];
+            this.slots[i] = (value == null) ? null : ((Type) value).getClone();
+        }
+
+        if (copy.board != null) {
+            this.board = new HashMap<K, V>();
+            for (Map.Entry<K, V> entry : copy.board.entrySet()) {
+                K key = entry.getKey();
+                @SuppressWarnings({"unchecked"})
+                V value = (V) entry.getValue().getClone();
+                this.board.put(key, value);
+            }
         }
     }
 
@@ -65,7 +126,7 @@ public final class Blackboard<K, V extends Type> implements Type {
         }
 
         Blackboard<?, ?> other = (Blackboard<?, ?>) obj;
-        return this.board.equals(other.board);
+        return this.asMap().equals(other.asMap());
     }
 
     /**
@@ -74,7 +135,7 @@ public final class Blackboard<K, V extends Type> implements Type {
     @Override
     public int hashCode() {
         int hash = 7;
-        hash = 31 * hash + (this.board == null ? 0 : this.board.hashCode());
+        hash = 31 * hash + this.asMap().hashCode();
         return hash;
     }
 
@@ -83,7 +144,7 @@ public final class Blackboard<K, V extends Type> implements Type {
      */
     @Override
     public String toString() {
-        return this.board.toString();
+        return this.asMap().toString();
     }
 
     /**
@@ -93,6 +154,17 @@ public final class Blackboard<K, V extends Type> implements Type {
      * @return The provided value.
      */
     public V put(K key, V value) {
+        int slot = (index == null) ? -1 : index.indexOf(key);
+        if (slot >= 0) {
+            @SuppressWarnings({"unchecked"})
+            V previous = (V) slots[slot];
+            slots[slot] = value;
+            return previous;
+        }
+
+        if (board == null) {
+            board = new HashMap<K, V>();
+        }
         return this.board.put(key, value);
     }
 
@@ -101,8 +173,13 @@ public final class Blackboard<K, V extends Type> implements Type {
      * @param key The key to obtained the value of.
      * @return The associated value to the key.
      */
+    @SuppressWarnings({"unchecked"})
     public V get(K key) {
-        return this.board.get(key);
+        int slot = (index == null) ? -1 : index.indexOf(key);
+        if (slot >= 0) {
+            return (V) slots[slot];
+        }
+        return (board == null) ? null : this.board.get(key);
     }
 
     /**
@@ -110,6 +187,27 @@ public final class Blackboard<K, V extends Type> implements Type {
      * @return The set of values.
      */
     public Set<Map.Entry<K, V>> entrySet() {
-        return this.board.entrySet();
+        return (index == null) ? this.board.entrySet() : asMap().entrySet();
+    }
+
+    /**
+     * Obtain all key / value pairs, with the slotted keys first.
+     */
+    @SuppressWarnings({"unchecked"})
+    private Map<K, V> asMap() {
+        if (index == null) {
+            return board;
+        }
+
+        Map<K, V> map = new LinkedHashMap<K, V>();
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                map.put(index.keyAt(i), (V) slots[i]);
+            }
+        }
+        if (board != null) {
+            map.putAll(board);
+        }
+        return map;
     }
 }
@@ -7,11 +7,13 @@
 package net.sourceforge.cilib.type.types;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import java.io.Serializable;
 
 /**
  *
  */
-public final class Bounds {
+public final class Bounds implements Serializable {
+    private static final long serialVersionUID = -3361536624385016327L;
     private final double lowerBound;
     private final double upperBound;
 
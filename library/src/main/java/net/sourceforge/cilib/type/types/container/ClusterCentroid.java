@@ -6,11 +6,13 @@
  */
 package net.sourceforge.cilib.type.types.container;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.UnmodifiableIterator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import net.sourceforge.cilib.util.Visitor;
 import net.sourceforge.cilib.type.types.Numeric;
 import net.sourceforge.cilib.type.types.Real;
@@ -412,6 +414,23 @@ public class ClusterCentroid implements StructuredType<Numeric>{
         return builder.build();
     }
 
+    /*
+     * Adds data-items to the list of data items assigned to the ClusterCentroid, with the
+     * same result as adding them one at a time with addDataItem
+     * @param distances The distances between the ClusterCentroid and the data-items
+     * @param items The data-items to be added to the ClusterCentroid's collection of data-items
+     * @return true if all commands have executed
+     */
+    public boolean addDataItems(double[] distances, List<Vector> items) {
+        Preconditions.checkArgument(distances.length == items.size(), "Every data-item needs a distance");
+        double[] array = new double[dataItemDistances.length + distances.length];
+        System.arraycopy(dataItemDistances, 0, array, 0, dataItemDistances.length);
+        System.arraycopy(distances, 0, array, dataItemDistances.length, distances.length);
+        dataItemDistances = array;
+        dataItems.addAll(items);
+        return true;
+    }
+
     /*
      * Removes all elements from the list of data-items assigned to the ClusterCentroid
      */
@@ -13,7 +13,6 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.UnmodifiableIterator;
 import fj.F;
 import fj.F2;
-import fj.P;
 import fj.P1;
 import java.util.*;
 import net.sourceforge.cilib.util.Visitor;
@@ -38,6 +37,21 @@ import net.sourceforge.cilib.type.types.container.Vector;
  * accept an instance of {@code Vector} and maintain all the modifications
  * internally, without modifying the current instance.
  *
+ * <p>A {@code Vector} that consists only of {@link Real} elements is stored
+ * densely, as a primitive {@code double[]} together with a {@link Bounds}
+ * descriptor that is shared between all copies of the {@code Vector}.
+ * Arithmetic, copies and the {@code xxxValueOf(int)} accessors operate
+ * directly on the primitive values, and operations that only read the
+ * elements (e.g. {@link #toArray()} or {@link #toString()}) use detached
+ * {@link Real} instances. The boxed {@code Numeric} elements are only created
+ * once the element instances themselves are handed out, so that they can be
+ * modified in place (i.e. {@link #get(int)}, {@link #iterator()} and
+ * {@link #accept(Visitor)}), or once a non-{@code Real} element is stored,
+ * after which the {@code Vector} retains the boxed representation. The
+ * change-over is published safely, so that threads that only read a shared
+ * {@code Vector} always observe one of the two representations in full.
+ * Modifying a shared {@code Vector} still requires external synchronisation.
+ *
  * <p>{@code Vector} additionally implements a functional interface.
  *
  * <p><strong>Note: Many methods have been deprecated from previous versions
@@ -54,7 +68,10 @@ public class Vector implements StructuredType<Numeric>,
         VectorMath, RandomAccess {
 
     private static final long serialVersionUID = -4853190809813810272L;
-    private Numeric[] components;
+    private static final Bounds DEFAULT_BOUNDS = new Bounds(-Double.MAX_VALUE, Double.MAX_VALUE);
+
+    private Numeric[] components;   // boxed representation, null while dense
+    private volatile Dense dense;   // dense representation, null once boxed
 
     /**
      * Returns an empty {@code Vector}.
@@ -81,12 +98,12 @@ public class Vector implements StructuredType<Numeric>,
      * @return A new {@code Vector} instance.
      */
     public static Vector of(Number... numbers) {
-        Numeric[] elements = new Numeric[numbers.length];
+        double[] elements = new double[numbers.length];
         int index = 0;
         for (Number number : numbers) {
-            elements[index++] = Real.valueOf(number.doubleValue());
+            elements[index++] = number.doubleValue();
         }
-        return new Vector(elements);
+        return new Vector(elements, defaultDomain(elements.length));
     }
 
     /**
@@ -101,7 +118,7 @@ public class Vector implements StructuredType<Numeric>,
         for (Numeric numeric : numerics) {
             elements[index++] = numeric.getClone();
         }
-        return new Vector(elements);
+        return fromNumerics(elements);
     }
 
     /**
@@ -129,10 +146,31 @@ public class Vector implements StructuredType<Numeric>,
      *         {@code Vector}.
      */
     public static Vector copyOf(Vector input) {
+        Dense d = input.dense;
+        if (d != null) {
+            return new Vector(d.values.clone(), d.domain);
+        }
         return newBuilder().copyOf(input).build(); // this is a little weird :(
     }
 
+    /**
+     * Create a {@code Vector} containing a copy of the given values, with
+     * unbounded elements.
+     * @param values The values of the elements.
+     * @return a new {@code Vector} instance.
+     */
+    public static Vector copyOf(double[] values) {
+        return new Vector(values.clone(), defaultDomain(values.length));
+    }
+
     public static Vector fill(Numeric n, int size) {
+        if (n instanceof Real) {
+            double[] a = new double[size];
+            Arrays.fill(a, n.doubleValue());
+            Bounds[] d = new Bounds[size];
+            Arrays.fill(d, n.getBounds());
+            return new Vector(a, d);
+        }
     	Numeric[] a = new Numeric[size];
     	for (int i = 0; i < size; i++) {
     		a[i] = n.getClone();
@@ -141,27 +179,151 @@ public class Vector implements StructuredType<Numeric>,
     }
 
     public static Vector fill(Number n, int size) {
-    	Numeric[] a = new Numeric[size];
-    	for (int i = 0; i < size; i++) {
-    		a[i] = Real.valueOf(n.doubleValue());
-    	}
-    	return new Vector(a);
+    	double[] a = new double[size];
+    	Arrays.fill(a, n.doubleValue());
+    	return new Vector(a, defaultDomain(size));
     }
 
     private static Vector copyOfInternal(Collection<? extends Number> collection) {
         int size = collection.size();
-        Numeric[] array = new Numeric[size];
+        double[] array = new double[size];
         int index = 0;
         for (Number n : collection) {
-            array[index++] = Real.valueOf(checkNotNull(n).doubleValue());
+            array[index++] = checkNotNull(n).doubleValue();
+        }
+        return new Vector(array, defaultDomain(size));
+    }
+
+    /**
+     * Create a {@code Vector} from the given elements, using the dense
+     * representation if all elements are {@link Real} instances.
+     */
+    private static Vector fromNumerics(Numeric[] elements) {
+        if (elements.length == 0) {
+            return new Vector(elements);
+        }
+
+        for (Numeric n : elements) {
+            if (n == null || n.getClass() != Real.class) {
+                return new Vector(elements);
+            }
+        }
+
+        double[] v = new double[elements.length];
+        Bounds[] d = new Bounds[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            v[i] = elements[i].doubleValue();
+            d[i] = elements[i].getBounds();
         }
-        return new Vector(array);
+        return new Vector(v, d);
+    }
+
+    private static Bounds[] defaultDomain(int size) {
+        Bounds[] d = new Bounds[size];
+        Arrays.fill(d, DEFAULT_BOUNDS);
+        return d;
     }
 
     private Vector(Numeric[] elements) {
         this.components = elements;
     }
 
+    private Vector(double[] values, Bounds[] domain) {
+        this.dense = new Dense(values, domain);
+    }
+
+    /**
+     * The dense representation: the values of the elements, and the bounds
+     * descriptor that is shared between copies.
+     */
+    private static final class Dense implements java.io.Serializable {
+        private static final long serialVersionUID = 3482735402374098546L;
+        private final double[] values;
+        private final Bounds[] domain;
+
+        Dense(double[] values, Bounds[] domain) {
+            this.values = values;
+            this.domain = domain;
+        }
+    }
+
+    /**
+     * Obtain the boxed elements of the {@code Vector}. A dense {@code Vector}
+     * is converted to the boxed representation, so that the returned
+     * instances are the actual elements of this {@code Vector}. The boxed
+     * elements are assigned before the dense representation is released, so
+     * that a concurrent reader sees either representation in full, and the
+     * conversion happens only once.
+     */
+    private Numeric[] numerics() {
+        if (dense != null) {
+            synchronized (this) {
+                Dense d = dense;
+                if (d != null) {
+                    Numeric[] array = new Numeric[d.values.length];
+                    for (int i = 0; i < array.length; i++) {
+                        array[i] = Real.valueOf(d.values[i], d.domain[i]);
+                    }
+                    components = array;
+                    dense = null;
+                }
+            }
+        }
+        return components;
+    }
+
+    /**
+     * Obtain the element at {@code index} without changing the representation.
+     * For a dense {@code Vector} a detached {@code Real} is returned.
+     */
+    private Numeric element(int index) {
+        Dense d = dense;
+        return (d != null) ? Real.valueOf(d.values[index], d.domain[index]) : components[index];
+    }
+
+    /**
+     * Obtain the bounds of all the elements, sharing the descriptor if dense.
+     */
+    private Bounds[] domain() {
+        Dense d = dense;
+        if (d != null) {
+            return d.domain;
+        }
+        Bounds[] bounds = new Bounds[components.length];
+        for (int i = 0; i < components.length; i++) {
+            bounds[i] = components[i].getBounds();
+        }
+        return bounds;
+    }
+
+    /**
+     * Obtain the values of the elements for reading only: the values of a
+     * dense {@code Vector} itself, or a copy of the boxed values.
+     */
+    private double[] doubles() {
+        Dense d = dense;
+        if (d != null) {
+            return d.values;
+        }
+        double[] array = new double[components.length];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = components[i].doubleValue();
+        }
+        return array;
+    }
+
+    /**
+     * Obtain detached copies of the elements of a dense {@code Vector},
+     * without changing the representation.
+     */
+    private Numeric[] elements() {
+        Numeric[] array = new Numeric[size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = element(i);
+        }
+        return array;
+    }
+
     /**
      * {@inheritDoc}
      * @deprecated Use {@link Vector#copyOf(java.lang.Iterable)} instead.
@@ -189,7 +351,32 @@ public class Vector implements StructuredType<Numeric>,
         }
 
         Vector otherList = (Vector) obj;
-        return Arrays.deepEquals(components, otherList.components);
+        Dense d = dense;
+        Dense other = otherList.dense;
+        if (d == null && other == null) {
+            return Arrays.deepEquals(components, otherList.components);
+        }
+
+        if (size() != otherList.size()) {
+            return false;
+        }
+
+        if (d != null && other != null) {
+            for (int i = 0; i < d.values.length; i++) {
+                if (Double.compare(d.values[i], other.values[i]) != 0
+                        || !d.domain[i].equals(other.domain[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        for (int i = 0, n = size(); i < n; i++) {
+            if (!element(i).equals(otherList.element(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -199,17 +386,28 @@ public class Vector implements StructuredType<Numeric>,
     @Override
     public int hashCode() {
         int hash = 7;
+        Dense d = dense;
+        if (d != null) {
+            int elements = 1;
+            for (int i = 0; i < d.values.length; i++) {
+                elements = 31 * elements + Real.valueOf(d.values[i], d.domain[i]).hashCode();
+            }
+            return 31 * hash + elements;
+        }
         hash = 31 * hash + (this.components == null ? 0 : Arrays.hashCode(components));
         return hash;
     }
 
     /**
-     * Get the {@code Numeric} at the provided {@code index}.
+     * Get the {@code Numeric} at the provided {@code index}. The returned
+     * instance is the element itself, so a dense {@code Vector} is converted
+     * to the boxed representation; use {@link #doubleValueOf(int)} to only
+     * read the value.
      * @param index The index of the {@code Numeric} in the {@code Vector}.
      * @return The {@code Numeric} at index {@code index}.
      */
     public Numeric get(int index) {
-        return components[index];
+        return numerics()[index];
     }
 
     /**
@@ -220,7 +418,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public void set(int index, Numeric value) {
-        this.components[index] = value;
+        numerics()[index] = value;
     }
 
     /**
@@ -229,10 +427,9 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public Object[] toArray() {
-        Object[] copy = new Object[components.length];
-        int index = 0;
-        for (Numeric n : components) {
-            copy[index++] = n.getClone();
+        Object[] copy = new Object[size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = element(i).getClone();
         }
         return copy;
     }
@@ -244,6 +441,10 @@ public class Vector implements StructuredType<Numeric>,
      * @return A {@code Vector} which is a subset of the current {@code Vector}.
      */
     public Vector copyOfRange(final int fromIndex, final int toIndex) {
+        Dense d = dense;
+        if (d != null) {
+            return new Vector(Arrays.copyOfRange(d.values, fromIndex, toIndex), Arrays.copyOfRange(d.domain, fromIndex, toIndex));
+        }
         return new Vector(Arrays.copyOfRange(components, fromIndex, toIndex));
     }
 
@@ -256,10 +457,11 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean add(Numeric element) {
+        Numeric[] components = numerics();
         Numeric[] array = new Numeric[components.length + 1];
         System.arraycopy(components, 0, array, 0, components.length);
         array[array.length - 1] = element;
-        components = array;
+        this.components = array;
         return true;
     }
 
@@ -274,6 +476,7 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean addAll(Collection<? extends Numeric> c) {
+        Numeric[] components = numerics();
         int size = components.length + c.size();
         Numeric[] array = new Numeric[size];
         System.arraycopy(components, 0, array, 0, components.length);
@@ -294,11 +497,12 @@ public class Vector implements StructuredType<Numeric>,
      * @deprecated Use the {@code Vector.Builder} instead.
      */
     public boolean insert(int index, Numeric element) {
+        Numeric[] components = numerics();
         Numeric[] array = new Numeric[components.length + 1];
         System.arraycopy(components, 0, array, 0, index);
         array[index] = element;
 		System.arraycopy(components, index, array, index+1, components.length-index);
-        components = array;
+        this.components = array;
         return true;
     }
 
@@ -311,6 +515,7 @@ public class Vector implements StructuredType<Numeric>,
     @Override
     public void clear() {
         this.components = new Numeric[]{};
+        this.dense = null;
     }
 
     /**
@@ -323,8 +528,8 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public boolean contains(Object o) {
-        for (int i = 0; i < components.length; i++) {
-            if (o.equals(components[i])) {
+        for (int i = 0, n = size(); i < n; i++) {
+            if (o.equals(element(i))) {
                 return true;
             }
         }
@@ -337,6 +542,10 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public boolean isEmpty() {
+        Dense d = dense;
+        if (d != null) {
+            return d.values.length == 0;
+        }
         for (int i = 0; i < components.length; i++) {
             if (components[i] != null) {
                 return false;
@@ -347,11 +556,14 @@ public class Vector implements StructuredType<Numeric>,
 
     /**
      * Obtain an unmodifiable iterator to traverse the {@code Vector} iteratively.
+     * The iterator returns the elements themselves, so a dense {@code Vector}
+     * is converted to the boxed representation.
      * @return An {@code Iterator} of {@code Numeric}s.
      * @throws UnsupportedOperationException if {@code remove()} is called.
      */
     @Override
     public Iterator<Numeric> iterator() {
+        final Numeric[] components = numerics();
         return new UnmodifiableIterator<Numeric>() {
 
             private int index = 0;
@@ -378,6 +590,7 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public boolean remove(Object o) {
+        Numeric[] components = numerics();
         for (int i = 0; i < components.length; i++) {
             if (components[i].equals(o)) {
                 return remove(i);
@@ -387,6 +600,7 @@ public class Vector implements StructuredType<Numeric>,
     }
 
     private boolean remove(final int index) {
+        Numeric[] components = numerics();
         Numeric[] array = new Numeric[components.length - 1];
         int count = 0;
         for (int i = 0; i < index; i++) {
@@ -395,7 +609,7 @@ public class Vector implements StructuredType<Numeric>,
         for (int i = index + 1; i < components.length; i++) {
             array[count++] = components[i];
         }
-        components = array;
+        this.components = array;
         return true;
     }
 
@@ -419,16 +633,19 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public int size() {
-        return this.components.length;
+        Dense d = dense;
+        return (d != null) ? d.values.length : components.length;
     }
 
     /**
      * Apply the {@code visitor} to all elements contained in this {@code Vector}.
+     * The elements themselves are visited, so a dense {@code Vector} is
+     * converted to the boxed representation.
      * @param visitor The {@code Visitor} to apply.
      */
     @Override
     public void accept(Visitor<Numeric> visitor) {
-        for (Numeric numeric : this.components) {
+        for (Numeric numeric : numerics()) {
             if (!visitor.isDone()) {
                 visitor.visit(numeric);
             }
@@ -440,14 +657,16 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector plus(Vector vector) {
-        if (this.components.length != vector.size()) {
+        if (this.size() != vector.size()) {
             throw new UnsupportedOperationException("Cannot add vectors with differing dimensions");
         }
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = Real.valueOf(components[i].doubleValue() + vector.components[i].doubleValue(), components[i].getBounds());
+        double[] a = doubles();
+        double[] b = vector.doubles();
+        double[] result = new double[a.length];
+        for (int i = 0, n = result.length; i < n; i++) {
+            result[i] = a[i] + b[i];
         }
-        return new Vector(result);
+        return new Vector(result, domain());
     }
 
     /**
@@ -455,14 +674,16 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector subtract(Vector vector) {
-        if (this.components.length != vector.size()) {
+        if (this.size() != vector.size()) {
             throw new UnsupportedOperationException("Cannot subtract vectors with differing dimensions");
         }
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = Real.valueOf(components[i].doubleValue() - vector.components[i].doubleValue(), components[i].getBounds());
+        double[] a = doubles();
+        double[] b = vector.doubles();
+        double[] result = new double[a.length];
+        for (int i = 0, n = result.length; i < n; i++) {
+            result[i] = a[i] - b[i];
         }
-        return new Vector(result);
+        return new Vector(result, domain());
     }
 
     /**
@@ -481,15 +702,21 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final Vector multiply(double scalar) {
-        return multiply(P.<Number>p(scalar));
+        double[] a = doubles();
+        double[] result = new double[a.length];
+        for (int i = 0, n = result.length; i < n; i++) {
+            result[i] = a[i] * scalar;
+        }
+        return new Vector(result, domain());
     }
 
     public final Vector multiply(P1<Number> supplier) {
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = Real.valueOf(components[i].doubleValue() * supplier._1().doubleValue(), components[i].getBounds());
+        double[] a = doubles();
+        double[] result = new double[a.length];
+        for (int i = 0, n = result.length; i < n; i++) {
+            result[i] = a[i] * supplier._1().doubleValue();
         }
-        return new Vector(result);
+        return new Vector(result, domain());
     }
 
     /**
@@ -512,12 +739,13 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public final double norm() {
-        return Math.sqrt(foldLeft(0, new F<Numeric, Double>() {
-            @Override
-            public Double f(Numeric x) {
-                return x.doubleValue() * x.doubleValue();
-            }
-        }));
+        double[] a = doubles();
+        double sum = 0.0;
+        for (int i = 0, n = a.length; i < n; i++) {
+            double x = a[i];
+            sum += x * x;
+        }
+        return Math.sqrt(sum);
     }
 
     /**
@@ -552,9 +780,11 @@ public class Vector implements StructuredType<Numeric>,
             throw new ArithmeticException("Cannot perform the dot product on vectors with differing dimensions");
         }
 
+        double[] a = doubles();
+        double[] b = vector.doubles();
         double result = 0.0;
-        for (int i = 0, n = components.length; i < n; i++) {
-            result += this.doubleValueOf(i) * vector.doubleValueOf(i);
+        for (int i = 0, n = a.length; i < n; i++) {
+            result += a[i] * b[i];
         }
         return result;
     }
@@ -572,11 +802,11 @@ public class Vector implements StructuredType<Numeric>,
             throw new ArithmeticException("Cannot determine the cross product on non 3-dimensional vectors.");
         }
 
-        Numeric[] n = new Numeric[components.length];
-        n[0] = Real.valueOf(this.doubleValueOf(1) * vector.doubleValueOf(2) - this.doubleValueOf(2) * vector.doubleValueOf(1));
-        n[1] = Real.valueOf(-(vector.doubleValueOf(2) * this.doubleValueOf(0) - vector.doubleValueOf(0) * this.doubleValueOf(2)));
-        n[2] = Real.valueOf(this.doubleValueOf(0) * vector.doubleValueOf(1) - this.doubleValueOf(1) * vector.doubleValueOf(0));
-        return new Vector(n);
+        double[] n = new double[3];
+        n[0] = this.doubleValueOf(1) * vector.doubleValueOf(2) - this.doubleValueOf(2) * vector.doubleValueOf(1);
+        n[1] = -(vector.doubleValueOf(2) * this.doubleValueOf(0) - vector.doubleValueOf(0) * this.doubleValueOf(2));
+        n[2] = this.doubleValueOf(0) * vector.doubleValueOf(1) - this.doubleValueOf(1) * vector.doubleValueOf(0);
+        return new Vector(n, defaultDomain(3));
     }
 
     /**
@@ -585,8 +815,8 @@ public class Vector implements StructuredType<Numeric>,
      * @return True if the vector is a zero vector, false otherwise
      */
     public boolean isZero() {
-        for (Numeric n : this) {
-            if (Double.compare(n.doubleValue(), 0.0) != 0) {
+        for (int i = 0, n = size(); i < n; i++) {
+            if (Double.compare(doubleValueOf(i), 0.0) != 0) {
                 return false;
             }
         }
@@ -600,7 +830,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return The greatest element in the {@code Vector}.
      */
     public Numeric max() {
-        if (this.components.length == 0) {
+        if (size() == 0) {
             throw new UnsupportedOperationException("Cannot obtain the maximum element of an empty vector.");
         }
 
@@ -620,7 +850,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return The smallest element in the {@code Vector}.
      */
     public Numeric min() {
-        if (this.components.length == 0) {
+        if (size() == 0) {
             throw new UnsupportedOperationException("Cannot obtain the minimum element of an empty vector.");
         }
 
@@ -667,6 +897,13 @@ public class Vector implements StructuredType<Numeric>,
     @Deprecated
     @Override
     public void randomise() {
+        Dense d = dense;
+        if (d != null) {
+            for (int i = 0; i < d.values.length; i++) {
+                d.values[i] = Rand.nextDouble() * (d.domain[i].getUpperBound() - d.domain[i].getLowerBound()) + d.domain[i].getLowerBound();
+            }
+            return;
+        }
         for (int i = 0; i < components.length; i++) {
             this.components[i].randomise();
         }
@@ -694,6 +931,11 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setReal(int index, double value) {
+        Dense d = dense;
+        if (d != null) {
+            d.values[index] = value;
+            return;
+        }
         this.components[index] = Real.valueOf(value, components[index].getBounds());
     }
 
@@ -705,7 +947,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public double getReal(int index) {
-        return this.components[index].doubleValue();
+        return doubleValueOf(index);
     }
 
     /**
@@ -714,7 +956,8 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setInt(int index, int value) {
-        this.components[index] = Int.valueOf(value, components[index].getBounds());
+        Numeric[] components = numerics();
+        components[index] = Int.valueOf(value, components[index].getBounds());
     }
 
     /**
@@ -725,7 +968,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public int getInt(int index) {
-        return this.components[index].intValue();
+        return intValueOf(index);
     }
 
     /**
@@ -734,7 +977,7 @@ public class Vector implements StructuredType<Numeric>,
      * @param value The value to be set.
      */
     public void setBit(int index, boolean value) {
-        this.components[index] = Bit.valueOf(value);
+        numerics()[index] = Bit.valueOf(value);
     }
 
     /**
@@ -745,7 +988,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Deprecated
     public boolean getBit(int index) {
-        return this.components[index].booleanValue();
+        return booleanValueOf(index);
     }
 
     /**
@@ -754,7 +997,8 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code double} value of index within {@code Vector}.
      */
     public double doubleValueOf(int index) {
-        return this.components[index].doubleValue();
+        Dense d = dense;
+        return (d != null) ? d.values[index] : this.components[index].doubleValue();
     }
 
     /**
@@ -763,7 +1007,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code integer} value of index within {@code Vector}.
      */
     public int intValueOf(int index) {
-        return this.components[index].intValue();
+        return element(index).intValue();
     }
 
     /**
@@ -772,7 +1016,7 @@ public class Vector implements StructuredType<Numeric>,
      * @return {@code boolean} value of index within {@code Vector}.
      */
     public boolean booleanValueOf(int index) {
-        return components[index].booleanValue();
+        return element(index).booleanValue();
     }
 
     /**
@@ -799,6 +1043,7 @@ public class Vector implements StructuredType<Numeric>,
      */
     @Override
     public <T> T[] toArray(T[] a) {
+        Numeric[] components = (dense != null) ? elements() : this.components;
         if (a.length < components.length) {
             // Make a new array of a's runtime type, but my contents:
             return (T[]) Arrays.copyOf(components, components.length, a.getClass());
@@ -851,7 +1096,8 @@ public class Vector implements StructuredType<Numeric>,
      *         index {@code index}.
      */
     public Bounds boundsOf(int index) {
-        return components[index].getBounds();
+        Dense d = dense;
+        return (d != null) ? d.domain[index] : components[index].getBounds();
     }
 
     /**
@@ -869,10 +1115,10 @@ public class Vector implements StructuredType<Numeric>,
         builder.append("[");
         int index = 0;
         if (size() >= 1) {
-            builder.append(components[index++]);
+            builder.append(element(index++));
         }
-        for (int i = index; i < components.length; i++) {
-            builder.append(",").append(components[index++]);
+        for (int i = index, n = size(); i < n; i++) {
+            builder.append(",").append(element(index++));
         }
         builder.append("]");
         return builder.toString();
@@ -886,11 +1132,11 @@ public class Vector implements StructuredType<Numeric>,
      * @return A new {@code Vector} containing the transformed elements.
      */
     public Vector map(F<Numeric, Numeric> function) {
-        Numeric[] result = new Numeric[components.length];
-        for (int i = 0, n = components.length; i < n; i++) {
-            result[i] = function.f(components[i]);
+        Numeric[] result = new Numeric[size()];
+        for (int i = 0, n = result.length; i < n; i++) {
+            result[i] = function.f(element(i));
         }
-        return new Vector(result);
+        return fromNumerics(result);
     }
 
     /**
@@ -899,13 +1145,14 @@ public class Vector implements StructuredType<Numeric>,
      * @return a {@code Vector} containing the filtered elements.
      */
     public Vector filter(Predicate<Numeric> predicate) {
-        List<Numeric> result = Lists.newArrayListWithCapacity(components.length);
-        for (Numeric n : components) {
+        List<Numeric> result = Lists.newArrayListWithCapacity(size());
+        for (int i = 0, size = size(); i < size; i++) {
+            Numeric n = element(i);
             if (predicate.apply(n)) {
                 result.add(n);
             }
         }
-        return new Vector(result.toArray(new Numeric[]{}));
+        return fromNumerics(result.toArray(new Numeric[]{}));
     }
 
     /**
@@ -920,8 +1167,8 @@ public class Vector implements StructuredType<Numeric>,
      */
     public double foldLeft(double initial, F<Numeric, Double> function) {
         double acc = initial;
-        for (int i = 0, n = components.length; i < n; i++) {
-            acc += function.f(components[i]);
+        for (int i = 0, n = size(); i < n; i++) {
+            acc += function.f(element(i));
         }
         return acc;
     }
@@ -937,15 +1184,9 @@ public class Vector implements StructuredType<Numeric>,
             throw new UnsupportedOperationException("empty.reduceLeft");
         }
 
-        boolean first = true;
-        Number acc = 0.0;
-        for (Numeric n : this) {
-            if (first) {
-                acc = n.doubleValue();
-                first = false;
-            } else {
-                acc = function.f(acc.doubleValue(), n.doubleValue());
-            }
+        Number acc = doubleValueOf(0);
+        for (int i = 1, n = size(); i < n; i++) {
+            acc = function.f(acc.doubleValue(), doubleValueOf(i));
         }
         return acc;
     }
@@ -1139,7 +1380,7 @@ public class Vector implements StructuredType<Numeric>,
             if (elements.isEmpty()) {
                 return Vector.of();
             }
-            return new Vector(elements.toArray(new Numeric[]{}));
+            return fromNumerics(elements.toArray(new Numeric[]{}));
         }
 
         /**
@@ -1160,7 +1401,7 @@ public class Vector implements StructuredType<Numeric>,
                 element.randomise();
                 numerics[index++] = element;
             }
-            return new Vector(numerics);
+            return fromNumerics(numerics);
         }
     }
 }
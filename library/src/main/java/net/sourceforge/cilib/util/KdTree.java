@@ -0,0 +1,172 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import java.util.Arrays;
+
+/**
+ * A static k-d tree over a set of points, which finds the points within a
+ * Euclidean distance of a given point without comparing it with every point.
+ * <p>
+ * The tree is stored implicitly in an array of point indices: the median of
+ * every range of the array is the node that splits the range on the axis of
+ * its depth, with the points before it not greater and the points after it
+ * not smaller on that axis, in the order of {@link Double#compare}. The
+ * tree is built in {@code O(N log N)} time on average.
+ * </p>
+ */
+public final class KdTree {
+
+    private final double[][] points;
+    private final int[] nodes;
+    private final int dimension;
+
+    /**
+     * Build a tree over the given points. The points are not copied and must
+     * not be modified while the tree is used.
+     * @param points The points, all with the same number of coordinates.
+     */
+    public KdTree(double[][] points) {
+        this.points = points;
+        this.dimension = points.length == 0 ? 0 : points[0].length;
+        this.nodes = new int[points.length];
+        for (int i = 0; i < nodes.length; i++) {
+            checkArgument(points[i].length == dimension, "Expected %s coordinates, got %s", dimension, points[i].length);
+            nodes[i] = i;
+        }
+        if (dimension > 0) {
+            build(0, nodes.length, 0);
+        }
+    }
+
+    /**
+     * @return The number of points in the tree.
+     */
+    public int size() {
+        return points.length;
+    }
+
+    /**
+     * Find the points within the given distance of a point.
+     * @param centre The point.
+     * @param radius The largest Euclidean distance from {@code centre}.
+     * @return The indices of the points whose distance from {@code centre} is
+     *         at most {@code radius}, in increasing order.
+     */
+    public int[] within(double[] centre, double radius) {
+        checkArgument(centre.length == dimension || points.length == 0, "Expected %s coordinates, got %s", dimension, centre.length);
+        if (Double.isNaN(radius) || radius < 0.0) {
+            return new int[0];
+        }
+        if (dimension == 0) {
+            return nodes.clone();
+        }
+
+        int[] found = new int[Math.min(points.length, 16)];
+        int count = 0;
+
+        // The ranges of the array that remain to be searched, with their depths.
+        int[] stack = new int[3 * 64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = nodes.length;
+        stack[top++] = 0;
+        double squared = radius * radius;
+        while (top > 0) {
+            int depth = stack[--top];
+            int high = stack[--top];
+            int low = stack[--top];
+            if (low >= high) {
+                continue;
+            }
+
+            int middle = (low + high) >>> 1;
+            int point = nodes[middle];
+            if (distanceSquared(centre, points[point]) <= squared) {
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, found.length * 2);
+                }
+                found[count++] = point;
+            }
+
+            int axis = depth % dimension;
+            double offset = centre[axis] - points[point][axis];
+            if (top + 6 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            // Both sides are searched if the offset is not a number.
+            if (!(offset > radius)) {
+                stack[top++] = low;
+                stack[top++] = middle;
+                stack[top++] = depth + 1;
+            }
+            if (!(-offset > radius)) {
+                stack[top++] = middle + 1;
+                stack[top++] = high;
+                stack[top++] = depth + 1;
+            }
+        }
+
+        int[] result = Arrays.copyOf(found, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private double distanceSquared(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < dimension; i++) {
+            double difference = a[i] - b[i];
+            sum += difference * difference;
+        }
+        return sum;
+    }
+
+    private void build(int low, int high, int depth) {
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            select(low, high, middle, depth % dimension);
+            build(middle + 1, high, depth + 1);
+            high = middle;
+            depth++;
+        }
+    }
+
+    /**
+     * Partially sort the range of the nodes on the given axis, so that the
+     * node at {@code k} is in its sorted position.
+     */
+    private void select(int low, int high, int k, int axis) {
+        int left = low;
+        int right = high - 1;
+        while (right > left) {
+            double pivot = points[nodes[(left + right) >>> 1]][axis];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (Double.compare(points[nodes[i]][axis], pivot) < 0) {
+                    i++;
+                }
+                while (Double.compare(points[nodes[j]][axis], pivot) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    int tmp = nodes[i];
+                    nodes[i++] = nodes[j];
+                    nodes[j--] = tmp;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+}
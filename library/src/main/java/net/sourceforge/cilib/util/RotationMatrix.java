@@ -0,0 +1,151 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import net.sourceforge.cilib.type.types.container.Matrix;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * A square matrix that is used to rotate vectors, stored as a flat row-major
+ * array of primitive values.
+ * <p>
+ * A vector {@code x} is rotated by computing the product {@code x^T M}, in
+ * other words, element {@code j} of the result is the sum of
+ * {@code x[i] * M[i][j]} over all rows {@code i}. The sums are accumulated in
+ * the order of increasing {@code i}, so the result is identical to that of
+ * the straightforward double loop. The columns are processed in blocks so that
+ * the partial sums remain in the cache while the rows of the matrix are read
+ * sequentially.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ */
+public final class RotationMatrix implements Serializable {
+
+    private static final long serialVersionUID = 2618384823151264530L;
+    private static final int BLOCK_SIZE = 512;
+
+    private static final ThreadLocal<double[][]> SCRATCH = new ThreadLocal<double[][]>() {
+        @Override
+        protected double[][] initialValue() {
+            return new double[2][0];
+        }
+    };
+
+    private final int size;
+    private final double[] elements;
+
+    private RotationMatrix(int size, double[] elements) {
+        this.size = size;
+        this.elements = elements;
+    }
+
+    /**
+     * Create a rotation matrix with the same values as the given square matrix.
+     * @param matrix The matrix to copy.
+     * @return The rotation matrix.
+     */
+    public static RotationMatrix of(Matrix matrix) {
+        Preconditions.checkArgument(matrix.isSquare(), "A rotation matrix must be square.");
+        int size = matrix.getRows();
+        double[] elements = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                elements[i * size + j] = matrix.valueAt(i, j);
+            }
+        }
+        return new RotationMatrix(size, elements);
+    }
+
+    /**
+     * Get the number of rows, and columns, of the matrix.
+     * @return The size of the matrix.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtain the value within the matrix at the provided co-ordinates.
+     * @param row The row to lookup, indexed from 0.
+     * @param col The column to lookup, indexed from 0.
+     * @return The value located at the position {@code [row][col]}.
+     */
+    public double valueAt(int row, int col) {
+        return elements[row * size + col];
+    }
+
+    /**
+     * Rotate the given vector. The values are copied to, and rotated in,
+     * buffers that are reused by the calling thread, so only the resulting
+     * {@code Vector} is allocated.
+     * @param input The vector to rotate.
+     * @return A new {@code Vector} containing the rotated values.
+     */
+    public Vector rotate(Vector input) {
+        Preconditions.checkArgument(input.size() == size, "The vector and matrix dimensions differ.");
+        double[][] scratch = SCRATCH.get();
+        if (scratch[0].length != size) {
+            scratch[0] = new double[size];
+            scratch[1] = new double[size];
+        }
+
+        double[] x = scratch[0];
+        double[] result = scratch[1];
+        for (int i = 0; i < size; i++) {
+            x[i] = input.doubleValueOf(i);
+        }
+
+        rotate(x, result);
+        return Vector.copyOf(result);
+    }
+
+    /**
+     * Rotate the first {@link #getSize()} values of {@code x}, storing the
+     * result in {@code result}. No memory is allocated.
+     * @param x The values to rotate.
+     * @param result The destination of the rotated values, which may not be
+     *        the same array as {@code x}.
+     */
+    public void rotate(double[] x, double[] result) {
+        Preconditions.checkArgument(x != result, "The rotation cannot be done in place.");
+        final int n = size;
+        final double[] m = elements;
+
+        for (int from = 0; from < n; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, n);
+            for (int j = from; j < to; j++) {
+                result[j] = 0.0;
+            }
+
+            // Four rows at a time, to reduce the loads and stores of the
+            // partial sums. The additions are still done row by row.
+            int i = 0;
+            for (; i + 3 < n; i += 4) {
+                final double x0 = x[i];
+                final double x1 = x[i + 1];
+                final double x2 = x[i + 2];
+                final double x3 = x[i + 3];
+                final int r0 = i * n;
+                final int r1 = r0 + n;
+                final int r2 = r1 + n;
+                final int r3 = r2 + n;
+                for (int j = from; j < to; j++) {
+                    result[j] = result[j] + x0 * m[r0 + j] + x1 * m[r1 + j] + x2 * m[r2 + j] + x3 * m[r3 + j];
+                }
+            }
+            for (; i < n; i++) {
+                final double xi = x[i];
+                final int row = i * n;
+                for (int j = from; j < to; j++) {
+                    result[j] += xi * m[row + j];
+                }
+            }
+        }
+    }
+}
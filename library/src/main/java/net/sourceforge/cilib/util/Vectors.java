@@ -10,7 +10,9 @@ import fj.F;
 import fj.F2;
 import fj.data.List;
 import fj.data.Option;
+import net.sourceforge.cilib.type.types.Bounds;
 import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
 import net.sourceforge.cilib.math.random.ProbabilityDistributionFunction;
 
@@ -37,8 +39,9 @@ public final class Vectors {
      */
     public static Vector upperBoundVector(Vector vector) {
         Vector.Builder upper = Vector.newBuilder();
-        for (Numeric element : vector) {
-            upper.addWithin(element.getBounds().getUpperBound(), element.getBounds());
+        for (int i = 0; i < vector.size(); i++) {
+            Bounds bounds = vector.boundsOf(i);
+            upper.addWithin(bounds.getUpperBound(), bounds);
         }
         return upper.build();
     }
@@ -56,8 +59,9 @@ public final class Vectors {
      */
     public static Vector lowerBoundVector(Vector vector) {
         Vector.Builder lower = Vector.newBuilder();
-        for (Numeric element : vector) {
-            lower.addWithin(element.getBounds().getLowerBound(), element.getBounds());
+        for (int i = 0; i < vector.size(); i++) {
+            Bounds bounds = vector.boundsOf(i);
+            lower.addWithin(bounds.getLowerBound(), bounds);
         }
         return lower.build();
     }
@@ -164,11 +168,12 @@ public final class Vectors {
         });
     }
 
-    public static <T extends Number> Vector transform(Vector vector, F<Numeric, T> function) {
-        Vector.Builder builder = Vector.newBuilder();
-        for (Numeric n : vector) {
-            builder.addWithin(function.f(n).doubleValue(), n.getBounds()); //??
-        }
-        return builder.build();
+    public static <T extends Number> Vector transform(Vector vector, final F<Numeric, T> function) {
+        return vector.map(new F<Numeric, Numeric>() {
+            @Override
+            public Numeric f(Numeric n) {
+                return Real.valueOf(function.f(n).doubleValue(), n.getBounds());
+            }
+        });
     }
 }
@@ -10,13 +10,20 @@ import com.google.common.collect.Lists;
 
 import fj.F;
 import fj.F2;
+import java.util.Iterator;
+import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
+import net.sourceforge.cilib.entity.AbstractEntity;
 import net.sourceforge.cilib.entity.Entity;
 import net.sourceforge.cilib.entity.MemoryBasedEntity;
 import net.sourceforge.cilib.entity.SocialEntity;
+import net.sourceforge.cilib.problem.AbstractProblem;
 import net.sourceforge.cilib.problem.Problem;
 import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.type.types.Type;
 import net.sourceforge.cilib.type.types.container.StructuredType;
 import net.sourceforge.cilib.util.Cloneable;
+import net.sourceforge.cilib.util.calculator.EntityBasedFitnessCalculator;
+import net.sourceforge.cilib.util.calculator.FitnessCalculator;
 
 public final class Entities {
     private Entities() {}
@@ -68,6 +75,95 @@ public final class Entities {
         };
     }
 
+    /**
+     * Calculate the fitness of each of the given entities, in order, without
+     * updating the entities. If all the entities use an
+     * {@link EntityBasedFitnessCalculator}, their candidate solutions are
+     * evaluated by the optimisation problem of the current algorithm, together
+     * if it is an {@link AbstractProblem}, see
+     * {@link AbstractProblem#evaluateAll(java.util.List)}, and one at a time
+     * otherwise. If not, the fitness calculator of each entity is used.
+     *
+     * @param entities The entities to evaluate.
+     * @return The fitness of each entity, in the order of the entities.
+     */
+    public static <E extends Entity> java.util.List<Fitness> calculateFitnesses(Iterable<E> entities) {
+        java.util.List<Type> solutions = Lists.newArrayList();
+        for (E entity : entities) {
+            if (!(entity.getFitnessCalculator() instanceof EntityBasedFitnessCalculator)) {
+                solutions = null;
+                break;
+            }
+            solutions.add(entity.getCandidateSolution());
+        }
+
+        if (solutions != null) {
+            if (solutions.isEmpty()) {
+                return Lists.newArrayList();
+            }
+            Problem problem = AbstractAlgorithm.get().getOptimisationProblem();
+            if (problem instanceof AbstractProblem) {
+                return ((AbstractProblem) problem).evaluateAll(solutions);
+            }
+
+            java.util.List<Fitness> fitnesses = Lists.newArrayListWithCapacity(solutions.size());
+            for (Type solution : solutions) {
+                fitnesses.add(problem.getFitness(solution));
+            }
+            return fitnesses;
+        }
+
+        java.util.List<Fitness> fitnesses = Lists.newArrayList();
+        for (E entity : entities) {
+            @SuppressWarnings("unchecked")
+            FitnessCalculator<E> calculator = entity.getFitnessCalculator();
+            fitnesses.add(calculator.getFitness(entity));
+        }
+        return fitnesses;
+    }
+
+    /**
+     * Determine whether a fitness calculated by
+     * {@link #calculateFitnesses(Iterable)} can be given to each of the
+     * entities afterwards, which is the case if they are all
+     * {@link AbstractEntity} instances, see
+     * {@link AbstractEntity#updateFitness(Fitness)}.
+     *
+     * @param entities The entities to test.
+     * @return True if the fitness of every entity can be updated.
+     */
+    public static boolean canUpdateFitness(Iterable<? extends Entity> entities) {
+        for (Entity entity : entities) {
+            if (!(entity instanceof AbstractEntity)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculate the fitness of all the given entities, with the same result
+     * as calling {@link Entity#calculateFitness()} for each of them, in
+     * order. If {@link #canUpdateFitness(Iterable)} holds, the fitness values
+     * are calculated together, see {@link #calculateFitnesses(Iterable)},
+     * before any entity is updated.
+     *
+     * @param entities The entities to evaluate.
+     */
+    public static <E extends Entity> void calculateFitness(Iterable<E> entities) {
+        if (!canUpdateFitness(entities)) {
+            for (E entity : entities) {
+                entity.calculateFitness();
+            }
+            return;
+        }
+
+        Iterator<Fitness> fitnesses = calculateFitnesses(entities).iterator();
+        for (E entity : entities) {
+            ((AbstractEntity) entity).updateFitness(fitnesses.next());
+        }
+    }
+
     public static <E extends Entity> F<E, Fitness> getFitness() {
         return new F<E, Fitness>() {
             @Override
@@ -30,13 +30,15 @@ public final class Populations {
     }
 
     /**
-     * Converts a swarm into a list of single entity populations.
+     * Converts a swarm into a list of single entity populations. The swarm is
+     * emptied before it is copied for each entity, so that its other entities
+     * are not copied along.
      */
     public static <P extends SinglePopulationBasedAlgorithm, E extends Entity> F<P, List<P>> populationToAlgorithms() {
         return new F<P, List<P>>() {
             @Override
             public List<P> f(final P a) {
-                return Populations.<P, E>entitiesToAlgorithms().f((Iterable<E>) a.getTopology(), a);
+                return Populations.<P, E>entitiesToAlgorithms().f((Iterable<E>) a.getTopology(), Populations.<P>emptyPopulation().f(a));
             }
         };
     }
@@ -0,0 +1,143 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
+import net.sourceforge.cilib.controlparameter.LinearlyVaryingControlParameter;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.measurement.single.Fitness;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.velocityprovider.StandardVelocityProvider;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.stoppingcondition.Minimum;
+import net.sourceforge.cilib.type.types.Type;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AlgorithmCheckpointTest {
+
+    @Test
+    public void resumedRunIsIdentical() throws Exception {
+        Rand.setSeed(7);
+        PSO expected = pso();
+        expected.performInitialisation();
+        expected.runAlgorithm();
+
+        Rand.setSeed(7);
+        PSO interrupted = pso();
+        interrupted.performInitialisation();
+        interrupted.runAlgorithm(0.5);
+        byte[] checkpoint = write(AlgorithmCheckpoint.of(interrupted));
+        assertEquals(15, interrupted.getIterations());
+
+        Rand.setSeed(8);
+        PSO resumed = pso();
+        resumed.performInitialisation();
+        read(checkpoint).restore(resumed);
+        assertEquals(15, resumed.getIterations());
+        assertEquals(interrupted.getOptimisationProblem().getFitnessEvaluations(),
+                resumed.getOptimisationProblem().getFitnessEvaluations());
+        resumed.runAlgorithm();
+
+        assertEquals(expected.getIterations(), resumed.getIterations());
+        assertEquals(expected.getOptimisationProblem().getFitnessEvaluations(),
+                resumed.getOptimisationProblem().getFitnessEvaluations());
+        assertEquals(expected.getBestSolution().getFitness(), resumed.getBestSolution().getFitness());
+        assertEquals(positions(expected), positions(resumed));
+    }
+
+    /**
+     * A {@link Minimum} records the progress of the run, on which the inertia
+     * of the particles depends.
+     */
+    @Test
+    public void resumedProgressIsIdentical() throws Exception {
+        Rand.setSeed(7);
+        PSO expected = progressivePSO();
+        expected.performInitialisation();
+        expected.runAlgorithm();
+
+        Rand.setSeed(7);
+        PSO interrupted = progressivePSO();
+        interrupted.performInitialisation();
+        interrupted.runAlgorithm(0.5);
+        byte[] checkpoint = write(AlgorithmCheckpoint.of(interrupted));
+
+        Rand.setSeed(8);
+        PSO resumed = progressivePSO();
+        resumed.performInitialisation();
+        read(checkpoint).restore(resumed);
+        assertEquals(interrupted.getPercentageComplete(), resumed.getPercentageComplete(), 0.0);
+        resumed.runAlgorithm();
+
+        assertEquals(expected.getIterations(), resumed.getIterations());
+        assertEquals(expected.getBestSolution().getFitness(), resumed.getBestSolution().getFitness());
+        assertEquals(positions(expected), positions(resumed));
+    }
+
+    private static PSO progressivePSO() {
+        PSO pso = pso(100);
+        StandardVelocityProvider velocityProvider = new StandardVelocityProvider();
+        velocityProvider.setInertiaWeight(new LinearlyVaryingControlParameter(0.9, 0.4));
+        ((Particle) ((ClonedPopulationInitialisationStrategy) pso.getInitialisationStrategy()).getEntityType())
+                .setVelocityProvider(velocityProvider);
+        pso.addStoppingCondition(new MeasuredStoppingCondition(new Fitness(), new Minimum(), 0.0));
+        return pso;
+    }
+
+    private static PSO pso() {
+        return pso(30);
+    }
+
+    private static PSO pso(int iterations) {
+        PSO pso = new PSO();
+        ((ClonedPopulationInitialisationStrategy) pso.getInitialisationStrategy()).setEntityNumber(15);
+        pso.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), iterations));
+
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Rastrigin());
+        problem.setDomain("R(-5.12:5.12)^10");
+        pso.setOptimisationProblem(problem);
+        return pso;
+    }
+
+    private static List<Type> positions(PSO pso) {
+        List<Type> positions = new ArrayList<Type>();
+        for (Particle particle : pso.getTopology()) {
+            positions.add(particle.getCandidateSolution());
+            positions.add(particle.getVelocity());
+            positions.add(particle.getBestPosition());
+        }
+        return positions;
+    }
+
+    private static byte[] write(AlgorithmCheckpoint checkpoint) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(checkpoint);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    private static AlgorithmCheckpoint read(byte[] bytes) throws IOException, ClassNotFoundException {
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        return (AlgorithmCheckpoint) in.readObject();
+    }
+}
@@ -0,0 +1,83 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.algorithm.iterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.multiswarm.MultiSwarm;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ParallelAlgorithmIteratorTest {
+
+    @Test
+    public void parallelIterationIsIndependentOfThreadCount() {
+        List<Vector> single = run(1);
+        List<Vector> multiple = run(4);
+
+        assertEquals(single, multiple);
+    }
+
+    @Test
+    public void clonesShareTheEvaluator() {
+        ParallelAlgorithmIterator<SinglePopulationBasedAlgorithm> iterator = new ParallelAlgorithmIterator<SinglePopulationBasedAlgorithm>();
+        MultiSwarm multiSwarm = new MultiSwarm();
+        multiSwarm.setAlgorithmIterator(iterator);
+        multiSwarm.addPopulationBasedAlgorithm(new PSO());
+
+        MultiSwarm clone = multiSwarm.getClone();
+        ParallelAlgorithmIterator<SinglePopulationBasedAlgorithm> cloned =
+                (ParallelAlgorithmIterator<SinglePopulationBasedAlgorithm>) clone.getAlgorithmIterator();
+        assertNotSame(iterator, cloned);
+        assertSame(iterator.getEvaluator(), cloned.getEvaluator());
+
+        // Each copy iterates over its own sub-populations.
+        assertSame(multiSwarm.getPopulations().get(0), multiSwarm.iterator().next());
+        assertSame(clone.getPopulations().get(0), clone.iterator().next());
+    }
+
+    private static List<Vector> run(int threads) {
+        Rand.setSeed(0);
+
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Rastrigin());
+        problem.setDomain("R(-5.12:5.12)^5");
+
+        ParallelAlgorithmIterator<SinglePopulationBasedAlgorithm> iterator = new ParallelAlgorithmIterator<SinglePopulationBasedAlgorithm>();
+        iterator.setEvaluator(new ParallelEvaluator(threads));
+
+        MultiSwarm multiSwarm = new MultiSwarm();
+        multiSwarm.setAlgorithmIterator(iterator);
+        for (int i = 0; i < 4; i++) {
+            multiSwarm.addPopulationBasedAlgorithm(new PSO());
+        }
+        multiSwarm.setOptimisationProblem(problem);
+        multiSwarm.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 10));
+        multiSwarm.performInitialisation();
+        multiSwarm.run();
+
+        List<Vector> bests = new ArrayList<Vector>();
+        for (SinglePopulationBasedAlgorithm swarm : multiSwarm.getPopulations()) {
+            assertEquals(10, swarm.getIterations());
+            bests.add((Vector) swarm.getBestSolution().getPosition());
+        }
+        return bests;
+    }
+}
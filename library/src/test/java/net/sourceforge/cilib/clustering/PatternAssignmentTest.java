@@ -0,0 +1,147 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.clustering;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.CentroidHolder;
+import net.sourceforge.cilib.type.types.container.ClusterCentroid;
+import net.sourceforge.cilib.type.types.container.Vector;
+import net.sourceforge.cilib.util.distancemeasure.EuclideanDistanceMeasure;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class PatternAssignmentTest {
+
+    private static Vector randomVector(int dimension, double scale) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0; i < dimension; i++) {
+            builder.add(Rand.nextDouble() * scale);
+        }
+        return builder.build();
+    }
+
+    private static StandardPatternDataTable randomTable(int size, int dimension) {
+        StandardPatternDataTable table = new StandardPatternDataTable();
+        for (int i = 0; i < size; i++) {
+            table.addRow(new StandardPattern(randomVector(dimension, 10.0), Real.valueOf(0.0)));
+        }
+        return table;
+    }
+
+    /**
+     * Assign the patterns with a full search, as the clustering iteration
+     * strategies did before.
+     */
+    private static void assertSameAsFullSearch(CentroidHolder holder, StandardPatternDataTable table) {
+        EuclideanDistanceMeasure measure = new EuclideanDistanceMeasure();
+        List<List<Vector>> expectedItems = new ArrayList<List<Vector>>();
+        List<List<Double>> expectedDistances = new ArrayList<List<Double>>();
+        for (int j = 0; j < holder.size(); j++) {
+            expectedItems.add(new ArrayList<Vector>());
+            expectedDistances.add(new ArrayList<Double>());
+        }
+
+        for (int i = 0; i < table.size(); i++) {
+            Vector pattern = table.getRow(i).getVector();
+            double nearest = Double.POSITIVE_INFINITY;
+            int label = 0;
+            for (int j = 0; j < holder.size(); j++) {
+                double distance = measure.distance(holder.get(j).toVector(), pattern);
+                if (distance < nearest) {
+                    nearest = distance;
+                    label = j;
+                }
+            }
+            expectedItems.get(label).add(pattern);
+            expectedDistances.get(label).add(nearest);
+        }
+
+        for (int j = 0; j < holder.size(); j++) {
+            ClusterCentroid centroid = holder.get(j);
+            assertEquals(expectedItems.get(j).size(), centroid.getDataItems().size());
+            assertEquals(expectedItems.get(j).size(), centroid.getDataItemDistances().length);
+            for (int i = 0; i < expectedItems.get(j).size(); i++) {
+                assertEquals(expectedItems.get(j).get(i), centroid.getDataItems().get(i));
+                assertEquals(expectedDistances.get(j).get(i), centroid.getDataItemDistances()[i], 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void sameAsFullSearchWhileCentroidsMove() {
+        Rand.setSeed(0);
+        int dimension = 5;
+        StandardPatternDataTable table = randomTable(2000, dimension);
+        PackedDataset dataset = PackedDataset.of(table);
+
+        CentroidHolder holder = new CentroidHolder(8, dimension);
+        for (ClusterCentroid centroid : holder) {
+            centroid.copy(randomVector(dimension, 10.0));
+        }
+
+        PatternAssignment assignment = new PatternAssignment();
+        for (int iteration = 0; iteration < 30; iteration++) {
+            for (ClusterCentroid centroid : holder) {
+                centroid.clearDataItems();
+            }
+
+            assignment.assign(holder, dataset);
+            assertSameAsFullSearch(holder, table);
+
+            // Mostly small moves, with the occasional jump across the space.
+            for (ClusterCentroid centroid : holder) {
+                double scale = Rand.nextDouble() < 0.05 ? 10.0 : 0.1;
+                centroid.copy(centroid.toVector().plus(randomVector(dimension, scale).subtract(Vector.fill(scale / 2, dimension))));
+            }
+        }
+    }
+
+    @Test
+    public void itemsAreAppended() {
+        Rand.setSeed(1);
+        StandardPatternDataTable table = randomTable(100, 3);
+        CentroidHolder holder = new CentroidHolder(3, 3);
+        for (ClusterCentroid centroid : holder) {
+            centroid.copy(randomVector(3, 10.0));
+        }
+
+        PackedDataset dataset = PackedDataset.of(table);
+        new PatternAssignment().assign(holder, dataset);
+        new PatternAssignment().assign(holder, dataset);
+
+        int total = 0;
+        for (ClusterCentroid centroid : holder) {
+            total += centroid.getDataItems().size();
+            assertEquals(centroid.getDataItems().size(), centroid.getDataItemDistances().length);
+        }
+        assertEquals(200, total);
+    }
+
+    @Test
+    public void packedDatasetIsReused() {
+        StandardPatternDataTable table = randomTable(10, 2);
+        PackedDataset dataset = PackedDataset.of(table);
+
+        assertSame(dataset, PackedDataset.of(table, dataset));
+
+        table.addRow(new StandardPattern(randomVector(2, 1.0), Real.valueOf(0.0)));
+        assertEquals(11, PackedDataset.of(table, dataset).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void differentDimensions() {
+        CentroidHolder holder = new CentroidHolder(2, 3);
+        new PatternAssignment().assign(holder, PackedDataset.of(randomTable(10, 2)));
+    }
+}
@@ -0,0 +1,118 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.coevolution.cooperative.problem;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.continuous.decorators.RangeFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.decorators.ShiftedFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.hybrid.SimpleHybridFunction;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Ackley;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Elliptic;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class CooperativeCoevolutionProblemAdapterTest {
+
+    private static Vector random(int size) {
+        return Vector.newBuilder().repeat(size, Real.valueOf(0.0, new Bounds(-5.0, 5.0))).buildRandom();
+    }
+
+    private static void assertSameFitness(ContinuousFunction function) {
+        Rand.setSeed(0);
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(function);
+
+        Vector context = random(100);
+        DimensionAllocation allocation = new SequentialDimensionAllocation(40, 10);
+        CooperativeCoevolutionProblemAdapter adapter = new CooperativeCoevolutionProblemAdapter(problem, allocation, context);
+
+        for (int c = 0; c < 3; c++) {
+            for (int s = 0; s < 20; s++) {
+                Vector solution = random(10);
+
+                Vector full = Vector.copyOf(context);
+                for (int i = 0; i < solution.size(); i++) {
+                    full.set(40 + i, solution.get(i));
+                }
+
+                double expected = function.f(full);
+                assertEquals(expected, adapter.getFitness(solution).getValue(), Math.abs(expected) * 1e-12);
+            }
+
+            context = random(100);
+            adapter.updateContext(context);
+        }
+
+        assertEquals(60, adapter.getFitnessEvaluations());
+        assertEquals(60, problem.getFitnessEvaluations());
+    }
+
+    @Test
+    public void separableFunction() {
+        assertSameFitness(new Ackley());
+    }
+
+    @Test
+    public void decoratedSeparableFunction() {
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setHorizontalShift(ConstantControlParameter.of(1.5));
+        shifted.setVerticalShift(ConstantControlParameter.of(-3.0));
+        shifted.setFunction(new Rastrigin());
+        assertSameFitness(shifted);
+    }
+
+    @Test
+    public void hybridOfRanges() {
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setRandomShift(true);
+        shifted.setFunction(new Rastrigin());
+
+        SimpleHybridFunction hybrid = new SimpleHybridFunction();
+        hybrid.addFunction(range(0, 45, shifted));
+        hybrid.addFunction(range(45, 100, new Elliptic()));
+        assertSameFitness(hybrid);
+    }
+
+    private static RangeFunctionDecorator range(int start, int end, ContinuousFunction function) {
+        RangeFunctionDecorator range = new RangeFunctionDecorator();
+        range.setStart(ConstantControlParameter.of(start));
+        range.setEnd(ConstantControlParameter.of(end));
+        range.setFunction(function);
+        return range;
+    }
+
+    @Test
+    public void nonSeparableFunctionIsFullyEvaluated() {
+        final int[] calls = { 0 };
+        final Rastrigin rastrigin = new Rastrigin();
+        ContinuousFunction function = new ContinuousFunction() {
+            @Override
+            public Double f(Vector input) {
+                calls[0]++;
+                return rastrigin.f(input);
+            }
+        };
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(function);
+
+        CooperativeCoevolutionProblemAdapter adapter = new CooperativeCoevolutionProblemAdapter(problem, new SequentialDimensionAllocation(0, 5), random(10));
+        for (int i = 0; i < 3; i++) {
+            adapter.getFitness(random(5));
+        }
+
+        assertEquals(3, calls[0]);
+        assertEquals(3, problem.getFitnessEvaluations());
+    }
+}
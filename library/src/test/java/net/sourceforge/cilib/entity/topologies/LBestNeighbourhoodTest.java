@@ -0,0 +1,44 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.entity.topologies;
+
+import com.google.common.collect.Lists;
+import fj.data.List;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LBestNeighbourhoodTest {
+
+    private final List<String> topology = List.list("a", "b", "c", "d", "e", "f");
+
+    @Test
+    public void neighbourhoodWrapsAround() {
+        LBestNeighbourhood<String> neighbourhood = new LBestNeighbourhood<String>();
+
+        assertEquals(Lists.newArrayList("f", "a", "b"), Lists.newArrayList(neighbourhood.f(topology, "a")));
+        assertEquals(Lists.newArrayList("c", "d", "e"), Lists.newArrayList(neighbourhood.f(topology, "d")));
+        assertEquals(Lists.newArrayList("e", "f", "a"), Lists.newArrayList(neighbourhood.f(topology, "f")));
+    }
+
+    @Test
+    public void equalElementsAreFound() {
+        LBestNeighbourhood<String> neighbourhood = new LBestNeighbourhood<String>(5);
+
+        assertEquals(Lists.newArrayList("a", "b", "c", "d", "e"),
+                Lists.newArrayList(neighbourhood.f(topology, new String("c"))));
+    }
+
+    @Test
+    public void changedTopologyIsRecalculated() {
+        LBestNeighbourhood<String> neighbourhood = new LBestNeighbourhood<String>();
+        neighbourhood.f(topology, "a");
+
+        List<String> other = List.list("x", "a", "y");
+        assertEquals(Lists.newArrayList("x", "a", "y"), Lists.newArrayList(neighbourhood.f(other, "a")));
+    }
+}
@@ -6,6 +6,10 @@
  */
 package net.sourceforge.cilib.functions.continuous.bbob;
 
+import com.google.common.collect.Lists;
+import java.util.List;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.Real;
 import net.sourceforge.cilib.type.types.container.Vector;
 import static org.junit.Assert.assertEquals;
 import org.junit.Test;
@@ -23,6 +27,25 @@ public class BBOBTest {
 		}
 	}
 
+	@Test
+	public void testEvaluateAll() throws Exception {
+		for (int i = 1; i <= 24; i++) {
+			String className = "net.sourceforge.cilib.functions.continuous.bbob.BBOB" + i;
+			AbstractBBOB f = (AbstractBBOB) Class.forName(className).newInstance();
+
+			List<Vector> inputs = Lists.newArrayList();
+			for (int j = 0; j < 5; j++) {
+				inputs.add(Vector.newBuilder().repeat(10, Real.valueOf(0.0, new Bounds(-5.0, 5.0))).buildRandom());
+			}
+			f.f(inputs.get(0));
+
+			double[] values = f.evaluateAll(inputs);
+			for (int j = 0; j < inputs.size(); j++) {
+				assertEquals(className, f.f(inputs.get(j)), values[j], 0.0);
+			}
+		}
+	}
+
 	private void testApply(AbstractBBOB f) {
 		f.f(Vector.fill(1, 10));
 		assertEquals(f.getOptimum(), f.f(f.getXOpt()), 0.0);
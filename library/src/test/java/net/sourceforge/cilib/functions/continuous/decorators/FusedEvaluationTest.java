@@ -0,0 +1,127 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.Bounds;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FusedEvaluationTest {
+
+    private static ContinuousFunction shiftedRastrigin(ContinuousFunction rastrigin) {
+        IllConditionedFunctionDecorator illConditioned = new IllConditionedFunctionDecorator();
+        illConditioned.setAlpha(ConstantControlParameter.of(10.0));
+        illConditioned.setFunction(rastrigin);
+
+        AsymmetricFunctionDecorator asymmetric = new AsymmetricFunctionDecorator();
+        asymmetric.setBeta(ConstantControlParameter.of(0.2));
+        asymmetric.setFunction(illConditioned);
+
+        IrregularFunctionDecorator irregular = new IrregularFunctionDecorator();
+        irregular.setFunction(asymmetric);
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setHorizontalShift(ConstantControlParameter.of(1.5));
+        shifted.setVerticalShift(ConstantControlParameter.of(-3.0));
+        shifted.setFunction(irregular);
+        return shifted;
+    }
+
+    /**
+     * Evaluate the CEC2013 shifted Rastrigin chain one decorator at a time,
+     * creating a new vector for each.
+     */
+    private static double unfused(Vector input) {
+        int n = input.size();
+        Vector x = input.subtract(Vector.fill(1.5, n));
+        x = x.map(new IrregularFunctionDecorator().getMapping());
+
+        Vector.Builder asymmetric = Vector.newBuilder();
+        for (int i = 0; i < n; i++) {
+            double v = x.doubleValueOf(i);
+            asymmetric.add(v > 0 ? Math.pow(v, 1 + 0.2 * Math.sqrt(v) * i / (n - 1)) : v);
+        }
+        x = asymmetric.build();
+
+        Vector.Builder illConditioned = Vector.newBuilder();
+        for (int i = 0; i < n; i++) {
+            illConditioned.add(x.doubleValueOf(i) * Math.pow(10.0, i * 0.5 / (n - 1)));
+        }
+
+        return new Rastrigin().f(illConditioned.build()) + -3.0;
+    }
+
+    @Test
+    public void sameResultAsUnfusedChain() {
+        ContinuousFunction fused = shiftedRastrigin(new Rastrigin());
+        Rand.setSeed(0);
+        for (int n : new int[] { 2, 10, 1000 }) {
+            for (int sample = 0; sample < 10; sample++) {
+                double[] values = new double[n];
+                for (int i = 0; i < n; i++) {
+                    values[i] = Rand.nextDouble() * 10.0 - 5.0;
+                }
+                Vector input = Vector.copyOf(values);
+
+                assertEquals(unfused(input), fused.f(input), 0.0);
+            }
+        }
+    }
+
+    /**
+     * A function that cannot be evaluated on the buffer receives a vector
+     * with the transformed values.
+     */
+    @Test
+    public void vectorFunctionAtEndOfChain() {
+        final Rastrigin rastrigin = new Rastrigin();
+        ContinuousFunction fused = shiftedRastrigin(new ContinuousFunction() {
+            @Override
+            public Double f(Vector input) {
+                return rastrigin.f(input);
+            }
+        });
+
+        Vector input = Vector.of(-1.0, 0.5, 2.0, 4.5);
+        assertEquals(unfused(input), fused.f(input), 0.0);
+    }
+
+    /**
+     * A random shift below another decorator is drawn from the bounds of
+     * the input, as it is for a shifted function on its own.
+     */
+    @Test
+    public void randomShiftUnderAnotherDecorator() {
+        Bounds bounds = new Bounds(-5.0, 5.0);
+        Vector input = Vector.newBuilder().addWithin(-1.0, bounds).addWithin(0.5, bounds)
+                .addWithin(2.0, bounds).addWithin(4.5, bounds).build();
+
+        Rand.setSeed(0);
+        Vector shift = Vector.newBuilder().copyOf(input).buildRandom();
+        for (int i = 0; i < shift.size(); i++) {
+            assertTrue(shift.doubleValueOf(i) >= -5.0 && shift.doubleValueOf(i) <= 5.0);
+        }
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setRandomShift(true);
+        shifted.setFunction(new Rastrigin());
+        IrregularFunctionDecorator irregular = new IrregularFunctionDecorator();
+        irregular.setFunction(shifted);
+
+        Rand.setSeed(0);
+        double expected = new Rastrigin().f(input.map(irregular.getMapping()).subtract(shift));
+        assertEquals(expected, irregular.f(input), 0.0);
+        assertEquals(expected, irregular.f(input), 0.0);
+    }
+}
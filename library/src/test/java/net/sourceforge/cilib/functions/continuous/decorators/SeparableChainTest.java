@@ -0,0 +1,136 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.functions.continuous.decorators;
+
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.SeparableFunction;
+import net.sourceforge.cilib.functions.continuous.hybrid.SimpleHybridFunction;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Ackley;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Elliptic;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class SeparableChainTest {
+
+    private static double evaluate(SeparableFunction function, Vector input) {
+        int size = input.size();
+        double[] sums = new double[function.getSumCount()];
+        double[] terms = new double[sums.length];
+        for (int i = 0; i < size; i++) {
+            function.terms(i, input.doubleValueOf(i), size, terms);
+            for (int j = 0; j < sums.length; j++) {
+                sums[j] += terms[j];
+            }
+        }
+        return function.combine(sums, size);
+    }
+
+    private static ContinuousFunction decorate(ContinuousFunction function) {
+        IllConditionedFunctionDecorator illConditioned = new IllConditionedFunctionDecorator();
+        illConditioned.setAlpha(ConstantControlParameter.of(10.0));
+        illConditioned.setFunction(function);
+
+        PermutationFunctionDecorator permutation = new PermutationFunctionDecorator();
+        permutation.setFunction(illConditioned);
+
+        AsymmetricFunctionDecorator asymmetric = new AsymmetricFunctionDecorator();
+        asymmetric.setBeta(ConstantControlParameter.of(0.2));
+        asymmetric.setFunction(permutation);
+
+        IrregularFunctionDecorator irregular = new IrregularFunctionDecorator();
+        irregular.setFunction(asymmetric);
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setHorizontalShift(ConstantControlParameter.of(1.5));
+        shifted.setVerticalShift(ConstantControlParameter.of(-3.0));
+        shifted.setFunction(irregular);
+        return shifted;
+    }
+
+    @Test
+    public void separableFunctionIsItsOwnView() {
+        Spherical spherical = new Spherical();
+        assertThat(SeparableChain.of(spherical), sameInstance((SeparableFunction) spherical));
+    }
+
+    @Test
+    public void nonSeparableChain() {
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(new Spherical());
+
+        ShiftedFunctionDecorator shifted = new ShiftedFunctionDecorator();
+        shifted.setFunction(rotated);
+
+        assertThat(SeparableChain.of(shifted), nullValue());
+    }
+
+    @Test
+    public void sumOfTermsMatchesFunction() {
+        Rand.setSeed(0);
+        for (ContinuousFunction function : new ContinuousFunction[] { new Spherical(), new Rastrigin(), new Elliptic(), new Ackley() }) {
+            ContinuousFunction decorated = decorate(function);
+            for (int n : new int[] { 2, 10, 200 }) {
+                double[] values = new double[n];
+                for (int i = 0; i < n; i++) {
+                    values[i] = Rand.nextDouble() * 10.0 - 5.0;
+                }
+                Vector input = Vector.copyOf(values);
+
+                double expected = decorated.f(input);
+                assertEquals(expected, evaluate(SeparableChain.of(decorated), input), Math.abs(expected) * 1e-12);
+            }
+        }
+    }
+
+    private static RangeFunctionDecorator range(int start, int end, ContinuousFunction function) {
+        RangeFunctionDecorator range = new RangeFunctionDecorator();
+        range.setStart(ConstantControlParameter.of(start));
+        range.setEnd(ConstantControlParameter.of(end));
+        range.setFunction(function);
+        return range;
+    }
+
+    @Test
+    public void hybridOfRangesMatchesFunction() {
+        SimpleHybridFunction hybrid = new SimpleHybridFunction();
+        hybrid.addFunction(range(0, 5, decorate(new Ackley())));
+        hybrid.addFunction(range(5, 8, new Rastrigin()));
+        hybrid.addFunction(range(10, 20, decorate(new Elliptic())));
+        ContinuousFunction decorated = decorate(hybrid);
+
+        Rand.setSeed(0);
+        double[] values = new double[20];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Rand.nextDouble() * 10.0 - 5.0;
+        }
+        Vector input = Vector.copyOf(values);
+
+        double expected = decorated.f(input);
+        assertEquals(expected, evaluate(SeparableChain.of(decorated), input), Math.abs(expected) * 1e-12);
+    }
+
+    @Test
+    public void hybridWithNonSeparableComponent() {
+        RotatedFunctionDecorator rotated = new RotatedFunctionDecorator();
+        rotated.setFunction(new Spherical());
+
+        SimpleHybridFunction hybrid = new SimpleHybridFunction();
+        hybrid.addFunction(range(0, 5, new Spherical()));
+        hybrid.addFunction(range(5, 10, rotated));
+
+        assertThat(SeparableChain.of(hybrid), nullValue());
+    }
+}
@@ -0,0 +1,163 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.io;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import net.sourceforge.cilib.io.exception.CIlibIOException;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.io.transform.PatternConversionOperator;
+import net.sourceforge.cilib.io.transform.TypeConversionOperator;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the primitive data table builder reads the same patterns as the
+ * standard data table builder.
+ */
+public class PrimitiveDataTableBuilderTest {
+
+    private static final String ARFF_FILE = "library/src/test/resources/datasets/iris.arff";
+    private static final String CSV_FILE = "library/src/test/resources/datasets/iris.data";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static DataTable build(DataTableBuilder builder, String sourceURL, PatternConversionOperator conversion,
+            boolean typeConversion) throws CIlibIOException {
+        builder.setSourceURL(sourceURL);
+        if (typeConversion) {
+            builder.addDataOperator(new TypeConversionOperator());
+        }
+        builder.addDataOperator(conversion);
+        builder.buildDataTable();
+        return builder.getDataTable();
+    }
+
+    private static void assertSamePatterns(DataTable expected, DataTable actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(expected.getNumColums(), actual.getNumColums());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.getRow(i), actual.getRow(i));
+        }
+    }
+
+    @Test
+    public void testARFF() throws CIlibIOException {
+        DataTable expected = build(new DataTableBuilder(new ARFFFileReader()), ARFF_FILE, new PatternConversionOperator(), true);
+        DataTable actual = build(new PrimitiveDataTableBuilder(new ARFFFileReader()), ARFF_FILE, new PatternConversionOperator(), true);
+        Assert.assertTrue(actual instanceof PrimitivePatternDataTable);
+        assertSamePatterns(expected, actual);
+
+        // Without a type conversion the nominal class is an Int.
+        expected = build(new DataTableBuilder(new ARFFFileReader()), ARFF_FILE, new PatternConversionOperator(), false);
+        actual = build(new PrimitiveDataTableBuilder(new ARFFFileReader()), ARFF_FILE, new PatternConversionOperator(), false);
+        assertSamePatterns(expected, actual);
+        Assert.assertEquals(Int.class, ((StandardPattern) actual.getRow(0)).getTarget().getClass());
+    }
+
+    @Test
+    public void testSelectedColumnsAndRows() throws CIlibIOException {
+        PatternConversionOperator conversion = new PatternConversionOperator();
+        conversion.setClassIndex(1);
+        conversion.setClassLength(2);
+        conversion.ignoreColumnIndex(3);
+        conversion.addSelection("10 : 20");
+
+        DataTable expected = build(new DataTableBuilder(new ARFFFileReader()), ARFF_FILE, conversion.getClone(), true);
+        DataTable actual = build(new PrimitiveDataTableBuilder(new ARFFFileReader()), ARFF_FILE, conversion.getClone(), true);
+        Assert.assertEquals(11, actual.size());
+        assertSamePatterns(expected, actual);
+    }
+
+    @Test
+    public void testDelimited() throws CIlibIOException {
+        DataTable expected = build(new DataTableBuilder(new DelimitedTextFileReader()), CSV_FILE, new PatternConversionOperator(), true);
+        DataTable actual = build(new PrimitiveDataTableBuilder(new DelimitedTextFileReader()), CSV_FILE, new PatternConversionOperator(), true);
+        Assert.assertEquals(expected.size(), actual.size());
+
+        // The classes are numbered in the order that they appear.
+        for (int i = 0; i < expected.size(); i++) {
+            StandardPattern expectedRow = (StandardPattern) expected.getRow(i);
+            StandardPattern actualRow = (StandardPattern) actual.getRow(i);
+            Assert.assertEquals(expectedRow.getVector(), actualRow.getVector());
+            Assert.assertEquals(Int.valueOf(i / 50), actualRow.getTarget());
+        }
+    }
+
+    @Test
+    public void testCache() throws CIlibIOException, IOException {
+        File source = folder.newFile("data.csv");
+        write(source, "1.0;2.0;3.0\n4.0;5.0;6.0\n");
+        File cache = new File(folder.getRoot(), "data.bin");
+
+        PrimitiveDataTableBuilder builder = new PrimitiveDataTableBuilder();
+        ((DelimitedTextFileReader) builder.getDataReader()).setDelimiter(";");
+        builder.setCacheURL(cache.getPath());
+        DataTable parsed = build(builder, source.getPath(), new PatternConversionOperator(), true);
+        Assert.assertTrue(cache.isFile());
+
+        PrimitiveDataTableBuilder cached = new PrimitiveDataTableBuilder();
+        ((DelimitedTextFileReader) cached.getDataReader()).setDelimiter(";");
+        cached.setCacheURL(cache.getPath());
+        DataTable mapped = build(cached, source.getPath(), new PatternConversionOperator(), true);
+        assertSamePatterns(parsed, mapped);
+        Assert.assertEquals(Vector.of(4.0, 5.0), ((StandardPattern) mapped.getRow(1)).getVector());
+
+        // A changed source is parsed again.
+        write(source, "7.0;8.0;9.0\n");
+        PrimitiveDataTableBuilder changed = new PrimitiveDataTableBuilder();
+        ((DelimitedTextFileReader) changed.getDataReader()).setDelimiter(";");
+        changed.setCacheURL(cache.getPath());
+        DataTable reparsed = build(changed, source.getPath(), new PatternConversionOperator(), true);
+        Assert.assertEquals(1, reparsed.size());
+        Assert.assertEquals(Vector.of(7.0, 8.0), ((StandardPattern) reparsed.getRow(0)).getVector());
+    }
+
+    @Test
+    public void testCacheOfOtherSource() throws CIlibIOException, IOException {
+        File first = folder.newFile("first.csv");
+        write(first, "1.0;2.0;3.0\n");
+        File second = folder.newFile("second.csv");
+        write(second, "4.0;5.0;6.0\n");
+        Assert.assertTrue(second.setLastModified(first.lastModified()));
+        File cache = new File(folder.getRoot(), "data.bin");
+
+        PrimitiveDataTableBuilder builder = new PrimitiveDataTableBuilder();
+        ((DelimitedTextFileReader) builder.getDataReader()).setDelimiter(";");
+        builder.setCacheURL(cache.getPath());
+        build(builder, first.getPath(), new PatternConversionOperator(), true);
+
+        // A source of the same size and modification time is not read from the cache of another.
+        PrimitiveDataTableBuilder other = new PrimitiveDataTableBuilder();
+        ((DelimitedTextFileReader) other.getDataReader()).setDelimiter(";");
+        other.setCacheURL(cache.getPath());
+        DataTable table = build(other, second.getPath(), new PatternConversionOperator(), true);
+        Assert.assertEquals(Vector.of(4.0, 5.0), ((StandardPattern) table.getRow(0)).getVector());
+    }
+
+    @Test(expected = CIlibIOException.class)
+    public void testMissingValue() throws CIlibIOException, IOException {
+        File source = folder.newFile("data.csv");
+        write(source, "1.0,2.0,3.0\n4.0,5.0\n");
+        build(new PrimitiveDataTableBuilder(), source.getPath(), new PatternConversionOperator(), true);
+    }
+
+    private static void write(File file, String contents) throws IOException {
+        FileWriter writer = new FileWriter(file);
+        try {
+            writer.write(contents);
+        } finally {
+            writer.close();
+        }
+    }
+}
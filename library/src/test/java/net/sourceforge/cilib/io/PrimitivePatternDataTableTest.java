@@ -0,0 +1,128 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import net.sourceforge.cilib.io.exception.CIlibIOException;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.io.transform.ShuffleOperator;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that a PrimitivePatternDataTable behaves like a StandardPatternDataTable.
+ */
+public class PrimitivePatternDataTableTest {
+
+    private PrimitivePatternDataTable primitive;
+    private StandardPatternDataTable standard;
+
+    @Before
+    public void setup() {
+        primitive = new PrimitivePatternDataTable(2, 1);
+        standard = new StandardPatternDataTable();
+        for (int i = 0; i < 10; i++) {
+            StandardPattern pattern = new StandardPattern(Vector.of(i, i + 0.5), Real.valueOf(-i));
+            primitive.addRow(pattern);
+            standard.addRow(pattern);
+        }
+    }
+
+    private static void assertSameRows(StandardPatternDataTable expected, StandardPatternDataTable actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.getRow(i), actual.getRow(i));
+        }
+    }
+
+    @Test
+    public void testRows() {
+        assertSameRows(standard, primitive);
+        Assert.assertEquals(3, primitive.getNumColums());
+        Assert.assertEquals(4.5, primitive.featureValueAt(4, 1), 0.0);
+        Assert.assertEquals(-4.0, primitive.targetValueAt(4, 0), 0.0);
+
+        StandardPattern replacement = new StandardPattern(Vector.of(100.0, 200.0), Real.valueOf(300.0));
+        primitive.setRow(3, replacement);
+        standard.setRow(3, replacement);
+        Assert.assertEquals(standard.removeRow(5), primitive.removeRow(5));
+        assertSameRows(standard, primitive);
+        Assert.assertEquals(standard.getColumn(1), primitive.getColumn(1));
+        Assert.assertEquals(standard.getColumn(2), primitive.getColumn(2));
+    }
+
+    @Test
+    public void testShuffle() throws CIlibIOException {
+        Rand.setSeed(0);
+        new ShuffleOperator().operate(standard);
+        Rand.setSeed(0);
+        new ShuffleOperator().operate(primitive);
+        assertSameRows(standard, primitive);
+    }
+
+    @Test
+    public void testSharedValuesAreNotChanged() {
+        PrimitivePatternDataTable sub = primitive.subTable(2, 6);
+        PrimitivePatternDataTable copy = primitive.getClone();
+        assertSameRows(standard.subTable(2, 6), sub);
+
+        StandardPattern replacement = new StandardPattern(Vector.of(100.0, 200.0), Real.valueOf(300.0));
+        sub.setRow(0, replacement);
+        sub.addRow(replacement);
+        primitive.setRow(1, replacement);
+
+        Assert.assertEquals(replacement, sub.getRow(0));
+        Assert.assertEquals(replacement, sub.getRow(4));
+        Assert.assertEquals(replacement, primitive.getRow(1));
+        Assert.assertEquals(standard.getRow(2), primitive.getRow(2));
+        assertSameRows(standard, copy);
+    }
+
+    @Test
+    public void testRemovedRowsAreCompacted() {
+        for (int i = 0; i < 8; i++) {
+            Assert.assertEquals(standard.removeRow(1), primitive.removeRow(1));
+        }
+        StandardPattern replacement = new StandardPattern(Vector.of(100.0, 200.0), Real.valueOf(300.0));
+        primitive.setRow(1, replacement);
+        standard.setRow(1, replacement);
+        primitive.addRow(replacement);
+        standard.addRow(replacement);
+        assertSameRows(standard, primitive);
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        PrimitivePatternDataTable sub = primitive.subTable(2, 6);
+        sub.swapRows(0, 3);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeObject(sub);
+        output.close();
+        ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        PrimitivePatternDataTable read = (PrimitivePatternDataTable) input.readObject();
+
+        assertSameRows(sub, read);
+        StandardPattern replacement = new StandardPattern(Vector.of(100.0, 200.0), Real.valueOf(300.0));
+        read.addRow(replacement);
+        Assert.assertEquals(replacement, read.getRow(4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPatternSize() {
+        primitive.addRow(new StandardPattern(Vector.of(1.0), Real.valueOf(1.0)));
+    }
+}
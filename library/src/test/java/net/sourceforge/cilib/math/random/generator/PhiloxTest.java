@@ -0,0 +1,116 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.math.random.generator;
+
+import org.junit.Assert;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PhiloxTest {
+
+    private static void assertBlock(long key, long counter, int stream0, int stream1, int... expected) {
+        int[] words = new int[4];
+        Philox.block(key, counter, stream0, stream1, words);
+        Assert.assertArrayEquals(expected, words);
+    }
+
+    /**
+     * The known answers of the reference implementation.
+     */
+    @Test
+    public void knownAnswers() {
+        assertBlock(0L, 0L, 0, 0, 0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8);
+        assertBlock(-1L, -1L, -1, -1, 0x408f276d, 0x41c83b0e, 0xa20bc7c6, 0x6d5451fd);
+        assertBlock(0x299f31d0a4093822L, 0x85a308d3243f6a88L, 0x13198a2e, 0x03707344,
+                0xd16cfe09, 0x94fdcceb, 0x5001e420, 0x24126ea1);
+    }
+
+    @Test
+    public void testNextDouble() {
+        RandomTester tester = new SimpleRandomTester();
+        Philox r = new Philox(Rand.nextLong());
+        for (int i = 0; i < 100000; ++i) {
+            double d = r.nextDouble();
+            assertTrue("Random value out of range", 0 <= d && d < 1);
+            tester.addSample(d);
+        }
+        assertTrue("Samples are not random", tester.hasRandomSamples());
+    }
+
+    @Test
+    public void valuesArePositional() {
+        Philox root = new Philox(42L);
+        Philox stream = root.stream(3, 7);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(stream.doubleAt(i), stream.nextDouble(), 0.0);
+        }
+
+        // A stream does not depend on the position of the stream it is split from.
+        root.nextDouble();
+        Assert.assertEquals(root.stream(3, 7).nextDouble(), new Philox(42L).stream(3, 7).nextDouble(), 0.0);
+        Assert.assertFalse(root.stream(3, 7).nextDouble() == root.stream(3, 8).nextDouble());
+        Assert.assertFalse(root.stream(3, 7).nextDouble() == root.stream(4, 7).nextDouble());
+    }
+
+    @Test
+    public void bulkDoublesMatchSingleDoubles() {
+        Philox single = new Philox(5L).stream(1, 2);
+        Philox bulk = new Philox(5L).stream(1, 2);
+
+        // Start in the middle of a block.
+        single.nextInt();
+        bulk.nextInt();
+
+        double[] values = new double[11];
+        bulk.nextDoubles(values, 0, 3);
+        bulk.nextDoubles(values, 3, 8);
+        for (double value : values) {
+            Assert.assertEquals(single.nextDouble(), value, 0.0);
+        }
+    }
+
+    @Test
+    public void randUsesStream() {
+        Rand.setSeed(0);
+        double expected = Rand.nextDouble();
+
+        Rand.setSeed(0);
+        Rand.setStream(new Philox(1L));
+        double[] values = new double[4];
+        Rand.nextDoubles(values);
+        Assert.assertEquals(new Philox(1L).doubleAt(3), values[3], 0.0);
+        Rand.setStream(null);
+
+        // The generator of the thread is not affected by the stream.
+        Assert.assertEquals(expected, Rand.nextDouble(), 0.0);
+    }
+
+    @Test
+    public void randStateIsRestored() {
+        Rand.setSeed(0);
+        Rand.nextDouble();
+        Rand.State twister = Rand.getState();
+        double[] expected = {Rand.nextDouble(), Rand.nextDouble()};
+
+        Rand.setStream(new Philox(1L).stream(2, 3));
+        Rand.nextInt();
+        Rand.State stream = Rand.getState();
+        double expectedStream = Rand.nextDouble();
+
+        Rand.setSeed(1);
+        Rand.setState(stream);
+        Assert.assertEquals(expectedStream, Rand.nextDouble(), 0.0);
+
+        // A snapshot is not affected by the draws after it is restored.
+        for (int i = 0; i < 2; i++) {
+            Rand.setState(twister);
+            Assert.assertNull(Rand.getStream());
+            Assert.assertEquals(expected[0], Rand.nextDouble(), 0.0);
+            Assert.assertEquals(expected[1], Rand.nextDouble(), 0.0);
+        }
+    }
+}
@@ -9,8 +9,10 @@ package net.sourceforge.cilib.measurement;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.io.Serializable;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.type.types.Int;
 import net.sourceforge.cilib.type.types.Type;
 import org.junit.Assert;
 import org.junit.Test;
@@ -33,6 +35,93 @@ public class MeasurementStateManagerTest {
     }
 
 
+    @Test
+    public void statesAreKeptPerAlgorithm() {
+        PSO first = new PSO();
+        PSO second = new PSO();
+
+        CountingMeasurement measurement = new CountingMeasurement();
+        MeasurementStateManager manager = new MeasurementStateManager();
+
+        for (int i = 0; i < 3; i++) {
+            manager.setState(first, measurement);
+            measurement.getValue(first);
+            Assert.assertNull(manager.getState(first, measurement));
+        }
+        manager.setState(second, measurement);
+        Assert.assertEquals(1, measurement.getValue(second).intValue());
+
+        manager.setState(first, measurement);
+        Assert.assertEquals(4, measurement.getValue(first).intValue());
+    }
+
+    @Test
+    public void copiedStatesAreRestored() {
+        PSO first = new PSO();
+        PSO second = new PSO();
+
+        CountingMeasurement measurement = new CountingMeasurement();
+        MeasurementStateManager manager = new MeasurementStateManager();
+        Assert.assertNull(manager.copyState(first, measurement));
+
+        for (int i = 0; i < 2; i++) {
+            manager.setState(first, measurement);
+            measurement.getValue(first);
+        }
+        Serializable copy = manager.copyState(first, measurement);
+        manager.setState(first, measurement);
+        measurement.getValue(first);
+
+        manager.restoreState(second, measurement, copy);
+        manager.setState(second, measurement);
+        Assert.assertEquals(3, measurement.getValue(second).intValue());
+    }
+
+    private static class Count implements MeasurementState {
+        private int count;
+
+        @Override
+        public Count getClone() {
+            Count clone = new Count();
+            clone.count = count;
+            return clone;
+        }
+    }
+
+    private class CountingMeasurement extends StateAwareMeasurement<Int> {
+        private Count state;
+
+        @Override
+        public Measurement getClone() {
+            return this;
+        }
+
+        @Override
+        public Int getValue(Algorithm algorithm) {
+            return Int.valueOf(++state.count);
+        }
+
+        @Override
+        public MeasurementState newState() {
+            return new Count();
+        }
+
+        @Override
+        public void restoreState(MeasurementState state) {
+            this.state = (Count) state;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     private class MockStateAwareMeasurement extends StateAwareMeasurement {
 
         @Override
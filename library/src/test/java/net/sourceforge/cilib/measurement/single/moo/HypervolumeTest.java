@@ -0,0 +1,106 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.measurement.single.moo;
+
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.moo.archive.Archive;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.Fitnesses;
+import net.sourceforge.cilib.problem.solution.MaximisationFitness;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import static org.mockito.Mockito.mock;
+
+public class HypervolumeTest {
+
+    private final Algorithm algorithm = mock(Algorithm.class);
+
+    private static OptimisationSolution solution(Fitness... fitnesses) {
+        return new OptimisationSolution(Vector.of(0.0), Fitnesses.create(fitnesses));
+    }
+
+    private static OptimisationSolution minimisation(double... values) {
+        Fitness[] fitnesses = new Fitness[values.length];
+        for (int i = 0; i < values.length; i++) {
+            fitnesses[i] = new MinimisationFitness(values[i]);
+        }
+        return solution(fitnesses);
+    }
+
+    @After
+    public void teardown() {
+        Archive.Provider.get().clear();
+    }
+
+    @Test
+    public void results() {
+        Archive archive = Archive.Provider.get();
+        archive.add(minimisation(0.0, 1.0));
+        archive.add(minimisation(0.5, 0.5));
+        archive.add(minimisation(1.0, 0.0));
+
+        Hypervolume hypervolume = new Hypervolume();
+        // The extreme solutions lie on the boundary of the default reference point.
+        Assert.assertEquals(0.25, hypervolume.getValue(algorithm).doubleValue(), 1e-12);
+
+        hypervolume.setReferencePoint(Vector.of(1.5, 1.5));
+        Assert.assertEquals(1.5, hypervolume.getValue(algorithm).doubleValue(), 1e-12);
+    }
+
+    @Test
+    public void maximisedObjectives() {
+        Archive archive = Archive.Provider.get();
+        archive.add(solution(new MinimisationFitness(0.0), new MaximisationFitness(0.0)));
+        archive.add(solution(new MinimisationFitness(0.5), new MaximisationFitness(0.5)));
+        archive.add(solution(new MinimisationFitness(1.0), new MaximisationFitness(1.0)));
+
+        Hypervolume hypervolume = new Hypervolume();
+        hypervolume.setReferencePoint(Vector.of(1.5, -0.5));
+        Assert.assertEquals(1.5, hypervolume.getValue(algorithm).doubleValue(), 1e-12);
+    }
+
+    @Test
+    public void incrementalSameAsExact() {
+        Rand.setSeed(0);
+        Archive archive = Archive.Provider.get();
+        for (int i = 0; i < 30; i++) {
+            archive.add(minimisation(Rand.nextDouble(), Rand.nextDouble(), Rand.nextDouble()));
+        }
+
+        Hypervolume incremental = new Hypervolume();
+        incremental.setReferencePoint(Vector.of(1.0, 1.0, 1.0));
+        Hypervolume exact = incremental.getClone();
+        exact.setIncremental(false);
+
+        for (int step = 0; step < 10; step++) {
+            Assert.assertEquals(exact.getValue(algorithm).doubleValue(), incremental.getValue(algorithm).doubleValue(), 1e-12);
+            archive.remove(archive.iterator().next());
+            archive.add(minimisation(Rand.nextDouble(), Rand.nextDouble(), Rand.nextDouble()));
+        }
+    }
+
+    @Test
+    public void estimated() {
+        Rand.setSeed(0);
+        Archive archive = Archive.Provider.get();
+        for (int i = 0; i < 10; i++) {
+            archive.add(minimisation(Rand.nextDouble(), Rand.nextDouble(), Rand.nextDouble()));
+        }
+
+        Hypervolume exact = new Hypervolume();
+        exact.setReferencePoint(Vector.of(1.0, 1.0, 1.0));
+        Hypervolume estimated = exact.getClone();
+        estimated.setMaximumExactObjectives(2);
+        estimated.setSamples(100000);
+        Assert.assertEquals(exact.getValue(algorithm).doubleValue(), estimated.getValue(algorithm).doubleValue(), 0.01);
+    }
+}
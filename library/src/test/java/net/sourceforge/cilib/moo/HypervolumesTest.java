@@ -0,0 +1,89 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.moo;
+
+import java.util.Arrays;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HypervolumesTest {
+
+    /**
+     * The hypervolume by the inclusion-exclusion principle over all subsets
+     * of the points.
+     */
+    private static double inclusionExclusion(double[][] points, double[] reference) {
+        double volume = 0.0;
+        for (int subset = 1; subset < 1 << points.length; subset++) {
+            double[] corner = new double[reference.length];
+            Arrays.fill(corner, Double.NEGATIVE_INFINITY);
+            for (int i = 0; i < points.length; i++) {
+                if ((subset & 1 << i) != 0) {
+                    for (int k = 0; k < corner.length; k++) {
+                        corner[k] = Math.max(corner[k], points[i][k]);
+                    }
+                }
+            }
+            double box = 1.0;
+            for (int k = 0; k < corner.length; k++) {
+                box *= Math.max(0.0, reference[k] - corner[k]);
+            }
+            volume += Integer.bitCount(subset) % 2 == 1 ? box : -box;
+        }
+        return volume;
+    }
+
+    private static double[][] randomPoints(int size, int objectives) {
+        double[][] points = new double[size][objectives];
+        for (double[] point : points) {
+            for (int k = 0; k < objectives; k++) {
+                point[k] = Rand.nextDouble();
+            }
+        }
+        return points;
+    }
+
+    @Test
+    public void twoObjectives() {
+        double[][] points = { { 0.0, 1.0 }, { 0.5, 0.5 }, { 1.0, 0.0 }, { 0.6, 0.6 } };
+        Assert.assertEquals(1.5, Hypervolumes.exact(points, new double[] { 1.5, 1.5 }), 1e-12);
+        // Points on the boundary of the reference point do not contribute.
+        Assert.assertEquals(0.25, Hypervolumes.exact(points, new double[] { 1.0, 1.0 }), 1e-12);
+    }
+
+    @Test
+    public void sameAsInclusionExclusion() {
+        Rand.setSeed(0);
+        for (int objectives = 1; objectives <= 6; objectives++) {
+            for (int trial = 0; trial < 5; trial++) {
+                double[][] points = randomPoints(9, objectives);
+                double[] reference = new double[objectives];
+                Arrays.fill(reference, 0.9);
+                Assert.assertEquals(inclusionExclusion(points, reference), Hypervolumes.exact(points, reference), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void contribution() {
+        Rand.setSeed(1);
+        double[][] points = randomPoints(8, 3);
+        double[] reference = { 1.0, 1.0, 1.0 };
+        double[][] others = Arrays.copyOf(points, 7);
+        Assert.assertEquals(Hypervolumes.exact(points, reference) - Hypervolumes.exact(others, reference),
+                Hypervolumes.contribution(points[7], others, reference), 1e-12);
+    }
+
+    @Test
+    public void estimate() {
+        Rand.setSeed(2);
+        double[][] points = randomPoints(10, 4);
+        double[] reference = { 1.0, 1.0, 1.0, 1.0 };
+        Assert.assertEquals(Hypervolumes.exact(points, reference), Hypervolumes.estimate(points, reference, 100000), 0.01);
+    }
+}
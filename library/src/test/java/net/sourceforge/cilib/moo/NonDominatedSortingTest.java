@@ -0,0 +1,110 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.moo;
+
+import java.util.Arrays;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.solution.Fitnesses;
+import net.sourceforge.cilib.problem.solution.InferiorFitness;
+import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.problem.solution.MaximisationFitness;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NonDominatedSortingTest {
+
+    /**
+     * The fronts by repeatedly removing the non-dominated points.
+     */
+    private static int[] peel(ObjectiveMatrix matrix) {
+        int[] ranks = new int[matrix.size()];
+        Arrays.fill(ranks, -1);
+        int remaining = matrix.size();
+        for (int front = 0; remaining > 0; front++) {
+            int[] current = new int[matrix.size()];
+            int size = 0;
+            for (int i = 0; i < matrix.size(); i++) {
+                if (ranks[i] != -1) {
+                    continue;
+                }
+                boolean dominated = false;
+                for (int j = 0; j < matrix.size() && !dominated; j++) {
+                    dominated = ranks[j] == -1 && matrix.dominates(j, i);
+                }
+                if (!dominated) {
+                    current[size++] = i;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                ranks[current[i]] = front;
+            }
+            remaining -= size;
+        }
+        return ranks;
+    }
+
+    private static ObjectiveMatrix randomMatrix(int size, int objectives) {
+        double[] values = new double[size * objectives];
+        for (int i = 0; i < values.length; i++) {
+            // Few distinct values, so that there are equal objective values and points.
+            values[i] = Rand.nextInt(8);
+        }
+        return new ObjectiveMatrix(values, objectives);
+    }
+
+    @Test
+    public void sameRanksAsPeeling() {
+        Rand.setSeed(0);
+        for (int objectives = 1; objectives <= 5; objectives++) {
+            for (int trial = 0; trial < 10; trial++) {
+                ObjectiveMatrix matrix = randomMatrix(100, objectives);
+                Assert.assertArrayEquals(peel(matrix), NonDominatedSorting.ranks(matrix));
+            }
+        }
+    }
+
+    @Test
+    public void fronts() {
+        ObjectiveMatrix matrix = new ObjectiveMatrix(new double[] { 1, 1, 0, 2, 2, 2, 2, 0, 1, 1, 3, 3 }, 2);
+        int[][] fronts = NonDominatedSorting.fronts(matrix);
+        Assert.assertEquals(3, fronts.length);
+        Assert.assertArrayEquals(new int[] { 0, 1, 3, 4 }, fronts[0]);
+        Assert.assertArrayEquals(new int[] { 2 }, fronts[1]);
+        Assert.assertArrayEquals(new int[] { 5 }, fronts[2]);
+        Assert.assertArrayEquals(fronts[0], NonDominatedSorting.nondominated(matrix));
+    }
+
+    @Test
+    public void crowdingDistances() {
+        ObjectiveMatrix matrix = new ObjectiveMatrix(new double[] { 0, 4, 1, 2, 3, 1, 4, 0 }, 2);
+        double[] distances = NonDominatedSorting.crowdingDistances(matrix, new int[] { 0, 1, 2, 3 });
+        Assert.assertEquals(Double.POSITIVE_INFINITY, distances[0], 0.0);
+        Assert.assertEquals(3.0 / 4.0 + 3.0 / 4.0, distances[1], 1e-12);
+        Assert.assertEquals(3.0 / 4.0 + 2.0 / 4.0, distances[2], 1e-12);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, distances[3], 0.0);
+    }
+
+    @Test
+    public void dominanceSameAsFitness() {
+        MOFitness[] fitnesses = {
+            Fitnesses.create(new MinimisationFitness(1.0), new MaximisationFitness(1.0)),
+            Fitnesses.create(new MinimisationFitness(0.0), new MaximisationFitness(2.0)),
+            Fitnesses.create(new MinimisationFitness(0.0), new MaximisationFitness(0.0)),
+            Fitnesses.create(new MinimisationFitness(-1.0), InferiorFitness.instance()),
+            Fitnesses.create(new MinimisationFitness(-0.0), new MaximisationFitness(2.0)),
+        };
+        ObjectiveMatrix matrix = ObjectiveMatrix.of(Arrays.asList(fitnesses));
+        for (int i = 0; i < fitnesses.length; i++) {
+            for (int j = 0; j < fitnesses.length; j++) {
+                if (i != j && !(i == 1 && j == 4 || i == 4 && j == 1)) {
+                    Assert.assertEquals(fitnesses[i].dominates(fitnesses[j]), matrix.dominates(i, j));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.moo.archive.constrained;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import java.util.Iterator;
+import java.util.List;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.problem.solution.Fitnesses;
+import net.sourceforge.cilib.problem.solution.MOFitness;
+import net.sourceforge.cilib.problem.solution.MaximisationFitness;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.problem.solution.OptimisationSolution;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class TreeBasedConstrainedArchiveTest {
+
+    private static OptimisationSolution solution(double... objectives) {
+        Fitness[] fitnesses = new Fitness[objectives.length];
+        for (int i = 0; i < objectives.length; i++) {
+            fitnesses[i] = new MinimisationFitness(objectives[i]);
+        }
+        return new OptimisationSolution(Vector.copyOf(objectives), Fitnesses.create(fitnesses));
+    }
+
+    /**
+     * Without pruning, the archive must contain exactly the same solutions
+     * as the linear {@link SetBasedConstrainedArchive}.
+     */
+    @Test
+    public void sameContentsAsSetBasedArchive() {
+        Rand.setSeed(0);
+        for (int objectives = 2; objectives <= 4; objectives++) {
+            TreeBasedConstrainedArchive tree = new TreeBasedConstrainedArchive();
+            SetBasedConstrainedArchive set = new SetBasedConstrainedArchive();
+
+            for (int i = 0; i < 3000; i++) {
+                double[] values = new double[objectives];
+                double sum = 0.0;
+                for (int k = 0; k < objectives; k++) {
+                    values[k] = Rand.nextDouble();
+                    sum += values[k];
+                }
+                double scale = (1.0 + 0.2 * Rand.nextDouble()) / sum;
+                for (int k = 0; k < objectives; k++) {
+                    values[k] = Math.floor(1000 * values[k] * scale) / 1000;
+                }
+
+                OptimisationSolution candidate = solution(values);
+                assertEquals(set.dominates(candidate), tree.dominates(candidate));
+                assertEquals(set.isDominatedBy(candidate), tree.isDominatedBy(candidate));
+                assertEquals(set.add(candidate), tree.add(candidate));
+            }
+
+            assertEquals(Sets.newHashSet(set), Sets.newHashSet(tree));
+        }
+    }
+
+    @Test
+    public void maximisedObjectives() {
+        TreeBasedConstrainedArchive archive = new TreeBasedConstrainedArchive();
+        OptimisationSolution a = new OptimisationSolution(Vector.of(0.0),
+                Fitnesses.create(new MaximisationFitness(1.0), new MaximisationFitness(2.0)));
+        OptimisationSolution b = new OptimisationSolution(Vector.of(1.0),
+                Fitnesses.create(new MaximisationFitness(2.0), new MaximisationFitness(3.0)));
+
+        assertTrue(archive.add(a));
+        assertTrue(archive.isDominatedBy(b));
+        assertTrue(archive.add(b));
+        assertThat(archive.size(), is(1));
+        assertTrue(archive.contains(b));
+        assertTrue(archive.dominates(a));
+    }
+
+    @Test
+    public void pruneRemovesMostCrowded() {
+        TreeBasedConstrainedArchive archive = new TreeBasedConstrainedArchive();
+        archive.setCapacity(3);
+        OptimisationSolution a = solution(0.0, 4.0);
+        OptimisationSolution b = solution(1.0, 3.0);
+        OptimisationSolution c = solution(1.1, 2.9);
+        OptimisationSolution d = solution(4.0, 0.0);
+
+        archive.add(a);
+        archive.add(b);
+        archive.add(c);
+        archive.add(d);
+
+        assertThat(archive.size(), is(3));
+        assertTrue(archive.contains(a));
+        assertFalse(archive.contains(b));
+        assertTrue(archive.contains(c));
+        assertTrue(archive.contains(d));
+    }
+
+    @Test
+    public void pruneToCapacity() {
+        TreeBasedConstrainedArchive archive = new TreeBasedConstrainedArchive();
+        archive.setCapacity(100);
+        for (int i = 0; i < 5000; i++) {
+            double x = i / 5000.0;
+            archive.add(solution(x, 1.0 - Math.sqrt(x)));
+        }
+        assertThat(archive.size(), is(100));
+    }
+
+    /**
+     * The crowding is maintained incrementally, so compare the pruning with
+     * a straightforward recalculation of all the nearest neighbours.
+     */
+    @Test
+    public void pruneMatchesRecalculatedCrowding() {
+        Rand.setSeed(1);
+        TreeBasedConstrainedArchive archive = new TreeBasedConstrainedArchive();
+        archive.setCapacity(50);
+        List<OptimisationSolution> expected = Lists.newArrayList();
+
+        for (int i = 0; i < 2000; i++) {
+            double x = Rand.nextDouble();
+            double y = Rand.nextDouble();
+            double z = Math.max(0.0, 1.0 - x - y) + 0.3 * Rand.nextDouble();
+            OptimisationSolution candidate = solution(x, y, z);
+            archive.add(candidate);
+
+            boolean dominated = false;
+            for (OptimisationSolution s : expected) {
+                dominated |= s.compareTo(candidate) > 0;
+            }
+            if (dominated || expected.contains(candidate)) {
+                continue;
+            }
+            for (Iterator<OptimisationSolution> iterator = expected.iterator(); iterator.hasNext();) {
+                if (candidate.compareTo(iterator.next()) > 0) {
+                    iterator.remove();
+                }
+            }
+            expected.add(candidate);
+
+            if (expected.size() > 50) {
+                OptimisationSolution crowded = null;
+                double smallest = Double.POSITIVE_INFINITY;
+                for (OptimisationSolution a : expected) {
+                    for (OptimisationSolution b : expected) {
+                        double d = a == b ? Double.POSITIVE_INFINITY : squaredDistance(a, b);
+                        if (d < smallest) {
+                            smallest = d;
+                            crowded = a;
+                        }
+                    }
+                }
+                expected.remove(crowded);
+            }
+
+            assertEquals(Sets.newHashSet(expected), Sets.newHashSet(archive));
+        }
+    }
+
+    private static double squaredDistance(OptimisationSolution a, OptimisationSolution b) {
+        MOFitness fa = (MOFitness) a.getFitness();
+        MOFitness fb = (MOFitness) b.getFitness();
+        double sum = 0.0;
+        for (int k = 0; k < fa.getDimension(); k++) {
+            double d = fa.getFitness(k).getValue() - fb.getFitness(k).getValue();
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    @Test
+    public void iteratorRemovalUpdatesIndex() {
+        TreeBasedConstrainedArchive archive = new TreeBasedConstrainedArchive();
+        for (int i = 0; i < 100; i++) {
+            archive.add(solution(i, 100 - i));
+        }
+
+        for (Iterator<OptimisationSolution> iterator = archive.iterator(); iterator.hasNext();) {
+            iterator.next();
+            iterator.remove();
+        }
+
+        assertTrue(archive.isEmpty());
+        assertFalse(archive.dominates(solution(50.0, 50.0)));
+        assertTrue(archive.add(solution(50.0, 50.0)));
+    }
+
+    /**
+     * Adding a batch of candidates at once must give the same archive, in
+     * the same order, as adding them one at a time.
+     */
+    @Test
+    public void addAllSameAsAdd() {
+        Rand.setSeed(1);
+        SetBasedConstrainedArchive single = new SetBasedConstrainedArchive();
+        SetBasedConstrainedArchive batch = new SetBasedConstrainedArchive();
+        TreeBasedConstrainedArchive tree = new TreeBasedConstrainedArchive();
+
+        for (int iteration = 0; iteration < 50; iteration++) {
+            List<OptimisationSolution> candidates = Lists.newArrayList();
+            for (int i = 0; i < 40; i++) {
+                // Rounded values, so that some candidates are equal.
+                candidates.add(solution(Math.floor(10 * Rand.nextDouble()) / 10, Math.floor(10 * Rand.nextDouble()) / 10,
+                        Math.floor(10 * Rand.nextDouble()) / 10));
+            }
+
+            boolean changed = false;
+            for (OptimisationSolution candidate : candidates) {
+                changed |= single.add(candidate);
+            }
+            assertEquals(changed, batch.addAll(candidates));
+            assertEquals(changed, tree.addAll(candidates));
+            assertEquals(Lists.newArrayList(single), Lists.newArrayList(batch));
+            assertEquals(Lists.newArrayList(single), Lists.newArrayList(tree));
+        }
+    }
+}
@@ -7,6 +7,7 @@
 package net.sourceforge.cilib.niching;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import net.sourceforge.cilib.algorithm.initialisation.ChargedPopulationInitialisationStrategy;
 import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
@@ -20,6 +21,7 @@ import net.sourceforge.cilib.niching.creation.NicheDetection;
 import net.sourceforge.cilib.niching.merging.MergeStrategy;
 import net.sourceforge.cilib.niching.merging.SingleSwarmMergeStrategy;
 import net.sourceforge.cilib.niching.merging.StandardMergeStrategy;
+import net.sourceforge.cilib.niching.merging.detection.MergeDetection;
 import net.sourceforge.cilib.niching.merging.detection.RadiusOverlapMergeDetection;
 import net.sourceforge.cilib.problem.solution.Fitness;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
@@ -35,10 +37,120 @@ import net.sourceforge.cilib.util.functions.Populations;
 import org.junit.Assert;
 import org.junit.Test;
 
+import fj.F;
+import fj.P;
 import fj.P2;
 import fj.data.List;
 
 public class NichingFunctionsTest {
+    @Test
+    public void testIndexedMergeMatchesPairwiseMerge() {
+        final RadiusOverlapMergeDetection detector = new RadiusOverlapMergeDetection();
+        // Tests every pair of swarms with the detector, without its index.
+        MergeDetection pairwise = new MergeDetection() {
+            @Override
+            public Boolean f(SinglePopulationBasedAlgorithm a, SinglePopulationBasedAlgorithm b) {
+                return detector.f(a, b);
+            }
+        };
+
+        List<SinglePopulationBasedAlgorithm> swarms = NichingTestHelper.randomSwarms(new Random(11), 80);
+        PSO main = new PSO();
+        main.setTopology(List.<Particle>nil());
+
+        NichingSwarms expected = NichingFunctions.merge(pairwise, new StandardMergeStrategy(), new StandardMergeStrategy())
+                .f(NichingSwarms.of(main, swarms));
+        NichingSwarms actual = NichingFunctions.merge(detector, new StandardMergeStrategy(), new StandardMergeStrategy())
+                .f(NichingSwarms.of(main, swarms));
+
+        Assert.assertTrue(expected._2().length() < swarms.length());
+        Assert.assertEquals(solutions(expected._1()), solutions(actual._1()));
+        Assert.assertEquals(solutions(expected._2()), solutions(actual._2()));
+    }
+
+    @Test
+    public void testAbsorptionMatchesRecursiveAbsorption() {
+        // The standard strategy keeps the absorbed entities in the main swarm, for the next sub-swarms.
+        MergeStrategy[] mainSwarmStrategies = { new SingleSwarmMergeStrategy(), new StandardMergeStrategy() };
+        for (MergeStrategy mainSwarmStrategy : mainSwarmStrategies) {
+            Random random = new Random(13);
+            List<SinglePopulationBasedAlgorithm> swarms = NichingTestHelper.randomSwarms(random, 30);
+            List<Particle> entities = List.nil();
+            for (int i = 0; i < 200; i++) {
+                entities = entities.cons(createParticle(new MinimisationFitness(random.nextDouble()),
+                        Vector.of(random.nextDouble() * 20.0, random.nextDouble() * 20.0)));
+            }
+            PSO main = new PSO();
+            main.setTopology(entities);
+
+            NichingSwarms expected = recursiveAbsorb(new RadiusOverlapMergeDetection(), mainSwarmStrategy, new StandardMergeStrategy())
+                    .f(NichingSwarms.of(main, swarms));
+            NichingSwarms actual = NichingFunctions.absorb(new RadiusOverlapMergeDetection(), mainSwarmStrategy, new StandardMergeStrategy())
+                    .f(NichingSwarms.of(main, swarms));
+
+            Assert.assertFalse(solutions(expected._2()).equals(solutions(swarms)));
+            Assert.assertEquals(solutions(expected._1()), solutions(actual._1()));
+            Assert.assertEquals(solutions(expected._2()), solutions(actual._2()));
+        }
+    }
+
+    /**
+     * The absorption of the original implementation, which tests every
+     * sub-swarm against every entity of the main swarm, and applies the main
+     * swarm strategy after every sub-swarm.
+     */
+    private static NichingFunctions.NichingFunction recursiveAbsorb(final MergeDetection absorptionDetection,
+            final MergeStrategy mainSwarmAbsorptionStrategy, final MergeStrategy subSwarmsAbsorptionStrategy) {
+        final F<NichingSwarms, P2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm>> absorbSingleSwarm =
+                new F<NichingSwarms, P2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm>>() {
+            @Override
+            public P2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm> f(NichingSwarms swarms) {
+                SinglePopulationBasedAlgorithm newSubSwarm = swarms.getSubswarms()
+                        .filter(absorptionDetection.f(swarms.getMainSwarm()))
+                        .foldLeft(subSwarmsAbsorptionStrategy, swarms.getMainSwarm());
+                SinglePopulationBasedAlgorithm unmergedSwarms = swarms.getSubswarms()
+                        .removeAll(absorptionDetection.f(swarms.getMainSwarm()))
+                        .foldLeft(new StandardMergeStrategy(), Populations.emptyPopulation().f(swarms.getSubswarms().head()));
+                SinglePopulationBasedAlgorithm mergedSwarms = swarms.getSubswarms()
+                        .filter(absorptionDetection.f(swarms.getMainSwarm()))
+                        .foldLeft(new StandardMergeStrategy(), Populations.emptyPopulation().f(swarms.getSubswarms().head()));
+
+                return P.p(mainSwarmAbsorptionStrategy.f(unmergedSwarms, mergedSwarms), newSubSwarm);
+            }
+        };
+
+        return new NichingFunctions.NichingFunction() {
+            @Override
+            public NichingSwarms f(NichingSwarms swarms) {
+                if (swarms.getSubswarms().isEmpty() || swarms.getMainSwarm().getTopology().isEmpty()) {
+                    return swarms;
+                }
+
+                P2<SinglePopulationBasedAlgorithm, SinglePopulationBasedAlgorithm> newPopulations = absorbSingleSwarm
+                        .f(NichingSwarms.of(swarms.getSubswarms().head(), Populations.populationToAlgorithms().f(swarms.getMainSwarm())));
+                NichingSwarms joinedPopulations = this.f(NichingSwarms.of(newPopulations._1(), swarms.getSubswarms().tail()));
+
+                return NichingSwarms.of(joinedPopulations.getMainSwarm(), List.cons(newPopulations._2(), joinedPopulations.getSubswarms()));
+            }
+        };
+    }
+
+    private static java.util.List<Object> solutions(List<SinglePopulationBasedAlgorithm> swarms) {
+        java.util.List<Object> solutions = new java.util.ArrayList<Object>();
+        for (SinglePopulationBasedAlgorithm swarm : swarms) {
+            solutions.add(solutions(swarm));
+        }
+        return solutions;
+    }
+
+    private static java.util.List<Object> solutions(SinglePopulationBasedAlgorithm swarm) {
+        java.util.List<Object> solutions = new java.util.ArrayList<Object>();
+        for (Object e : swarm.getTopology()) {
+            solutions.add(((Entity) e).getCandidateSolution());
+        }
+        return solutions;
+    }
+
     @Test
     public void testNormalMerge() {
         PSO pso1 = new PSO();
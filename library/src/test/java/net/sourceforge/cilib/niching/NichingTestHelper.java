@@ -0,0 +1,46 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.niching;
+
+import fj.data.List;
+import java.util.Random;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.problem.solution.MinimisationFitness;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.type.types.container.Vector;
+
+/**
+ * Helper object for niching testing.
+ */
+public final class NichingTestHelper {
+
+    private NichingTestHelper() {
+    }
+
+    /**
+     * Swarms of up to three particles around random points, some of which
+     * have a radius of zero.
+     */
+    public static List<SinglePopulationBasedAlgorithm> randomSwarms(Random random, int count) {
+        List<SinglePopulationBasedAlgorithm> swarms = List.nil();
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 20.0;
+            double y = random.nextDouble() * 20.0;
+            List<Particle> particles = List.nil();
+            for (int j = random.nextInt(3); j >= 0; j--) {
+                particles = particles.cons(NichingFunctionsTest.createParticle(new MinimisationFitness(random.nextDouble()),
+                        Vector.of(x + random.nextDouble(), y + random.nextDouble())));
+            }
+
+            PSO pso = new PSO();
+            pso.setTopology(particles);
+            swarms = swarms.cons(pso);
+        }
+        return swarms;
+    }
+}
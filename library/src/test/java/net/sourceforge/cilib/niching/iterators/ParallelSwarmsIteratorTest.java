@@ -0,0 +1,92 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.niching.iterators;
+
+import fj.data.List;
+import java.util.ArrayList;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
+import net.sourceforge.cilib.entity.Entity;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.niching.NichingSwarms;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.type.types.Type;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ParallelSwarmsIteratorTest {
+
+    /**
+     * A single thread iterates the sub-swarms one after the other.
+     */
+    @Test
+    public void sequentialAndParallelIterationAreTheSame() {
+        java.util.List<java.util.List<Type>> sequential = run(1);
+        java.util.List<java.util.List<Type>> parallel = run(4);
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void subswarmsKeepTheirOrder() {
+        Rand.setSeed(0);
+        NichingSwarms swarms = swarms();
+        ParallelSwarmsIterator iterator = new ParallelSwarmsIterator();
+        iterator.setIterator(new SingleNicheIteration());
+        iterator.setEvaluator(new ParallelEvaluator(4));
+
+        NichingSwarms result = iterator.f(swarms);
+
+        assertSame(swarms._1(), result._1());
+        assertEquals(swarms._2().length(), result._2().length());
+        for (int i = 0; i < swarms._2().length(); i++) {
+            assertSame(swarms._2().index(i), result._2().index(i));
+            assertEquals(1, result._2().index(i).getIterations());
+        }
+    }
+
+    private static java.util.List<java.util.List<Type>> run(int threads) {
+        Rand.setSeed(0);
+        NichingSwarms swarms = swarms();
+        ParallelSwarmsIterator iterator = new ParallelSwarmsIterator();
+        iterator.setIterator(new SingleNicheIteration());
+        iterator.setEvaluator(new ParallelEvaluator(threads));
+
+        for (int i = 0; i < 5; i++) {
+            swarms = iterator.f(swarms);
+        }
+
+        java.util.List<java.util.List<Type>> positions = new ArrayList<java.util.List<Type>>();
+        for (SinglePopulationBasedAlgorithm swarm : swarms._2()) {
+            java.util.List<Type> swarmPositions = new ArrayList<Type>();
+            for (Object entity : swarm.getTopology()) {
+                swarmPositions.add(((Entity) entity).getCandidateSolution());
+            }
+            positions.add(swarmPositions);
+        }
+        return positions;
+    }
+
+    private static NichingSwarms swarms() {
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(new Rastrigin());
+        problem.setDomain("R(-5.12:5.12)^5");
+
+        List<SinglePopulationBasedAlgorithm> subswarms = List.nil();
+        for (int i = 0; i < 4; i++) {
+            PSO pso = new PSO();
+            pso.setOptimisationProblem(problem);
+            pso.performInitialisation();
+            subswarms = subswarms.snoc(pso);
+        }
+        return NichingSwarms.of(new PSO(), subswarms);
+    }
+}
@@ -6,10 +6,16 @@
  */
 package net.sourceforge.cilib.niching.merging.detection;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import fj.data.List;
+import java.util.Arrays;
+import java.util.Random;
+import net.sourceforge.cilib.algorithm.population.SinglePopulationBasedAlgorithm;
 import net.sourceforge.cilib.math.Maths;
 import net.sourceforge.cilib.niching.NichingFunctionsTest;
+import net.sourceforge.cilib.niching.NichingTestHelper;
 import net.sourceforge.cilib.problem.solution.MinimisationFitness;
 import net.sourceforge.cilib.pso.PSO;
 import net.sourceforge.cilib.pso.particle.Particle;
@@ -71,4 +77,27 @@ public class RadiusOverlapMergeDetectionTest {
 
         assertTrue(detector.f(pso1, pso2));
     }
+
+    @Test
+    public void testPairsAgreeWithMergeDetection() {
+        RadiusOverlapMergeDetection detector = new RadiusOverlapMergeDetection();
+        List<SinglePopulationBasedAlgorithm> swarms = NichingTestHelper.randomSwarms(new Random(5), 60);
+        SinglePopulationBasedAlgorithm[] array = swarms.toArray().array(SinglePopulationBasedAlgorithm[].class);
+
+        MergeDetection.Pairs pairs = detector.pairs(array);
+        int overlapping = 0;
+        for (int i = 0; i < array.length; i++) {
+            int[] candidates = pairs.candidates(i);
+            for (int j = 0; j < array.length; j++) {
+                boolean expected = detector.f(array[i], array[j]);
+                if (expected) {
+                    overlapping++;
+                    assertTrue(Arrays.binarySearch(candidates, j) >= 0);
+                }
+                assertEquals(expected, pairs.test(i, j));
+            }
+        }
+        // Every swarm overlaps itself, and some overlap others.
+        assertTrue(overlapping > array.length);
+    }
 }
@@ -0,0 +1,114 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.nn.architecture;
+
+import net.sourceforge.cilib.io.PrimitivePatternDataTable;
+import net.sourceforge.cilib.io.StandardPatternDataTable;
+import net.sourceforge.cilib.io.pattern.StandardPattern;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.nn.NeuralNetwork;
+import net.sourceforge.cilib.nn.NeuralNetworksTestHelper;
+import net.sourceforge.cilib.nn.architecture.visitors.FeedForwardVisitor;
+import net.sourceforge.cilib.nn.architecture.visitors.OutputErrorVisitor;
+import net.sourceforge.cilib.nn.domain.WeightSolutionConversionStrategy;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.Type;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DenseArchitectureTest {
+
+    private static Vector randomVector(int size) {
+        Vector.Builder builder = Vector.newBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.add(Rand.nextDouble() * 2.0 - 1.0);
+        }
+        return builder.build();
+    }
+
+    private static StandardPatternDataTable randomPatterns(int size, int inputs, int outputs) {
+        StandardPatternDataTable patterns = new StandardPatternDataTable();
+        for (int i = 0; i < size; i++) {
+            Type target = outputs > 1 ? randomVector(outputs) : Real.valueOf(Rand.nextDouble());
+            patterns.addRow(new StandardPattern(randomVector(inputs), target));
+        }
+        return patterns;
+    }
+
+    /**
+     * The mean squared error as calculated by the training problems before,
+     * one pattern and one neuron at a time.
+     */
+    private static double visitorError(NeuralNetwork network, StandardPatternDataTable patterns) {
+        double error = 0.0;
+        OutputErrorVisitor visitor = new OutputErrorVisitor();
+        Vector output = null;
+        for (StandardPattern pattern : patterns) {
+            network.evaluatePattern(pattern);
+            visitor.setInput(pattern);
+            network.getArchitecture().accept(visitor);
+            output = visitor.getOutput();
+            for (Numeric real : output) {
+                error += real.doubleValue() * real.doubleValue();
+            }
+        }
+        return error / (patterns.getNumRows() * output.size());
+    }
+
+    @Test
+    public void sameErrorAsVisitors() {
+        Rand.setSeed(0);
+        for (int outputs : new int[] { 1, 3 }) {
+            NeuralNetwork network = NeuralNetworksTestHelper.createFFNN(4, 5, outputs);
+            DenseArchitecture dense = DenseArchitecture.of(network);
+            Assert.assertEquals(network.getWeights().size(), dense.getNumWeights());
+
+            // More patterns than fit in a single batch.
+            StandardPatternDataTable patterns = randomPatterns(150, 4, outputs);
+            PrimitivePatternDataTable primitive = new PrimitivePatternDataTable(4, outputs);
+            for (StandardPattern pattern : patterns) {
+                primitive.addRow(pattern);
+            }
+
+            for (int i = 0; i < 5; i++) {
+                Vector solution = randomVector(dense.getNumWeights());
+                double[] weights = new double[dense.getNumWeights()];
+                new WeightSolutionConversionStrategy().interpretSolution(solution, weights);
+
+                network.setWeights(solution);
+                double expected = visitorError(network, patterns);
+                Assert.assertEquals(expected, dense.getMeanSquaredError(weights, patterns), 0.0);
+                Assert.assertEquals(expected, dense.getMeanSquaredError(weights, primitive), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void recompiledWhenLayersChange() {
+        NeuralNetwork network = NeuralNetworksTestHelper.createFFNN(2, 3, 1);
+        DenseArchitecture dense = DenseArchitecture.of(network);
+        Assert.assertTrue(dense.isCompiledFrom(network));
+
+        network.getArchitecture().initialise();
+        Assert.assertFalse(dense.isCompiledFrom(network));
+        Assert.assertTrue(DenseArchitecture.of(network).isCompiledFrom(network));
+    }
+
+    @Test
+    public void notDense() {
+        NeuralNetwork network = NeuralNetworksTestHelper.createFFNN(2, 3, 1);
+        network.getArchitecture().getLayers().get(1).get(0).setWeights(Vector.of(1.0));
+        Assert.assertNull(DenseArchitecture.of(network));
+
+        network = NeuralNetworksTestHelper.createFFNN(2, 3, 1);
+        network.setOperationVisitor(new FeedForwardVisitor() {
+        });
+        Assert.assertNull(DenseArchitecture.of(network));
+    }
+}
@@ -6,13 +6,18 @@
  */
 package net.sourceforge.cilib.problem;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
+import com.google.common.collect.Lists;
+import java.util.List;
 import java.util.Random;
 
 import net.sourceforge.cilib.functions.ContinuousFunction;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Ackley;
 import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.problem.solution.Fitness;
+import net.sourceforge.cilib.type.types.container.Vector;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -60,4 +65,40 @@ public class FunctionOptimisationProblemTest {
         assertSame(f, problem.getFunction());
     }
 
+    @Test
+    public void testEvaluateAll() {
+        List<Vector> solutions = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            solutions.add(Vector.of(random.nextDouble(), random.nextDouble(), random.nextDouble()));
+        }
+
+        List<Fitness> fitnesses = problem.evaluateAll(solutions);
+
+        assertEquals(10, problem.getFitnessEvaluations());
+        assertEquals(solutions.size(), fitnesses.size());
+        for (int i = 0; i < solutions.size(); i++) {
+            assertEquals(problem.getFitness(solutions.get(i)), fitnesses.get(i));
+        }
+        assertEquals(20, problem.getFitnessEvaluations());
+    }
+
+    @Test
+    public void testEvaluateAllDerating() {
+        DeratingOptimisationProblem derating = new DeratingOptimisationProblem();
+        derating.setFunction(new Ackley());
+        derating.addSolution(Vector.of(0.5, 0.5, 0.5));
+
+        List<Vector> solutions = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            solutions.add(Vector.of(random.nextDouble(), random.nextDouble(), random.nextDouble()));
+        }
+
+        List<Fitness> fitnesses = derating.evaluateAll(solutions);
+
+        assertEquals(10, derating.getFitnessEvaluations());
+        for (int i = 0; i < solutions.size(); i++) {
+            assertEquals(derating.getFitness(solutions.get(i)), fitnesses.get(i));
+        }
+    }
+
 }
@@ -0,0 +1,92 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.iterationstrategies;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
+import net.sourceforge.cilib.functions.ContinuousFunction;
+import net.sourceforge.cilib.functions.continuous.decorators.NoisyFunctionDecorator;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Rastrigin;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SynchronousIterationStrategyTest {
+
+    @Test
+    public void parallelEvaluationIsIndependentOfThreadCount() {
+        Vector single = run(1);
+        Vector multiple = run(4);
+
+        assertEquals(single, multiple);
+    }
+
+    /**
+     * The noise of the function is drawn from the random stream of each
+     * evaluation, so the results must still not depend on the thread count.
+     */
+    @Test
+    public void stochasticEvaluationIsIndependentOfThreadCount() {
+        List<Double> single = fitnesses(1);
+
+        assertEquals(single, fitnesses(2));
+        assertEquals(single, fitnesses(4));
+    }
+
+    private static List<Double> fitnesses(int threads) {
+        NoisyFunctionDecorator noisy = new NoisyFunctionDecorator();
+        noisy.setFunction(new Rastrigin());
+        PSO pso = pso(threads, noisy);
+
+        List<Double> fitnesses = new ArrayList<Double>();
+        for (Particle p : pso.getTopology()) {
+            fitnesses.add(p.getFitness().getValue());
+        }
+        return fitnesses;
+    }
+
+    private static Vector run(int threads) {
+        PSO pso = pso(threads, new Rastrigin());
+
+        Vector best = (Vector) pso.getBestSolution().getPosition();
+        for (Particle p : pso.getTopology()) {
+            // Every particle must have been evaluated.
+            assertEquals(false, p.getFitness().getValue().isNaN());
+        }
+        return best;
+    }
+
+    private static PSO pso(int threads, ContinuousFunction function) {
+        Rand.setSeed(0);
+
+        FunctionOptimisationProblem problem = new FunctionOptimisationProblem();
+        problem.setFunction(function);
+        problem.setDomain("R(-5.12:5.12)^10");
+
+        ParallelEvaluator evaluator = new ParallelEvaluator(threads);
+        SynchronousIterationStrategy strategy = new SynchronousIterationStrategy();
+        strategy.setEvaluator(evaluator);
+
+        PSO pso = new PSO();
+        pso.setIterationStrategy(strategy);
+        pso.setOptimisationProblem(problem);
+        pso.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), 20));
+        pso.performInitialisation();
+        pso.run();
+        evaluator.shutdown();
+        return pso;
+    }
+}
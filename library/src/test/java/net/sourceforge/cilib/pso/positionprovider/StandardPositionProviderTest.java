@@ -0,0 +1,41 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.positionprovider;
+
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class StandardPositionProviderTest {
+
+    @Test
+    public void inPlaceUpdateAlternatesBuffers() {
+        Particle particle = new StandardParticle();
+        Vector initial = Vector.of(1.0, 2.0);
+        particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, initial);
+        particle.getProperties().put(EntityType.Particle.VELOCITY, Vector.of(0.5, -0.5));
+
+        StandardPositionProvider provider = new StandardPositionProvider();
+        provider.setInPlace(true);
+
+        Vector first = provider.get(particle);
+        assertNotSame(initial, first);
+        assertEquals(Vector.of(1.5, 1.5), first);
+        assertEquals(Vector.of(1.0, 2.0), initial);
+
+        particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, first);
+        Vector second = provider.get(particle);
+        assertSame(initial, second);
+        assertEquals(Vector.of(2.0, 1.0), second);
+        assertEquals(Vector.of(1.5, 1.5), first);
+    }
+}
@@ -47,4 +47,23 @@ public class ClampingVelocityProviderTest {
             Assert.assertTrue(Double.compare(number.doubleValue(), -0.5) >= 0);
         }
     }
+
+    @Test
+    public void testInPlaceClamping() {
+        Particle particle = createParticle(Vector.of(0.0, 0.0));
+        Particle nBest = createParticle(Vector.of(10.0, -10.0));
+        particle.setNeighbourhoodBest(nBest);
+        nBest.setNeighbourhoodBest(nBest);
+        particle.getProperties().put(EntityType.Particle.VELOCITY, Vector.of(5.0, -5.0));
+
+        StandardVelocityProvider delegate = new StandardVelocityProvider();
+        delegate.setInPlace(true);
+        ClampingVelocityProvider velocityProvider = new ClampingVelocityProvider(ConstantControlParameter.of(0.5), delegate);
+        velocityProvider.setInPlace(true);
+        Vector velocity = velocityProvider.get(particle);
+
+        Assert.assertSame(particle.getVelocity(), velocity);
+        Assert.assertEquals(0.5, velocity.doubleValueOf(0), 0.0);
+        Assert.assertEquals(-0.5, velocity.doubleValueOf(1), 0.0);
+    }
 }
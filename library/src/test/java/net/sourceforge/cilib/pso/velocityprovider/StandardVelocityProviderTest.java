@@ -0,0 +1,51 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.pso.velocityprovider;
+
+import net.sourceforge.cilib.entity.EntityType;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.particle.StandardParticle;
+import net.sourceforge.cilib.type.types.container.Vector;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class StandardVelocityProviderTest {
+
+    private Particle createParticle(Vector position, Vector velocity, Vector best) {
+        Particle particle = new StandardParticle();
+        particle.getProperties().put(EntityType.CANDIDATE_SOLUTION, position);
+        particle.getProperties().put(EntityType.Particle.VELOCITY, velocity);
+        particle.getProperties().put(EntityType.Particle.BEST_POSITION, best);
+        return particle;
+    }
+
+    @Test
+    public void inPlaceUpdateEqualsDefaultUpdate() {
+        Particle nBest = createParticle(Vector.of(1.0, 1.0, 1.0), Vector.of(0.0, 0.0, 0.0), Vector.of(2.0, -1.0, 3.0));
+        nBest.setNeighbourhoodBest(nBest);
+
+        Particle particle = createParticle(Vector.of(0.5, 0.0, -0.5), Vector.of(0.1, 0.2, 0.3), Vector.of(1.0, 0.5, 0.0));
+        particle.setNeighbourhoodBest(nBest);
+
+        StandardVelocityProvider provider = new StandardVelocityProvider();
+        Rand.setSeed(0);
+        Vector expected = provider.get(particle);
+
+        StandardVelocityProvider inPlace = new StandardVelocityProvider();
+        inPlace.setInPlace(true);
+        Vector velocity = (Vector) particle.getVelocity();
+        Rand.setSeed(0);
+        Vector actual = inPlace.get(particle);
+
+        assertSame(velocity, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.doubleValueOf(i), actual.doubleValueOf(i), 0.0);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.tuning;
+
+import fj.Equal;
+import fj.data.List;
+import net.sourceforge.cilib.algorithm.initialisation.ClonedPopulationInitialisationStrategy;
+import net.sourceforge.cilib.algorithm.population.ParallelEvaluator;
+import net.sourceforge.cilib.controlparameter.ConstantControlParameter;
+import net.sourceforge.cilib.functions.continuous.unconstrained.Spherical;
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.measurement.generic.Iterations;
+import net.sourceforge.cilib.measurement.single.FitnessEvaluations;
+import net.sourceforge.cilib.problem.FunctionOptimisationProblem;
+import net.sourceforge.cilib.pso.PSO;
+import net.sourceforge.cilib.pso.particle.Particle;
+import net.sourceforge.cilib.pso.velocityprovider.StandardVelocityProvider;
+import net.sourceforge.cilib.stoppingcondition.Maximum;
+import net.sourceforge.cilib.stoppingcondition.MeasuredStoppingCondition;
+import net.sourceforge.cilib.stoppingcondition.StoppingCondition;
+import net.sourceforge.cilib.tuning.parameterlist.ParameterListProvider;
+import net.sourceforge.cilib.tuning.problem.StandardProblemGenerator;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FRaceIterationStrategyTest {
+
+    @Test
+    public void parallelRaceIsIndependentOfThreadCount() {
+        assertEquals(race(1), race(3));
+    }
+
+    @Test
+    public void runsUseTheirOwnParameters() {
+        // A diverging inertia weight must be ranked last.
+        assertEquals(Vector.of(1.2), race(4).last());
+    }
+
+    @Test
+    public void checkpointsEliminateConfigurationsEarly() {
+        FRaceIterationStrategy strategy = new FRaceIterationStrategy();
+        strategy.setMinProblems(ConstantControlParameter.of(2.0));
+        strategy.setCheckpointInterval(ConstantControlParameter.of(0.25));
+        TuningAlgorithm tuning = tuningAlgorithm(strategy, 6);
+        tuning.run();
+
+        assertFalse(tuning.getParameterList().exists(Equal.<Vector>anyEqual().eq(Vector.of(1.2))));
+        // The eliminated configurations were not evaluated on every problem.
+        assertTrue(tuning.getOptimisationProblem().getFitnessEvaluations() < 5 * 6);
+    }
+
+    @Test
+    public void runsCountTheirOwnFitnessEvaluations() {
+        assertEquals(evaluationRace(1), evaluationRace(3));
+    }
+
+    @Test
+    public void parallelCheckpointsAreIndependentOfThreadCount() {
+        assertEquals(checkpointRace(1), checkpointRace(4));
+    }
+
+    private static List<Vector> checkpointRace(int threads) {
+        FRaceIterationStrategy strategy = new FRaceIterationStrategy();
+        strategy.setMinProblems(ConstantControlParameter.of(2.0));
+        strategy.setCheckpointInterval(ConstantControlParameter.of(0.25));
+        strategy.setEvaluator(new ParallelEvaluator(threads));
+        TuningAlgorithm tuning = tuningAlgorithm(strategy, 6);
+        tuning.run();
+        return tuning.getParameterList();
+    }
+
+    private static List<Vector> evaluationRace(int threads) {
+        FRaceIterationStrategy strategy = new FRaceIterationStrategy();
+        strategy.setEvaluator(new ParallelEvaluator(threads));
+        TuningAlgorithm tuning = tuningAlgorithm(strategy, 3,
+                new MeasuredStoppingCondition(new FitnessEvaluations(), new Maximum(), 200));
+        tuning.run();
+        // The runs do not count their evaluations on the benchmark problem.
+        assertEquals(0, ((TuningProblem) tuning.getOptimisationProblem()).getCurrentProblem().getFitnessEvaluations());
+        return tuning.getParameterList();
+    }
+
+    private static List<Vector> race(int threads) {
+        FRaceIterationStrategy strategy = new FRaceIterationStrategy();
+        strategy.setEvaluator(new ParallelEvaluator(threads));
+        TuningAlgorithm tuning = tuningAlgorithm(strategy, 3);
+        tuning.run();
+        // One evaluation per configuration per iteration, as no configuration
+        // is eliminated before the minimum number of problems.
+        assertEquals(5 * 3, tuning.getOptimisationProblem().getFitnessEvaluations());
+        return tuning.getParameterList();
+    }
+
+    private static TuningAlgorithm tuningAlgorithm(FRaceIterationStrategy strategy, int iterations) {
+        return tuningAlgorithm(strategy, iterations, new MeasuredStoppingCondition(new Iterations(), new Maximum(), 20));
+    }
+
+    private static TuningAlgorithm tuningAlgorithm(FRaceIterationStrategy strategy, int iterations, StoppingCondition stoppingCondition) {
+        Rand.setSeed(0);
+
+        StandardVelocityProvider velocityProvider = new StandardVelocityProvider();
+        TuningControlParameter inertia = new TuningControlParameter();
+        inertia.setIndex(0);
+        velocityProvider.setInertiaWeight(inertia);
+
+        PSO pso = new PSO();
+        ClonedPopulationInitialisationStrategy initialisation = (ClonedPopulationInitialisationStrategy) pso.getInitialisationStrategy();
+        initialisation.setEntityNumber(10);
+        ((Particle) initialisation.getEntityType()).setVelocityProvider(velocityProvider);
+        pso.addStoppingCondition(stoppingCondition);
+
+        FunctionOptimisationProblem function = new FunctionOptimisationProblem();
+        function.setFunction(new Spherical());
+        function.setDomain("R(-5.12:5.12)^5");
+        StandardProblemGenerator problems = new StandardProblemGenerator();
+        problems.addProblem(function);
+
+        TuningProblem problem = new TuningProblem();
+        problem.setTargetAlgorithm(pso);
+        problem.setProblemsProvider(problems);
+        problem.setSamples(3);
+
+        TuningAlgorithm tuning = new TuningAlgorithm();
+        tuning.setIterationStrategy(strategy);
+        tuning.setOptimisationProblem(problem);
+        tuning.setParameterProvider(new ParameterListProvider() {
+            @Override
+            public List<Vector> _1() {
+                return List.list(Vector.of(0.9), Vector.of(0.1), Vector.of(0.7), Vector.of(0.4), Vector.of(1.2));
+            }
+        });
+        tuning.addStoppingCondition(new MeasuredStoppingCondition(new Iterations(), new Maximum(), iterations));
+        return tuning;
+    }
+}
@@ -7,6 +7,8 @@
 package net.sourceforge.cilib.type.types.container;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import net.sourceforge.cilib.type.types.Blackboard;
 import net.sourceforge.cilib.type.types.Real;
 
@@ -25,4 +27,52 @@ public class BlackboardTest {
         // the value of "first"
         assertEquals("{second=2.0, first=1.0}", properties.toString());
     }
+
+    private enum Key { A, B, C }
+
+    private static final Blackboard.KeyIndex<Key> INDEX = new Blackboard.KeyIndex<Key>() {
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Override
+        public int indexOf(Object key) {
+            return (key == Key.A || key == Key.B) ? ((Key) key).ordinal() : -1;
+        }
+
+        @Override
+        public Key keyAt(int index) {
+            return Key.values()[index];
+        }
+    };
+
+    @Test
+    public void indexedKeys() {
+        Blackboard<Key, Real> properties = new Blackboard<Key, Real>(INDEX);
+
+        assertNull(properties.get(Key.A));
+        assertNull(properties.put(Key.A, Real.valueOf(1.0)));
+        properties.put(Key.C, Real.valueOf(3.0));
+
+        assertEquals(Real.valueOf(1.0), properties.put(Key.A, Real.valueOf(2.0)));
+        assertEquals(Real.valueOf(2.0), properties.get(Key.A));
+        assertEquals(Real.valueOf(3.0), properties.get(Key.C));
+        assertNull(properties.get(Key.B));
+        assertEquals("{A=2.0, C=3.0}", properties.toString());
+    }
+
+    @Test
+    public void indexedCopy() {
+        Blackboard<Key, Real> properties = new Blackboard<Key, Real>(INDEX);
+        properties.put(Key.B, Real.valueOf(1.0));
+        properties.put(Key.C, Real.valueOf(2.0));
+
+        Blackboard<Key, Real> copy = properties.getClone();
+
+        assertEquals(properties, copy);
+        assertEquals(properties.hashCode(), copy.hashCode());
+        assertNotSame(properties.get(Key.B), copy.get(Key.B));
+        assertNotSame(properties.get(Key.C), copy.get(Key.C));
+    }
 }
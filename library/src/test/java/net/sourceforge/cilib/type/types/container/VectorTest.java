@@ -451,4 +451,108 @@ public class VectorTest {
         assertEquals(Real.valueOf(4.0), v1.max());
         assertEquals(Real.valueOf(1.0), v1.min());
     }
+
+    @Test
+    public void denseAndBoxedEquality() {
+        Bounds bounds = new Bounds(-5.0, 5.0);
+        Vector dense = Vector.newBuilder().addWithin(1.0, bounds).addWithin(2.0, bounds).build();
+        Vector boxed = Vector.copyOf(dense);
+        boxed.iterator(); // forces the boxed representation
+
+        assertEquals(dense, boxed);
+        assertEquals(boxed, dense);
+        assertEquals(dense.hashCode(), boxed.hashCode());
+        assertEquals(dense.toString(), boxed.toString());
+        assertEquals(bounds, dense.boundsOf(1));
+    }
+
+    @Test
+    public void denseArithmeticRetainsBounds() {
+        Bounds bounds = new Bounds(-5.0, 5.0);
+        Vector a = Vector.newBuilder().addWithin(1.0, bounds).addWithin(2.0, bounds).build();
+        Vector b = Vector.of(0.5, 0.5);
+
+        Vector result = a.plus(b).multiply(2.0);
+
+        assertEquals(3.0, result.doubleValueOf(0), 0.0);
+        assertEquals(5.0, result.doubleValueOf(1), 0.0);
+        assertEquals(bounds, result.boundsOf(0));
+        assertEquals(Real.valueOf(3.0, bounds), result.get(0));
+    }
+
+    @Test
+    public void elementModificationIsRetained() {
+        Bounds bounds = new Bounds(10.0, 11.0);
+        Vector v = Vector.newBuilder().addWithin(0.0, bounds).addWithin(0.0, bounds).build();
+        Vector copy = Vector.copyOf(v);
+
+        v.get(0).randomise();
+
+        assertTrue(bounds.isInsideBounds(v.doubleValueOf(0)));
+        assertEquals(0.0, v.doubleValueOf(1), 0.0);
+        assertEquals(0.0, copy.doubleValueOf(0), 0.0);
+    }
+
+    @Test
+    public void copyOfPrimitiveArray() {
+        double[] values = { 1.0, 2.0, 3.0 };
+        Vector v = Vector.copyOf(values);
+        values[0] = 5.0;
+
+        assertEquals(Vector.of(1.0, 2.0, 3.0), v);
+    }
+
+    @Test
+    public void readsReturnDetachedElements() {
+        Bounds bounds = new Bounds(10.0, 11.0);
+        Vector v = Vector.newBuilder().addWithin(0.0, bounds).addWithin(0.0, bounds).build();
+
+        v.toArray(new Numeric[0])[0].randomise();
+        ((Numeric) v.toArray()[1]).randomise();
+
+        assertEquals(0.0, v.doubleValueOf(0), 0.0);
+        assertEquals(0.0, v.doubleValueOf(1), 0.0);
+        assertEquals("[0.0,0.0]", v.toString());
+    }
+
+    @Test
+    public void concurrentReadsDuringBoxing() throws InterruptedException {
+        final int size = 1000;
+        final Vector v = Vector.copyOf(new double[size]);
+        for (int i = 0; i < size; i++) {
+            v.setReal(i, i);
+        }
+
+        final boolean[] failed = new boolean[1];
+        Thread[] readers = new Thread[4];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int repeat = 0; repeat < 50; repeat++) {
+                            for (int i = 0; i < size; i++) {
+                                if (v.doubleValueOf(i) != i || v.boundsOf(i) == null) {
+                                    failed[0] = true;
+                                }
+                            }
+                            if (v.norm() <= 0.0 || v.toArray(new Numeric[0]).length != size) {
+                                failed[0] = true;
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        failed[0] = true;
+                    }
+                }
+            };
+            readers[t].start();
+        }
+        v.iterator(); // forces the boxed representation while the readers run
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertFalse(failed[0]);
+        assertEquals(999.0, v.get(size - 1).doubleValue(), 0.0);
+    }
 }
@@ -0,0 +1,66 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class KdTreeTest {
+
+    @Test
+    public void withinMatchesExhaustiveSearch() {
+        Random random = new Random(3);
+        for (int dimension = 1; dimension <= 4; dimension++) {
+            double[][] points = new double[200][dimension];
+            for (double[] point : points) {
+                for (int i = 0; i < dimension; i++) {
+                    // Rounded, so that some coordinates are equal.
+                    point[i] = Math.round(random.nextDouble() * 20.0) / 2.0;
+                }
+            }
+
+            KdTree tree = new KdTree(points);
+            assertEquals(points.length, tree.size());
+            for (double radius : new double[] { 0.0, 0.5, 1.5, 4.0, Double.POSITIVE_INFINITY }) {
+                for (double[] centre : points) {
+                    assertArrayEquals(exhaustive(points, centre, radius), tree.within(centre, radius));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void withinNegativeRadiusIsEmpty() {
+        KdTree tree = new KdTree(new double[][] { { 0.0, 0.0 }, { 1.0, 1.0 } });
+        assertArrayEquals(new int[0], tree.within(new double[] { 0.0, 0.0 }, -1.0));
+        assertArrayEquals(new int[0], tree.within(new double[] { 0.0, 0.0 }, Double.NaN));
+        assertArrayEquals(new int[0], new KdTree(new double[0][]).within(new double[] { 0.0 }, 1.0));
+    }
+
+    private static int[] exhaustive(double[][] points, double[] centre, double radius) {
+        List<Integer> found = new ArrayList<Integer>();
+        for (int i = 0; i < points.length; i++) {
+            double sum = 0.0;
+            for (int j = 0; j < centre.length; j++) {
+                sum += (centre[j] - points[i][j]) * (centre[j] - points[i][j]);
+            }
+            if (sum <= radius * radius) {
+                found.add(i);
+            }
+        }
+        int[] result = new int[found.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = found.get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.util;
+
+import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.type.types.container.Matrix;
+import net.sourceforge.cilib.type.types.container.Vector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class RotationMatrixTest {
+
+    @Test
+    public void valuesAreCopied() {
+        Matrix matrix = Matrix.builder().dimensions(2, 2).addRow(1.0, 2.0).addRow(3.0, 4.0).build();
+        RotationMatrix rotation = RotationMatrix.of(matrix);
+
+        assertEquals(2, rotation.getSize());
+        assertEquals(2.0, rotation.valueAt(0, 1), 0.0);
+        assertEquals(3.0, rotation.valueAt(1, 0), 0.0);
+    }
+
+    /**
+     * The blocked product must give exactly the same values as the naive
+     * product, for sizes smaller than a block and sizes spanning several
+     * blocks, with and without remaining rows.
+     */
+    @Test
+    public void rotateMatchesNaiveProduct() {
+        Rand.setSeed(0);
+        for (int size : new int[] { 1, 3, 8, 603 }) {
+            Matrix.Builder builder = Matrix.builder().dimensions(size, size);
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    builder.valueAt(i, j, Rand.nextDouble() * 2.0 - 1.0);
+                }
+            }
+            Matrix matrix = builder.build();
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = Rand.nextDouble() * 10.0 - 5.0;
+            }
+            Vector input = Vector.copyOf(values);
+
+            Vector rotated = RotationMatrix.of(matrix).rotate(input);
+
+            assertEquals(size, rotated.size());
+            for (int j = 0; j < size; j++) {
+                double expected = 0.0;
+                for (int i = 0; i < size; i++) {
+                    expected = expected + input.doubleValueOf(i) * matrix.valueAt(i, j);
+                }
+                assertEquals(expected, rotated.doubleValueOf(j), 0.0);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rotateWrongSize() {
+        RotationMatrix.of(Matrices.getIdentityMatrix(3)).rotate(Vector.of(1.0, 2.0));
+    }
+}
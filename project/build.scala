@@ -10,7 +10,7 @@ object CIlibBuild extends Build {
 
   lazy val root = Project(id = "cilib",
     base = file("."),
-    settings = buildSettings) aggregate(library, simulator) settings (
+    settings = buildSettings) aggregate(library, simulator, benchmarks) settings (
       headerCheckSetting
     )
 
@@ -22,6 +22,10 @@ object CIlibBuild extends Build {
     base = file("simulator"),
     settings = buildSettings) dependsOn(library)
 
+  lazy val benchmarks = Project(id = "benchmarks",
+    base = file("benchmarks"),
+    settings = buildSettings) dependsOn(library)
+
 
   // Header task definition
   private val header = """/**           __  __
@@ -36,12 +40,13 @@ object CIlibBuild extends Build {
 
   val headerCheckSetting = headerCheck <<= (
     sources in (library, Compile), sources in (library, Test), sources in (simulator, Compile), sources in (simulator, Test),
-    streams) map { (librarySources, libraryTestSources, simulatorSources, simulatorTestSources, s) =>
+    sources in (benchmarks, Compile), streams) map { (librarySources, libraryTestSources, simulatorSources, simulatorTestSources, benchmarkSources, s) =>
       val logger = s.log
       updateHeaders(librarySources, logger)
       updateHeaders(simulatorSources, logger)
       updateHeaders(libraryTestSources, logger)
       updateHeaders(simulatorTestSources, logger)
+      updateHeaders(benchmarkSources, logger)
     }
 
   private final def updateHeaders(xs: Seq[File], logger: Logger) = {
@@ -0,0 +1,421 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+import net.sourceforge.cilib.type.types.Bit;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Numeric;
+import net.sourceforge.cilib.type.types.Type;
+
+/**
+ * <p>
+ * The binary measurement format, written when the {@link OutputFormat#BIN}
+ * output format is selected.
+ * </p>
+ * <p>
+ * Every column is typed according to the first value measured for it:
+ * {@link Int} values are stored as 32-bit integers, {@link Bit} values as a
+ * single byte, other {@link Numeric} values as doubles and all remaining types
+ * as their UTF-8 encoded {@code toString()} representation. All values are
+ * big-endian. A {@link Bit} is converted to text as a {@link Bit}, so that
+ * the text is the same as that of the {@link OutputFormat#TXT} format.
+ * </p>
+ * <p>
+ * The measurements of a single sample are written row by row:
+ * <pre>
+ *   int magic ("CILP"), int version, int measurements, byte[measurements] types
+ *   rows of: int iteration, value[measurements]
+ * </pre>
+ * The combined file contains the header, followed by groups of up to
+ * {@value #ROW_GROUP_SIZE} rows. Within a group the data is stored column by
+ * column, so that a column can be read without decoding the others:
+ * <pre>
+ *   int magic ("CILB"), int version, int samples, int measurements
+ *   (string description, byte type)[measurements]
+ *   groups of: int rows, int[rows] iterations,
+ *              (int count, value[count])[measurements * samples]
+ * </pre>
+ * The columns are ordered by measurement and then by sample. A sample that
+ * finished before the others has fewer than {@code rows} values in its
+ * columns. Strings are stored as their length in bytes, followed by the bytes.
+ * </p>
+ */
+public final class BinaryMeasurementFormat {
+
+    static final int PARTIAL_MAGIC = 0x43494c50;
+    static final int COMBINED_MAGIC = 0x43494c42;
+    static final int VERSION = 2;
+    static final int ROW_GROUP_SIZE = 1024;
+
+    static final byte DOUBLE = 0;
+    static final byte INT = 1;
+    static final byte STRING = 2;
+    static final byte BIT = 3;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private BinaryMeasurementFormat() {
+        throw new UnsupportedOperationException("Cannot instantiate.");
+    }
+
+    /**
+     * Convert a combined binary measurement file to the text format that is
+     * written for the {@link OutputFormat#TXT} output format.
+     * @param binary The combined binary file.
+     * @param writer The destination of the text.
+     * @throws IOException if the file cannot be read, or the text cannot be written.
+     */
+    public static void toText(File binary, Writer writer) throws IOException {
+        Input in = new Input(binary);
+        try {
+            Preconditions.checkState(in.getInt() == COMBINED_MAGIC, "Not a combined measurement file: %s", binary);
+            Preconditions.checkState(in.getInt() == VERSION, "Unsupported version: %s", binary);
+            int samples = in.getInt();
+            int measurements = in.getInt();
+
+            int columnId = 0;
+            byte[] types = new byte[measurements];
+            writer.write("# " + columnId++ + " - Iterations\n");
+            for (int m = 0; m < measurements; m++) {
+                String description = in.getString();
+                types[m] = in.getByte();
+                for (int s = 0; s < samples; s++) {
+                    writer.write("# " + columnId++ + " - " + description + " (" + s + ")\n");
+                }
+            }
+
+            int[] iterations = new int[ROW_GROUP_SIZE];
+            Column[] columns = new Column[measurements * samples];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = new Column(types[i / samples]);
+            }
+
+            StringBuilder builder = new StringBuilder();
+            while (!in.atEnd()) {
+                int rows = in.getInt();
+                for (int r = 0; r < rows; r++) {
+                    iterations[r] = in.getInt();
+                }
+                for (Column column : columns) {
+                    column.readGroup(in);
+                }
+
+                for (int r = 0; r < rows; r++) {
+                    builder.setLength(0);
+                    builder.append(iterations[r]);
+                    for (Column column : columns) {
+                        builder.append(' ');
+                        column.appendTo(builder, r);
+                    }
+                    writer.write(builder.toString());
+                    writer.write('\n');
+                }
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    static byte typeOf(Type value) {
+        if (value instanceof Int) {
+            return INT;
+        } else if (value instanceof Bit) {
+            return BIT;
+        } else if (value instanceof Numeric) {
+            return DOUBLE;
+        }
+        return STRING;
+    }
+
+    static void write(Output out, byte type, Type value) throws IOException {
+        switch (type) {
+            case INT:
+                Preconditions.checkState(typeOf(value) == INT, "Measurement changed from an integer to %s", value);
+                out.putInt(((Numeric) value).intValue());
+                break;
+            case BIT:
+                Preconditions.checkState(value instanceof Bit, "Measurement changed from a bit to %s", value);
+                out.putByte(((Bit) value).booleanValue() ? (byte) 1 : (byte) 0);
+                break;
+            case DOUBLE:
+                Preconditions.checkState(value instanceof Numeric, "Measurement changed from a number to %s", value);
+                out.putDouble(((Numeric) value).doubleValue());
+                break;
+            default:
+                out.putString(String.valueOf(value));
+        }
+    }
+
+    /**
+     * The values of a single column within a row group.
+     */
+    static final class Column {
+        private final byte type;
+        private int count;
+        private double[] doubles;
+        private int[] ints;
+        private boolean[] bits;
+        private String[] strings;
+
+        Column(byte type) {
+            this.type = type;
+            switch (type) {
+                case INT:
+                    ints = new int[ROW_GROUP_SIZE];
+                    break;
+                case BIT:
+                    bits = new boolean[ROW_GROUP_SIZE];
+                    break;
+                case DOUBLE:
+                    doubles = new double[ROW_GROUP_SIZE];
+                    break;
+                default:
+                    strings = new String[ROW_GROUP_SIZE];
+            }
+        }
+
+        void clear() {
+            count = 0;
+        }
+
+        /**
+         * Read a single value from a partial file.
+         */
+        void readValue(Input in) throws IOException {
+            switch (type) {
+                case INT:
+                    ints[count++] = in.getInt();
+                    break;
+                case BIT:
+                    bits[count++] = in.getByte() != 0;
+                    break;
+                case DOUBLE:
+                    doubles[count++] = in.getDouble();
+                    break;
+                default:
+                    strings[count++] = in.getString();
+            }
+        }
+
+        void readGroup(Input in) throws IOException {
+            count = 0;
+            int size = in.getInt();
+            for (int i = 0; i < size; i++) {
+                readValue(in);
+            }
+        }
+
+        void writeGroup(Output out) throws IOException {
+            out.putInt(count);
+            for (int i = 0; i < count; i++) {
+                switch (type) {
+                    case INT:
+                        out.putInt(ints[i]);
+                        break;
+                    case BIT:
+                        out.putByte(bits[i] ? (byte) 1 : (byte) 0);
+                        break;
+                    case DOUBLE:
+                        out.putDouble(doubles[i]);
+                        break;
+                    default:
+                        out.putString(strings[i]);
+                }
+            }
+        }
+
+        void appendTo(StringBuilder builder, int row) {
+            if (row >= count) {
+                builder.append('-');
+                return;
+            }
+            switch (type) {
+                case INT:
+                    builder.append(ints[row]);
+                    break;
+                case BIT:
+                    builder.append(Bit.valueOf(bits[row]));
+                    break;
+                case DOUBLE:
+                    builder.append(doubles[row]);
+                    break;
+                default:
+                    builder.append(strings[row]);
+            }
+        }
+    }
+
+    /**
+     * Buffered writing of primitive values to a file channel.
+     */
+    static final class Output implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        Output(File file) throws IOException {
+            this(file, false);
+        }
+
+        Output(File file, boolean append) throws IOException {
+            this.channel = new FileOutputStream(file, append).getChannel();
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensure(8);
+            buffer.putDouble(value);
+        }
+
+        void putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(UTF8);
+            putInt(bytes.length);
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+            } else {
+                ensure(bytes.length);
+                buffer.put(bytes);
+            }
+        }
+
+        void putHeader(List<String> descriptions, byte[] types, int samples) throws IOException {
+            putInt(COMBINED_MAGIC);
+            putInt(VERSION);
+            putInt(samples);
+            putInt(types.length);
+            for (int i = 0; i < types.length; i++) {
+                putString(descriptions.get(i));
+                putByte(types[i]);
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Buffered reading of primitive values from a file channel.
+     */
+    static final class Input implements Closeable {
+        private final FileChannel channel;
+        private ByteBuffer buffer;
+        private boolean eof;
+
+        Input(File file) throws IOException {
+            this.channel = new FileInputStream(file).getChannel();
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.buffer.flip();
+        }
+
+        /**
+         * Determine if all the data has been read.
+         */
+        boolean atEnd() throws IOException {
+            return !available(1);
+        }
+
+        byte getByte() throws IOException {
+            require(1);
+            return buffer.get();
+        }
+
+        int getInt() throws IOException {
+            require(4);
+            return buffer.getInt();
+        }
+
+        double getDouble() throws IOException {
+            require(8);
+            return buffer.getDouble();
+        }
+
+        String getString() throws IOException {
+            int length = getInt();
+            require(length);
+            String result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF8);
+            buffer.position(buffer.position() + length);
+            return result;
+        }
+
+        private void require(int bytes) throws IOException {
+            if (!available(bytes)) {
+                throw new EOFException();
+            }
+        }
+
+        private boolean available(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return true;
+            }
+
+            if (bytes > buffer.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(bytes);
+                larger.put(buffer);
+                larger.flip();
+                buffer = larger;
+            }
+
+            buffer.compact();
+            while (buffer.position() < bytes && !eof) {
+                eof = channel.read(buffer) < 0;
+            }
+            buffer.flip();
+            return buffer.remaining() >= bytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Preconditions;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <p>
+ * The checkpoints of the samples of a simulation. Every {@code interval}
+ * iterations a sample writes a snapshot of its algorithm and measurements
+ * to {@code sample-<i>.ckpt} in the directory, and the measurements of the
+ * sample are written to {@code sample-<i>.dat} instead of a temporary file.
+ * A checkpoint is written to a temporary file first and then moved into
+ * place, so that the previous checkpoint remains valid if the process is
+ * stopped while writing.
+ * </p><p>
+ * A simulation that is resumed continues every sample from its latest
+ * checkpoint, with the same results as if it had not been stopped. Samples
+ * that had finished are not executed again, and samples without a checkpoint
+ * are started from the beginning. The checkpoints are removed once the
+ * measurements of all the samples have been combined.
+ * </p>
+ */
+public class CheckpointStore {
+
+    private final File directory;
+    private final int interval;
+
+    /**
+     * Create a store in the given directory, which is created if needed.
+     * @param directory The directory of the checkpoints.
+     * @param interval The number of iterations between checkpoints.
+     */
+    public CheckpointStore(File directory, int interval) {
+        Preconditions.checkArgument(interval > 0, "The checkpoint interval must be positive.");
+        this.directory = directory;
+        this.interval = interval;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * @param sample The index of the sample.
+     * @return The file that the measurements of the sample are written to.
+     */
+    File getDataFile(int sample) {
+        return new File(directory, "sample-" + sample + ".dat");
+    }
+
+    private File getCheckpointFile(int sample) {
+        return new File(directory, "sample-" + sample + ".ckpt");
+    }
+
+    /**
+     * Read the latest checkpoint of a sample.
+     * @param sample The index of the sample.
+     * @return The checkpoint, or {@code null} if the sample has no checkpoint
+     *         or its measurements are missing.
+     * @throws IOException if the checkpoint cannot be read.
+     */
+    SimulationCheckpoint read(int sample) throws IOException {
+        File file = getCheckpointFile(sample);
+        if (!file.isFile() || !getDataFile(sample).isFile()) {
+            return null;
+        }
+
+        ObjectInputStream in = new ObjectInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(file))));
+        try {
+            return (SimulationCheckpoint) in.readObject();
+        } catch (ClassNotFoundException ex) {
+            throw new IOException("Unable to read checkpoint: " + file, ex);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Replace the checkpoint of a sample.
+     * @param sample The index of the sample.
+     * @param checkpoint The checkpoint.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    void write(int sample, SimulationCheckpoint checkpoint) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Unable to create checkpoint directory: " + directory);
+        }
+
+        File file = getCheckpointFile(sample);
+        File partial = new File(directory, file.getName() + ".tmp");
+        ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(partial))));
+        try {
+            out.writeObject(checkpoint);
+        } finally {
+            out.close();
+        }
+        Files.move(partial.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Remove the checkpoints of the samples.
+     * @param samples The number of samples.
+     */
+    void clear(int samples) {
+        for (int i = 0; i < samples; i++) {
+            getCheckpointFile(i).delete();
+            getDataFile(i).delete();
+        }
+    }
+}
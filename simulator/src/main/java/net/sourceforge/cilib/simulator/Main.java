@@ -6,12 +6,16 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.List;
 
 /**
- * This is the entry point for the CIlib simulator. This class accepts one
- * command line parameter, which is the name of the XML config file to parse.
+ * This is the entry point for the CIlib simulator. This class accepts the
+ * name of the XML config file to parse and, optionally, the number of
+ * samples to execute concurrently (the number of available processors by
+ * default). With the {@code --resume} option, simulations that write
+ * checkpoints continue from their latest checkpoints.
  *
  */
 public final class Main {
@@ -25,14 +29,38 @@ public final class Main {
      * @param args provided arguments.
      */
     public static void main(String[] args) {
-        if (args.length != 1) {
-            System.out.println("Please provide the correct arguments.\nUsage: Simulator <simulation-config.xml>");
-            System.exit(1);
+        final List<String> arguments = Lists.newArrayList(args);
+        final boolean resume = arguments.remove("--resume");
+        if (arguments.size() < 1 || arguments.size() > 2) {
+            usage();
         }
 
-        final List<Simulator> simulators = SimulatorShell.prepare(new File(args[0]));
+        final int workers = arguments.size() == 2 ? workers(arguments.get(1)) : Runtime.getRuntime().availableProcessors();
+        final List<Simulator> simulators = SimulatorShell.prepare(new File(arguments.get(0)), resume);
         ProgressText progress = new ProgressText(simulators.size());
 
-        SimulatorShell.execute(simulators, progress);
+        SimulatorShell.execute(simulators, progress, workers);
+    }
+
+    /**
+     * Parse the number of workers, which must be a positive integer.
+     */
+    private static int workers(String argument) {
+        try {
+            int workers = Integer.parseInt(argument);
+            if (workers > 0) {
+                return workers;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below, the same as a number that is not positive.
+        }
+        System.out.println("The number of workers must be a positive integer, but was: " + argument);
+        usage();
+        return 0;
+    }
+
+    private static void usage() {
+        System.out.println("Please provide the correct arguments.\nUsage: Simulator [--resume] <simulation-config.xml> [workers]");
+        System.exit(1);
     }
 }
@@ -9,6 +9,7 @@ package net.sourceforge.cilib.simulator;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
@@ -21,25 +22,38 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * <p>
  * Create a combined view of the generated data in the normal CIlib text
- * file format.
+ * file format, or in the {@link BinaryMeasurementFormat binary format}.
+ * Binary partial files are merged in a single streaming pass.
  *
  * @TODO: This class should probably use a divide and conquer strategy to combine files as needed
  */
 public class MeasurementCombiner {
 
     private final File file;
+    private final OutputFormat format;
 
     MeasurementCombiner(File file) {
+        this(file, OutputFormat.TXT);
+    }
+
+    MeasurementCombiner(File file, OutputFormat format) {
         this.file = file;
+        this.format = format;
+    }
+
+    public OutputFormat getFormat() {
+        return format;
     }
 
     /**
@@ -57,6 +71,11 @@ public class MeasurementCombiner {
                 file.getParentFile().mkdirs();
             }
 
+            if (format == OutputFormat.BIN) {
+                combineBinary(descriptions, partials);
+                return;
+            }
+
             BufferedWriter writer = new BufferedWriter(new FileWriter(file));
             int columnId = 0;
             writer.write("# " + columnId++ + " - Iterations\n");
@@ -105,9 +124,13 @@ public class MeasurementCombiner {
      */
     private void combineData(final BufferedWriter writer, final List<File> partials) {
         List<BufferedReader> readers = Lists.newArrayListWithCapacity(partials.size());
+        final Map<File, Long> lines = Maps.newHashMap();
+        for (File f : partials) {
+            lines.put(f, countLines(f));
+        }
         Collections.sort(partials, new Comparator<File>() {
             public int compare(File t, File t1) {
-                return Long.compare(countLines(t1), countLines(t));
+                return Long.compare(lines.get(t1), lines.get(t));
             }            
         });
         
@@ -171,6 +194,109 @@ public class MeasurementCombiner {
         }
     }
 
+    /**
+     * Merge the binary partial results. Each partial is read once, row by
+     * row, and the rows are written in groups of columns. The order of the
+     * partials is maintained.
+     * @param descriptions the names of the measurements.
+     * @param partials list of partial results.
+     */
+    private void combineBinary(List<String> descriptions, List<File> partials) throws IOException {
+        final int samples = partials.size();
+        final int measurements = descriptions.size();
+        List<BinaryMeasurementFormat.Input> inputs = Lists.newArrayListWithCapacity(samples);
+        BinaryMeasurementFormat.Output output = null;
+
+        try {
+            byte[] types = null;
+            for (File f : partials) {
+                BinaryMeasurementFormat.Input in = new BinaryMeasurementFormat.Input(f);
+                inputs.add(in);
+                if (in.atEnd()) {
+                    continue; // Nothing was measured
+                }
+
+                Preconditions.checkState(in.getInt() == BinaryMeasurementFormat.PARTIAL_MAGIC, "Not a partial measurement file: %s", f);
+                Preconditions.checkState(in.getInt() == BinaryMeasurementFormat.VERSION, "Unsupported version: %s", f);
+                Preconditions.checkState(in.getInt() == measurements, "Unexpected number of measurements: %s", f);
+                byte[] partialTypes = new byte[measurements];
+                for (int m = 0; m < measurements; m++) {
+                    partialTypes[m] = in.getByte();
+                }
+
+                if (types == null) {
+                    types = partialTypes;
+                } else {
+                    Preconditions.checkState(Arrays.equals(types, partialTypes), "Measurement types differ between samples: %s", f);
+                }
+            }
+
+            if (types == null) {
+                types = new byte[measurements];
+            }
+
+            BinaryMeasurementFormat.Column[] columns = new BinaryMeasurementFormat.Column[measurements * samples];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = new BinaryMeasurementFormat.Column(types[i / samples]);
+            }
+            int[] iterations = new int[BinaryMeasurementFormat.ROW_GROUP_SIZE];
+
+            output = new BinaryMeasurementFormat.Output(file);
+            output.putHeader(descriptions, types, samples);
+
+            int rows;
+            do {
+                for (BinaryMeasurementFormat.Column column : columns) {
+                    column.clear();
+                }
+
+                for (rows = 0; rows < iterations.length; rows++) {
+                    boolean found = false;
+                    for (int s = 0; s < samples; s++) {
+                        BinaryMeasurementFormat.Input in = inputs.get(s);
+                        if (in.atEnd()) {
+                            continue;
+                        }
+
+                        int iteration = in.getInt();
+                        if (!found) {
+                            iterations[rows] = iteration;
+                            found = true;
+                        }
+                        for (int m = 0; m < measurements; m++) {
+                            columns[m * samples + s].readValue(in);
+                        }
+                    }
+
+                    if (!found) {
+                        break;
+                    }
+                }
+
+                if (rows > 0) {
+                    output.putInt(rows);
+                    for (int r = 0; r < rows; r++) {
+                        output.putInt(iterations[r]);
+                    }
+                    for (BinaryMeasurementFormat.Column column : columns) {
+                        column.writeGroup(output);
+                    }
+                }
+            } while (rows == iterations.length);
+        } finally {
+            for (BinaryMeasurementFormat.Input in : inputs) {
+                in.close();
+            }
+            if (output != null) {
+                output.close();
+            }
+        }
+
+        for (File f : partials) {
+            f.delete();
+        }
+    }
+
     private static class Entry {
 
         private final Multimap<Integer, String> map;
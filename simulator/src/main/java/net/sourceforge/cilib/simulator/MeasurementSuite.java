@@ -6,11 +6,14 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
 import net.sourceforge.cilib.measurement.MeasurementStateManager;
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +34,9 @@ public class MeasurementSuite {
     private static final long serialVersionUID = 8021290553229945841L;
     private File file;
     private BufferedWriter writer;
+    private OutputFormat format;
+    private BinaryMeasurementFormat.Output output;
+    private byte[] types;
     private int resolution;
     private List<Measurement<?>> measurements;
     private MeasurementStateManager measurementStateManager;
@@ -39,6 +45,7 @@ public class MeasurementSuite {
     public MeasurementSuite() {
         measurements = new ArrayList<>();
         resolution = 1;
+        format = OutputFormat.TXT;
         measurementStateManager = new MeasurementStateManager();
     }
 
@@ -47,17 +54,127 @@ public class MeasurementSuite {
      */
     public void initialise() {
         try {
-            file = File.createTempFile("cilib_data", ".tmp");
-            writer = new BufferedWriter(new FileWriter(file));
+            initialise(File.createTempFile("cilib_data", ".tmp"));
         } catch (IOException ex) {
             ex.printStackTrace();
         }
     }
 
+    /**
+     * Initialize the output buffers to write the measurements to the given
+     * file, replacing any content of the file.
+     * @param file The file to write the measurements to.
+     * @throws IOException if the file cannot be opened.
+     */
+    public void initialise(File file) throws IOException {
+        this.file = file;
+        this.types = null;
+        if (format == OutputFormat.BIN) {
+            output = new BinaryMeasurementFormat.Output(file);
+        } else {
+            writer = new BufferedWriter(new FileWriter(file));
+        }
+    }
+
+    /**
+     * Continue the measurements of an earlier run from a checkpoint. The file
+     * is truncated to the length it had when the checkpoint was taken, see
+     * {@link #flush()}, and the measurements are appended to it.
+     * @param file The file of the earlier run.
+     * @param length The length of the file at the checkpoint.
+     * @param types The types of the binary columns at the checkpoint, see
+     *        {@link #getTypes()}.
+     * @throws IOException if the file cannot be truncated or opened.
+     */
+    void resume(File file, long length, byte[] types) throws IOException {
+        Preconditions.checkState(file.length() >= length, "The measurements in %s are shorter than the checkpoint", file);
+        RandomAccessFile truncated = new RandomAccessFile(file, "rw");
+        try {
+            truncated.setLength(length);
+        } finally {
+            truncated.close();
+        }
+
+        this.file = file;
+        this.types = types == null ? null : types.clone();
+        if (format == OutputFormat.BIN) {
+            output = new BinaryMeasurementFormat.Output(file, true);
+        } else {
+            writer = new BufferedWriter(new FileWriter(file, true));
+        }
+    }
+
+    /**
+     * Write the buffered measurements to the file.
+     * @return The length of the file.
+     * @throws IOException if the measurements cannot be written.
+     */
+    long flush() throws IOException {
+        if (output != null) {
+            output.flush();
+        } else {
+            writer.flush();
+        }
+        return file.length();
+    }
+
+    /**
+     * @return The types of the columns of the binary format, or {@code null}
+     *         if no row has been written yet.
+     */
+    byte[] getTypes() {
+        return types == null ? null : types.clone();
+    }
+
+    /**
+     * Copy the state of every {@linkplain StateAwareMeasurement state aware}
+     * measurement for the algorithm, in the order of the measurements.
+     * @param algorithm The measured algorithm.
+     * @return The states, see {@link MeasurementStateManager#copyState}.
+     */
+    ArrayList<Serializable> copyStates(Algorithm algorithm) {
+        ArrayList<Serializable> states = new ArrayList<>();
+        for (Measurement<?> measurement : measurements) {
+            states.add(measurement instanceof StateAwareMeasurement<?>
+                    ? measurementStateManager.copyState(algorithm, (StateAwareMeasurement<?>) measurement)
+                    : null);
+        }
+        return states;
+    }
+
+    /**
+     * Restore the states obtained from {@link #copyStates(Algorithm)} for
+     * another instance of the measured algorithm.
+     * @param algorithm The measured algorithm.
+     * @param states The states, in the order of the measurements.
+     */
+    void restoreStates(Algorithm algorithm, List<Serializable> states) {
+        Preconditions.checkState(states.size() == measurements.size(), "Expected the states of %s measurements, got %s", measurements.size(), states.size());
+        for (int i = 0; i < states.size(); i++) {
+            if (measurements.get(i) instanceof StateAwareMeasurement<?>) {
+                measurementStateManager.restoreState(algorithm, (StateAwareMeasurement<?>) measurements.get(i), states.get(i));
+            }
+        }
+    }
+
     public File getFile() {
         return file;
     }
 
+    /**
+     * Sets the format of the measurements that are written to the file.
+     * The format must be set before the suite is initialised.
+     *
+     * @param format The output format.
+     */
+    public void setFormat(OutputFormat format) {
+        this.format = format;
+    }
+
+    public OutputFormat getFormat() {
+        return format;
+    }
+
     /**
      * Sets the resolution of the results. The resolution determines how often
      * results are logged to file. If the resolution is 10 then results are
@@ -113,6 +230,12 @@ public class MeasurementSuite {
 
             tmp[index++] = value;
         }
+
+        if (format == OutputFormat.BIN) {
+            write(algorithm.getIterations(), tmp);
+            return;
+        }
+
         StringBuilder builder = new StringBuilder();
         builder.append(algorithm.getIterations());
         for (Type t : tmp) {
@@ -127,11 +250,41 @@ public class MeasurementSuite {
         }
     }
 
+    /**
+     * Write a row of measurements in the binary format. The header, which
+     * includes the type of each column, is written with the first row.
+     */
+    private void write(int iteration, Type[] values) {
+        try {
+            if (types == null) {
+                types = new byte[values.length];
+                output.putInt(BinaryMeasurementFormat.PARTIAL_MAGIC);
+                output.putInt(BinaryMeasurementFormat.VERSION);
+                output.putInt(values.length);
+                for (int i = 0; i < values.length; i++) {
+                    types[i] = BinaryMeasurementFormat.typeOf(values[i]);
+                    output.putByte(types[i]);
+                }
+            }
+
+            output.putInt(iteration);
+            for (int i = 0; i < values.length; i++) {
+                BinaryMeasurementFormat.write(output, types[i], values[i]);
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
     public void add(Measurement<?> measurement) {
         measurements.add(measurement);
     }
 
     public void close() throws IOException {
+        if (output != null) {
+            output.close();
+            return;
+        }
         this.writer.flush();
         this.writer.close();
     }
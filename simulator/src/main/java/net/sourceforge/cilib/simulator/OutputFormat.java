@@ -0,0 +1,39 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+/**
+ * The formats in which the measurements of a simulation can be written. The
+ * format is selected with the {@code format} attribute of the {@code output}
+ * element of a simulation.
+ */
+public enum OutputFormat {
+
+    /**
+     * Space separated text, with one line for every measured iteration.
+     */
+    TXT,
+
+    /**
+     * Binary, with a typed column for every measurement of every sample.
+     * See {@link BinaryMeasurementFormat}.
+     */
+    BIN;
+
+    /**
+     * Get the format with the given name, ignoring case. An empty name
+     * results in {@link #TXT}.
+     * @param name The name of the format.
+     * @return The format.
+     */
+    public static OutputFormat of(String name) {
+        if (name == null || name.isEmpty()) {
+            return TXT;
+        }
+        return valueOf(name.toUpperCase());
+    }
+}
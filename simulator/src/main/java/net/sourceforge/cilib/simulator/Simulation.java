@@ -10,8 +10,10 @@ import java.io.IOException;
 import net.sourceforge.cilib.algorithm.AbstractAlgorithm;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.AlgorithmEvent;
+import net.sourceforge.cilib.algorithm.AlgorithmCheckpoint;
 import net.sourceforge.cilib.algorithm.AlgorithmListener;
 import net.sourceforge.cilib.math.random.generator.Rand;
+import net.sourceforge.cilib.math.random.generator.seeder.Seeder;
 import net.sourceforge.cilib.problem.Problem;
 
 /**
@@ -24,18 +26,39 @@ public class Simulation implements AlgorithmListener, Runnable {
     private final Algorithm algorithm;
     private final Problem problem;
     private final MeasurementSuite measurementSuite;
+    private final long seed;
+    private CheckpointStore checkpoints;
+    private int sample;
+    private SimulationCheckpoint checkpoint;
+    private volatile boolean terminated;
 
     /**
-     * Create a Simulation with the required dependencies.
+     * Create a Simulation with the required dependencies. The seed of the
+     * simulation is obtained from the current {@link Seeder}.
      * @param simulator The controlling {@code Simulator}.
-     * @param algorithmFactory The factory that creates {@code Algorithm} instances.
-     * @param problemFactory The factory that creates {@code Problem} instances.
+     * @param algorithm The {@code Algorithm} to execute.
+     * @param problem The {@code Problem} to optimise.
+     * @param measurementSuite The measurements to record.
      */
     public Simulation(Simulator simulator, Algorithm algorithm, Problem problem, MeasurementSuite measurementSuite) {
+        this(simulator, algorithm, problem, measurementSuite, Seeder.getSeed());
+    }
+
+    /**
+     * Create a Simulation with the required dependencies and the seed that
+     * is used for the random number generator of the executing thread.
+     * @param simulator The controlling {@code Simulator}.
+     * @param algorithm The {@code Algorithm} to execute.
+     * @param problem The {@code Problem} to optimise.
+     * @param measurementSuite The measurements to record.
+     * @param seed The seed of the simulation.
+     */
+    public Simulation(Simulator simulator, Algorithm algorithm, Problem problem, MeasurementSuite measurementSuite, long seed) {
         this.simulator = simulator;
         this.algorithm = algorithm;
         this.problem = problem;
         this.measurementSuite = measurementSuite;
+        this.seed = seed;
     }
 
     /**
@@ -50,20 +73,66 @@ public class Simulation implements AlgorithmListener, Runnable {
         alg.performInitialisation();
     }
 
+    /**
+     * Write checkpoints of the simulation to the store, and continue from the
+     * given checkpoint when the simulation is executed.
+     * @param checkpoints The store of the checkpoints.
+     * @param sample The index of the sample of the simulation.
+     * @param checkpoint The checkpoint to continue from, or {@code null} to
+     *        start from the beginning.
+     */
+    void setCheckpoints(CheckpointStore checkpoints, int sample, SimulationCheckpoint checkpoint) {
+        this.checkpoints = checkpoints;
+        this.sample = sample;
+        this.checkpoint = checkpoint;
+    }
+
     /**
      * Execute the simulation.
      */
     @Override
     public void run() {
-        Rand.reset();
+        Rand.setSeed(seed);
         init();
+        if (checkpoint != null) {
+            resume();
+        }
         algorithm.run();
     }
 
+    /**
+     * Restore the initialised algorithm and the measurements from the
+     * checkpoint.
+     */
+    private void resume() {
+        checkpoint.getAlgorithm().restore((AbstractAlgorithm) algorithm);
+        try {
+            measurementSuite.resume(checkpoints.getDataFile(sample), checkpoint.getDataLength(), checkpoint.getTypes());
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        measurementSuite.restoreStates(algorithm, checkpoint.getMeasurementStates());
+    }
+
+    /**
+     * Write a checkpoint of the algorithm, after the measurements of the
+     * current iteration.
+     */
+    private void writeCheckpoint() {
+        try {
+            long length = measurementSuite.flush();
+            checkpoints.write(sample, new SimulationCheckpoint(AlgorithmCheckpoint.of((AbstractAlgorithm) algorithm),
+                    length, measurementSuite.getTypes(), measurementSuite.copyStates(algorithm)));
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
     /**
      * Terminate the current simulation.
      */
     public void terminate() {
+        terminated = true;
         ((AbstractAlgorithm) algorithm).terminate();
     }
 
@@ -72,7 +141,21 @@ public class Simulation implements AlgorithmListener, Runnable {
      */
     @Override
     public void algorithmStarted(AlgorithmEvent event) {
-        measurementSuite.initialise(); // Initialise the temporary data store
+        if (checkpoint != null) {
+            return; // The data store of the checkpoint is resumed
+        }
+
+        if (checkpoints == null) {
+            measurementSuite.initialise(); // Initialise the temporary data store
+            return;
+        }
+
+        try {
+            checkpoints.getDirectory().mkdirs();
+            measurementSuite.initialise(checkpoints.getDataFile(sample));
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
     }
 
     /**
@@ -85,6 +168,10 @@ public class Simulation implements AlgorithmListener, Runnable {
 
         try {
             measurementSuite.close();
+            // A terminated simulation continues from its latest checkpoint.
+            if (checkpoints != null && !terminated) {
+                checkpoints.write(sample, SimulationCheckpoint.finished(measurementSuite.getFile().length()));
+            }
         } catch (IOException ex) {
             throw new RuntimeException(ex);
         }
@@ -100,6 +187,10 @@ public class Simulation implements AlgorithmListener, Runnable {
             measurementSuite.measure(alg);
             simulator.updateProgress(this, ((AbstractAlgorithm) alg).getPercentageComplete());
         }
+
+        if (checkpoints != null && alg == algorithm && alg.getIterations() % checkpoints.getInterval() == 0) {
+            writeCheckpoint();
+        }
     }
 
     /**
@@ -0,0 +1,62 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import net.sourceforge.cilib.algorithm.AlgorithmCheckpoint;
+
+/**
+ * The state of a single sample of a simulation: a snapshot of the algorithm,
+ * the length of the measurement file and the state of the measurements when
+ * the snapshot was taken, or only the length of the measurement file once the
+ * sample has finished.
+ */
+final class SimulationCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = -2187063396473880129L;
+    private final AlgorithmCheckpoint algorithm;
+    private final long dataLength;
+    private final byte[] types;
+    private final ArrayList<Serializable> measurementStates;
+
+    SimulationCheckpoint(AlgorithmCheckpoint algorithm, long dataLength, byte[] types, ArrayList<Serializable> measurementStates) {
+        this.algorithm = algorithm;
+        this.dataLength = dataLength;
+        this.types = types;
+        this.measurementStates = measurementStates;
+    }
+
+    /**
+     * Create the checkpoint of a finished sample.
+     * @param dataLength The length of the measurement file.
+     * @return The checkpoint.
+     */
+    static SimulationCheckpoint finished(long dataLength) {
+        return new SimulationCheckpoint(null, dataLength, null, null);
+    }
+
+    boolean isFinished() {
+        return algorithm == null;
+    }
+
+    AlgorithmCheckpoint getAlgorithm() {
+        return algorithm;
+    }
+
+    long getDataLength() {
+        return dataLength;
+    }
+
+    byte[] getTypes() {
+        return types;
+    }
+
+    ArrayList<Serializable> getMeasurementStates() {
+        return measurementStates;
+    }
+}
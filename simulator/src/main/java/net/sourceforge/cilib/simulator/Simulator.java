@@ -6,20 +6,20 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.io.File;
-import java.util.Map;
+import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import net.sourceforge.cilib.algorithm.Algorithm;
 import net.sourceforge.cilib.algorithm.ProgressEvent;
 import net.sourceforge.cilib.algorithm.ProgressListener;
@@ -35,8 +35,18 @@ import net.sourceforge.cilib.problem.Problem;
  * <p>
  * Each simulation experiment is repeated based on the
  * number of samples that the measurement suite requires (although this is subject to change
- * in a future version of the library). In this implementation each experiment is
- * execute in its own thread. Thus, each experiment is execute in parallel for a given simulation.
+ * in a future version of the library). The samples are executed in parallel on a
+ * work-stealing pool. A {@code Simulation} is only created once a worker is available to
+ * execute it, and only the measurement output of a finished {@code Simulation} is retained,
+ * so that the number of algorithm instances in memory is bounded by the number of workers.
+ * The seed of each sample is drawn when the sample is created, which makes the results
+ * independent of the number of workers and the order of completion.
+ * </p>
+ * <p>
+ * If a {@link CheckpointStore} is set, every sample periodically writes a
+ * checkpoint, and a simulator that resumes continues the samples from their
+ * latest checkpoints. The measurements of a simulator that is terminated are
+ * then not combined, so that the simulator can be resumed.
  * </p>
  * <p>
  * The primary purpose of running simulations is to measure the performance of the given algorithm
@@ -47,15 +57,22 @@ import net.sourceforge.cilib.problem.Problem;
 public class Simulator {
 
     private static final long serialVersionUID = 8987667794610802908L;
-    private final Simulation[] simulations;
     private final CopyOnWriteArrayList<ProgressListener> progressListeners;
-    private final Map<Simulation, Double> progress;
+    private final ConcurrentMap<Simulation, Double> progress;
     private final XMLObjectFactory algorithmFactory;
     private final XMLObjectFactory problemFactory;
     private final XMLObjectFactory measurementFactory;
     private final MeasurementCombiner combiner;
     private final int samples;
     private final SeedSelectionStrategy seeder;
+    private final File[] files;
+    private final AtomicInteger completed;
+    private final AtomicReference<Throwable> failure;
+    private final CountDownLatch done;
+    private CheckpointStore checkpoints;
+    private boolean resume;
+    private volatile List<String> descriptions;
+    private volatile boolean terminated;
 
     /**
      * Creates a new instance of Simulator given an algorithm factory, a problem factory and a
@@ -76,70 +93,176 @@ public class Simulator {
         this.samples = samples;
         this.progressListeners = new CopyOnWriteArrayList<ProgressListener>();
         this.progress = new ConcurrentHashMap<Simulation, Double>();
-        this.simulations = new Simulation[samples];
         this.seeder = seeder;
+        this.files = new File[samples];
+        this.completed = new AtomicInteger();
+        this.failure = new AtomicReference<Throwable>();
+        this.done = new CountDownLatch(samples);
     }
 
     /**
-     * Perform the initialisation of the {@code Simulator} by creating the required
-     * {@code Simulation} instances and executing the threads.
+     * Perform the initialisation of the {@code Simulator}. The {@code Simulation}
+     * instances are created lazily, as workers become available.
      */
     public void init() {
         Seeder.setSeederStrategy(seeder);
-        for (int i = 0; i < samples; ++i) {
-            simulations[i] = createSimulation();
-            progress.put(simulations[i], 0.0);
-        }
     }
 
     public Simulation createSimulation() {
-        return new Simulation(this, (Algorithm) algorithmFactory.newObject(),
-                (Problem) problemFactory.newObject(),
-                (MeasurementSuite) measurementFactory.newObject());
+        Algorithm algorithm = (Algorithm) algorithmFactory.newObject();
+        Problem problem = (Problem) problemFactory.newObject();
+        MeasurementSuite measurementSuite = (MeasurementSuite) measurementFactory.newObject();
+        measurementSuite.setFormat(combiner.getFormat());
+        return new Simulation(this, algorithm, problem, measurementSuite);
     }
 
     /**
-     * Executes all the experiments for this simulation. The measurement suite will
-     * be closed once this method completes.
+     * Executes all the experiments for this simulation, using as many workers
+     * as there are available processors. The measurement suite will be closed
+     * once this method completes.
      */
     public void execute() {
-        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-        CompletionService<Simulation> completionService = new ExecutorCompletionService<Simulation>(executor);
+        execute(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Executes all the experiments for this simulation using the given number
+     * of workers. The measurement suite will be closed once this method completes.
+     * @param workers The number of experiments to execute concurrently.
+     * @throws IllegalArgumentException if {@code workers} is not positive.
+     */
+    public void execute(int workers) {
+        Preconditions.checkArgument(workers > 0, "The number of workers must be positive, but was: %s", workers);
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            schedule(pool, new Semaphore(workers));
+            complete();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Create and submit the experiments to the {@code executor}. A permit is
+     * acquired from {@code slots} before an experiment is created, and released
+     * once it has finished, which bounds the number of experiments that exist
+     * at any time. The experiments of different simulators may share the same
+     * {@code executor} and {@code slots}. This method returns once the last
+     * experiment has been submitted.
+     * @param executor The executor of the experiments.
+     * @param slots The permits limiting the number of concurrent experiments.
+     */
+    void schedule(Executor executor, final Semaphore slots) {
+        Seeder.setSeederStrategy(seeder);
         for (int i = 0; i < samples; ++i) {
-            completionService.submit(simulations[i], simulations[i]); // The return value is explicitly null.
+            slots.acquireUninterruptibly();
+            if (terminated || failure.get() != null) {
+                slots.release();
+                for (int j = i; j < samples; ++j) {
+                    done.countDown();
+                }
+                return;
+            }
+
+            final int sample = i;
+            final Simulation simulation;
+            final SimulationCheckpoint checkpoint;
+            try {
+                // The simulation is created regardless of the checkpoint, to draw its seed.
+                simulation = createSimulation();
+                checkpoint = resume && checkpoints != null ? checkpoints.read(sample) : null;
+            } catch (IOException | RuntimeException ex) {
+                slots.release();
+                failure.compareAndSet(null, ex);
+                for (int j = i; j < samples; ++j) {
+                    done.countDown();
+                }
+                return;
+            }
+
+            if (descriptions == null) {
+                descriptions = simulation.getMeasurementSuite().getDescriptions(); // Law of demeter!
+            }
+
+            if (checkpoint != null && checkpoint.isFinished()) {
+                files[sample] = checkpoints.getDataFile(sample);
+                completed.incrementAndGet();
+                slots.release();
+                notifyProgress();
+                done.countDown();
+                continue;
+            }
+
+            if (checkpoints != null) {
+                simulation.setCheckpoints(checkpoints, sample, checkpoint);
+            }
+            progress.put(simulation, 0.0);
+
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        simulation.run();
+                        files[sample] = simulation.getMeasurementSuite().getFile();
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                        terminate();
+                    } finally {
+                        // Only the measurement output of the simulation is retained.
+                        progress.remove(simulation);
+                        completed.incrementAndGet();
+                        slots.release();
+                        notifyProgress();
+                        done.countDown();
+                    }
+                }
+            });
         }
+    }
 
-        final Simulation[] completedSimulations = new Simulation[samples];
+    /**
+     * Wait for all the submitted experiments to finish and combine their
+     * measurements.
+     */
+    void complete() {
         try {
-            for (int i = 0; i < samples; i++) {
-                Future<Simulation> simulation = completionService.take();
-                completedSimulations[i] = simulation.get();
-            }
+            done.await();
         } catch (InterruptedException ex) {
-            Logger.getLogger(Simulator.class.getName()).log(Level.SEVERE, null, ex);
-        } catch (ExecutionException ex) {
-            executor.shutdownNow(); // Shutdown now - time to explode
+            Thread.currentThread().interrupt();
+            terminate();
             throw new RuntimeException(ex);
         }
 
-        // Get the names of the measurements.
-        List<String> descriptions = simulations[0].getMeasurementSuite().getDescriptions(); // Law of demeter!
+        if (failure.get() != null) {
+            throw new RuntimeException(failure.get());
+        }
 
-        List<File> fileList = Lists.newArrayList();
-        for (Simulation simulation : completedSimulations) {
-            fileList.add(simulation.getMeasurementSuite().getFile());
+        // The measurements of terminated samples are kept for them to be resumed.
+        if (terminated && checkpoints != null) {
+            return;
         }
-        executor.shutdown();
 
+        // Samples that were never started, due to termination, have no output.
+        List<File> fileList = Lists.newArrayList();
+        for (File file : files) {
+            if (file != null) {
+                fileList.add(file);
+            }
+        }
         combiner.combine(descriptions, fileList);
+        if (checkpoints != null) {
+            checkpoints.clear(samples);
+        }
     }
 
     /**
-     * Terminates all the experiments.
+     * Terminates all the experiments. Experiments that have not been started
+     * yet will not be executed.
      */
     public void terminate() {
-        for (int i = 0; i < samples; ++i) {
-            simulations[i].terminate();
+        terminated = true;
+        for (Simulation simulation : progress.keySet()) {
+            simulation.terminate();
         }
     }
 
@@ -161,12 +284,12 @@ public class Simulator {
     }
 
     private void notifyProgress() {
-        double ave = 0;
+        double ave = completed.get();
         for (Double tmp : progress.values()) {
             ave += tmp.doubleValue();
         }
 
-        ave /= progress.size();
+        ave /= samples;
 
         for (ProgressListener listener : progressListeners) {
             listener.handleProgressEvent(new ProgressEvent(ave));
@@ -180,11 +303,39 @@ public class Simulator {
      * @param percentageComplete updated percentage value.
      */
     void updateProgress(Simulation simulation, double percentageComplete) {
-        progress.put(simulation, percentageComplete);
-        notifyProgress();
+        if (progress.replace(simulation, percentageComplete) != null) {
+            notifyProgress();
+        }
     }
 
     public int getSamples() {
         return samples;
     }
+
+    public CheckpointStore getCheckpoints() {
+        return checkpoints;
+    }
+
+    /**
+     * Set the store of the checkpoints of the samples. Must be set before the
+     * samples are executed.
+     * @param checkpoints The store, or {@code null} to disable checkpoints.
+     */
+    public void setCheckpoints(CheckpointStore checkpoints) {
+        this.checkpoints = checkpoints;
+    }
+
+    public boolean isResume() {
+        return resume;
+    }
+
+    /**
+     * Continue the samples from the checkpoints of an earlier execution,
+     * instead of starting them from the beginning. Ignored when no
+     * {@link CheckpointStore} is set.
+     * @param resume {@code true} to resume from the checkpoints.
+     */
+    public void setResume(boolean resume) {
+        this.resume = resume;
+    }
 }
@@ -6,9 +6,12 @@
  */
 package net.sourceforge.cilib.simulator;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import net.sourceforge.cilib.math.random.generator.seeder.NetworkBasedSeedSelectionStrategy;
@@ -36,6 +39,18 @@ public class SimulatorShell {
      * @return the list of instances to execute.
      */
     public static List<Simulator> prepare(File specification) {
+        return prepare(specification, false);
+    }
+
+    /**
+     * Prepare a list of {@code Simulator} instances for execution. A
+     * simulation writes checkpoints if it contains a {@code checkpoint}
+     * element, e.g. {@code <checkpoint directory="checkpoints/pso" interval="100"/>}.
+     * @param specification to be read defining the simulations.
+     * @param resume whether the simulations continue from their latest checkpoints.
+     * @return the list of instances to execute.
+     */
+    public static List<Simulator> prepare(File specification, boolean resume) {
         try {
             List<Simulator> simulators = Lists.newArrayList();
             DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
@@ -63,6 +78,11 @@ public class SimulatorShell {
                 }
 
                 Simulator simulator = new Simulator(algorithmFactory, problemFactory, measurementsFactory, combiner, samples, seeder);
+                NodeList checkpoints = current.getElementsByTagName("checkpoint");
+                if (checkpoints.getLength() >= 1) {
+                    simulator.setCheckpoints(createCheckpointStore((Element) checkpoints.item(0)));
+                    simulator.setResume(resume);
+                }
                 simulators.add(simulator);
             }
             
@@ -72,23 +92,60 @@ public class SimulatorShell {
         }
     }
 
+    /**
+     * Run and execute the simulations, reporting progress, using as many
+     * workers as there are available processors.
+     * @param simulators iterable list to execute.
+     * @param listener responsible to monitor progress.
+     */
+    public static void execute(Iterable<Simulator> simulators, ProgressText listener) {
+        execute(simulators, listener, Runtime.getRuntime().availableProcessors());
+    }
+
     /**
      * Run and execute the simulations, reporting progress.
+     * <p>
+     * The samples of all the simulations share a single work-stealing pool
+     * with the given number of workers. The samples of the next simulation
+     * are started as soon as workers become available, so that the workers
+     * stay busy when a simulation has fewer samples than there are workers.
+     * At most {@code workers} samples exist at any time.
+     *
      * @param simulators iterable list to execute.
      * @param listener responsible to monitor progress.
+     * @param workers the number of samples to execute concurrently.
+     * @throws IllegalArgumentException if {@code workers} is not positive.
      * TODO: This listener idea is not fresh - one listener per simulation should be the case.
      */
-    public static void execute(Iterable<Simulator> simulators, ProgressText listener) {
-        int index = 0;
-        for (Simulator simulator : simulators) {
-            simulator.init(); // Prepare the simulator by initialising the simulations
-            simulator.addProgressListener(listener);
-            listener.setSimulation(index++);
-            simulator.execute();
+    public static void execute(Iterable<Simulator> simulators, ProgressText listener, int workers) {
+        Preconditions.checkArgument(workers > 0, "The number of workers must be positive, but was: %s", workers);
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        Semaphore slots = new Semaphore(workers);
+        try {
+            List<Simulator> scheduled = Lists.newArrayList();
+            int index = 0;
+            for (Simulator simulator : simulators) {
+                simulator.init(); // Prepare the simulator
+                simulator.addProgressListener(listener);
+                listener.setSimulation(index++);
+                simulator.schedule(pool, slots);
+                scheduled.add(simulator);
+            }
+
+            for (Simulator simulator : scheduled) {
+                simulator.complete();
+            }
+        } finally {
+            pool.shutdown();
         }
     }
 
+    private static CheckpointStore createCheckpointStore(Element item) {
+        int interval = item.hasAttribute("interval") ? Integer.valueOf(item.getAttribute("interval")) : 1000;
+        return new CheckpointStore(new File(item.getAttribute("directory")), interval);
+    }
+
     private static MeasurementCombiner createCombiner(Element item) {
-        return new MeasurementCombiner(new File(item.getAttribute("file")));
+        return new MeasurementCombiner(new File(item.getAttribute("file")), OutputFormat.of(item.getAttribute("format")));
     }
 }
@@ -0,0 +1,131 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.ProgressEvent;
+import net.sourceforge.cilib.algorithm.ProgressListener;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CheckpointStoreTest {
+
+    @Test
+    public void resumedTextOutputIsIdentical() throws IOException {
+        assertResumedOutputIsIdentical("TXT");
+    }
+
+    @Test
+    public void resumedBinaryOutputIsIdentical() throws IOException {
+        assertResumedOutputIsIdentical("BIN");
+    }
+
+    /**
+     * A simulation that is terminated halfway through its first sample, and
+     * then resumed, must have the same output as a simulation that was not
+     * interrupted.
+     */
+    private static void assertResumedOutputIsIdentical(String format) throws IOException {
+        File directory = Files.createTempDir();
+        try {
+            File expected = new File(directory, "expected.out");
+            File actual = new File(directory, "actual.out");
+            File checkpoints = new File(directory, "checkpoints");
+
+            run(specification(directory, format, expected, null), false, false);
+
+            File specification = specification(directory, format, actual, checkpoints);
+            run(specification, false, true);
+            assertFalse(actual.exists());
+            assertTrue(new File(checkpoints, "sample-0.ckpt").isFile());
+
+            run(specification, true, false);
+            assertArrayEquals(Files.toByteArray(expected), Files.toByteArray(actual));
+            // The checkpoints are removed once the measurements are combined.
+            assertFalse(new File(checkpoints, "sample-0.ckpt").exists());
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static void run(File specification, boolean resume, boolean interrupt) {
+        List<Simulator> simulators = SimulatorShell.prepare(specification, resume);
+        for (final Simulator simulator : simulators) {
+            simulator.init();
+            if (interrupt) {
+                simulator.addProgressListener(new ProgressListener() {
+                    @Override
+                    public void handleProgressEvent(ProgressEvent event) {
+                        // Halfway through the first of two samples.
+                        if (event.getPercentage() >= 0.25) {
+                            simulator.terminate();
+                        }
+                    }
+                });
+            }
+            simulator.execute(1);
+        }
+    }
+
+    private static File specification(File directory, String format, File output, File checkpoints) throws IOException {
+        String specification = "<?xml version=\"1.0\"?>\n"
+                + "<!DOCTYPE simulator [\n"
+                + "<!ATTLIST algorithm id ID #IMPLIED>\n"
+                + "<!ATTLIST problem id ID #IMPLIED>\n"
+                + "<!ATTLIST measurements id ID #IMPLIED>\n"
+                + "]>\n"
+                + "<simulator>\n"
+                + "  <algorithms>\n"
+                + "    <algorithm id=\"gbest\" class=\"pso.PSO\">\n"
+                + "      <addStoppingCondition class=\"stoppingcondition.MeasuredStoppingCondition\" target=\"100\"/>\n"
+                + "    </algorithm>\n"
+                + "  </algorithms>\n"
+                + "  <problems>\n"
+                + "    <problem id=\"rastrigin\" class=\"problem.FunctionOptimisationProblem\" domain=\"R(-5.12:5.12)^10\">\n"
+                + "      <function class=\"functions.continuous.unconstrained.Rastrigin\"/>\n"
+                + "    </problem>\n"
+                + "  </problems>\n"
+                + "  <measurements id=\"fitness\" class=\"simulator.MeasurementSuite\" resolution=\"5\">\n"
+                + "    <addMeasurement class=\"measurement.single.Fitness\"/>\n"
+                + "    <addMeasurement class=\"measurement.generic.SimulationSeed\"/>\n"
+                + "  </measurements>\n"
+                + "  <simulations>\n"
+                + "    <simulation samples=\"2\">\n"
+                + "      <algorithm idref=\"gbest\"/>\n"
+                + "      <problem idref=\"rastrigin\"/>\n"
+                + "      <measurements idref=\"fitness\"/>\n"
+                + "      <output format=\"" + format + "\" file=\"" + output.getPath() + "\"/>\n"
+                + (checkpoints == null ? "" : "      <checkpoint directory=\"" + checkpoints.getPath() + "\" interval=\"20\"/>\n")
+                + "      <seeder class=\"math.random.generator.seeder.FixedSeederStrategy\">\n"
+                + "        <seed value=\"1\"/>\n"
+                + "        <seed value=\"2\"/>\n"
+                + "      </seeder>\n"
+                + "    </simulation>\n"
+                + "  </simulations>\n"
+                + "</simulator>\n";
+        File file = new File(directory, (checkpoints == null ? "expected" : "actual") + ".xml");
+        Files.write(specification, file, Charsets.UTF_8);
+        return file;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,131 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import net.sourceforge.cilib.algorithm.Algorithm;
+import net.sourceforge.cilib.measurement.Measurement;
+import net.sourceforge.cilib.type.types.Bit;
+import net.sourceforge.cilib.type.types.Int;
+import net.sourceforge.cilib.type.types.Real;
+import net.sourceforge.cilib.type.types.StringType;
+import net.sourceforge.cilib.type.types.Type;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MeasurementCombinerTest {
+
+    /**
+     * The binary output, converted to text, must be the same as the text
+     * output. The last sample is shorter than the others and the number of
+     * rows spans more than one row group.
+     */
+    @Test
+    public void binaryOutputMatchesTextOutput() throws IOException {
+        int[] lengths = { 2500, 2500, 1500 };
+
+        File text = File.createTempFile("cilib_test", ".txt");
+        File binary = File.createTempFile("cilib_test", ".bin");
+        try {
+            List<String> descriptions = combine(new MeasurementCombiner(text, OutputFormat.TXT), lengths, OutputFormat.TXT);
+            combine(new MeasurementCombiner(binary, OutputFormat.BIN), lengths, OutputFormat.BIN);
+
+            StringWriter converted = new StringWriter();
+            BinaryMeasurementFormat.toText(binary, converted);
+
+            assertEquals(4, descriptions.size());
+            assertEquals(Files.toString(text, Charsets.UTF_8), converted.toString());
+        } finally {
+            text.delete();
+            binary.delete();
+        }
+    }
+
+    private static List<String> combine(MeasurementCombiner combiner, int[] lengths, OutputFormat format) throws IOException {
+        List<File> partials = Lists.newArrayList();
+        List<String> descriptions = null;
+        for (int sample = 0; sample < lengths.length; sample++) {
+            MeasurementSuite suite = new MeasurementSuite();
+            suite.setFormat(format);
+            suite.addMeasurement(new IntMeasurement());
+            suite.addMeasurement(new RealMeasurement());
+            suite.addMeasurement(new StringMeasurement());
+            suite.addMeasurement(new BitMeasurement());
+            suite.initialise();
+
+            Algorithm algorithm = mock(Algorithm.class);
+            for (int i = 0; i < lengths[sample]; i++) {
+                when(algorithm.getIterations()).thenReturn(i * (sample + 1));
+                suite.measure(algorithm);
+            }
+            suite.close();
+
+            partials.add(suite.getFile());
+            descriptions = suite.getDescriptions();
+        }
+
+        combiner.combine(descriptions, partials);
+        return descriptions;
+    }
+
+    private static class IntMeasurement implements Measurement<Type> {
+        @Override
+        public Measurement<Type> getClone() {
+            return this;
+        }
+
+        @Override
+        public Type getValue(Algorithm algorithm) {
+            return Int.valueOf(-algorithm.getIterations());
+        }
+    }
+
+    private static class RealMeasurement implements Measurement<Type> {
+        @Override
+        public Measurement<Type> getClone() {
+            return this;
+        }
+
+        @Override
+        public Type getValue(Algorithm algorithm) {
+            return Real.valueOf(1.0 / (algorithm.getIterations() + 3));
+        }
+    }
+
+    private static class StringMeasurement implements Measurement<Type> {
+        @Override
+        public Measurement<Type> getClone() {
+            return this;
+        }
+
+        @Override
+        public Type getValue(Algorithm algorithm) {
+            return new StringType("s" + algorithm.getIterations() % 7);
+        }
+    }
+
+    private static class BitMeasurement implements Measurement<Type> {
+        @Override
+        public Measurement<Type> getClone() {
+            return this;
+        }
+
+        @Override
+        public Type getValue(Algorithm algorithm) {
+            return Bit.valueOf(algorithm.getIterations() % 3 == 0);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/**           __  __
+ *    _____ _/ /_/ /_    Computational Intelligence Library (CIlib)
+ *   / ___/ / / / __ \   (c) CIRG @ UP
+ *  / /__/ / / / /_/ /   http://cilib.net
+ *  \___/_/_/_/_.___/
+ */
+package net.sourceforge.cilib.simulator;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.parsers.DocumentBuilderFactory;
+import net.sourceforge.cilib.math.random.generator.seeder.SeedSelectionStrategy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SimulatorScheduleTest {
+
+    private static final int SAMPLES = 5;
+
+    private File directory;
+
+    @Before
+    public void createDirectory() {
+        directory = Files.createTempDir();
+    }
+
+    @After
+    public void deleteDirectory() {
+        delete(directory);
+    }
+
+    /**
+     * A sample is only created once a worker is available, so that no more
+     * samples than workers exist at any time.
+     */
+    @Test
+    public void samplesAreCreatedLazily() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final Simulator simulator = simulator(specification(new File(directory, "lazy.out")), created);
+        final BlockingQueue<Runnable> submitted = new LinkedBlockingQueue<Runnable>();
+        final int workers = 2;
+
+        Thread scheduler = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                simulator.schedule(new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        submitted.add(command);
+                    }
+                }, new Semaphore(workers));
+            }
+        });
+        scheduler.start();
+
+        for (int finished = 0; finished < SAMPLES; finished++) {
+            int running = Math.min(SAMPLES, finished + workers) - finished;
+            awaitScheduled(scheduler, submitted, running);
+            assertEquals(finished + running, created.get());
+
+            submitted.take().run();
+        }
+
+        scheduler.join();
+        simulator.complete();
+        assertEquals(SAMPLES, created.get());
+    }
+
+    /**
+     * The measurements of the samples are combined in the order of the
+     * samples, regardless of the order in which they finish.
+     */
+    @Test
+    public void outputDoesNotDependOnWorkers() throws IOException {
+        File sequential = new File(directory, "sequential.out");
+        File parallel = new File(directory, "parallel.out");
+
+        SimulatorShell.execute(SimulatorShell.prepare(specification(sequential)), new ProgressText(1), 1);
+        SimulatorShell.execute(SimulatorShell.prepare(specification(parallel)), new ProgressText(1), 4);
+
+        assertTrue(sequential.length() > 0);
+        assertArrayEquals(Files.toByteArray(sequential), Files.toByteArray(parallel));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void simulatorRejectsNoWorkers() throws IOException {
+        SimulatorShell.prepare(specification(new File(directory, "none.out"))).get(0).execute(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shellRejectsNegativeWorkers() throws IOException {
+        SimulatorShell.execute(Collections.<Simulator>emptyList(), new ProgressText(0), -1);
+    }
+
+    /**
+     * Wait until the given number of samples are submitted and the scheduler
+     * waits for a worker, or has submitted all the samples.
+     */
+    private static void awaitScheduled(Thread scheduler, BlockingQueue<Runnable> submitted, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (submitted.size() < count
+                || (scheduler.getState() != Thread.State.WAITING && scheduler.getState() != Thread.State.TERMINATED)) {
+            assertTrue("The samples were not scheduled in time", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+        assertEquals(count, submitted.size());
+    }
+
+    /**
+     * A simulator for the specification that counts the samples it creates.
+     */
+    private static Simulator simulator(File specification, final AtomicInteger created) throws Exception {
+        Document config = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(specification);
+        Element simulation = (Element) config.getElementsByTagName("simulation").item(0);
+        Element output = (Element) simulation.getElementsByTagName("output").item(0);
+
+        return new Simulator(factory(config, simulation, "algorithm"), factory(config, simulation, "problem"),
+                factory(config, simulation, "measurements"),
+                new MeasurementCombiner(new File(output.getAttribute("file")), OutputFormat.of(output.getAttribute("format"))),
+                SAMPLES, (SeedSelectionStrategy) factory(config, simulation, "seeder").newObject()) {
+            @Override
+            public Simulation createSimulation() {
+                created.incrementAndGet();
+                return super.createSimulation();
+            }
+        };
+    }
+
+    private static XMLObjectFactory factory(Document config, Element simulation, String tag) {
+        return new XMLObjectFactory(config, (Element) simulation.getElementsByTagName(tag).item(0));
+    }
+
+    private File specification(File output) throws IOException {
+        StringBuilder seeds = new StringBuilder();
+        for (int i = 1; i <= SAMPLES; i++) {
+            seeds.append("        <seed value=\"").append(i).append("\"/>\n");
+        }
+
+        String specification = "<?xml version=\"1.0\"?>\n"
+                + "<!DOCTYPE simulator [\n"
+                + "<!ATTLIST algorithm id ID #IMPLIED>\n"
+                + "<!ATTLIST problem id ID #IMPLIED>\n"
+                + "<!ATTLIST measurements id ID #IMPLIED>\n"
+                + "]>\n"
+                + "<simulator>\n"
+                + "  <algorithms>\n"
+                + "    <algorithm id=\"gbest\" class=\"pso.PSO\">\n"
+                + "      <addStoppingCondition class=\"stoppingcondition.MeasuredStoppingCondition\" target=\"20\"/>\n"
+                + "    </algorithm>\n"
+                + "  </algorithms>\n"
+                + "  <problems>\n"
+                + "    <problem id=\"rastrigin\" class=\"problem.FunctionOptimisationProblem\" domain=\"R(-5.12:5.12)^10\">\n"
+                + "      <function class=\"functions.continuous.unconstrained.Rastrigin\"/>\n"
+                + "    </problem>\n"
+                + "  </problems>\n"
+                + "  <measurements id=\"fitness\" class=\"simulator.MeasurementSuite\" resolution=\"5\">\n"
+                + "    <addMeasurement class=\"measurement.single.Fitness\"/>\n"
+                + "    <addMeasurement class=\"measurement.generic.SimulationSeed\"/>\n"
+                + "  </measurements>\n"
+                + "  <simulations>\n"
+                + "    <simulation samples=\"" + SAMPLES + "\">\n"
+                + "      <algorithm idref=\"gbest\"/>\n"
+                + "      <problem idref=\"rastrigin\"/>\n"
+                + "      <measurements idref=\"fitness\"/>\n"
+                + "      <output format=\"TXT\" file=\"" + output.getPath() + "\"/>\n"
+                + "      <seeder class=\"math.random.generator.seeder.FixedSeederStrategy\">\n"
+                + seeds
+                + "      </seeder>\n"
+                + "    </simulation>\n"
+                + "  </simulations>\n"
+                + "</simulator>\n";
+        File file = new File(directory, output.getName() + ".xml");
+        Files.write(specification, file, Charsets.UTF_8);
+        return file;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}